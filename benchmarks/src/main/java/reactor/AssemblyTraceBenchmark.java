@@ -52,6 +52,13 @@ public class AssemblyTraceBenchmark {
 		stack(stackSize, bh);
 	}
 
+	@Benchmark
+	@Fork(jvmArgsAppend = {"-XX:-OmitStackTraceInFastThrow", "-Dreactor.trace.operatorStacktrace=true",
+			"-Dreactor.trace.internCallSites=true"})
+	public void withInternedTracing(Blackhole bh) {
+		stack(stackSize, bh);
+	}
+
 	@Benchmark
 	@Fork(jvmArgsAppend = "-Dreactor.trace.operatorStacktrace=false")
 	public void withoutTracing(Blackhole bh) {
@@ -52,6 +52,21 @@ public class CheckpointBenchmark {
 		    });
 	}
 
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 5, time = 1)
+	@Measurement(iterations = 5, time = 1)
+	@Fork(value = 1, jvmArgsAppend = "-Dreactor.trace.internCallSites=true")
+	@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+	public void withInternedFullCheckpoint() {
+		this.findAllUserByName(Flux.just("pedro", "simon", "stephane"))
+		    .transform(f -> f.filter(s -> s.startsWith("s")))
+		    .transform(f -> f.elapsed())
+		    .checkpoint("checkpoint description", true)
+		    .subscribe(System.out::println, t -> {
+		    });
+	}
+
 	@Benchmark
 	@OutputTimeUnit(TimeUnit.MILLISECONDS)
 	@Warmup(iterations = 5, time = 1)
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Publisher;
+
+/**
+ * Measures the ordered merge operators over an increasing number of sorted sources,
+ * which select the next value in {@code O(log(sources))} comparisons.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FluxMergeComparingBenchmark {
+
+	@Param({"2", "8", "64", "256"})
+	int sources;
+
+	@Param({"100000"})
+	int items;
+
+	Publisher<Integer>[] sortedSources;
+	List<Integer>        shuffled;
+
+	@Setup(Level.Trial)
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		Random random = new Random(42);
+		List<List<Integer>> shards = new ArrayList<>();
+		for (int i = 0; i < sources; i++) {
+			shards.add(new ArrayList<>());
+		}
+		shuffled = new ArrayList<>(items);
+		for (int i = 0; i < items; i++) {
+			shards.get(random.nextInt(sources)).add(i);
+			shuffled.add(random.nextInt(items));
+		}
+		sortedSources = new Publisher[sources];
+		for (int i = 0; i < sources; i++) {
+			sortedSources[i] = Flux.fromIterable(shards.get(i));
+		}
+	}
+
+	@Benchmark
+	public void mergeComparing(Blackhole bh) {
+		Flux.mergeComparing(Comparator.naturalOrder(), sortedSources)
+		    .subscribe(bh::consume);
+	}
+
+	@Benchmark
+	public void parallelOrdered(Blackhole bh) {
+		Flux.fromIterable(shuffled)
+		    .parallel(sources)
+		    .ordered(Comparator.naturalOrder())
+		    .subscribe(bh::consume);
+	}
+
+	@Benchmark
+	public void parallelSorted(Blackhole bh) {
+		Flux.fromIterable(shuffled)
+		    .parallel(sources)
+		    .sorted(Comparator.naturalOrder())
+		    .subscribe(bh::consume);
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Fuseable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Measures the core operators in each fusion mode, over sources of different sizes.
+ * <p>
+ * The {@code fusion} parameter selects both the sources and the final subscriber: a
+ * {@code SYNC} fuseable range, an {@code ASYNC} fuseable buffered range or a
+ * {@code NONE} hidden range, consumed by a subscriber requesting the same fusion mode.
+ * Inner sources of {@code flatMap}, {@code concatMap}, {@code groupBy} and
+ * {@code window} follow the same mode. Compare runs with the {@code jmhDiff} task.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FluxOperatorsBenchmark {
+
+	public enum Fusion {
+
+		SYNC(Fuseable.SYNC),
+		ASYNC(Fuseable.ASYNC),
+		NONE(Fuseable.NONE);
+
+		final int mode;
+
+		Fusion(int mode) {
+			this.mode = mode;
+		}
+
+		Flux<Integer> range(int start, int count) {
+			switch (this) {
+				case SYNC:
+					return Flux.range(start, count);
+				case ASYNC:
+					return Flux.range(start, count).onBackpressureBuffer();
+				default:
+					return Flux.range(start, count).hide();
+			}
+		}
+
+		<T> Flux<T> inner(Flux<T> source) {
+			return this == NONE ? source.hide() : source;
+		}
+	}
+
+	@Param
+	Fusion fusion;
+
+	@Param({"1", "1000", "100000"})
+	int count;
+
+	Scheduler scheduler;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		scheduler = Schedulers.newSingle("operatorsBenchmark");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		scheduler.dispose();
+	}
+
+	@Benchmark
+	public Object map(Blackhole bh) throws InterruptedException {
+		return run(bh, fusion.range(0, count).map(i -> i + 1));
+	}
+
+	@Benchmark
+	public Object filter(Blackhole bh) throws InterruptedException {
+		return run(bh, fusion.range(0, count).filter(i -> (i & 1) == 0));
+	}
+
+	@Benchmark
+	public Object flatMap(Blackhole bh) throws InterruptedException {
+		return run(bh, fusion.range(0, count).flatMap(i -> fusion.range(i, 2)));
+	}
+
+	@Benchmark
+	public Object concatMap(Blackhole bh) throws InterruptedException {
+		return run(bh, fusion.range(0, count).concatMap(i -> fusion.range(i, 2)));
+	}
+
+	@Benchmark
+	public Object publishOn(Blackhole bh) throws InterruptedException {
+		return run(bh, fusion.range(0, count).publishOn(scheduler));
+	}
+
+	@Benchmark
+	public Object zip(Blackhole bh) throws InterruptedException {
+		return run(bh, Flux.zip(fusion.range(0, count), fusion.range(0, count), Integer::sum));
+	}
+
+	@Benchmark
+	public Object groupBy(Blackhole bh) throws InterruptedException {
+		return run(bh, fusion.range(0, count).groupBy(i -> i & 15).flatMap(fusion::inner));
+	}
+
+	@Benchmark
+	public Object window(Blackhole bh) throws InterruptedException {
+		return run(bh, fusion.range(0, count).window(16).flatMap(fusion::inner));
+	}
+
+	@Benchmark
+	public Object buffer(Blackhole bh) throws InterruptedException {
+		return run(bh, fusion.range(0, count).buffer(16));
+	}
+
+	Object run(Blackhole bh, Flux<?> flux) throws InterruptedException {
+		FusingSubscriber subscriber = new FusingSubscriber(bh, fusion.mode);
+		flux.subscribe(subscriber);
+		subscriber.await();
+		return subscriber;
+	}
+
+	/**
+	 * Consumes into a {@link Blackhole}, polling the upstream when it accepts the
+	 * requested fusion mode.
+	 */
+	static final class FusingSubscriber extends CountDownLatch implements CoreSubscriber<Object> {
+
+		final Blackhole bh;
+		final int       requestedMode;
+
+		Fuseable.QueueSubscription<?> qs;
+		int                           mode;
+
+		FusingSubscriber(Blackhole bh, int requestedMode) {
+			super(1);
+			this.bh = bh;
+			this.requestedMode = requestedMode;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			if (requestedMode != Fuseable.NONE && s instanceof Fuseable.QueueSubscription) {
+				qs = (Fuseable.QueueSubscription<?>) s;
+				mode = qs.requestFusion(requestedMode);
+				if (mode == Fuseable.SYNC) {
+					drain();
+					countDown();
+					return;
+				}
+			}
+			s.request(Long.MAX_VALUE);
+		}
+
+		@Override
+		public void onNext(Object t) {
+			if (mode == Fuseable.ASYNC) {
+				drain();
+			}
+			else {
+				bh.consume(t);
+			}
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			bh.consume(t);
+			countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			if (mode == Fuseable.ASYNC) {
+				drain();
+			}
+			countDown();
+		}
+
+		void drain() {
+			Object v;
+			while ((v = qs.poll()) != null) {
+				bh.consume(v);
+			}
+		}
+	}
+}
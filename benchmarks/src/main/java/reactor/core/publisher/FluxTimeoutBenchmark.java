@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Compares {@link Flux#timeout(Duration)}, which keeps a single timer per subscriber,
+ * with the equivalent per-item timeout {@link org.reactivestreams.Publisher}s that
+ * schedule a new {@link Mono#delay(Duration)} for each item. Items are published
+ * asynchronously so that the timer is armed before the first of them arrives.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FluxTimeoutBenchmark {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+	@Param({"1000", "100000"})
+	int items;
+
+	@Benchmark
+	public Object fixedDuration() {
+		return Flux.range(0, items)
+		           .publishOn(Schedulers.single())
+		           .timeout(TIMEOUT)
+		           .blockLast();
+	}
+
+	@Benchmark
+	public Object perItemPublisher() {
+		Mono<Long> timer = Mono.delay(TIMEOUT).onErrorReturn(0L);
+		return Flux.range(0, items)
+		           .publishOn(Schedulers.single())
+		           .timeout(timer, v -> timer)
+		           .blockLast();
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.util.context;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares building a {@link Context} of {@code size} entries one {@code put} at a
+ * time, as a chain of {@code contextWrite} does, with the persistent implementation
+ * used beyond {@link PersistentContext#THRESHOLD} entries and with copying the whole
+ * map on each write (reproduced via {@link Context#putAllMap(java.util.Map)}).
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ContextPutBenchmark {
+
+	@Param({"8", "16", "32", "128"})
+	int size;
+
+	Context built;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		built = persistent();
+	}
+
+	@Benchmark
+	public Context persistent() {
+		Context context = Context.empty();
+		for (int i = 0; i < size; i++) {
+			context = context.put(i, i);
+		}
+		return context;
+	}
+
+	@Benchmark
+	public Context copying() {
+		Context context = Context.empty();
+		for (int i = 0; i < size; i++) {
+			context = context.putAllMap(Collections.singletonMap(i, i));
+		}
+		return context;
+	}
+
+	@Benchmark
+	public int get() {
+		int sum = 0;
+		for (int i = 0; i < size; i++) {
+			sum += built.<Integer>get(i);
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.context.ContextRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.util.context.Context;
+
+/**
+ * Measures a {@code map} chain under {@link Hooks#enableAutomaticContextPropagation()
+ * automatic context propagation}, restoring the {@link ThreadLocal}s around each signal
+ * with and without {@link Hooks#enableCachedThreadLocalRestoration() caching}. Run with
+ * {@code -prof gc} to compare the allocations per signal.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ContextPropagationBenchmark {
+
+	static final String KEY = "ContextPropagationBenchmark.key";
+
+	@Param({"false", "true"})
+	boolean cached;
+
+	@Param({"1000"})
+	int items;
+
+	final ThreadLocal<String> threadLocal = new ThreadLocal<>();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ContextRegistry.getInstance().registerThreadLocalAccessor(KEY, threadLocal);
+		Hooks.enableAutomaticContextPropagation();
+		if (cached) {
+			Hooks.enableCachedThreadLocalRestoration();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Hooks.disableCachedThreadLocalRestoration();
+		Hooks.disableAutomaticContextPropagation();
+		ContextRegistry.getInstance().removeThreadLocalAccessor(KEY);
+	}
+
+	@Benchmark
+	public void mapChain(Blackhole bh) {
+		Flux.range(0, items)
+		    .map(i -> i + 1)
+		    .map(i -> i * 2)
+		    .contextWrite(Context.of(KEY, "value"))
+		    .subscribe(bh::consume);
+	}
+}
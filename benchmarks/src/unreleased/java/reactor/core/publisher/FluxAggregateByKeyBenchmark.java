@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares per-key windowed sums computed with {@code groupBy} and {@code window} against
+ * {@link Flux#aggregateByKey}, over windows long enough to only close when the source
+ * completes.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class FluxAggregateByKeyBenchmark {
+
+	@Param({"10", "1000"})
+	int keys;
+
+	@Param({"100000"})
+	int items;
+
+	@Benchmark
+	public void groupByWindowReduce(Blackhole bh) {
+		Flux.range(0, items)
+		    .groupBy(i -> i % keys)
+		    .flatMap(g -> g.window(Duration.ofMinutes(1))
+		                   .flatMap(w -> w.reduce(0L, (sum, i) -> sum + i)), Integer.MAX_VALUE)
+		    .subscribe(bh::consume);
+	}
+
+	@Benchmark
+	public void aggregateByKey(Blackhole bh) {
+		Flux.range(0, items)
+		    .aggregateByKey(i -> i % keys, WindowSpec.tumbling(Duration.ofMinutes(1)), i -> i, Long::sum)
+		    .subscribe(bh::consume);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares map/filter/handle chains over in-memory sources with and without
+ * {@link Hooks#enableBatchedDelivery() batched delivery}.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FluxBatchedDeliveryBenchmark {
+
+	@Param({"false", "true"})
+	boolean batched;
+
+	@Param({"100000"})
+	int items;
+
+	Integer[] array;
+	List<Integer> list;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		if (batched) {
+			Hooks.enableBatchedDelivery();
+		}
+		list = IntStream.range(0, items).boxed().collect(Collectors.toList());
+		array = list.toArray(new Integer[0]);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Hooks.disableBatchedDelivery();
+	}
+
+	@Benchmark
+	public void range(Blackhole bh) {
+		chain(Flux.range(0, items)).subscribe(bh::consume);
+	}
+
+	@Benchmark
+	public void array(Blackhole bh) {
+		chain(Flux.fromArray(array)).subscribe(bh::consume);
+	}
+
+	@Benchmark
+	public void iterable(Blackhole bh) {
+		chain(Flux.fromIterable(list)).subscribe(bh::consume);
+	}
+
+	static Flux<Integer> chain(Flux<Integer> source) {
+		return source.map(i -> i + 1)
+		             .filter(i -> (i & 1) == 0)
+		             .<Integer>handle((i, sink) -> sink.next(i >> 1))
+		             .map(i -> i * 3);
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a group creation storm, comparing the default groupBy with the variant that
+ * evicts idle groups and starts each group with a small buffer.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FluxGroupByBenchmark {
+
+	@Param({"20000"})
+	int keys;
+
+	@Param({"4"})
+	int valuesPerKey;
+
+	@Benchmark
+	public Long groupBy() {
+		return Flux.range(0, keys * valuesPerKey)
+		           .groupBy(i -> i % keys, i -> i, 256)
+		           .flatMap(Flux::count, Integer.MAX_VALUE)
+		           .count()
+		           .block();
+	}
+
+	@Benchmark
+	public Long groupByEvictingIdle() {
+		return Flux.range(0, keys * valuesPerKey)
+		           .groupBy(i -> i % keys, i -> i, 256, Duration.ofSeconds(10))
+		           .flatMap(Flux::count, Integer.MAX_VALUE)
+		           .count()
+		           .block();
+	}
+}
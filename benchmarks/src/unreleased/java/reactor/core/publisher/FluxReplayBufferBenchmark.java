@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the node-per-value and the segmented size-bound replay buffers, filling a
+ * buffer and replaying its history to a late subscriber.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FluxReplayBufferBenchmark {
+
+	@Param({"false", "true"})
+	boolean chunked;
+
+	@Param({"10000"})
+	int history;
+
+	@Param({"100000"})
+	int items;
+
+	@Benchmark
+	public void fillAndReplay(Blackhole bh) {
+		FluxReplay.ReplayBuffer<Integer> buffer = chunked
+				? new FluxReplay.SizeBoundChunkedReplayBuffer<>(history, FluxReplay.SEGMENT_SIZE)
+				: new FluxReplay.SizeBoundReplayBuffer<>(history);
+		SinkManyReplayProcessor<Integer> replay = new SinkManyReplayProcessor<>(buffer);
+		for (int i = 0; i < items; i++) {
+			replay.onNext(i);
+		}
+		replay.onComplete();
+		replay.subscribe(bh::consume);
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link Flux#topK(int, Comparator)} with sorting the whole sequence then
+ * taking its first values.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FluxTopKBenchmark {
+
+	@Param({"10", "1000"})
+	int k;
+
+	@Param({"100000"})
+	int items;
+
+	Integer[] values;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Random random = new Random(42);
+		values = new Integer[items];
+		for (int i = 0; i < items; i++) {
+			values[i] = random.nextInt();
+		}
+	}
+
+	@Benchmark
+	public void sortThenTake(Blackhole bh) {
+		Flux.fromArray(values)
+		    .sort(Comparator.naturalOrder())
+		    .take(k)
+		    .subscribe(bh::consume);
+	}
+
+	@Benchmark
+	public void topK(Blackhole bh) {
+		Flux.fromArray(values)
+		    .topK(k, Comparator.naturalOrder())
+		    .subscribe(bh::consume);
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Compares fixed and adaptive {@link PrefetchStrategy prefetch strategies} across an
+ * asynchronous boundary and for merged inner sequences.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PrefetchStrategyBenchmark {
+
+	@Param({"fixed", "adaptive"})
+	String strategy;
+
+	@Param({"100000"})
+	int count;
+
+	PrefetchStrategy prefetchStrategy;
+	Scheduler        scheduler;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		prefetchStrategy = "fixed".equals(strategy) ? PrefetchStrategy.fixed(256) : PrefetchStrategy.adaptive(8, 256);
+		scheduler = Schedulers.newSingle("prefetchStrategyBenchmark");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		scheduler.dispose();
+	}
+
+	@Benchmark
+	public Object publishOn(Blackhole bh) {
+		return Flux.range(0, count)
+		           .hide()
+		           .publishOn(scheduler, true, prefetchStrategy)
+		           .doOnNext(bh::consume)
+		           .blockLast();
+	}
+
+	@Benchmark
+	public Object flatMap(Blackhole bh) {
+		return Flux.range(0, count / 100)
+		           .flatMap(i -> Flux.range(i, 100).hide(), 16, prefetchStrategy)
+		           .doOnNext(bh::consume)
+		           .blockLast();
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.scheduler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+/**
+ * Compares {@link Schedulers#newParallel(String, int)} with
+ * {@link Schedulers#newWorkStealingParallel(String, int)} for direct scheduling, skewed
+ * workloads where a few tasks are much longer than the others, and worker-bound
+ * {@code publishOn} pipelines.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ParallelSchedulerBenchmark {
+
+	private static final int TASKS = 1000;
+
+	@Param({"parallel", "workStealingParallel"})
+	String schedulerType;
+
+	@Param({"4"})
+	int parallelism;
+
+	Scheduler scheduler;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		if ("parallel".equals(schedulerType)) {
+			scheduler = Schedulers.newParallel("benchmark", parallelism, true);
+		}
+		else {
+			scheduler = Schedulers.newWorkStealingParallel("benchmark", parallelism, true);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		scheduler.dispose();
+	}
+
+	@Benchmark
+	public void directSchedule(Blackhole bh) throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(TASKS);
+		for (int i = 0; i < TASKS; i++) {
+			scheduler.schedule(latch::countDown);
+		}
+		bh.consume(latch.await(10, TimeUnit.SECONDS));
+	}
+
+	@Benchmark
+	public void skewedDirectSchedule(Blackhole bh) throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(TASKS);
+		for (int i = 0; i < TASKS; i++) {
+			// one task out of 64 is ~1000 times more expensive than the others
+			long tokens = (i & 63) == 0 ? 100_000 : 100;
+			scheduler.schedule(() -> {
+				Blackhole.consumeCPU(tokens);
+				latch.countDown();
+			});
+		}
+		bh.consume(latch.await(10, TimeUnit.SECONDS));
+	}
+
+	@Benchmark
+	public void delayedSchedule(Blackhole bh) throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(TASKS);
+		for (int i = 0; i < TASKS; i++) {
+			scheduler.schedule(latch::countDown, 1, TimeUnit.NANOSECONDS);
+		}
+		bh.consume(latch.await(10, TimeUnit.SECONDS));
+	}
+
+	@Benchmark
+	public Object parallelRunOn() {
+		return Flux.range(0, TASKS)
+		           .parallel(parallelism)
+		           .runOn(scheduler)
+		           .map(i -> i + 1)
+		           .sequential()
+		           .blockLast();
+	}
+
+	@Benchmark
+	public Object publishOn() {
+		return Flux.range(0, TASKS)
+		           .publishOn(scheduler)
+		           .blockLast();
+	}
+}
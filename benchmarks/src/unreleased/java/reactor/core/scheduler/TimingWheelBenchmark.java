@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.scheduler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.Disposable;
+
+/**
+ * Compares scheduling delayed tasks on the executors' own delay queue with the shared
+ * {@link Schedulers#enableTimingWheel() timing wheel}, for timeouts that are mostly
+ * cancelled before they expire and for short delays that do expire.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TimingWheelBenchmark {
+
+	private static final int TASKS = 1000;
+
+	@Param({"false", "true"})
+	boolean timingWheel;
+
+	Scheduler scheduler;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		if (timingWheel) {
+			Schedulers.enableTimingWheel();
+		}
+		scheduler = Schedulers.newParallel("benchmark", 4, true);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		scheduler.dispose();
+		Schedulers.disableTimingWheel();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void scheduleThenCancel(Blackhole bh) {
+		for (int i = 0; i < TASKS; i++) {
+			Disposable d = scheduler.schedule(() -> { }, 10, TimeUnit.SECONDS);
+			d.dispose();
+			bh.consume(d);
+		}
+	}
+
+	@Benchmark
+	public void scheduleManyThenCancel(Blackhole bh) {
+		Disposable[] tasks = new Disposable[TASKS];
+		for (int i = 0; i < TASKS; i++) {
+			tasks[i] = scheduler.schedule(() -> { }, 10 + i, TimeUnit.SECONDS);
+		}
+		for (Disposable task : tasks) {
+			task.dispose();
+		}
+		bh.consume(tasks);
+	}
+
+	@Benchmark
+	public void scheduleExpiring(Blackhole bh) throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(TASKS);
+		for (int i = 0; i < TASKS; i++) {
+			scheduler.schedule(latch::countDown, 1, TimeUnit.MILLISECONDS);
+		}
+		bh.consume(latch.await(10, TimeUnit.SECONDS));
+	}
+}
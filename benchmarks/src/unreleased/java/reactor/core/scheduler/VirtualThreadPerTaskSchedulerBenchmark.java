@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Compares {@link Schedulers#newBoundedElastic(int, int, String)} with
+ * {@link Schedulers#newVirtualThreadPerTask(int, String)} for blocking calls, simulating
+ * JDBC queries with a sleep, when the number of concurrent calls is bounded by a
+ * connection pool size. Benchmarking the virtual thread scheduler requires Java 21+.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class VirtualThreadPerTaskSchedulerBenchmark {
+
+	@Param({"boundedElastic", "virtualThreadPerTask"})
+	String schedulerType;
+
+	@Param({"50", "200"})
+	int poolSize;
+
+	@Param({"1000"})
+	int queries;
+
+	@Param({"1"})
+	long queryMillis;
+
+	Scheduler scheduler;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		if ("boundedElastic".equals(schedulerType)) {
+			scheduler = Schedulers.newBoundedElastic(poolSize, Integer.MAX_VALUE, "benchmark");
+		}
+		else {
+			scheduler = Schedulers.newVirtualThreadPerTask(poolSize, "benchmark");
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		scheduler.dispose();
+	}
+
+	@Benchmark
+	public Long blockingQueries() {
+		return Flux.range(0, queries)
+		           .flatMap(i -> Mono.fromCallable(this::query)
+		                             .subscribeOn(scheduler), queries)
+		           .count()
+		           .block(Duration.ofMinutes(1));
+	}
+
+	@Benchmark
+	public void blockingQueriesOnWorker() throws InterruptedException {
+		Scheduler.Worker worker = scheduler.createWorker();
+		CountDownLatch latch = new CountDownLatch(queries / 10);
+		try {
+			for (int i = 0; i < queries / 10; i++) {
+				worker.schedule(() -> {
+					query();
+					latch.countDown();
+				});
+			}
+			latch.await();
+		}
+		finally {
+			worker.dispose();
+		}
+	}
+
+	long query() {
+		try {
+			Thread.sleep(queryMillis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return queryMillis;
+	}
+}
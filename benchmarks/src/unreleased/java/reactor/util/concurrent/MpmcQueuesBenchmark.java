@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.util.concurrent;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures bursts of values offered by several producers and polled by several
+ * consumers, comparing the multi-consumer queues of {@link Queues} with the JDK
+ * {@link ConcurrentLinkedQueue}.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MpmcQueuesBenchmark {
+
+	public enum Kind {
+		CONCURRENT_LINKED(() -> ConcurrentLinkedQueue::new),
+		MPMC_ARRAY(() -> Queues.multiproducerMulticonsumer(1024)),
+		MPMC_CHUNKED(() -> Queues.unboundedMultiproducerMulticonsumer(1024));
+
+		final Supplier<Supplier<Queue<Integer>>> supplier;
+
+		Kind(Supplier<Supplier<Queue<Integer>>> supplier) {
+			this.supplier = supplier;
+		}
+	}
+
+	@Param
+	Kind kind;
+
+	@Param({"2"})
+	int producers;
+
+	/**
+	 * The number of consumers, including the benchmark thread.
+	 */
+	@Param({"2"})
+	int consumers;
+
+	@Param({"1000"})
+	int burst;
+
+	QueueBurst queueBurst;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		queueBurst = new QueueBurst(kind.supplier.get().get(), producers, consumers - 1, burst);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws InterruptedException {
+		queueBurst.stop();
+	}
+
+	@Benchmark
+	public int burst() {
+		return queueBurst.run();
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs bursts of offers from a set of producer threads to a {@link Queue}, drained by
+ * the calling thread and a set of helper consumer threads. Measuring whole bursts keeps
+ * the unbounded queues from growing when the producers outpace the consumers.
+ */
+final class QueueBurst {
+
+	final Queue<Integer> queue;
+	final int            burst;
+	final int            total;
+	final List<Thread>   threads = new ArrayList<>();
+	final AtomicInteger  consumed = new AtomicInteger();
+
+	volatile int     generation;
+	volatile boolean running = true;
+
+	QueueBurst(Queue<Integer> queue, int producers, int helperConsumers, int burst) {
+		this.queue = queue;
+		this.burst = burst;
+		this.total = producers * burst;
+		for (int i = 0; i < producers; i++) {
+			threads.add(new Thread(this::produce, "producer-" + i));
+		}
+		for (int i = 0; i < helperConsumers; i++) {
+			threads.add(new Thread(this::consume, "consumer-" + i));
+		}
+		threads.forEach(Thread::start);
+	}
+
+	/**
+	 * Start a burst and help consuming it.
+	 *
+	 * @return the number of values the calling thread has consumed
+	 */
+	int run() {
+		consumed.set(0);
+		generation++;
+		int polled = 0;
+		while (consumed.get() < total) {
+			if (queue.poll() != null) {
+				polled++;
+				consumed.incrementAndGet();
+			}
+			else {
+				Thread.onSpinWait();
+			}
+		}
+		return polled;
+	}
+
+	void stop() throws InterruptedException {
+		running = false;
+		for (Thread thread : threads) {
+			thread.join();
+		}
+	}
+
+	void produce() {
+		Integer value = 42;
+		int seen = 0;
+		while (running) {
+			if (generation == seen) {
+				Thread.onSpinWait();
+				continue;
+			}
+			seen = generation;
+			for (int i = 0; i < burst; i++) {
+				while (!queue.offer(value)) {
+					Thread.onSpinWait();
+				}
+			}
+		}
+	}
+
+	void consume() {
+		while (running) {
+			if (consumed.get() < total && queue.poll() != null) {
+				consumed.incrementAndGet();
+			}
+			else {
+				Thread.onSpinWait();
+			}
+		}
+	}
+}
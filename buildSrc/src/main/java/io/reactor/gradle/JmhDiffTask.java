@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactor.gradle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.options.Option;
+
+/**
+ * Compares the JSON results of two JMH runs, typically those of the {@code jmhBaseline}
+ * and {@code jmh} tasks, and reports the benchmarks which regressed by more than a
+ * threshold.
+ */
+class JmhDiffTask extends DefaultTask {
+
+	private static final String DEFAULT_THRESHOLD = "10";
+
+	@InputFile
+	private final RegularFileProperty baseline;
+
+	@InputFile
+	private final RegularFileProperty current;
+
+	@OutputFile
+	private final RegularFileProperty report;
+
+	@Input
+	@Option(option = "threshold", description = "configure the slowdown, in percent, above which a benchmark is reported as a regression")
+	private final Property<String> threshold;
+
+	@Input
+	@Option(option = "failOnRegression", description = "fail the build if a regression is found")
+	private final Property<String> failOnRegression;
+
+	public JmhDiffTask() {
+		super();
+		ObjectFactory objectFactory = getProject().getObjects();
+		baseline = objectFactory.fileProperty();
+		current = objectFactory.fileProperty();
+		report = objectFactory.fileProperty();
+		threshold = objectFactory.property(String.class).convention(DEFAULT_THRESHOLD);
+		failOnRegression = objectFactory.property(String.class).convention("false");
+	}
+
+	public RegularFileProperty getBaseline() {
+		return baseline;
+	}
+
+	public RegularFileProperty getCurrent() {
+		return current;
+	}
+
+	public RegularFileProperty getReport() {
+		return report;
+	}
+
+	public Property<String> getThreshold() {
+		return threshold;
+	}
+
+	public Property<String> getFailOnRegression() {
+		return failOnRegression;
+	}
+
+	@TaskAction
+	public void diff() {
+		double relativeThreshold = Double.parseDouble(threshold.get()) / 100d;
+		Map<String, JmhResults.Metric> baselineResults = JmhResults.parse(read(baseline.get().getAsFile().toPath()));
+		Map<String, JmhResults.Metric> currentResults = JmhResults.parse(read(current.get().getAsFile().toPath()));
+
+		JmhResults.Comparison comparison = JmhResults.compare(baselineResults, currentResults);
+		String text = comparison.report(relativeThreshold);
+		System.out.println("\n" + text);
+
+		Path reportFile = report.get().getAsFile().toPath();
+		try {
+			Files.createDirectories(reportFile.getParent());
+			Files.write(reportFile, text.getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		List<JmhResults.Diff> regressions = comparison.regressions(relativeThreshold);
+		if (!regressions.isEmpty() && Boolean.parseBoolean(failOnRegression.get())) {
+			throw new GradleException(regressions.size() + " benchmark regression(s) found, see " + reportFile);
+		}
+	}
+
+	private static String read(Path path) {
+		try {
+			return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
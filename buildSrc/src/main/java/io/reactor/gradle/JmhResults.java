@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactor.gradle;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import groovy.json.JsonException;
+import groovy.json.JsonSlurper;
+
+/**
+ * Reads JMH results in the JSON format and compares two sets of results, in order to spot
+ * the benchmarks that regressed between a baseline and the current sources.
+ * <p>
+ * Besides the primary metric, the normalized allocation rate reported by the {@code gc}
+ * profiler is compared when it is available in both sets.
+ */
+final class JmhResults {
+
+	static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+	/**
+	 * A single metric of a benchmark run, identified by the benchmark, its parameters,
+	 * its mode and the metric name.
+	 */
+	static final class Metric {
+
+		final String  id;
+		final String  unit;
+		final double  score;
+		final double  error;
+		final boolean higherIsBetter;
+
+		Metric(String id, String unit, double score, double error, boolean higherIsBetter) {
+			this.id = id;
+			this.unit = unit;
+			this.score = score;
+			this.error = Double.isNaN(error) ? 0d : error;
+			this.higherIsBetter = higherIsBetter;
+		}
+	}
+
+	/**
+	 * The comparison of a metric between the baseline and the current results.
+	 */
+	static final class Diff {
+
+		final Metric baseline;
+		final Metric current;
+
+		Diff(Metric baseline, Metric current) {
+			this.baseline = baseline;
+			this.current = current;
+		}
+
+		/**
+		 * The relative change of the score, positive when the current score is worse
+		 * than the baseline one whatever the metric direction.
+		 */
+		double worsening() {
+			if (baseline.score == current.score) {
+				return 0d;
+			}
+			if (baseline.score == 0d) {
+				return current.higherIsBetter ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+			}
+			double change = (current.score - baseline.score) / baseline.score;
+			return current.higherIsBetter ? -change : change;
+		}
+
+		/**
+		 * Whether the difference exceeds the combined error margins of both runs.
+		 */
+		boolean significant() {
+			return Math.abs(current.score - baseline.score) > baseline.error + current.error;
+		}
+
+		boolean isRegression(double threshold) {
+			return worsening() > threshold && significant();
+		}
+	}
+
+	/**
+	 * The result of comparing two sets of results.
+	 */
+	static final class Comparison {
+
+		final List<Diff>   diffs   = new ArrayList<>();
+		final List<String> added   = new ArrayList<>();
+		final List<String> removed = new ArrayList<>();
+
+		List<Diff> regressions(double threshold) {
+			List<Diff> regressions = new ArrayList<>();
+			for (Diff diff : diffs) {
+				if (diff.isRegression(threshold)) {
+					regressions.add(diff);
+				}
+			}
+			return regressions;
+		}
+
+		String report(double threshold) {
+			StringBuilder sb = new StringBuilder();
+			int width = "Benchmark".length();
+			for (Diff diff : diffs) {
+				width = Math.max(width, diff.current.id.length());
+			}
+			String row = "%-" + width + "s  %14s  %14s  %-10s  %9s  %s%n";
+			sb.append(String.format(Locale.ROOT, row, "Benchmark", "Baseline", "Current", "Unit", "Change", ""));
+			for (Diff diff : diffs) {
+				String flag = diff.isRegression(threshold) ? "REGRESSION" :
+						diff.worsening() < -threshold && diff.significant() ? "improvement" : "";
+				sb.append(String.format(Locale.ROOT, row,
+						diff.current.id,
+						format(diff.baseline),
+						format(diff.current),
+						diff.current.unit,
+						String.format(Locale.ROOT, "%+.1f%%", diff.worsening() == 0d ? 0d : -100d * diff.worsening()),
+						flag));
+			}
+			for (String id : added) {
+				sb.append("Only in current: ").append(id).append(System.lineSeparator());
+			}
+			for (String id : removed) {
+				sb.append("Only in baseline: ").append(id).append(System.lineSeparator());
+			}
+			int regressions = regressions(threshold).size();
+			sb.append(String.format(Locale.ROOT, "%d metric(s) compared, %d regression(s) above %.1f%%%n",
+					diffs.size(), regressions, threshold * 100d));
+			return sb.toString();
+		}
+
+		static String format(Metric metric) {
+			if (metric.error == 0d) {
+				return String.format(Locale.ROOT, "%.3f", metric.score);
+			}
+			return String.format(Locale.ROOT, "%.3f \u00b1%.0f%%", metric.score,
+					metric.score == 0d ? 0d : 100d * metric.error / metric.score);
+		}
+	}
+
+	/**
+	 * Compare the metrics of the current results with the baseline ones, matching them by
+	 * their identifier.
+	 *
+	 * @param baseline the baseline metrics
+	 * @param current the current metrics
+	 * @return the {@link Comparison}
+	 */
+	static Comparison compare(Map<String, Metric> baseline, Map<String, Metric> current) {
+		Comparison comparison = new Comparison();
+		for (Metric metric : current.values()) {
+			Metric base = baseline.get(metric.id);
+			if (base == null) {
+				comparison.added.add(metric.id);
+			}
+			else {
+				comparison.diffs.add(new Diff(base, metric));
+			}
+		}
+		for (String id : baseline.keySet()) {
+			if (!current.containsKey(id)) {
+				comparison.removed.add(id);
+			}
+		}
+		return comparison;
+	}
+
+	/**
+	 * Extract the metrics from a JMH JSON report.
+	 *
+	 * @param json the content of the report
+	 * @return the metrics, keyed by their identifier
+	 */
+	@SuppressWarnings("unchecked")
+	static Map<String, Metric> parse(String json) {
+		Object root;
+		try {
+			root = new JsonSlurper().parseText(json);
+		}
+		catch (JsonException e) {
+			throw new IllegalArgumentException("Not a JMH JSON report: " + e.getMessage(), e);
+		}
+		if (!(root instanceof List)) {
+			throw new IllegalArgumentException("Not a JMH JSON report, expected an array of results");
+		}
+		Map<String, Metric> metrics = new LinkedHashMap<>();
+		for (Object item : (List<Object>) root) {
+			Map<String, Object> run = (Map<String, Object>) item;
+			String mode = (String) run.get("mode");
+			boolean higherIsBetter = "thrpt".equals(mode);
+			StringBuilder id = new StringBuilder(shorten((String) run.get("benchmark")));
+			Map<String, Object> params = (Map<String, Object>) run.get("params");
+			if (params != null && !params.isEmpty()) {
+				StringBuilder sb = new StringBuilder();
+				for (Map.Entry<String, Object> param : new TreeMap<>(params).entrySet()) {
+					sb.append(sb.length() == 0 ? "" : ", ").append(param.getKey()).append('=').append(param.getValue());
+				}
+				id.append(" (").append(sb).append(')');
+			}
+			id.append(' ').append(mode);
+
+			add(metrics, id.toString(), (Map<String, Object>) run.get("primaryMetric"), higherIsBetter);
+			Map<String, Object> secondary = (Map<String, Object>) run.get("secondaryMetrics");
+			if (secondary != null) {
+				for (Map.Entry<String, Object> metric : secondary.entrySet()) {
+					if (metric.getKey().endsWith(ALLOC_METRIC)) {
+						add(metrics, id + " " + ALLOC_METRIC, (Map<String, Object>) metric.getValue(), false);
+					}
+				}
+			}
+		}
+		return metrics;
+	}
+
+	static void add(Map<String, Metric> metrics, String id, Map<String, Object> metric, boolean higherIsBetter) {
+		metrics.put(id, new Metric(id, (String) metric.get("scoreUnit"), toDouble(metric.get("score")),
+				toDouble(metric.get("scoreError")), higherIsBetter));
+	}
+
+	static String shorten(String benchmark) {
+		int method = benchmark.lastIndexOf('.');
+		int type = method < 0 ? -1 : benchmark.lastIndexOf('.', method - 1);
+		return type < 0 ? benchmark : benchmark.substring(type + 1);
+	}
+
+	static double toDouble(Object value) {
+		if (value instanceof Number) {
+			return ((Number) value).doubleValue();
+		}
+		return value == null ? Double.NaN : Double.parseDouble(value.toString());
+	}
+}
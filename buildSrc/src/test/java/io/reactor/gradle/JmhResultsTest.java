@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactor.gradle;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class JmhResultsTest {
+
+	static String run(String benchmark, String mode, String fusion, double score, Object error, String secondary) {
+		return "{\"benchmark\" : \"reactor.core.publisher." + benchmark + "\", \"mode\" : \"" + mode + "\", " +
+				"\"params\" : {\"fusion\" : \"" + fusion + "\", \"count\" : \"1000\"}, " +
+				"\"primaryMetric\" : {\"score\" : " + score + ", \"scoreError\" : " + error + ", " +
+				"\"scoreConfidence\" : [1.0, 2.0], \"scoreUnit\" : \"us/op\", \"rawData\" : [[1.5e1, 2]]}, " +
+				"\"secondaryMetrics\" : {" + secondary + "}}";
+	}
+
+	static String alloc(double bytes) {
+		return "\"gc.alloc.rate.norm\" : {\"score\" : " + bytes + ", \"scoreError\" : \"NaN\", \"scoreUnit\" : \"B/op\"}, " +
+				"\"gc.count\" : {\"score\" : 3.0, \"scoreError\" : \"NaN\", \"scoreUnit\" : \"counts\"}";
+	}
+
+	@Test
+	void parsesPrimaryAndAllocationMetrics() {
+		Map<String, JmhResults.Metric> metrics = JmhResults.parse("[" +
+				run("FluxOperatorsBenchmark.map", "avgt", "SYNC", 10.5, 0.5, alloc(48)) + ",\n" +
+				run("FluxOperatorsBenchmark.map", "avgt", "NONE", 12d, "\"NaN\"", "") + "]");
+
+		assertThat(metrics).containsOnlyKeys(
+				"FluxOperatorsBenchmark.map (count=1000, fusion=SYNC) avgt",
+				"FluxOperatorsBenchmark.map (count=1000, fusion=SYNC) avgt gc.alloc.rate.norm",
+				"FluxOperatorsBenchmark.map (count=1000, fusion=NONE) avgt");
+
+		JmhResults.Metric sync = metrics.get("FluxOperatorsBenchmark.map (count=1000, fusion=SYNC) avgt");
+		assertThat(sync.score).isEqualTo(10.5);
+		assertThat(sync.error).isEqualTo(0.5);
+		assertThat(sync.unit).isEqualTo("us/op");
+		assertThat(sync.higherIsBetter).isFalse();
+		assertThat(metrics.get("FluxOperatorsBenchmark.map (count=1000, fusion=NONE) avgt").error).isZero();
+		assertThat(metrics.get("FluxOperatorsBenchmark.map (count=1000, fusion=SYNC) avgt gc.alloc.rate.norm").score)
+				.isEqualTo(48d);
+	}
+
+	@Test
+	void reportsSignificantRegressionsAboveThreshold() {
+		Map<String, JmhResults.Metric> baseline = JmhResults.parse("[" +
+				run("B.slower", "avgt", "SYNC", 100d, 2d, alloc(0)) + "," +
+				run("B.noisy", "avgt", "SYNC", 100d, 30d, "") + "," +
+				run("B.faster", "thrpt", "SYNC", 100d, 1d, "") + "," +
+				run("B.removed", "avgt", "SYNC", 100d, 1d, "") + "]");
+		Map<String, JmhResults.Metric> current = JmhResults.parse("[" +
+				run("B.slower", "avgt", "SYNC", 120d, 2d, alloc(16)) + "," +
+				run("B.noisy", "avgt", "SYNC", 130d, 30d, "") + "," +
+				run("B.faster", "thrpt", "SYNC", 150d, 1d, "") + "," +
+				run("B.added", "avgt", "SYNC", 100d, 1d, "") + "]");
+
+		JmhResults.Comparison comparison = JmhResults.compare(baseline, current);
+
+		assertThat(comparison.regressions(0.1))
+				.extracting(diff -> diff.current.id)
+				.containsExactly("B.slower (count=1000, fusion=SYNC) avgt",
+						"B.slower (count=1000, fusion=SYNC) avgt gc.alloc.rate.norm");
+		assertThat(comparison.regressions(0.25)).hasSize(1);
+		assertThat(comparison.added).containsExactly("B.added (count=1000, fusion=SYNC) avgt");
+		assertThat(comparison.removed).containsExactly("B.removed (count=1000, fusion=SYNC) avgt");
+
+		String report = comparison.report(0.1);
+		assertThat(report)
+				.contains("-20.0%  REGRESSION")
+				.contains("+50.0%  improvement")
+				.contains("4 metric(s) compared, 2 regression(s) above 10.0%");
+	}
+
+	@Test
+	void rejectsInvalidReports() {
+		assertThatIllegalArgumentException().isThrownBy(() -> JmhResults.parse("{}"))
+		                                    .withMessageContaining("expected an array");
+		assertThatIllegalArgumentException().isThrownBy(() -> JmhResults.parse("[{\"mode\" : }]"))
+		                                    .withMessageStartingWith("Not a JMH JSON report");
+	}
+}
@@ -16,6 +16,8 @@
 
 package reactor.core.observability.micrometer;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import io.micrometer.common.KeyValue;
@@ -27,9 +29,14 @@ import io.micrometer.core.instrument.Tags;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 
+import reactor.core.Disposable;
+import reactor.core.Scannable;
 import reactor.core.observability.SignalListener;
 import reactor.core.observability.SignalListenerFactory;
+import reactor.core.publisher.OperatorProfile;
 import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.SchedulerStats;
+import reactor.core.scheduler.Schedulers;
 
 public final class Micrometer {
 
@@ -144,4 +151,55 @@ public final class Micrometer {
 	public static Scheduler timedScheduler(Scheduler original, MeterRegistry meterRegistry, String metricsPrefix, Iterable<Tag> tags) {
 		return new TimedScheduler(original, meterRegistry, metricsPrefix, tags);
 	}
+
+	/**
+	 * Publish the {@link OperatorProfile}s gathered when
+	 * {@link reactor.core.publisher.Hooks#enableOperatorProfiling() operator profiling}
+	 * is enabled to the provided {@link MeterRegistry}, naming meters using the provided
+	 * {@code metricsPrefix}. As new operators keep on being profiled, the tree of
+	 * profiles is walked every {@code refreshPeriod} on the {@link Schedulers#parallel()}
+	 * scheduler to register the meters of the new ones.
+	 * See {@link OperatorProfileMeterDocumentation} for a documentation of the meters and tags.
+	 * <p>
+	 * The meters reference the profiles, which are thus retained by the registry even
+	 * after an {@link OperatorProfile#reset()}.
+	 *
+	 * @param meterRegistry the {@link MeterRegistry} in which to register the meters
+	 * @param metricsPrefix the prefix to use in meter names. Must not end with a dot, which is automatically added.
+	 * @param refreshPeriod the period at which new profiles are looked for
+	 * @return a {@link Disposable} to stop looking for new profiles
+	 * @see OperatorProfileMeterDocumentation
+	 * @since 3.8.0
+	 */
+	public static Disposable operatorProfiles(MeterRegistry meterRegistry, String metricsPrefix, Duration refreshPeriod) {
+		OperatorProfileMeters meters = new OperatorProfileMeters(meterRegistry, metricsPrefix);
+		return Schedulers.parallel()
+		                 .schedulePeriodically(meters, 0, refreshPeriod.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Publish the {@link SchedulerStats} of a {@link Scheduler} created while
+	 * {@link Schedulers#enableStats() statistics} were enabled to the provided
+	 * {@link MeterRegistry}, naming meters using the provided {@code metricsPrefix} and
+	 * adding the provided {@code tags} to all of them. Unlike
+	 * {@link #timedScheduler(Scheduler, MeterRegistry, String, Iterable)}, the scheduler is
+	 * not wrapped: the meters only read the statistics that it already gathers.
+	 * See {@link SchedulerStatsMeterDocumentation} for a documentation of the meters.
+	 *
+	 * @param scheduler the {@link Scheduler} which statistics to publish
+	 * @param meterRegistry the {@link MeterRegistry} in which to register the meters
+	 * @param metricsPrefix the prefix to use in meter names. Must not end with a dot, which is automatically added.
+	 * @param tags the tags to put on meters
+	 * @throws IllegalArgumentException if the scheduler doesn't gather {@link SchedulerStats}
+	 * @see SchedulerStatsMeterDocumentation
+	 * @since 3.8.0
+	 */
+	public static void schedulerStats(Scheduler scheduler, MeterRegistry meterRegistry, String metricsPrefix, Iterable<Tag> tags) {
+		SchedulerStats stats = Scannable.from(scheduler).scan(Scannable.Attr.SCHEDULER_STATS);
+		if (stats == null) {
+			throw new IllegalArgumentException("Scheduler " + scheduler + " doesn't gather statistics, " +
+					"they must be enabled with Schedulers.enableStats() before creating it");
+		}
+		SchedulerStatsMeters.register(stats, meterRegistry, metricsPrefix, tags);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.observability.micrometer;
+
+import java.time.Duration;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.docs.MeterDocumentation;
+
+import reactor.core.publisher.OperatorProfile;
+
+/**
+ * Meters and tags used by {@link Micrometer#operatorProfiles(MeterRegistry, String, Duration)}.
+ * There is one set of meters per {@link OperatorProfile}.
+ */
+public enum OperatorProfileMeterDocumentation implements MeterDocumentation {
+
+	/**
+	 * Counter of the values emitted by the operator, see {@link OperatorProfile#onNextCount()}.
+	 */
+	ON_NEXT {
+		@Override
+		public KeyName[] getKeyNames() {
+			return OperatorTags.values();
+		}
+
+		@Override
+		public String getName() {
+			return "%s.operator.onNext";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * Gauge of the mean time the delivery of a value emitted by the operator takes,
+	 * including the time spent downstream, see {@link OperatorProfile#meanOnNextNanos()}.
+	 */
+	ON_NEXT_TIME {
+		@Override
+		public KeyName[] getKeyNames() {
+			return OperatorTags.values();
+		}
+
+		@Override
+		public String getName() {
+			return "%s.operator.onNext.time";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * Gauge of the estimated mean time spent by the operators directly applied to the
+	 * operator for each value it emits, see {@link OperatorProfile#meanSelfOnNextNanos()}.
+	 */
+	ON_NEXT_SELF_TIME {
+		@Override
+		public KeyName[] getKeyNames() {
+			return OperatorTags.values();
+		}
+
+		@Override
+		public String getName() {
+			return "%s.operator.onNext.self.time";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * Gauge of the mean number of values buffered by the operator, see
+	 * {@link OperatorProfile#meanBuffered()}.
+	 */
+	BUFFERED {
+		@Override
+		public KeyName[] getKeyNames() {
+			return OperatorTags.values();
+		}
+
+		@Override
+		public String getName() {
+			return "%s.operator.buffered";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * Counter of the bounded demand requested from the operator, see
+	 * {@link OperatorProfile#requested()}.
+	 */
+	REQUESTED {
+		@Override
+		public KeyName[] getKeyNames() {
+			return OperatorTags.values();
+		}
+
+		@Override
+		public String getName() {
+			return "%s.operator.requested";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * Counter of the subscriptions to the operator, see {@link OperatorProfile#subscriptions()}.
+	 */
+	SUBSCRIPTIONS {
+		@Override
+		public KeyName[] getKeyNames() {
+			return OperatorTags.values();
+		}
+
+		@Override
+		public String getName() {
+			return "%s.operator.subscriptions";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	};
+
+	/**
+	 * Tags of all the operator profiling meters.
+	 */
+	public enum OperatorTags implements KeyName {
+
+		/**
+		 * The {@link OperatorProfile#name() name} of the operator.
+		 */
+		OPERATOR {
+			@Override
+			public String asString() {
+				return "operator";
+			}
+		},
+
+		/**
+		 * The {@link OperatorProfile#path() path} of the operator, from the source of
+		 * the pipeline down to the operator.
+		 */
+		PATH {
+			@Override
+			public String asString() {
+				return "path";
+			}
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.observability.micrometer;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+
+import reactor.core.publisher.OperatorProfile;
+
+import static reactor.core.observability.micrometer.OperatorProfileMeterDocumentation.*;
+
+/**
+ * Registers the meters of each {@link OperatorProfile} reachable from
+ * {@link OperatorProfile#roots()} the first time it is seen. The meters read the live
+ * profiles, so only the new operators need to be registered at each refresh.
+ */
+final class OperatorProfileMeters implements Runnable {
+
+	final MeterRegistry registry;
+	final String        prefix;
+	final Set<String>   registered = ConcurrentHashMap.newKeySet();
+
+	OperatorProfileMeters(MeterRegistry registry, String prefix) {
+		this.registry = registry;
+		this.prefix = prefix;
+	}
+
+	@Override
+	public void run() {
+		for (OperatorProfile root : OperatorProfile.roots()) {
+			register(root);
+		}
+	}
+
+	void register(OperatorProfile profile) {
+		if (registered.add(profile.path())) {
+			Tags tags = Tags.of(OperatorTags.OPERATOR.asString(), profile.name(),
+					OperatorTags.PATH.asString(), profile.path());
+
+			FunctionCounter.builder(ON_NEXT.getName(prefix), profile, OperatorProfile::onNextCount)
+			               .tags(tags)
+			               .register(registry);
+			TimeGauge.builder(ON_NEXT_TIME.getName(prefix), profile, TimeUnit.NANOSECONDS,
+					OperatorProfile::meanOnNextNanos)
+			         .tags(tags)
+			         .register(registry);
+			TimeGauge.builder(ON_NEXT_SELF_TIME.getName(prefix), profile, TimeUnit.NANOSECONDS,
+					OperatorProfile::meanSelfOnNextNanos)
+			         .tags(tags)
+			         .register(registry);
+			Gauge.builder(BUFFERED.getName(prefix), profile, OperatorProfile::meanBuffered)
+			     .tags(tags)
+			     .register(registry);
+			FunctionCounter.builder(REQUESTED.getName(prefix), profile, OperatorProfile::requested)
+			               .tags(tags)
+			               .register(registry);
+			FunctionCounter.builder(SUBSCRIPTIONS.getName(prefix), profile, OperatorProfile::subscriptions)
+			               .tags(tags)
+			               .register(registry);
+		}
+		for (OperatorProfile child : profile.children()) {
+			register(child);
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.observability.micrometer;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.docs.MeterDocumentation;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.SchedulerStats;
+
+/**
+ * Meters used by {@link Micrometer#schedulerStats(Scheduler, MeterRegistry, String, Iterable)}.
+ * The meters read the {@link SchedulerStats} of the {@link Scheduler} and only carry the
+ * user-provided tags.
+ */
+public enum SchedulerStatsMeterDocumentation implements MeterDocumentation {
+
+	/**
+	 * Counter of the tasks submitted to the scheduler, see {@link SchedulerStats#submitted()}.
+	 */
+	TASKS_SUBMITTED {
+		@Override
+		public String getName() {
+			return "%s.scheduler.stats.tasks.submitted";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * Counter of the task executions that ended, including the failed ones, see {@link SchedulerStats#completed()}.
+	 */
+	TASKS_COMPLETED {
+		@Override
+		public String getName() {
+			return "%s.scheduler.stats.tasks.completed";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * Counter of the tasks that threw, see {@link SchedulerStats#failed()}.
+	 */
+	TASKS_FAILED {
+		@Override
+		public String getName() {
+			return "%s.scheduler.stats.tasks.failed";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * Counter of the tasks that the scheduler rejected, see {@link SchedulerStats#rejected()}.
+	 */
+	TASKS_REJECTED {
+		@Override
+		public String getName() {
+			return "%s.scheduler.stats.tasks.rejected";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * Gauge of the tasks waiting in the queues of the scheduler, see {@link SchedulerStats#pending()}.
+	 */
+	TASKS_PENDING {
+		@Override
+		public String getName() {
+			return "%s.scheduler.stats.tasks.pending";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * Gauge of the worker threads running a task, see {@link SchedulerStats#busyWorkers()}.
+	 */
+	WORKERS_BUSY {
+		@Override
+		public String getName() {
+			return "%s.scheduler.stats.workers.busy";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * Gauge of the worker threads not running any task, see {@link SchedulerStats#idleWorkers()}.
+	 */
+	WORKERS_IDLE {
+		@Override
+		public String getName() {
+			return "%s.scheduler.stats.workers.idle";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * Timer of the time tasks spend between their due time and their start, see {@link SchedulerStats#queueTime()}.
+	 */
+	TASK_QUEUE_TIME {
+		@Override
+		public String getName() {
+			return "%s.scheduler.stats.tasks.queued";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.TIMER;
+		}
+	},
+
+	/**
+	 * Timer of the time tasks take to run, see {@link SchedulerStats#executionTime()}.
+	 */
+	TASK_EXECUTION_TIME {
+		@Override
+		public String getName() {
+			return "%s.scheduler.stats.tasks.execution";
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.TIMER;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.observability.micrometer;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+import reactor.core.scheduler.SchedulerStats;
+
+import static reactor.core.observability.micrometer.SchedulerStatsMeterDocumentation.*;
+
+/**
+ * Registers function meters reading a {@link SchedulerStats}, so that publishing the
+ * statistics of a scheduler doesn't add any work to its tasks.
+ */
+final class SchedulerStatsMeters {
+
+	static void register(SchedulerStats stats, MeterRegistry registry, String prefix, Iterable<Tag> tags) {
+		FunctionCounter.builder(TASKS_SUBMITTED.getName(prefix), stats, SchedulerStats::submitted)
+		               .tags(tags)
+		               .register(registry);
+		FunctionCounter.builder(TASKS_COMPLETED.getName(prefix), stats, SchedulerStats::completed)
+		               .tags(tags)
+		               .register(registry);
+		FunctionCounter.builder(TASKS_FAILED.getName(prefix), stats, SchedulerStats::failed)
+		               .tags(tags)
+		               .register(registry);
+		FunctionCounter.builder(TASKS_REJECTED.getName(prefix), stats, SchedulerStats::rejected)
+		               .tags(tags)
+		               .register(registry);
+		Gauge.builder(TASKS_PENDING.getName(prefix), stats, SchedulerStats::pending)
+		     .tags(tags)
+		     .register(registry);
+		Gauge.builder(WORKERS_BUSY.getName(prefix), stats, SchedulerStats::busyWorkers)
+		     .tags(tags)
+		     .register(registry);
+		Gauge.builder(WORKERS_IDLE.getName(prefix), stats, SchedulerStats::idleWorkers)
+		     .tags(tags)
+		     .register(registry);
+		FunctionTimer.builder(TASK_QUEUE_TIME.getName(prefix), stats.queueTime(),
+				SchedulerStats.Histogram::count, SchedulerStats.Histogram::totalNanos, TimeUnit.NANOSECONDS)
+		             .tags(tags)
+		             .register(registry);
+		FunctionTimer.builder(TASK_EXECUTION_TIME.getName(prefix), stats.executionTime(),
+				SchedulerStats.Histogram::count, SchedulerStats.Histogram::totalNanos, TimeUnit.NANOSECONDS)
+		             .tags(tags)
+		             .register(registry);
+	}
+
+	private SchedulerStatsMeters() {
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.observability.micrometer;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.OperatorProfile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OperatorProfileMetersTest {
+
+	SimpleMeterRegistry registry;
+
+	@BeforeEach
+	void enableProfiling() {
+		registry = new SimpleMeterRegistry();
+		Hooks.enableOperatorProfiling(1);
+	}
+
+	@AfterEach
+	void disableProfiling() {
+		Hooks.disableOperatorProfiling();
+		OperatorProfile.reset();
+		registry.close();
+	}
+
+	@Test
+	void registersMetersOfEachProfileOnce() {
+		OperatorProfileMeters meters = new OperatorProfileMeters(registry, "test");
+		Flux<Integer> flux = Flux.range(0, 10).map(i -> i * 2);
+
+		flux.blockLast();
+		meters.run();
+		flux.blockLast();
+		meters.run();
+
+		FunctionCounter onNext = registry.get("test.operator.onNext")
+		                                 .tag("operator", "map")
+		                                 .functionCounter();
+		assertThat(onNext.count()).isEqualTo(20);
+		assertThat(onNext.getId().getTag("path")).isEqualTo("source(FluxRange)/map");
+
+		TimeGauge selfTime = registry.get("test.operator.onNext.self.time")
+		                             .tag("operator", "map")
+		                             .timeGauge();
+		assertThat(selfTime.value()).isPositive();
+
+		assertThat(registry.get("test.operator.subscriptions").tag("operator", "map").functionCounter().count())
+				.isEqualTo(2);
+		assertThat(registry.getMeters())
+				.extracting(Meter::getId)
+				.filteredOn(id -> id.getName().equals("test.operator.onNext"))
+				.extracting(id -> id.getTag("operator"))
+				.containsExactlyInAnyOrder("source(FluxRange)", "map");
+	}
+
+	@Test
+	void periodicallyRegistersNewProfiles() {
+		Disposable disposable = Micrometer.operatorProfiles(registry, "test", Duration.ofMillis(10));
+		try {
+			Flux.range(0, 10).filter(i -> i % 2 == 0).blockLast();
+
+			Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+					assertThat(registry.find("test.operator.onNext").tag("operator", "filter").functionCounter())
+							.isNotNull()
+							.satisfies(counter -> assertThat(counter.count()).isEqualTo(5)));
+		}
+		finally {
+			disposable.dispose();
+		}
+	}
+}
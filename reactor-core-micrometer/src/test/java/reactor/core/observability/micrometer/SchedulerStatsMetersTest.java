@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.observability.micrometer;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SchedulerStatsMetersTest {
+
+	SimpleMeterRegistry registry;
+
+	@BeforeEach
+	void enableStats() {
+		registry = new SimpleMeterRegistry();
+		Schedulers.enableStats();
+	}
+
+	@AfterEach
+	void disableStats() {
+		Schedulers.disableStats();
+		registry.close();
+	}
+
+	@Test
+	void publishesStatsOfScheduler() {
+		Scheduler scheduler = Schedulers.newSingle("statsMeters");
+		try {
+			Micrometer.schedulerStats(scheduler, registry, "test", Tags.of("scheduler", "single"));
+
+			for (int i = 0; i < 3; i++) {
+				scheduler.schedule(() -> { }, 1, TimeUnit.MILLISECONDS);
+			}
+			scheduler.schedule(() -> {
+				throw new IllegalStateException("boom");
+			});
+			scheduler.schedule(() -> { }, 20, TimeUnit.MILLISECONDS);
+			scheduler.disposeGracefully().block();
+
+			assertThat(registry.get("test.scheduler.stats.tasks.submitted").tag("scheduler", "single")
+			                   .functionCounter().count()).isEqualTo(5);
+			assertThat(registry.get("test.scheduler.stats.tasks.completed").functionCounter().count())
+					.isEqualTo(5);
+			assertThat(registry.get("test.scheduler.stats.tasks.failed").functionCounter().count())
+					.isEqualTo(1);
+			assertThat(registry.get("test.scheduler.stats.tasks.rejected").functionCounter().count())
+					.isZero();
+			assertThat(registry.get("test.scheduler.stats.tasks.pending").gauge().value()).isZero();
+			assertThat(registry.get("test.scheduler.stats.workers.busy").gauge().value()).isZero();
+
+			FunctionTimer execution = registry.get("test.scheduler.stats.tasks.execution").functionTimer();
+			assertThat(execution.count()).isEqualTo(5);
+			FunctionTimer queued = registry.get("test.scheduler.stats.tasks.queued").functionTimer();
+			assertThat(queued.count()).isEqualTo(5);
+			assertThat(queued.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+		}
+		finally {
+			scheduler.dispose();
+		}
+	}
+
+	@Test
+	void rejectsSchedulerWithoutStats() {
+		Schedulers.disableStats();
+		Scheduler scheduler = Schedulers.newSingle("noStats");
+		try {
+			assertThatIllegalArgumentException()
+					.isThrownBy(() -> Micrometer.schedulerStats(scheduler, registry, "test", Tags.empty()))
+					.withMessageContaining("Schedulers.enableStats()");
+			assertThat(registry.getMeters()).isEmpty();
+		}
+		finally {
+			scheduler.dispose();
+		}
+	}
+}
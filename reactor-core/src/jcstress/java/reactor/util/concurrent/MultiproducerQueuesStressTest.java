@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.util.concurrent;
+
+import java.util.Queue;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.LLLL_Result;
+import org.openjdk.jcstress.infra.results.LLL_Result;
+
+public abstract class MultiproducerQueuesStressTest {
+
+	@JCStressTest
+	@Outcome(id = {"true, true, a, b"}, expect = Expect.ACCEPTABLE, desc = "A then B")
+	@Outcome(id = {"true, true, b, a"}, expect = Expect.ACCEPTABLE, desc = "B then A")
+	@State
+	public static class MpscArrayQueueTwoProducersStressTest {
+
+		final Queue<String> queue = new MpscArrayQueue<>(2);
+
+		@Actor
+		public void offerA(LLLL_Result r) {
+			r.r1 = queue.offer("a");
+		}
+
+		@Actor
+		public void offerB(LLLL_Result r) {
+			r.r2 = queue.offer("b");
+		}
+
+		@Arbiter
+		public void arbiter(LLLL_Result r) {
+			r.r3 = queue.poll();
+			r.r4 = queue.poll();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = {"true, false, x, a"}, expect = Expect.ACCEPTABLE, desc = "A took the last slot")
+	@Outcome(id = {"false, true, x, b"}, expect = Expect.ACCEPTABLE, desc = "B took the last slot")
+	@State
+	public static class MpscArrayQueueLastSlotStressTest {
+
+		final Queue<String> queue = new MpscArrayQueue<>(2);
+
+		{
+			queue.offer("x");
+		}
+
+		@Actor
+		public void offerA(LLLL_Result r) {
+			r.r1 = queue.offer("a");
+		}
+
+		@Actor
+		public void offerB(LLLL_Result r) {
+			r.r2 = queue.offer("b");
+		}
+
+		@Arbiter
+		public void arbiter(LLLL_Result r) {
+			r.r3 = queue.poll();
+			r.r4 = queue.poll();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = {"null, a, b, 0"}, expect = Expect.ACCEPTABLE, desc = "Polled before offers, A then B")
+	@Outcome(id = {"null, b, a, 0"}, expect = Expect.ACCEPTABLE, desc = "Polled before offers, B then A")
+	@Outcome(id = {"a, b, null, 0"}, expect = Expect.ACCEPTABLE, desc = "Polled A, B left")
+	@Outcome(id = {"b, a, null, 0"}, expect = Expect.ACCEPTABLE, desc = "Polled B, A left")
+	@State
+	public static class MpscArrayQueueOfferAndPollStressTest {
+
+		final Queue<String> queue = new MpscArrayQueue<>(4);
+
+		@Actor
+		public void offerA() {
+			queue.offer("a");
+		}
+
+		@Actor
+		public void offerB() {
+			queue.offer("b");
+		}
+
+		@Actor
+		public void poll(LLLL_Result r) {
+			r.r1 = queue.poll();
+		}
+
+		@Arbiter
+		public void arbiter(LLLL_Result r) {
+			r.r2 = queue.poll();
+			r.r3 = queue.poll();
+			r.r4 = queue.size();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = {"x, a, b"}, expect = Expect.ACCEPTABLE, desc = "A then B")
+	@Outcome(id = {"x, b, a"}, expect = Expect.ACCEPTABLE, desc = "B then A")
+	@State
+	public static class MpscChunkedArrayQueueAcrossChunksStressTest {
+
+		final Queue<String> queue = new MpscChunkedArrayQueue<>(2);
+
+		{
+			queue.offer("x");
+		}
+
+		@Actor
+		public void offerA() {
+			queue.offer("a");
+		}
+
+		@Actor
+		public void offerB() {
+			queue.offer("b");
+		}
+
+		@Arbiter
+		public void arbiter(LLL_Result r) {
+			r.r1 = queue.poll();
+			r.r2 = queue.poll();
+			r.r3 = queue.poll();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = {"null, a, b, 0"}, expect = Expect.ACCEPTABLE, desc = "Polled before offers, A then B")
+	@Outcome(id = {"null, b, a, 0"}, expect = Expect.ACCEPTABLE, desc = "Polled before offers, B then A")
+	@Outcome(id = {"a, b, null, 0"}, expect = Expect.ACCEPTABLE, desc = "Polled A, B left")
+	@Outcome(id = {"b, a, null, 0"}, expect = Expect.ACCEPTABLE, desc = "Polled B, A left")
+	@State
+	public static class MpscChunkedArrayQueueOfferAndPollStressTest {
+
+		final Queue<String> queue = new MpscChunkedArrayQueue<>(2);
+
+		@Actor
+		public void offerA() {
+			queue.offer("a");
+		}
+
+		@Actor
+		public void offerB() {
+			queue.offer("b");
+		}
+
+		@Actor
+		public void poll(LLLL_Result r) {
+			r.r1 = queue.poll();
+		}
+
+		@Arbiter
+		public void arbiter(LLLL_Result r) {
+			r.r2 = queue.poll();
+			r.r3 = queue.poll();
+			r.r4 = queue.size();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = {"null, null, a, b"}, expect = Expect.ACCEPTABLE, desc = "Both polled before offers, A then B")
+	@Outcome(id = {"null, null, b, a"}, expect = Expect.ACCEPTABLE, desc = "Both polled before offers, B then A")
+	@Outcome(id = {"a, null, b, null", "null, a, b, null"}, expect = Expect.ACCEPTABLE, desc = "One polled A, B left")
+	@Outcome(id = {"b, null, a, null", "null, b, a, null"}, expect = Expect.ACCEPTABLE, desc = "One polled B, A left")
+	@Outcome(id = {"a, b, null, null", "b, a, null, null"}, expect = Expect.ACCEPTABLE, desc = "Both consumed")
+	@State
+	public static class MpmcArrayQueueStressTest {
+
+		final Queue<String> queue = new MpmcArrayQueue<>(2);
+
+		@Actor
+		public void offerA() {
+			queue.offer("a");
+		}
+
+		@Actor
+		public void offerB() {
+			queue.offer("b");
+		}
+
+		@Actor
+		public void pollOne(LLLL_Result r) {
+			r.r1 = queue.poll();
+		}
+
+		@Actor
+		public void pollTwo(LLLL_Result r) {
+			r.r2 = queue.poll();
+		}
+
+		@Arbiter
+		public void arbiter(LLLL_Result r) {
+			r.r3 = queue.poll();
+			r.r4 = queue.poll();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = {"true, false, x, a"}, expect = Expect.ACCEPTABLE, desc = "A took the last slot")
+	@Outcome(id = {"false, true, x, b"}, expect = Expect.ACCEPTABLE, desc = "B took the last slot")
+	@State
+	public static class MpmcArrayQueueLastSlotStressTest {
+
+		final Queue<String> queue = new MpmcArrayQueue<>(2);
+
+		{
+			queue.offer("x");
+		}
+
+		@Actor
+		public void offerA(LLLL_Result r) {
+			r.r1 = queue.offer("a");
+		}
+
+		@Actor
+		public void offerB(LLLL_Result r) {
+			r.r2 = queue.offer("b");
+		}
+
+		@Arbiter
+		public void arbiter(LLLL_Result r) {
+			r.r3 = queue.poll();
+			r.r4 = queue.poll();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = {"null, null, a, b"}, expect = Expect.ACCEPTABLE, desc = "Both polled before offers, A then B")
+	@Outcome(id = {"null, null, b, a"}, expect = Expect.ACCEPTABLE, desc = "Both polled before offers, B then A")
+	@Outcome(id = {"a, null, b, null", "null, a, b, null"}, expect = Expect.ACCEPTABLE, desc = "One polled A, B left")
+	@Outcome(id = {"b, null, a, null", "null, b, a, null"}, expect = Expect.ACCEPTABLE, desc = "One polled B, A left")
+	@Outcome(id = {"a, b, null, null", "b, a, null, null"}, expect = Expect.ACCEPTABLE, desc = "Both consumed")
+	@State
+	public static class MpmcChunkedArrayQueueStressTest {
+
+		// with one slot left in the first chunk, the offers are racing to append the second one
+		final Queue<String> queue = new MpmcChunkedArrayQueue<>(2);
+
+		{
+			queue.offer("x");
+			queue.poll();
+		}
+
+		@Actor
+		public void offerA() {
+			queue.offer("a");
+		}
+
+		@Actor
+		public void offerB() {
+			queue.offer("b");
+		}
+
+		@Actor
+		public void pollOne(LLLL_Result r) {
+			r.r1 = queue.poll();
+		}
+
+		@Actor
+		public void pollTwo(LLLL_Result r) {
+			r.r2 = queue.poll();
+		}
+
+		@Arbiter
+		public void arbiter(LLLL_Result r) {
+			r.r3 = queue.poll();
+			r.r4 = queue.poll();
+		}
+	}
+}
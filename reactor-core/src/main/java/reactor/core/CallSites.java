@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import reactor.util.Logger;
+import reactor.util.Loggers;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Resolves {@link Scannable.Attr#CALL_SITE} for both {@link Scannable#scan(Scannable.Attr)}
+ * and {@link Scannable#scanOrDefault(Scannable.Attr, Object)}, from the call site ids
+ * that the build-time instrumentation of {@code reactor-tools} tags publishers with.
+ * These ids are held by the package-private {@code reactor.core.publisher.CallSiteTable},
+ * which is looked up once so that it doesn't need a public entry point.
+ */
+final class CallSites {
+
+	static final Logger LOGGER = Loggers.getLogger(CallSites.class);
+
+	static final Function<Object, String> RESOLVER = resolver();
+
+	/**
+	 * Resolve the call site the given component was tagged with.
+	 *
+	 * @param component the component to resolve the call site of
+	 * @return the call site, or null if the component wasn't tagged
+	 */
+	@Nullable
+	static String resolve(Object component) {
+		return RESOLVER.apply(component);
+	}
+
+	static Function<Object, String> resolver() {
+		Method method;
+		try {
+			method = Class.forName("reactor.core.publisher.CallSiteTable")
+			              .getDeclaredMethod("resolveCallSite", Object.class);
+			method.setAccessible(true);
+		}
+		catch (ReflectiveOperationException | RuntimeException e) {
+			LOGGER.warn("Unable to resolve call sites", e);
+			return component -> null;
+		}
+		return component -> {
+			try {
+				return (String) method.invoke(null, component);
+			}
+			catch (ReflectiveOperationException e) {
+				return null;
+			}
+		};
+	}
+
+	CallSites() {
+	}
+}
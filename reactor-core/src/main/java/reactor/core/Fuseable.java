@@ -127,6 +127,41 @@ public interface Fuseable {
 		boolean tryOnNext(T t);
 	}
 
+	/**
+	 * A subscriber variant that can receive several values in a single call, which lets
+	 * sources holding their values in memory (arrays, ranges, collections) and the
+	 * operators in between process them in tight loops rather than going through one
+	 * {@link org.reactivestreams.Subscriber#onNext(Object) onNext} call per value and
+	 * operator.
+	 * <p>
+	 * Batches are only sent when enabled via
+	 * {@link reactor.core.publisher.Hooks#enableBatchedDelivery()}, outside of any fusion
+	 * mode and within the amount requested by the subscriber. Like
+	 * {@link ConditionalSubscriber#tryOnNext(Object)}, the subscriber returns how many
+	 * values actually count against that amount, the others being replenished by the sender.
+	 * <p>
+	 * Implementations must accept batches regardless of their own downstream, delivering
+	 * values one by one if that downstream isn't a {@link BatchSubscriber}. The array is
+	 * only valid for the duration of the call: it must neither be modified nor retained,
+	 * which lets senders pass their own storage or reuse a buffer.
+	 *
+	 * @param <T> the value type
+	 * @since 3.8.0
+	 */
+	interface BatchSubscriber<T> extends CoreSubscriber<T> {
+		/**
+		 * Consume {@code length} values of type {@code T}, not null, from the given array
+		 * starting at {@code offset}.
+		 *
+		 * @param values the array holding the values
+		 * @param offset the index of the first value
+		 * @param length the number of values, strictly positive
+		 * @return the number of values that count against the requested amount, between
+		 * 0 and {@code length}
+		 */
+		int onNextBatch(Object[] values, int offset, int length);
+	}
+
 	/**
 	 * Support contract for queue-fusion based optimizations on subscriptions.
 	 *
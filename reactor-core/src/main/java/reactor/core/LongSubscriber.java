@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core;
+
+/**
+ * A {@link CoreSubscriber} variant that receives primitive {@code long} values, so that
+ * sources and operators of {@link reactor.core.publisher.LongFlux} can exchange them
+ * without boxing each value into a {@link Long}.
+ * <p>
+ * A {@link LongSubscriber} can still subscribe to any {@code Publisher<Long>}, in which
+ * case the boxed values are unboxed by {@link #onNext(Long)}.
+ *
+ * @since 3.8.0
+ */
+public interface LongSubscriber extends CoreSubscriber<Long> {
+
+	/**
+	 * Data notification sent by the {@link org.reactivestreams.Publisher} in response to
+	 * requests to {@link org.reactivestreams.Subscription#request(long)}.
+	 *
+	 * @param value the value
+	 */
+	void onNext(long value);
+
+	/**
+	 * Unbox and forward the value to {@link #onNext(long)}.
+	 *
+	 * @param value the boxed value
+	 */
+	@Override
+	default void onNext(Long value) {
+		onNext(value.longValue());
+	}
+}
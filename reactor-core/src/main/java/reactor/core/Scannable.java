@@ -34,6 +34,7 @@ import java.util.stream.StreamSupport;
 import org.reactivestreams.Subscriber;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Scheduler.Worker;
+import reactor.core.scheduler.SchedulerStats;
 import reactor.util.annotation.Nullable;
 import reactor.util.function.Tuple2;
 
@@ -228,6 +229,28 @@ public interface Scannable {
 		 */
 		public static final Attr<String> LIFTER = new Attr<>(null);
 
+		/**
+		 * The location of the user code where a publisher was assembled, for publishers
+		 * tagged with a call site id by the build-time instrumentation of
+		 * {@code reactor-tools} instead of being wrapped into an assembly tracing operator.
+		 * It has the same format as the {@link Scannable#stepName()} of assembly traces, e.g.
+		 * {@code "Flux.map ⇢ at com.example.Service.call(Service.java:42)"}.
+		 * Resolved by {@link Scannable#scan(Attr)} and {@link Scannable#scanOrDefault(Attr, Object)}
+		 * rather than {@link Scannable#scanUnsafe(Attr)}. Defaults to {@literal null}.
+		 *
+		 * @since 3.8.0
+		 */
+		public static final Attr<String> CALL_SITE = new Attr<>(null);
+
+		/**
+		 * The {@link SchedulerStats statistics} of the tasks run by a {@link Scheduler},
+		 * available when {@link reactor.core.scheduler.Schedulers#enableStats()} was
+		 * called before its creation. Defaults to {@literal null}.
+		 *
+		 * @since 3.8.0
+		 */
+		public static final Attr<SchedulerStats> SCHEDULER_STATS = new Attr<>(null);
+
 		/**
 		 * An {@link Enum} enumerating the different styles an operator can run : their {@link #ordinal()} reflects the level of confidence
 		 * in their running mode
@@ -562,7 +585,7 @@ public interface Scannable {
 	default <T> T scan(Attr<T> key) {
 		//note tryConvert will just plain cast most of the time
 		//except e.g. for Attr<Scannable>
-		T value = key.tryConvert(scanUnsafe(key));
+		T value = key.tryConvert(key == Attr.CALL_SITE ? CallSites.resolve(this) : scanUnsafe(key));
 		if (value == null)
 			return key.defaultValue();
 		return value;
@@ -582,7 +605,7 @@ public interface Scannable {
 		T v;
 		//note tryConvert will just plain cast most of the time
 		//except e.g. for Attr<Scannable>
-		v = key.tryConvert(scanUnsafe(key));
+		v = key.tryConvert(key == Attr.CALL_SITE ? CallSites.resolve(this) : scanUnsafe(key));
 
 		if (v == null) {
 			return Objects.requireNonNull(defaultValue, "defaultValue");
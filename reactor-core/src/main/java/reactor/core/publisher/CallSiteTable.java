@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import reactor.util.Logger;
+import reactor.util.Loggers;
+import reactor.util.annotation.Nullable;
+
+/**
+ * The global table of the call sites recorded by the build-time instrumentation of
+ * {@code reactor-tools}, which tags each assembled publisher with an {@code int} id
+ * instead of wrapping it into an assembly tracing operator.
+ * <p>
+ * Each instrumented class carries its own generated table of call sites, in the same
+ * format as {@link Hooks#addCallSiteInfo}, returned by a synthetic
+ * {@value #TABLE_METHOD} static method. The first time a class tags a publisher, its
+ * table is appended to the global one, and the class-local indices are offset into
+ * global ids. The id {@code 0} means that a publisher isn't tagged.
+ * <p>
+ * The ids of tagged publishers are kept in a weak side table rather than in the
+ * publishers themselves, so that only applications built with the instrumentation pay
+ * for them. Tagging doesn't lock, so that concurrent assemblies don't contend, and the
+ * table is only read when resolving {@link reactor.core.Scannable.Attr#CALL_SITE} or
+ * decorating an error with its assembly trace.
+ */
+final class CallSiteTable {
+
+	static final Logger LOGGER = Loggers.getLogger(CallSiteTable.class);
+
+	/**
+	 * The name of the synthetic method that instrumented classes expose their table of
+	 * call sites with, as a {@code String[]}.
+	 */
+	static final String TABLE_METHOD = "$reactor$callSites";
+
+	static final ClassValue<Integer> OFFSETS = new ClassValue<Integer>() {
+		@Override
+		protected Integer computeValue(Class<?> owner) {
+			return register(owner);
+		}
+	};
+
+	static volatile String[] callSites = new String[0];
+
+	/**
+	 * The ids of the tagged publishers, keyed by weak references compared by identity.
+	 * Keys of collected publishers are enqueued in {@link #COLLECTED} and expunged when
+	 * tagging.
+	 */
+	static final ConcurrentHashMap<WeakKey, Integer> TAGS = new ConcurrentHashMap<>();
+
+	static final ReferenceQueue<Object> COLLECTED = new ReferenceQueue<>();
+
+	/**
+	 * Return the global id of the call site at the given index of the table generated
+	 * for the owner class, or {@code 0} if that table can't be read.
+	 */
+	static int id(Class<?> owner, int index) {
+		int offset = OFFSETS.get(owner);
+		if (offset < 0) {
+			return 0;
+		}
+		return offset + index + 1;
+	}
+
+	static synchronized int register(Class<?> owner) {
+		String[] table;
+		try {
+			Method method = owner.getDeclaredMethod(TABLE_METHOD);
+			method.setAccessible(true);
+			table = (String[]) method.invoke(null);
+		}
+		catch (ReflectiveOperationException | RuntimeException e) {
+			LOGGER.warn("Unable to read the call sites of " + owner.getName(), e);
+			return -1;
+		}
+		String[] current = callSites;
+		String[] next = Arrays.copyOf(current, current.length + table.length);
+		System.arraycopy(table, 0, next, current.length, table.length);
+		callSites = next;
+		return current.length;
+	}
+
+	/**
+	 * Resolve the call site of the given id, in the same format as
+	 * {@link Hooks#addCallSiteInfo}.
+	 */
+	@Nullable
+	static String resolve(int id) {
+		String[] callSites = CallSiteTable.callSites;
+		if (id <= 0 || id > callSites.length) {
+			return null;
+		}
+		return callSites[id - 1];
+	}
+
+	/**
+	 * Return the call site id the given component was tagged with, or {@code 0}.
+	 */
+	static int callSiteId(@Nullable Object component) {
+		if (component == null || callSites.length == 0) {
+			return 0;
+		}
+		Integer id = TAGS.get(new WeakKey(component, null));
+		return id == null ? 0 : id;
+	}
+
+	/**
+	 * Resolve {@link reactor.core.Scannable.Attr#CALL_SITE} for the given component, in
+	 * the format of assembly trace step names.
+	 */
+	@Nullable
+	static String resolveCallSite(@Nullable Object component) {
+		String callSite = resolve(callSiteId(component));
+		if (callSite == null) {
+			return null;
+		}
+		return Traces.extractOperatorAssemblyInformation(callSite);
+	}
+
+	/**
+	 * Tag the given publisher with the call site id. Shared instances like
+	 * {@link Flux#empty()} are never tagged, and an already tagged publisher keeps its
+	 * id, which happens when an operator returns its source unchanged.
+	 */
+	static void tag(Object publisher, int id) {
+		if (id == 0 || publisher == FluxEmpty.instance() || publisher == FluxNever.instance()
+				|| publisher == MonoEmpty.instance() || publisher == MonoNever.instance()) {
+			return;
+		}
+		if (publisher instanceof Flux || publisher instanceof Mono || publisher instanceof ParallelFlux) {
+			Reference<?> collected;
+			while ((collected = COLLECTED.poll()) != null) {
+				TAGS.remove(collected);
+			}
+			TAGS.putIfAbsent(new WeakKey(publisher, COLLECTED), id);
+		}
+	}
+
+	/**
+	 * A weak reference to a tagged publisher, equal to another one referencing the same
+	 * instance. Operators don't override {@link Object#equals(Object)}, so comparing by
+	 * identity matches their own equality.
+	 */
+	static final class WeakKey extends WeakReference<Object> {
+
+		final int hash;
+
+		WeakKey(Object referent, @Nullable ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			this.hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof WeakKey)) {
+				return false;
+			}
+			Object referent = get();
+			return referent != null && referent == ((WeakKey) o).get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	CallSiteTable() {
+	}
+}
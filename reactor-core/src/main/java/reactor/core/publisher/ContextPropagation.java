@@ -49,6 +49,7 @@ final class ContextPropagation {
 	static final Function<Context, Context> WITH_GLOBAL_REGISTRY_NO_PREDICATE;
 
 	static ContextSnapshotFactory globalContextSnapshotFactory = null;
+	static boolean                globalClearMissing           = false;
 
 	static {
 		WITH_GLOBAL_REGISTRY_NO_PREDICATE = ContextPropagationSupport.isContextPropagationAvailable() ?
@@ -73,6 +74,7 @@ final class ContextPropagation {
 
 	static void configureContextSnapshotFactory(boolean clearMissing) {
 		if (ContextPropagationSupport.isContextPropagation103OnClasspath) {
+			globalClearMissing = clearMissing;
 			globalContextSnapshotFactory = ContextSnapshotFactory.builder()
 			                                                     .clearMissing(clearMissing)
 			                                                     .build();
@@ -82,6 +84,10 @@ final class ContextPropagation {
 	@SuppressWarnings("unchecked")
 	static <C> ContextSnapshot.Scope setThreadLocals(Object context) {
 		if (ContextPropagationSupport.isContextPropagation103OnClasspath) {
+			if (ContextPropagationSupport.cacheThreadLocalRestoration && context instanceof ContextView) {
+				return ThreadLocalsRestorer.setThreadLocals((ContextView) context,
+						ContextRegistry.getInstance(), globalClearMissing);
+			}
 			return globalContextSnapshotFactory.setThreadLocalsFrom(context);
 		}
 		else {
@@ -37,6 +37,7 @@ final class ContextPropagationSupport {
     static final boolean isContextPropagation103OnClasspath;
     static final boolean isContextPropagation101OnClasspath;
     static boolean       propagateContextToThreadLocals = false;
+    static boolean       cacheThreadLocalRestoration    = false;
 
     static {
         boolean contextPropagation = false;
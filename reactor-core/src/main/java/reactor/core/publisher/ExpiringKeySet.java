@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * The store backing {@link Flux#distinctWithin(java.util.function.Function, Duration, Scheduler)},
+ * which forgets keys after a time window. Keys are recorded into the current generation,
+ * and every {@code ttl} the current generation becomes the previous one while the
+ * previous one is dropped. A key is thus remembered for at least {@code ttl} and at most
+ * twice {@code ttl} after it was first seen, and the memory is bounded by the number of
+ * distinct keys seen in two windows.
+ * <p>
+ * Generations are rotated lazily when adding keys, using the clock of the
+ * {@link Scheduler}. The store is not thread-safe, which is fine for a store of
+ * {@link FluxDistinct}.
+ */
+final class ExpiringKeySet {
+
+	final long      ttlMillis;
+	final Scheduler clock;
+
+	HashSet<Object> current  = new HashSet<>();
+	HashSet<Object> previous = new HashSet<>();
+	long            generationStart;
+
+	ExpiringKeySet(Duration ttl, Scheduler clock) {
+		this.ttlMillis = ttl.toMillis();
+		this.clock = clock;
+		this.generationStart = clock.now(TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Add the key to the current generation, unless it was seen within the window.
+	 *
+	 * @param key the key to add
+	 * @return true if the key was not seen within the window
+	 */
+	boolean add(Object key) {
+		long now = clock.now(TimeUnit.MILLISECONDS);
+		long elapsed = now - generationStart;
+		if (elapsed >= ttlMillis) {
+			HashSet<Object> expired = previous;
+			expired.clear();
+			if (elapsed - ttlMillis >= ttlMillis) {
+				current.clear();
+			}
+			previous = current;
+			current = expired;
+			generationStart = now;
+		}
+		return !previous.contains(key) && current.add(key);
+	}
+
+	/**
+	 * Forget all the keys.
+	 */
+	void clear() {
+		current.clear();
+		previous.clear();
+	}
+
+	/**
+	 * @return the number of keys currently remembered
+	 */
+	int size() {
+		return current.size() + previous.size();
+	}
+}
@@ -41,9 +41,11 @@ import java.util.function.BiPredicate;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
 import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.logging.Level;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -2686,6 +2688,47 @@ public abstract class Flux<T> implements CorePublisher<T> {
 		                    }));
 	}
 
+	/**
+	 * Aggregate the values of this {@link Flux} per key and per time window, emitting a
+	 * {@link WindowAggregate} for each key with values within a window when that window
+	 * closes. The values are mapped to {@code long} and reduced with an associative
+	 * {@link LongBinaryOperator}, like {@code Long::sum} or {@code Math::max}, and each
+	 * aggregate also holds the number of values it reduced.
+	 * <p>
+	 * This is the equivalent of
+	 * {@code groupBy(keySelector).flatMap(g -> g.window(size, slide).flatMap(w -> w.reduce(aggregator)))},
+	 * without the group per key, the window per group and the timer per window: each key
+	 * only holds its primitive partial aggregates, and all the windows of all the keys
+	 * are closed by a single periodic task on the {@link WindowSpec} timer. Sliding windows
+	 * are aggregated incrementally, with an amortized constant number of aggregations per
+	 * value and per pane. Keys without values within the current window are forgotten.
+	 * <p>
+	 * Windows start at the subscription, and the first sliding windows only close once a
+	 * full window has elapsed. When this {@link Flux} completes, the window ending with
+	 * the latest values is emitted early for each key, starting no earlier than the
+	 * subscription. The source is requested in an
+	 * unbounded fashion, and aggregates are buffered until they are requested.
+	 *
+	 * <p><strong>Error Mode Support:</strong> This operator supports
+	 * {@link #onErrorContinue(BiConsumer) resuming on errors} thrown by the
+	 * {@code keySelector} and {@code valueMapper}.
+	 *
+	 * @param keySelector the function extracting the key of each value
+	 * @param windowSpec the {@link WindowSpec} of the tumbling or sliding windows
+	 * @param valueMapper the function mapping each value to the {@code long} to aggregate
+	 * @param aggregator the associative {@link LongBinaryOperator} reducing two values
+	 * @param <K> the type of the key
+	 *
+	 * @return a {@link Flux} of the aggregates of each key within each window
+	 * @since 3.8.0
+	 */
+	public final <K> Flux<WindowAggregate<K>> aggregateByKey(Function<? super T, ? extends K> keySelector,
+			WindowSpec windowSpec,
+			ToLongFunction<? super T> valueMapper,
+			LongBinaryOperator aggregator) {
+		return onAssembly(new FluxAggregateByKey<>(this, keySelector, windowSpec, valueMapper, aggregator));
+	}
+
 	/**
 	 *
 	 * Emit a single boolean true if all values of this sequence match
@@ -4094,6 +4137,39 @@ public abstract class Flux<T> implements CorePublisher<T> {
 				FluxConcatMap.ErrorMode.IMMEDIATE));
 	}
 
+	/**
+	 * Transform the elements emitted by this {@link Flux} asynchronously into Publishers,
+	 * then flatten these inner publishers into a single {@link Flux}, sequentially and
+	 * preserving order using concatenation.
+	 * <p>
+	 * This variant behaves like {@link #concatMap(Function, int)}, except that the number
+	 * of source elements requested ahead is governed by the given {@link PrefetchStrategy}.
+	 * With an {@link PrefetchStrategy#adaptive(int, int) adaptive} strategy, fewer source
+	 * elements are buffered while the inners are slow to complete, and larger batches are
+	 * requested when the source struggles to keep up with the inners.
+	 *
+	 * <p>
+	 * <img class="marble" src="doc-files/marbles/concatMap.svg" alt="">
+	 *
+	 * <p><strong>Discard Support:</strong> This operator discards elements it internally queued for backpressure upon cancellation.
+	 *
+	 * @param mapper the function to transform this sequence of T into concatenated sequences of V
+	 * @param prefetchStrategy the {@link PrefetchStrategy} applied to the upstream source
+	 * @param <V> the produced concatenated type
+	 *
+	 * @return a concatenated {@link Flux}
+	 * @since 3.8.0
+	 */
+	public final <V> Flux<V> concatMap(Function<? super T, ? extends Publisher<? extends V>> mapper,
+			PrefetchStrategy prefetchStrategy) {
+		Objects.requireNonNull(prefetchStrategy, "prefetchStrategy");
+		if (!prefetchStrategy.isAdaptive()) {
+			return concatMap(mapper, prefetchStrategy.maxPrefetch);
+		}
+		return onAssembly(new FluxConcatMap<>(this, mapper, Queues.get(prefetchStrategy.maxPrefetch),
+				prefetchStrategy.maxPrefetch, FluxConcatMap.ErrorMode.IMMEDIATE, prefetchStrategy));
+	}
+
 	/**
 	 * Transform the elements emitted by this {@link Flux} asynchronously into Publishers,
 	 * then flatten these inner publishers into a single {@link Flux}, sequentially and
@@ -4735,6 +4811,129 @@ public abstract class Flux<T> implements CorePublisher<T> {
 		return onAssembly(new FluxDistinct<>(this, keySelector, distinctStoreSupplier, distinctPredicate, cleanup));
 	}
 
+	/**
+	 * For each {@link Subscriber}, track elements from this {@link Flux} that have been
+	 * seen within a time window and filter out duplicates, as compared by a key extracted
+	 * through the user provided {@link Function}. Unlike {@link #distinct(Function)}, keys
+	 * are forgotten after the window, so that the memory used by a long-running sequence
+	 * is bounded by the number of distinct keys seen in two windows, which suits
+	 * deduplicating redeliveries.
+	 * <p>
+	 * Keys are recorded into rotating generations: a key is remembered for at least
+	 * {@code ttl} and at most twice {@code ttl} after it was first seen, a duplicate
+	 * doesn't extend that period. Time is measured on the {@link Schedulers#parallel()}
+	 * Scheduler.
+	 *
+	 * <p><strong>Discard Support:</strong> This operator discards elements that are
+	 * considered as duplicates.
+	 *
+	 * @param keySelector function to compute comparison key for each element
+	 * @param ttl the minimum duration for which a key is remembered, must be at least 1ms
+	 * @param <V> the type of the key extracted from each value in this sequence
+	 *
+	 * @return a filtering {@link Flux} only emitting values with keys not seen within the window
+	 * @since 3.8.0
+	 */
+	public final <V> Flux<T> distinctWithin(Function<? super T, ? extends V> keySelector, Duration ttl) {
+		return distinctWithin(keySelector, ttl, Schedulers.parallel());
+	}
+
+	/**
+	 * For each {@link Subscriber}, track elements from this {@link Flux} that have been
+	 * seen within a time window and filter out duplicates, as compared by a key extracted
+	 * through the user provided {@link Function}. Unlike {@link #distinct(Function)}, keys
+	 * are forgotten after the window, so that the memory used by a long-running sequence
+	 * is bounded by the number of distinct keys seen in two windows, which suits
+	 * deduplicating redeliveries.
+	 * <p>
+	 * Keys are recorded into rotating generations: a key is remembered for at least
+	 * {@code ttl} and at most twice {@code ttl} after it was first seen, a duplicate
+	 * doesn't extend that period.
+	 *
+	 * <p><strong>Discard Support:</strong> This operator discards elements that are
+	 * considered as duplicates.
+	 *
+	 * @param keySelector function to compute comparison key for each element
+	 * @param ttl the minimum duration for which a key is remembered, must be at least 1ms
+	 * @param timer the {@link Scheduler} on which to measure the duration
+	 * @param <V> the type of the key extracted from each value in this sequence
+	 *
+	 * @return a filtering {@link Flux} only emitting values with keys not seen within the window
+	 * @since 3.8.0
+	 */
+	public final <V> Flux<T> distinctWithin(Function<? super T, ? extends V> keySelector,
+			Duration ttl,
+			Scheduler timer) {
+		Objects.requireNonNull(timer, "timer");
+		// keys are tracked with a millisecond precision
+		WindowSpec.checkDuration(ttl, "ttl");
+		return distinct(keySelector, () -> new ExpiringKeySet(ttl, timer), ExpiringKeySet::add,
+				ExpiringKeySet::clear);
+	}
+
+	/**
+	 * For each {@link Subscriber}, filter out elements from this {@link Flux} that have
+	 * probably been seen before, using a scalable Bloom filter instead of recording the
+	 * elements. This uses a few bytes per distinct element instead of retaining all of
+	 * them, at the cost of dropping a distinct element with a probability of at most
+	 * {@code fpp}. The filter starts sized for {@code expectedInsertions} elements and
+	 * grows by chaining larger filters, so that the false positive probability doesn't
+	 * degrade as more elements are seen.
+	 * <p>
+	 * {@link CharSequence}, {@link Long} and {@link java.util.UUID} elements are hashed on
+	 * 64 bits. Other elements are compared by their {@link Object#hashCode()}, so two
+	 * elements with the same hash code are always considered as duplicates: after
+	 * {@code n} distinct elements, the false positive probability can't be lower than
+	 * about {@code n / 2^32}.
+	 *
+	 * <p><strong>Discard Support:</strong> This operator discards elements that are
+	 * considered as duplicates, including the false positives.
+	 *
+	 * @param expectedInsertions the number of distinct elements the filter is initially sized for
+	 * @param fpp the maximum probability of dropping a distinct element, between 0 and 1 (exclusive)
+	 *
+	 * @return a filtering {@link Flux} only emitting values that were probably not seen before
+	 * @since 3.8.0
+	 */
+	public final Flux<T> distinctApproximate(int expectedInsertions, double fpp) {
+		return distinctApproximate(identityFunction(), expectedInsertions, fpp);
+	}
+
+	/**
+	 * For each {@link Subscriber}, filter out elements from this {@link Flux} whose key
+	 * extracted through the user provided {@link Function} has probably been seen before,
+	 * using a scalable Bloom filter instead of recording the keys. This uses a few bytes
+	 * per distinct key instead of retaining all of them, at the cost of dropping an
+	 * element with a distinct key with a probability of at most {@code fpp}. The filter
+	 * starts sized for {@code expectedInsertions} keys and grows by chaining larger
+	 * filters, so that the false positive probability doesn't degrade as more keys are seen.
+	 * <p>
+	 * {@link CharSequence}, {@link Long} and {@link java.util.UUID} keys are hashed on
+	 * 64 bits. Other keys are compared by their {@link Object#hashCode()}, so two keys
+	 * with the same hash code are always considered as duplicates: after {@code n}
+	 * distinct keys, the false positive probability can't be lower than about
+	 * {@code n / 2^32}. Map keys to a {@link Long} or a {@link String} to lift that limit.
+	 *
+	 * <p><strong>Discard Support:</strong> This operator discards elements that are
+	 * considered as duplicates, including the false positives.
+	 *
+	 * @param keySelector function to compute comparison key for each element
+	 * @param expectedInsertions the number of distinct keys the filter is initially sized for
+	 * @param fpp the maximum probability of dropping an element with a distinct key,
+	 * between 0 and 1 (exclusive)
+	 * @param <V> the type of the key extracted from each value in this sequence
+	 *
+	 * @return a filtering {@link Flux} only emitting values with keys that were probably not seen before
+	 * @since 3.8.0
+	 */
+	public final <V> Flux<T> distinctApproximate(Function<? super T, ? extends V> keySelector,
+			int expectedInsertions,
+			double fpp) {
+		ScalableBloomFilter.checkArguments(expectedInsertions, fpp);
+		return distinct(keySelector, () -> new ScalableBloomFilter(expectedInsertions, fpp),
+				ScalableBloomFilter::add, ScalableBloomFilter::clear);
+	}
+
 	/**
 	 * Filter out subsequent repetitions of an element (that is, if they arrive right after
 	 * one another).
@@ -5569,6 +5768,54 @@ public abstract class Flux<T> implements CorePublisher<T> {
 		return flatMap(mapper, false, concurrency, prefetch);
 	}
 
+	/**
+	 * Transform the elements emitted by this {@link Flux} asynchronously into Publishers,
+	 * then flatten these inner publishers into a single {@link Flux} through merging,
+	 * which allow them to interleave.
+	 * <p>
+	 * This variant behaves like {@link #flatMap(Function, int, int)}, except that the
+	 * number of elements requested from each merged {@link Publisher} is governed by the
+	 * given {@link PrefetchStrategy}. An {@link PrefetchStrategy#adaptive(int, int) adaptive}
+	 * strategy starts each inner with a small window and resizes it independently, based
+	 * on how the merged elements are consumed, so that inners the downstream keeps up
+	 * with get larger batches while stalled ones buffer less.
+	 *
+	 * <p>
+	 * <img class="marble" src="doc-files/marbles/flatMapWithConcurrencyAndPrefetch.svg" alt="">
+	 *
+	 * <p><strong>Discard Support:</strong> This operator discards elements internally queued for backpressure upon cancellation or error triggered by a data signal.
+	 *
+	 * <p><strong>Error Mode Support:</strong> This operator supports {@link #onErrorContinue(BiConsumer) resuming on errors}
+	 * in the mapper {@link Function}. Exceptions thrown by the mapper then behave as if
+	 * it had mapped the value to an empty publisher.
+	 *
+	 * @param mapper the {@link Function} to transform input sequence into N sequences {@link Publisher}
+	 * @param concurrency the maximum number of in-flight inner sequences
+	 * @param prefetchStrategy the {@link PrefetchStrategy} applied to each inner {@link Publisher} sequence
+	 *
+	 * @param <V> the merged output sequence type
+	 *
+	 * @return a merged {@link Flux}
+	 * @since 3.8.0
+	 */
+	public final <V> Flux<V> flatMap(Function<? super T, ? extends Publisher<? extends V>> mapper, int
+			concurrency, PrefetchStrategy prefetchStrategy) {
+		Objects.requireNonNull(prefetchStrategy, "prefetchStrategy");
+		if (!prefetchStrategy.isAdaptive()) {
+			return flatMap(mapper, false, concurrency, prefetchStrategy.maxPrefetch);
+		}
+		return onAssembly(new FluxFlatMap<>(
+				this,
+				mapper,
+				false,
+				concurrency,
+				Queues.get(concurrency),
+				prefetchStrategy.maxPrefetch,
+				Queues.get(prefetchStrategy.maxPrefetch),
+				prefetchStrategy
+		));
+	}
+
 	/**
 	 * Transform the elements emitted by this {@link Flux} asynchronously into Publishers,
 	 * then flatten these inner publishers into a single {@link Flux} through merging,
@@ -6091,6 +6338,81 @@ public abstract class Flux<T> implements CorePublisher<T> {
 				Queues.unbounded(prefetch), prefetch));
 	}
 
+	/**
+	 * Divide this sequence into dynamically created {@link Flux} (or groups) for each
+	 * unique key, as produced by the provided keyMapper {@link Function}, completing the
+	 * groups that stay idle. Source elements are also mapped to a different value using
+	 * the {@code valueMapper}.
+	 * <p>
+	 * Groups that receive no value for a whole {@code groupIdleTimeout} period are
+	 * completed and stop being tracked, so that a high cardinality of short-lived keys
+	 * doesn't retain memory. An element whose key belongs to an evicted group opens a
+	 * new group for that key. Idleness is checked periodically on the
+	 * {@link Schedulers#parallel() parallel} Scheduler, so a group is evicted after being
+	 * idle between one and two {@code groupIdleTimeout} periods. Each group also starts
+	 * with a small buffer that only grows when the group falls behind.
+	 * <p>
+	 * The groups need to be drained and consumed downstream for groupBy to work correctly,
+	 * see {@link #groupBy(Function, Function, int)}.
+	 *
+	 * @param keyMapper the key mapping function that evaluates an incoming data and returns a key.
+	 * @param valueMapper the value mapping function that evaluates which data to extract for re-routing.
+	 * @param prefetch the number of values to prefetch from the source
+	 * @param groupIdleTimeout the period without values after which a group is completed
+	 *
+	 * @param <K> the key type extracted from each value of this sequence
+	 * @param <V> the value type extracted from each value of this sequence
+	 *
+	 * @return a {@link Flux} of {@link GroupedFlux} grouped sequences
+	 * @since 3.8.0
+	 */
+	public final <K, V> Flux<GroupedFlux<K, V>> groupBy(Function<? super T, ? extends K> keyMapper,
+			Function<? super T, ? extends V> valueMapper, int prefetch, Duration groupIdleTimeout) {
+		return groupBy(keyMapper, valueMapper, prefetch, groupIdleTimeout, Schedulers.parallel());
+	}
+
+	/**
+	 * Divide this sequence into dynamically created {@link Flux} (or groups) for each
+	 * unique key, as produced by the provided keyMapper {@link Function}, completing the
+	 * groups that stay idle. Source elements are also mapped to a different value using
+	 * the {@code valueMapper}.
+	 * <p>
+	 * Groups that receive no value for a whole {@code groupIdleTimeout} period are
+	 * completed and stop being tracked, so that a high cardinality of short-lived keys
+	 * doesn't retain memory. An element whose key belongs to an evicted group opens a
+	 * new group for that key. Idleness is checked periodically on the provided
+	 * {@link Scheduler}, so a group is evicted after being idle between one and two
+	 * {@code groupIdleTimeout} periods. Each group also starts with a small buffer that
+	 * only grows when the group falls behind.
+	 * <p>
+	 * The groups need to be drained and consumed downstream for groupBy to work correctly,
+	 * see {@link #groupBy(Function, Function, int)}.
+	 *
+	 * @param keyMapper the key mapping function that evaluates an incoming data and returns a key.
+	 * @param valueMapper the value mapping function that evaluates which data to extract for re-routing.
+	 * @param prefetch the number of values to prefetch from the source
+	 * @param groupIdleTimeout the period without values after which a group is completed
+	 * @param timer the {@link Scheduler} on which to periodically check for idle groups
+	 *
+	 * @param <K> the key type extracted from each value of this sequence
+	 * @param <V> the value type extracted from each value of this sequence
+	 *
+	 * @return a {@link Flux} of {@link GroupedFlux} grouped sequences
+	 * @since 3.8.0
+	 */
+	public final <K, V> Flux<GroupedFlux<K, V>> groupBy(Function<? super T, ? extends K> keyMapper,
+			Function<? super T, ? extends V> valueMapper, int prefetch, Duration groupIdleTimeout, Scheduler timer) {
+		Objects.requireNonNull(groupIdleTimeout, "groupIdleTimeout");
+		Objects.requireNonNull(timer, "timer");
+		if (groupIdleTimeout.isZero() || groupIdleTimeout.isNegative()) {
+			throw new IllegalArgumentException("groupIdleTimeout must be strictly positive: " + groupIdleTimeout);
+		}
+		return onAssembly(new FluxGroupBy<>(this, keyMapper, valueMapper,
+				Queues.unbounded(prefetch),
+				Queues.unbounded(Queues.XS_BUFFER_SIZE), prefetch,
+				groupIdleTimeout.toNanos(), timer));
+	}
+
 	/**
 	 * Map values from two Publishers into time windows and emit combination of values
 	 * in case their windows overlap. The emitted elements are obtained by passing the
@@ -6662,6 +6984,25 @@ public abstract class Flux<T> implements CorePublisher<T> {
 		});
 	}
 
+	/**
+	 * Transform the items emitted by this {@link Flux} into primitive {@code long} values
+	 * by applying a synchronous function to each item, resulting in a {@link LongFlux}
+	 * whose operators don't box the values.
+	 *
+	 * <p><strong>Error Mode Support:</strong> This operator supports {@link #onErrorContinue(BiConsumer) resuming on errors}.
+	 * Exceptions thrown by the mapper then cause the source value to be dropped and a new
+	 * element ({@code request(1)}) being requested from upstream.
+	 *
+	 * @param mapper the synchronous transforming {@link ToLongFunction}
+	 *
+	 * @return a transformed {@link LongFlux}
+	 * @see LongFlux#boxed()
+	 * @since 3.8.0
+	 */
+	public final LongFlux mapToLong(ToLongFunction<? super T> mapper) {
+		return LongFlux.onAssembly(new LongFluxFromFlux<>(this, mapper));
+	}
+
 	/**
 	 * Transform incoming onNext, onError and onComplete signals into {@link Signal} instances,
 	 * materializing these signals.
@@ -7053,6 +7394,29 @@ public abstract class Flux<T> implements CorePublisher<T> {
 		return onAssembly(new FluxOnBackpressureBufferTimeout<>(this, ttl, scheduler, maxSize, onBufferEviction));
 	}
 
+	/**
+	 * Request an unbounded demand and push to the returned {@link Flux}, or park the
+	 * observed elements if not enough demand is requested downstream. Up to
+	 * {@link SpillSpec#inMemoryCapacity(int)} elements are parked in memory, and the
+	 * overflow is encoded and spilled to memory-mapped segment files as configured by the
+	 * {@link SpillSpec}, to be read back and decoded in order. Errors, including failures
+	 * to encode or write an element, will be delayed until the buffer gets consumed.
+	 *
+	 * <p>
+	 * <img class="marble" src="doc-files/marbles/onBackpressureBuffer.svg" alt="">
+	 *
+	 * <p><strong>Discard Support:</strong> This operator discards the buffered overflow elements upon cancellation or error triggered by a data signal,
+	 * decoding the spilled ones if a discard hook is set.
+	 *
+	 * @param spillSpec the {@link SpillSpec} configuring the in-memory capacity and the spilling
+	 *
+	 * @return a backpressured {@link Flux} that buffers with a disk-backed unbounded capacity
+	 * @since 3.8.0
+	 */
+	public final Flux<T> onBackpressureBuffer(SpillSpec<T> spillSpec) {
+		return onAssembly(new FluxOnBackpressureBuffer<>(this, spillSpec));
+	}
+
 	/**
 	 * Request an unbounded demand and push to the returned {@link Flux}, or drop
 	 * the observed elements if not enough demand is requested downstream.
@@ -7711,6 +8075,40 @@ public abstract class Flux<T> implements CorePublisher<T> {
 		return publishOn(scheduler, delayError, prefetch, prefetch);
 	}
 
+	/**
+	 * Run onNext, onComplete and onError on a supplied {@link Scheduler}
+	 * {@link Worker}, requesting from upstream according to the given
+	 * {@link PrefetchStrategy}.
+	 * <p>
+	 * This operator influences the threading context where the rest of the operators in
+	 * the chain below it will execute, up to a new occurrence of {@code publishOn}.
+	 * <p>
+	 * With an {@link PrefetchStrategy#adaptive(int, int) adaptive} strategy, the number of
+	 * elements requested ahead starts small, which favors latency, and grows as long as
+	 * the {@link Worker} drains the queue faster than upstream fills it, which favors
+	 * throughput. It shrinks back when the queue stays full. The queue is sized for
+	 * {@link PrefetchStrategy#maxPrefetch()} elements.
+	 * <p>
+	 * <img class="marble" src="doc-files/marbles/publishOnForFlux.svg" alt="">
+	 *
+	 * <p><strong>Discard Support:</strong> This operator discards elements it internally queued for backpressure upon cancellation or error triggered by a data signal.
+	 *
+	 * @param scheduler a {@link Scheduler} providing the {@link Worker} where to publish
+	 * @param delayError should the buffer be consumed before forwarding any error
+	 * @param prefetchStrategy the {@link PrefetchStrategy} sizing the asynchronous boundary
+	 *
+	 * @return a {@link Flux} producing asynchronously
+	 * @since 3.8.0
+	 */
+	public final Flux<T> publishOn(Scheduler scheduler, boolean delayError, PrefetchStrategy prefetchStrategy) {
+		Objects.requireNonNull(prefetchStrategy, "prefetchStrategy");
+		if (!prefetchStrategy.isAdaptive() || this instanceof Callable) {
+			return publishOn(scheduler, delayError, prefetchStrategy.maxPrefetch);
+		}
+		return onAssembly(new FluxPublishOn<>(this, scheduler, delayError, prefetchStrategy,
+				Queues.get(prefetchStrategy.maxPrefetch)));
+	}
+
 	final Flux<T> publishOn(Scheduler scheduler, boolean delayError, int prefetch, int lowTide) {
 		if (this instanceof Callable) {
 			if (this instanceof Fuseable.ScalarCallable) {
@@ -7931,6 +8329,11 @@ public abstract class Flux<T> implements CorePublisher<T> {
 	 * <p>
 	 *     Note that {@code replay(0)} will only cache the terminal signal without
 	 *     expiration.
+	 * <p>
+	 *     Large histories are stored in array segments rather than one node per
+	 *     element, which can keep a few evicted elements reachable until their
+	 *     segment is fully evicted. The segment size defaults to 64 and can be set
+	 *     with the {@code reactor.replay.segmentSize} system property.
 	 *
 	 * <p>
 	 *     Re-connects are not supported.
@@ -8636,6 +9039,38 @@ public abstract class Flux<T> implements CorePublisher<T> {
 		return collectSortedList(sortFunction).flatMapIterable(identityFunction());
 	}
 
+	/**
+	 * Sort elements from this {@link Flux} using a {@link Comparator} function, without
+	 * holding all of them in memory: elements are collected into runs of
+	 * {@link SpillSpec#inMemoryCapacity(int)} elements, and each full run is sorted then
+	 * encoded and appended to memory-mapped segment files shared by all the runs, as
+	 * configured by the {@link SpillSpec}. Every 64 runs are merged into a longer one
+	 * while spilling, so that the number of runs grows logarithmically. Once this
+	 * sequence completes, the runs are merged and read back as the sorted sequence is
+	 * requested, only keeping the next element of each run in memory. This allows
+	 * sorting sequences that don't fit in memory, provided they are finite.
+	 * <p>
+	 * Elements that compare equal keep their order in this sequence. Sequences that fit
+	 * in a single run are not spilled at all.
+	 * <p>
+	 * <img class="marble" src="doc-files/marbles/sort.svg" alt="">
+	 *
+	 * <p><strong>Discard Support:</strong> This operator discards the elements it holds
+	 * upon cancellation or error, decoding the spilled ones if a discard hook is set.
+	 *
+	 * @param sortFunction a function that compares two items emitted by this {@link Flux}
+	 * to indicate their sort order
+	 * @param spillSpec the {@link SpillSpec} configuring the size of the runs, which must
+	 * be strictly positive, and the spilling
+	 * @return a sorted {@link Flux}
+	 * @since 3.8.0
+	 */
+	public final Flux<T> sort(Comparator<? super T> sortFunction, SpillSpec<T> spillSpec) {
+		Objects.requireNonNull(sortFunction, "sortFunction");
+		Objects.requireNonNull(spillSpec, "spillSpec");
+		return onAssembly(new FluxSortSpilling<>(this, sortFunction, spillSpec));
+	}
+
 	/**
 	 * Prepend the given {@link Iterable} before this {@link Flux} sequence.
 	 *
@@ -9685,6 +10120,9 @@ public abstract class Flux<T> implements CorePublisher<T> {
 	public final Flux<T> timeout(Duration timeout,
 			@Nullable Publisher<? extends T> fallback,
 			Scheduler timer) {
+		if (timeout.toNanos() > 0L) {
+			return onAssembly(new FluxTimeoutFixed<>(this, timeout, timer, fallback));
+		}
 		final Mono<Long> _timer = Mono.delay(timeout, timer).onErrorReturn(0L);
 		final Function<T, Publisher<Long>> rest = o -> _timer;
 
@@ -9918,6 +10356,33 @@ public abstract class Flux<T> implements CorePublisher<T> {
 		return new BlockingIterable<>(this, batchSize, provider, contextSupplier).stream();
 	}
 
+	/**
+	 * Emit the {@code k} smallest elements of this {@link Flux} according to a
+	 * {@link Comparator}, in ascending order, once this sequence completes. This is the
+	 * same as {@code sort(comparator).take(k)}, including for elements that compare
+	 * equal, but only the current {@code k} smallest elements are kept in a bounded heap
+	 * instead of collecting the whole sequence.
+	 * <p>
+	 * Note that this requires a finite sequence, and that {@code k} values are still held
+	 * in memory.
+	 *
+	 * <p><strong>Discard Support:</strong> This operator discards the elements that are
+	 * not among the {@code k} smallest ones as soon as this is known, and the elements it
+	 * holds upon cancellation or error.
+	 *
+	 * @param k the number of elements to emit
+	 * @param comparator a {@link Comparator} to sort the elements
+	 * @return a {@link Flux} of the {@code k} smallest elements, in ascending order
+	 * @see #sort(Comparator)
+	 * @see ParallelFlux#topK(int, Comparator)
+	 * @since 3.8.0
+	 */
+	public final Flux<T> topK(int k, Comparator<? super T> comparator) {
+		Objects.requireNonNull(comparator, "comparator");
+		return Mono.onAssembly(new MonoTopK<>(this, k, comparator))
+		           .flatMapIterable(identityFunction());
+	}
+
 	/**
 	 * Transform this {@link Flux} in order to generate a target {@link Flux}. Unlike {@link #transformDeferred(Function)}, the
 	 * provided function is executed as part of assembly.
@@ -0,0 +1,574 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.ToLongFunction;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.annotation.Nullable;
+import reactor.util.concurrent.Queues;
+import reactor.util.context.Context;
+
+/**
+ * Aggregates the values of each key within tumbling or sliding time windows, emitting a
+ * {@link WindowAggregate} per key and per window. Instead of a group per key and a
+ * window per group, each key has a slot holding the partial aggregates of the panes of
+ * its windows as primitive values, and a single periodic task closes the current pane of
+ * all the keys.
+ * <p>
+ * Sliding windows are aggregated with two stacks: the panes of a window are split
+ * between a front stack holding the aggregate of each pane with all the newer panes of
+ * the stack, and a back stack of which only the aggregate is kept. The aggregate of a
+ * window combines the front aggregate of its oldest pane with the back aggregate, and
+ * when the oldest pane is evicted from an empty front stack, the back stack is moved to
+ * the front. This takes an amortized constant number of aggregations per pane, whatever
+ * the number of panes in a window, and doesn't require the aggregation to be invertible.
+ *
+ * @param <T> the source value type
+ * @param <K> the key type
+ */
+final class FluxAggregateByKey<T, K> extends InternalFluxOperator<T, WindowAggregate<K>> {
+
+	final Function<? super T, ? extends K> keySelector;
+	final WindowSpec                       windowSpec;
+	final ToLongFunction<? super T>        valueMapper;
+	final LongBinaryOperator               aggregator;
+
+	FluxAggregateByKey(Flux<? extends T> source,
+			Function<? super T, ? extends K> keySelector,
+			WindowSpec windowSpec,
+			ToLongFunction<? super T> valueMapper,
+			LongBinaryOperator aggregator) {
+		super(source);
+		this.keySelector = Objects.requireNonNull(keySelector, "keySelector");
+		this.windowSpec = Objects.requireNonNull(windowSpec, "windowSpec");
+		this.valueMapper = Objects.requireNonNull(valueMapper, "valueMapper");
+		this.aggregator = Objects.requireNonNull(aggregator, "aggregator");
+	}
+
+	@Override
+	public CoreSubscriber<? super T> subscribeOrReturn(CoreSubscriber<? super WindowAggregate<K>> actual) {
+		return new AggregateByKeySubscriber<>(actual, keySelector, windowSpec, valueMapper, aggregator);
+	}
+
+	@Override
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.RUN_ON) return windowSpec.timer;
+		if (key == Attr.RUN_STYLE) return Attr.RunStyle.ASYNC;
+		return super.scanUnsafe(key);
+	}
+
+	static final class AggregateByKeySubscriber<T, K>
+			implements InnerOperator<T, WindowAggregate<K>>, Runnable {
+
+		final CoreSubscriber<? super WindowAggregate<K>> actual;
+		final Context                                    ctx;
+		final Function<? super T, ? extends K>           keySelector;
+		final ToLongFunction<? super T>                  valueMapper;
+		final LongBinaryOperator                         aggregator;
+		final Scheduler                                  timer;
+		final long                                       sizeMillis;
+		final long                                       slideMillis;
+		final int                                        panes;
+		final HashMap<K, Slot<K>>                        slots;
+		final Queue<WindowAggregate<K>>                  queue;
+
+		Subscription s;
+		@Nullable
+		volatile Disposable task;
+		long         origin;
+		/**
+		 * The number of panes closed so far, guarded by {@code this}.
+		 */
+		long         closedPanes;
+		/**
+		 * Whether the aggregation stopped, guarded by {@code this}.
+		 */
+		boolean      done;
+
+		volatile boolean terminated;
+		@Nullable
+		volatile Throwable error;
+		volatile boolean cancelled;
+
+		volatile long requested;
+		static final AtomicLongFieldUpdater<AggregateByKeySubscriber> REQUESTED =
+				AtomicLongFieldUpdater.newUpdater(AggregateByKeySubscriber.class, "requested");
+
+		volatile int wip;
+		static final AtomicIntegerFieldUpdater<AggregateByKeySubscriber> WIP =
+				AtomicIntegerFieldUpdater.newUpdater(AggregateByKeySubscriber.class, "wip");
+
+		AggregateByKeySubscriber(CoreSubscriber<? super WindowAggregate<K>> actual,
+				Function<? super T, ? extends K> keySelector,
+				WindowSpec windowSpec,
+				ToLongFunction<? super T> valueMapper,
+				LongBinaryOperator aggregator) {
+			this.actual = actual;
+			this.ctx = actual.currentContext();
+			this.keySelector = keySelector;
+			this.valueMapper = valueMapper;
+			this.aggregator = aggregator;
+			this.timer = windowSpec.timer;
+			this.sizeMillis = windowSpec.sizeMillis;
+			this.slideMillis = windowSpec.slideMillis;
+			this.panes = windowSpec.panes();
+			this.slots = new HashMap<>();
+			this.queue = Queues.<WindowAggregate<K>>unbounded().get();
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			if (Operators.validate(this.s, s)) {
+				this.s = s;
+				this.origin = timer.now(TimeUnit.MILLISECONDS);
+
+				actual.onSubscribe(this);
+
+				try {
+					task = timer.schedulePeriodically(this, slideMillis, slideMillis, TimeUnit.MILLISECONDS);
+				}
+				catch (RejectedExecutionException ree) {
+					onError(Operators.onRejectedExecution(ree, s, null, null, ctx));
+					return;
+				}
+				if (cancelled) {
+					task.dispose();
+					return;
+				}
+				s.request(Long.MAX_VALUE);
+			}
+		}
+
+		@Override
+		public void onNext(T t) {
+			K key;
+			long value;
+			try {
+				key = Objects.requireNonNull(keySelector.apply(t), "The keySelector returned a null value");
+				value = valueMapper.applyAsLong(t);
+			}
+			catch (Throwable e) {
+				Throwable err = Operators.onNextError(t, e, ctx, s);
+				if (err != null) {
+					onError(err);
+				}
+				else {
+					s.request(1);
+				}
+				return;
+			}
+
+			Throwable failure = null;
+			synchronized (this) {
+				if (done) {
+					Operators.onNextDropped(t, ctx);
+					return;
+				}
+				Slot<K> slot = slots.get(key);
+				if (slot == null) {
+					slot = new Slot<>(key, panes);
+					slots.put(key, slot);
+				}
+				try {
+					slot.accumulate(value, aggregator);
+				}
+				catch (Throwable e) {
+					failure = Operators.onOperatorError(s, e, t, ctx);
+				}
+			}
+			if (failure != null) {
+				onError(failure);
+			}
+		}
+
+		/**
+		 * Close the current pane of all the keys, on each tick of the timer.
+		 */
+		@Override
+		public void run() {
+			Throwable failure = null;
+			synchronized (this) {
+				if (done) {
+					return;
+				}
+				try {
+					closePane(closedPanes >= panes - 1);
+				}
+				catch (Throwable e) {
+					failure = Operators.onOperatorError(s, e, ctx);
+				}
+			}
+			if (failure != null) {
+				onError(failure);
+			}
+			else {
+				drain();
+			}
+		}
+
+		/**
+		 * Close the current pane of all the keys, queueing the aggregate of the window
+		 * ending with it for the keys that have values within the window.
+		 *
+		 * @param emit whether to queue the aggregates, which is skipped until a full
+		 * window has elapsed since the subscription
+		 */
+		void closePane(boolean emit) {
+			long end = origin + (closedPanes + 1) * slideMillis;
+			closedPanes++;
+			Iterator<Slot<K>> it = slots.values().iterator();
+			while (it.hasNext()) {
+				Slot<K> slot = it.next();
+				slot.close(aggregator);
+				if (slot.windowCount == 0) {
+					it.remove();
+				}
+				else if (emit) {
+					// a window emitted early on completion starts at the subscription
+					queue.offer(new WindowAggregate<>(slot.key, Math.max(origin, end - sizeMillis), end,
+							slot.windowValue, slot.windowCount));
+				}
+			}
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			synchronized (this) {
+				if (done) {
+					Operators.onErrorDropped(t, ctx);
+					return;
+				}
+				done = true;
+				slots.clear();
+			}
+			disposeTask();
+			error = t;
+			terminated = true;
+			drain();
+		}
+
+		@Override
+		public void onComplete() {
+			Throwable failure = null;
+			synchronized (this) {
+				if (done) {
+					return;
+				}
+				try {
+					closePane(true);
+				}
+				catch (Throwable e) {
+					failure = Operators.onOperatorError(e, ctx);
+				}
+				done = true;
+				slots.clear();
+			}
+			disposeTask();
+			error = failure;
+			terminated = true;
+			drain();
+		}
+
+		@Override
+		public void request(long n) {
+			if (Operators.validate(n)) {
+				Operators.addCap(REQUESTED, this, n);
+				drain();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			if (cancelled) {
+				return;
+			}
+			cancelled = true;
+			s.cancel();
+			disposeTask();
+			synchronized (this) {
+				done = true;
+				slots.clear();
+			}
+			if (WIP.getAndIncrement(this) == 0) {
+				Operators.onDiscardQueueWithClear(queue, ctx, null);
+			}
+		}
+
+		void disposeTask() {
+			Disposable task = this.task;
+			if (task != null) {
+				task.dispose();
+			}
+		}
+
+		void drain() {
+			if (WIP.getAndIncrement(this) != 0) {
+				return;
+			}
+
+			int missed = 1;
+			for (;;) {
+				long r = requested;
+				long e = 0L;
+
+				for (;;) {
+					if (cancelled) {
+						Operators.onDiscardQueueWithClear(queue, ctx, null);
+						return;
+					}
+
+					boolean d = terminated;
+					Throwable ex = error;
+					if (d && ex != null) {
+						Operators.onDiscardQueueWithClear(queue, ctx, null);
+						actual.onError(ex);
+						return;
+					}
+
+					if (e == r) {
+						if (d && queue.isEmpty()) {
+							actual.onComplete();
+							return;
+						}
+						break;
+					}
+
+					WindowAggregate<K> v = queue.poll();
+					if (v == null) {
+						if (d) {
+							actual.onComplete();
+							return;
+						}
+						break;
+					}
+
+					actual.onNext(v);
+					e++;
+				}
+
+				if (e != 0L && r != Long.MAX_VALUE) {
+					REQUESTED.addAndGet(this, -e);
+				}
+
+				missed = WIP.addAndGet(this, -missed);
+				if (missed == 0) {
+					break;
+				}
+			}
+		}
+
+		@Override
+		public CoreSubscriber<? super WindowAggregate<K>> actual() {
+			return actual;
+		}
+
+		@Override
+		@Nullable
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.PARENT) return s;
+			if (key == Attr.CANCELLED) return cancelled;
+			if (key == Attr.TERMINATED) return terminated;
+			if (key == Attr.ERROR) return error;
+			if (key == Attr.BUFFERED) return queue.size();
+			if (key == Attr.REQUESTED_FROM_DOWNSTREAM) return requested;
+			if (key == Attr.RUN_ON) return timer;
+			if (key == Attr.RUN_STYLE) return Attr.RunStyle.ASYNC;
+
+			return InnerOperator.super.scanUnsafe(key);
+		}
+	}
+
+	/**
+	 * The partial aggregates of one key. Each pane aggregate is a value and the number of
+	 * values it aggregates, a count of zero meaning that the pane is empty. The closed
+	 * panes of the current window are kept in a ring, the oldest one first: the front
+	 * stack is made of the first {@code frontSize} panes, and the back stack of the next
+	 * {@code backSize} panes.
+	 *
+	 * @param <K> the key type
+	 */
+	static final class Slot<K> {
+
+		/**
+		 * The initial capacity of the pane arrays, which grow up to the number of panes
+		 * of a window, so that short-lived keys don't allocate a full window.
+		 */
+		static final int INITIAL_CAPACITY = 4;
+
+		final K   key;
+		final int panes;
+
+		/**
+		 * The ring of closed panes, allocated on the first close of a sliding window.
+		 */
+		@Nullable
+		long[] paneValues;
+		@Nullable
+		long[] paneCounts;
+		/**
+		 * The aggregate of each pane of the front stack with the newer panes of the
+		 * front stack, allocated on the first flip, once the ring holds a full window.
+		 */
+		@Nullable
+		long[] frontValues;
+		@Nullable
+		long[] frontCounts;
+
+		int  head;
+		int  frontSize;
+		int  backSize;
+		long backValue;
+		long backCount;
+
+		long currentValue;
+		long currentCount;
+
+		long windowValue;
+		long windowCount;
+
+		Slot(K key, int panes) {
+			this.key = key;
+			this.panes = panes;
+		}
+
+		void accumulate(long value, LongBinaryOperator aggregator) {
+			currentValue = currentCount == 0 ? value : aggregator.applyAsLong(currentValue, value);
+			currentCount++;
+		}
+
+		/**
+		 * Close the current pane, evicting the oldest pane if the window is full, and
+		 * compute the aggregate of the window ending with the closed pane into
+		 * {@link #windowValue} and {@link #windowCount}.
+		 */
+		@SuppressWarnings("ConstantConditions")
+		void close(LongBinaryOperator aggregator) {
+			if (panes == 1) {
+				windowValue = currentValue;
+				windowCount = currentCount;
+				currentValue = 0L;
+				currentCount = 0L;
+				return;
+			}
+
+			if (frontSize + backSize == panes) {
+				if (frontSize == 0) {
+					flip(aggregator);
+				}
+				head = head + 1 == panes ? 0 : head + 1;
+				frontSize--;
+			}
+			else if (paneValues == null || frontSize + backSize == paneValues.length) {
+				grow();
+			}
+
+			long[] paneValues = this.paneValues;
+			int tail = (head + frontSize + backSize) % paneValues.length;
+			paneValues[tail] = currentValue;
+			paneCounts[tail] = currentCount;
+			backSize++;
+			if (currentCount != 0) {
+				backValue = backCount == 0 ? currentValue : aggregator.applyAsLong(backValue, currentValue);
+				backCount += currentCount;
+			}
+			currentValue = 0L;
+			currentCount = 0L;
+
+			if (frontSize == 0 || frontCounts[head] == 0) {
+				windowValue = backValue;
+				windowCount = backCount;
+			}
+			else if (backCount == 0) {
+				windowValue = frontValues[head];
+				windowCount = frontCounts[head];
+			}
+			else {
+				windowValue = aggregator.applyAsLong(frontValues[head], backValue);
+				windowCount = frontCounts[head] + backCount;
+			}
+		}
+
+		/**
+		 * Double the capacity of the ring of panes, up to the number of panes of a
+		 * window. The ring only grows while it isn't full, so there is no front stack yet.
+		 */
+		void grow() {
+			long[] values = paneValues;
+			if (values == null) {
+				int capacity = Math.min(panes, INITIAL_CAPACITY);
+				paneValues = new long[capacity];
+				paneCounts = new long[capacity];
+				return;
+			}
+			int size = backSize;
+			int capacity = (int) Math.min(panes, 2L * values.length);
+			long[] nextValues = new long[capacity];
+			long[] nextCounts = new long[capacity];
+			for (int i = 0; i < size; i++) {
+				int index = (head + i) % values.length;
+				nextValues[i] = values[index];
+				nextCounts[i] = paneCounts[index];
+			}
+			paneValues = nextValues;
+			paneCounts = nextCounts;
+			head = 0;
+		}
+
+		/**
+		 * Move the back stack to the front stack, computing the aggregate of each pane
+		 * with the newer ones.
+		 */
+		@SuppressWarnings("ConstantConditions")
+		void flip(LongBinaryOperator aggregator) {
+			if (frontValues == null) {
+				frontValues = new long[panes];
+				frontCounts = new long[panes];
+			}
+			long value = 0L;
+			long count = 0L;
+			for (int i = backSize - 1; i >= 0; i--) {
+				int index = (head + i) % panes;
+				long paneCount = paneCounts[index];
+				if (paneCount != 0) {
+					value = count == 0 ? paneValues[index] : aggregator.applyAsLong(paneValues[index], value);
+					count += paneCount;
+				}
+				frontValues[index] = value;
+				frontCounts[index] = count;
+			}
+			frontSize = backSize;
+			backSize = 0;
+			backValue = 0L;
+			backCount = 0L;
+		}
+	}
+}
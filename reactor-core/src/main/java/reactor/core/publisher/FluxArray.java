@@ -46,7 +46,7 @@ final class FluxArray<T> extends Flux<T> implements Fuseable, SourceProducer<T>
 			Operators.complete(s);
 			return;
 		}
-		if (s instanceof ConditionalSubscriber) {
+		if (s instanceof ConditionalSubscriber && !Operators.batchedDelivery(s)) {
 			s.onSubscribe(new ArrayConditionalSubscription<>((ConditionalSubscriber<? super T>) s, array));
 		}
 		else {
@@ -74,6 +74,8 @@ final class FluxArray<T> extends Flux<T> implements Fuseable, SourceProducer<T>
 
 		final T[] array;
 
+		final boolean batched;
+
 		int index;
 
 		volatile boolean cancelled;
@@ -86,13 +88,17 @@ final class FluxArray<T> extends Flux<T> implements Fuseable, SourceProducer<T>
 		ArraySubscription(CoreSubscriber<? super T> actual, T[] array) {
 			this.actual = actual;
 			this.array = array;
+			this.batched = Operators.batchedDelivery(actual);
 		}
 
 		@Override
 		public void request(long n) {
 			if (Operators.validate(n)) {
 				if (Operators.addCap(REQUESTED, this, n) == 0) {
-					if (n == Long.MAX_VALUE) {
+					if (batched) {
+						batchPath(n);
+					}
+					else if (n == Long.MAX_VALUE) {
 						fastPath();
 					}
 					else {
@@ -151,6 +157,62 @@ final class FluxArray<T> extends Flux<T> implements Fuseable, SourceProducer<T>
 			}
 		}
 
+		@SuppressWarnings("unchecked")
+		void batchPath(long n) {
+			final T[] a = array;
+			final int len = a.length;
+			final BatchSubscriber<? super T> s = (BatchSubscriber<? super T>) actual;
+
+			int i = index;
+			long e = 0L;
+
+			for (; ; ) {
+				if (cancelled) {
+					return;
+				}
+
+				while (i != len && e != n) {
+					int count = (int) Math.min(Math.min(len - i, n - e), Operators.BATCH_SIZE);
+
+					//slices of the array are sent as is, up to the first null element
+					int k = 0;
+					while (k != count && a[i + k] != null) {
+						k++;
+					}
+
+					if (k != 0) {
+						e += s.onNextBatch(a, i, k);
+						i += k;
+
+						if (cancelled) {
+							return;
+						}
+					}
+
+					if (k != count) {
+						s.onError(new NullPointerException("The " + i + "th array element was null"));
+						return;
+					}
+				}
+
+				if (i == len) {
+					s.onComplete();
+					return;
+				}
+
+				n = requested;
+
+				if (n == e) {
+					index = i;
+					n = REQUESTED.addAndGet(this, -e);
+					if (n == 0) {
+						return;
+					}
+					e = 0L;
+				}
+			}
+		}
+
 		void fastPath() {
 			final T[] a = array;
 			final int len = a.length;
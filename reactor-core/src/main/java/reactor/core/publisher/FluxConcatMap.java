@@ -54,6 +54,9 @@ final class FluxConcatMap<T, R> extends InternalFluxOperator<T, R> {
 
 	final ErrorMode errorMode;
 
+	@Nullable
+	final PrefetchStrategy adaptivePrefetch;
+
 	/**
 	 * Indicates when an error from the main source should be reported.
 	 */
@@ -97,7 +100,19 @@ final class FluxConcatMap<T, R> extends InternalFluxOperator<T, R> {
 			Supplier<? extends Queue<T>> queueSupplier,
 			int prefetch,
 			ErrorMode errorMode) {
+		this(source, mapper, queueSupplier, prefetch, errorMode, null);
+	}
+
+	FluxConcatMap(Flux<? extends T> source,
+			Function<? super T, ? extends Publisher<? extends R>> mapper,
+			Supplier<? extends Queue<T>> queueSupplier,
+			int prefetch,
+			ErrorMode errorMode,
+			@Nullable PrefetchStrategy adaptivePrefetch) {
 		super(source);
+		if (adaptivePrefetch != null && errorMode != ErrorMode.IMMEDIATE) {
+			throw new IllegalArgumentException("adaptive prefetch is only supported with ErrorMode.IMMEDIATE");
+		}
 		if (prefetch <= 0) {
 			throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
 		}
@@ -105,6 +120,7 @@ final class FluxConcatMap<T, R> extends InternalFluxOperator<T, R> {
 		this.queueSupplier = Objects.requireNonNull(queueSupplier, "queueSupplier");
 		this.prefetch = prefetch;
 		this.errorMode = Objects.requireNonNull(errorMode, "errorMode");
+		this.adaptivePrefetch = adaptivePrefetch;
 	}
 
 	@Override
@@ -118,6 +134,9 @@ final class FluxConcatMap<T, R> extends InternalFluxOperator<T, R> {
 			return null;
 		}
 
+		if (adaptivePrefetch != null) {
+			return new ConcatMapImmediate<>(actual, mapper, queueSupplier, prefetch, adaptivePrefetch.newWindow());
+		}
 		return subscriber(actual, mapper, queueSupplier, prefetch, errorMode);
 	}
 
@@ -141,7 +160,10 @@ final class FluxConcatMap<T, R> extends InternalFluxOperator<T, R> {
 
 		final int prefetch;
 
-		final int limit;
+		@Nullable
+		final PrefetchStrategy.Window window;
+
+		int limit;
 
 		Subscription s;
 
@@ -177,12 +199,20 @@ final class FluxConcatMap<T, R> extends InternalFluxOperator<T, R> {
 		ConcatMapImmediate(CoreSubscriber<? super R> actual,
 				Function<? super T, ? extends Publisher<? extends R>> mapper,
 				Supplier<? extends Queue<T>> queueSupplier, int prefetch) {
+			this(actual, mapper, queueSupplier, prefetch, null);
+		}
+
+		ConcatMapImmediate(CoreSubscriber<? super R> actual,
+				Function<? super T, ? extends Publisher<? extends R>> mapper,
+				Supplier<? extends Queue<T>> queueSupplier, int prefetch,
+				@Nullable PrefetchStrategy.Window window) {
 			this.actual = actual;
 			this.ctx = actual.currentContext();
 			this.mapper = mapper;
 			this.queueSupplier = queueSupplier;
 			this.prefetch = prefetch;
-			this.limit = Operators.unboundedOrLimit(prefetch);
+			this.window = window;
+			this.limit = window == null ? Operators.unboundedOrLimit(prefetch) : window.limit();
 			this.inner = new ConcatMapInner<>(this);
 		}
 
@@ -192,7 +222,7 @@ final class FluxConcatMap<T, R> extends InternalFluxOperator<T, R> {
 			if (key == Attr.PARENT) return s;
 			if (key == Attr.TERMINATED) return done || error == TERMINATED;
 			if (key == Attr.CANCELLED) return cancelled;
-			if (key == Attr.PREFETCH) return prefetch;
+			if (key == Attr.PREFETCH) return window != null ? window.size : prefetch;
 			if (key == Attr.BUFFERED) return queue != null ? queue.size() : 0;
 			if (key == Attr.ERROR) return error;
 			if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
@@ -233,7 +263,7 @@ final class FluxConcatMap<T, R> extends InternalFluxOperator<T, R> {
 
 				actual.onSubscribe(this);
 
-				s.request(Operators.unboundedOrPrefetch(prefetch));
+				s.request(window == null ? Operators.unboundedOrPrefetch(prefetch) : window.size);
 			}
 		}
 
@@ -393,7 +423,14 @@ final class FluxConcatMap<T, R> extends InternalFluxOperator<T, R> {
 								int c = consumed + 1;
 								if (c == limit) {
 									consumed = 0;
-									s.request(c);
+									PrefetchStrategy.Window w = window;
+									if (w == null) {
+										s.request(c);
+									}
+									else {
+										s.request(w.replenish(c, queue.size()));
+										limit = w.limit();
+									}
 								}
 								else {
 									consumed = c;
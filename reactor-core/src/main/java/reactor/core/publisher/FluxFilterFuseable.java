@@ -59,7 +59,7 @@ final class FluxFilterFuseable<T> extends InternalFluxOperator<T, T> implements
 
 	static final class FilterFuseableSubscriber<T>
 			implements InnerOperator<T, T>, QueueSubscription<T>,
-			           ConditionalSubscriber<T> {
+			           ConditionalSubscriber<T>, BatchSubscriber<T> {
 
 		final CoreSubscriber<? super T> actual;
 		final Context                   ctx;
@@ -70,8 +70,16 @@ final class FluxFilterFuseable<T> extends InternalFluxOperator<T, T> implements
 
 		boolean done;
 
+		volatile boolean cancelled;
+
 		int sourceMode;
 
+		/**
+		 * The reusable buffer of values passing the predicate for batched delivery.
+		 */
+		@Nullable
+		Object[] buffer;
+
 		FilterFuseableSubscriber(CoreSubscriber<? super T> actual,
 				Predicate<? super T> predicate) {
 			this.actual = actual;
@@ -152,6 +160,78 @@ final class FluxFilterFuseable<T> extends InternalFluxOperator<T, T> implements
 			return false;
 		}
 
+		@Override
+		@SuppressWarnings("unchecked")
+		public int onNextBatch(Object[] values, int offset, int length) {
+			final int end = offset + length;
+			if (done) {
+				Operators.onNextDroppedMultiple(values, offset, end, this.ctx);
+				return length;
+			}
+			if (actual instanceof BatchSubscriber) {
+				return filterBatch((BatchSubscriber<? super T>) actual, values, offset, end);
+			}
+
+			int consumed = 0;
+			for (int i = offset; i != end; i++) {
+				if (cancelled || done) {
+					Operators.onDiscardMultiple(values, i, end, this.ctx);
+					break;
+				}
+				if (tryOnNext((T) values[i])) {
+					consumed++;
+				}
+			}
+			return consumed;
+		}
+
+		@SuppressWarnings("unchecked")
+		int filterBatch(BatchSubscriber<? super T> a, Object[] values, int offset, int end) {
+			Object[] b = buffer;
+			if (b == null) {
+				b = new Object[Operators.BATCH_SIZE];
+				buffer = b;
+			}
+
+			int consumed = 0;
+			int n = 0;
+			for (int i = offset; i != end; i++) {
+				T t = (T) values[i];
+				boolean pass;
+
+				try {
+					pass = predicate.test(t);
+				}
+				catch (Throwable e) {
+					Throwable e_ = Operators.onNextError(t, e, this.ctx, s);
+					if (e_ != null) {
+						consumed += Operators.onNextBatch(a, b, n);
+						onError(e_);
+						Operators.onDiscardMultiple(values, i, end, this.ctx);
+						return consumed;
+					}
+					Operators.onDiscard(t, this.ctx);
+					continue;
+				}
+				if (!pass) {
+					Operators.onDiscard(t, this.ctx);
+					continue;
+				}
+
+				b[n++] = t;
+
+				if (n == b.length) {
+					consumed += Operators.onNextBatch(a, b, n);
+					n = 0;
+					if (cancelled) {
+						Operators.onDiscardMultiple(values, i + 1, end, this.ctx);
+						return consumed;
+					}
+				}
+			}
+			return consumed + Operators.onNextBatch(a, b, n);
+		}
+
 		@Override
 		public void onError(Throwable t) {
 			if (done) {
@@ -193,6 +273,7 @@ final class FluxFilterFuseable<T> extends InternalFluxOperator<T, T> implements
 
 		@Override
 		public void cancel() {
+			cancelled = true;
 			s.cancel();
 		}
 
@@ -277,7 +358,7 @@ final class FluxFilterFuseable<T> extends InternalFluxOperator<T, T> implements
 
 	static final class FilterFuseableConditionalSubscriber<T>
 			implements InnerOperator<T, T>, ConditionalSubscriber<T>,
-			           QueueSubscription<T> {
+			           QueueSubscription<T>, BatchSubscriber<T> {
 
 		final ConditionalSubscriber<? super T> actual;
 		final Context ctx;
@@ -288,8 +369,16 @@ final class FluxFilterFuseable<T> extends InternalFluxOperator<T, T> implements
 
 		boolean done;
 
+		volatile boolean cancelled;
+
 		int sourceMode;
 
+		/**
+		 * The reusable buffer of values passing the predicate for batched delivery.
+		 */
+		@Nullable
+		Object[] buffer;
+
 		FilterFuseableConditionalSubscriber(ConditionalSubscriber<? super T> actual,
 				Predicate<? super T> predicate) {
 			this.actual = actual;
@@ -372,6 +461,78 @@ final class FluxFilterFuseable<T> extends InternalFluxOperator<T, T> implements
 			}
 		}
 
+		@Override
+		@SuppressWarnings("unchecked")
+		public int onNextBatch(Object[] values, int offset, int length) {
+			final int end = offset + length;
+			if (done) {
+				Operators.onNextDroppedMultiple(values, offset, end, this.ctx);
+				return length;
+			}
+			if (actual instanceof BatchSubscriber) {
+				return filterBatch((BatchSubscriber<? super T>) actual, values, offset, end);
+			}
+
+			int consumed = 0;
+			for (int i = offset; i != end; i++) {
+				if (cancelled || done) {
+					Operators.onDiscardMultiple(values, i, end, this.ctx);
+					break;
+				}
+				if (tryOnNext((T) values[i])) {
+					consumed++;
+				}
+			}
+			return consumed;
+		}
+
+		@SuppressWarnings("unchecked")
+		int filterBatch(BatchSubscriber<? super T> a, Object[] values, int offset, int end) {
+			Object[] b = buffer;
+			if (b == null) {
+				b = new Object[Operators.BATCH_SIZE];
+				buffer = b;
+			}
+
+			int consumed = 0;
+			int n = 0;
+			for (int i = offset; i != end; i++) {
+				T t = (T) values[i];
+				boolean pass;
+
+				try {
+					pass = predicate.test(t);
+				}
+				catch (Throwable e) {
+					Throwable e_ = Operators.onNextError(t, e, this.ctx, s);
+					if (e_ != null) {
+						consumed += Operators.onNextBatch(a, b, n);
+						onError(e_);
+						Operators.onDiscardMultiple(values, i, end, this.ctx);
+						return consumed;
+					}
+					Operators.onDiscard(t, this.ctx);
+					continue;
+				}
+				if (!pass) {
+					Operators.onDiscard(t, this.ctx);
+					continue;
+				}
+
+				b[n++] = t;
+
+				if (n == b.length) {
+					consumed += Operators.onNextBatch(a, b, n);
+					n = 0;
+					if (cancelled) {
+						Operators.onDiscardMultiple(values, i + 1, end, this.ctx);
+						return consumed;
+					}
+				}
+			}
+			return consumed + Operators.onNextBatch(a, b, n);
+		}
+
 		@Override
 		public void onError(Throwable t) {
 			if (done) {
@@ -413,6 +574,7 @@ final class FluxFilterFuseable<T> extends InternalFluxOperator<T, T> implements
 
 		@Override
 		public void cancel() {
+			cancelled = true;
 			s.cancel();
 		}
 
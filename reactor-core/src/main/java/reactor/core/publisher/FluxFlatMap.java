@@ -60,6 +60,9 @@ final class FluxFlatMap<T, R> extends InternalFluxOperator<T, R> {
 
 	final Supplier<? extends Queue<R>> innerQueueSupplier;
 
+	@Nullable
+	final PrefetchStrategy adaptivePrefetch;
+
 	FluxFlatMap(Flux<? extends T> source,
 			Function<? super T, ? extends Publisher<? extends R>> mapper,
 			boolean delayError,
@@ -67,6 +70,17 @@ final class FluxFlatMap<T, R> extends InternalFluxOperator<T, R> {
 			Supplier<? extends Queue<R>> mainQueueSupplier,
 			int prefetch,
 			Supplier<? extends Queue<R>> innerQueueSupplier) {
+		this(source, mapper, delayError, maxConcurrency, mainQueueSupplier, prefetch, innerQueueSupplier, null);
+	}
+
+	FluxFlatMap(Flux<? extends T> source,
+			Function<? super T, ? extends Publisher<? extends R>> mapper,
+			boolean delayError,
+			int maxConcurrency,
+			Supplier<? extends Queue<R>> mainQueueSupplier,
+			int prefetch,
+			Supplier<? extends Queue<R>> innerQueueSupplier,
+			@Nullable PrefetchStrategy adaptivePrefetch) {
 		super(source);
 		if (prefetch <= 0) {
 			throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
@@ -82,6 +96,7 @@ final class FluxFlatMap<T, R> extends InternalFluxOperator<T, R> {
 				Objects.requireNonNull(mainQueueSupplier, "mainQueueSupplier");
 		this.innerQueueSupplier =
 				Objects.requireNonNull(innerQueueSupplier, "innerQueueSupplier");
+		this.adaptivePrefetch = adaptivePrefetch;
 	}
 
 	@Override
@@ -100,7 +115,7 @@ final class FluxFlatMap<T, R> extends InternalFluxOperator<T, R> {
 				delayError,
 				maxConcurrency,
 				mainQueueSupplier,
-				prefetch, innerQueueSupplier);
+				prefetch, innerQueueSupplier, adaptivePrefetch);
 	}
 
 	/**
@@ -229,6 +244,8 @@ final class FluxFlatMap<T, R> extends InternalFluxOperator<T, R> {
 		final Supplier<? extends Queue<R>>                          mainQueueSupplier;
 		final Supplier<? extends Queue<R>>                          innerQueueSupplier;
 		final CoreSubscriber<? super R>                             actual;
+		@Nullable
+		final PrefetchStrategy                                      adaptivePrefetch;
 
 		volatile Queue<R> scalarQueue;
 
@@ -273,6 +290,17 @@ final class FluxFlatMap<T, R> extends InternalFluxOperator<T, R> {
 				Supplier<? extends Queue<R>> mainQueueSupplier,
 				int prefetch,
 				Supplier<? extends Queue<R>> innerQueueSupplier) {
+			this(actual, mapper, delayError, maxConcurrency, mainQueueSupplier, prefetch, innerQueueSupplier, null);
+		}
+
+		FlatMapMain(CoreSubscriber<? super R> actual,
+				Function<? super T, ? extends Publisher<? extends R>> mapper,
+				boolean delayError,
+				int maxConcurrency,
+				Supplier<? extends Queue<R>> mainQueueSupplier,
+				int prefetch,
+				Supplier<? extends Queue<R>> innerQueueSupplier,
+				@Nullable PrefetchStrategy adaptivePrefetch) {
 			this.actual = actual;
 			this.mapper = mapper;
 			this.delayError = delayError;
@@ -281,6 +309,7 @@ final class FluxFlatMap<T, R> extends InternalFluxOperator<T, R> {
 			this.prefetch = prefetch;
 			this.innerQueueSupplier = innerQueueSupplier;
 			this.limit = Operators.unboundedOrLimit(maxConcurrency);
+			this.adaptivePrefetch = adaptivePrefetch;
 		}
 
 		@Override
@@ -424,7 +453,8 @@ final class FluxFlatMap<T, R> extends InternalFluxOperator<T, R> {
 				tryEmitScalar(v);
 			}
 			else {
-				FlatMapInner<R> inner = new FlatMapInner<>(this, prefetch);
+				FlatMapInner<R> inner = new FlatMapInner<>(this, prefetch,
+						adaptivePrefetch == null ? null : adaptivePrefetch.newWindow());
 				if (add(inner)) {
 					p = Operators.toFluxOrMono(p);
 					p.subscribe(inner);
@@ -916,7 +946,10 @@ final class FluxFlatMap<T, R> extends InternalFluxOperator<T, R> {
 
 		final int prefetch;
 
-		final int limit;
+		@Nullable
+		final PrefetchStrategy.Window window;
+
+		int limit;
 
 		volatile Subscription s;
 		@SuppressWarnings("rawtypes")
@@ -939,10 +972,15 @@ final class FluxFlatMap<T, R> extends InternalFluxOperator<T, R> {
 		int index;
 
 		FlatMapInner(FlatMapMain<?, R> parent, int prefetch) {
+			this(parent, prefetch, null);
+		}
+
+		FlatMapInner(FlatMapMain<?, R> parent, int prefetch, @Nullable PrefetchStrategy.Window window) {
 			this.parent = parent;
 			this.prefetch = prefetch;
+			this.window = window;
 //			this.limit = prefetch >> 2;
-			this.limit = Operators.unboundedOrLimit(prefetch);
+			this.limit = window == null ? Operators.unboundedOrLimit(prefetch) : window.limit();
 		}
 
 		@Override
@@ -965,7 +1003,7 @@ final class FluxFlatMap<T, R> extends InternalFluxOperator<T, R> {
 					}
 					// NONE is just fall-through as the queue will be created on demand
 				}
-				s.request(Operators.unboundedOrPrefetch(prefetch));
+				s.request(window == null ? Operators.unboundedOrPrefetch(prefetch) : window.size);
 			}
 		}
 
@@ -1009,6 +1047,12 @@ final class FluxFlatMap<T, R> extends InternalFluxOperator<T, R> {
 			long p = produced + n;
 			if (p >= limit) {
 				produced = 0L;
+				PrefetchStrategy.Window w = window;
+				if (w != null) {
+					Queue<R> q = queue;
+					p = w.replenish(p, q == null ? 0 : q.size());
+					limit = w.limit();
+				}
 				s.request(p);
 			}
 			else {
@@ -1035,7 +1079,7 @@ final class FluxFlatMap<T, R> extends InternalFluxOperator<T, R> {
 			if (key == Attr.TERMINATED) return done && (queue == null || queue.isEmpty());
 			if (key == Attr.CANCELLED) return s == Operators.cancelledSubscription();
 			if (key == Attr.BUFFERED) return queue == null ? 0 : queue.size();
-			if (key == Attr.PREFETCH) return prefetch;
+			if (key == Attr.PREFETCH) return window != null ? window.size : prefetch;
 			if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
 
 			return null;
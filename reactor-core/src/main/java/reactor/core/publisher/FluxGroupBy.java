@@ -20,6 +20,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
@@ -30,9 +32,12 @@ import java.util.stream.Stream;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
 import reactor.core.Exceptions;
 import reactor.core.Fuseable;
 import reactor.core.Scannable;
+import reactor.core.scheduler.Scheduler;
 import reactor.util.annotation.Nullable;
 import reactor.util.context.Context;
 
@@ -58,13 +63,37 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 
 	final int prefetch;
 
+	final long idleTimeoutNanos;
+
+	@Nullable
+	final Scheduler timer;
+
 	FluxGroupBy(Flux<? extends T> source,
 			Function<? super T, ? extends K> keySelector,
 			Function<? super T, ? extends V> valueSelector,
 			Supplier<? extends Queue<GroupedFlux<K, V>>> mainQueueSupplier,
 			Supplier<? extends Queue<V>> groupQueueSupplier,
 			int prefetch) {
+		this(source, keySelector, valueSelector, mainQueueSupplier, groupQueueSupplier, prefetch, 0L, null);
+	}
+
+	/**
+	 * @param idleTimeoutNanos the period after which groups that received no value are
+	 * completed and evicted, ignored without a timer
+	 * @param timer the {@link Scheduler} running the periodic eviction, or null to never
+	 * evict groups
+	 */
+	FluxGroupBy(Flux<? extends T> source,
+			Function<? super T, ? extends K> keySelector,
+			Function<? super T, ? extends V> valueSelector,
+			Supplier<? extends Queue<GroupedFlux<K, V>>> mainQueueSupplier,
+			Supplier<? extends Queue<V>> groupQueueSupplier,
+			int prefetch,
+			long idleTimeoutNanos,
+			@Nullable Scheduler timer) {
 		super(source);
+		this.idleTimeoutNanos = idleTimeoutNanos;
+		this.timer = timer;
 		if (prefetch <= 0) {
 			throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
 		}
@@ -83,7 +112,8 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 				mainQueueSupplier.get(),
 				groupQueueSupplier,
 				prefetch,
-				keySelector, valueSelector);
+				keySelector, valueSelector,
+				idleTimeoutNanos, timer);
 	}
 
 	@Override
@@ -93,7 +123,8 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 
 	@Override
 	public Object scanUnsafe(Attr key) {
-		if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+		if (key == Attr.RUN_ON) return timer;
+		if (key == Attr.RUN_STYLE) return timer == null ? Attr.RunStyle.SYNC : Attr.RunStyle.ASYNC;
 		return super.scanUnsafe(key);
 	}
 
@@ -108,6 +139,9 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 		final int                                       prefetch;
 		final Map<K, UnicastGroupedFlux<K, V>>          groupMap;
 		final CoreSubscriber<? super GroupedFlux<K, V>> actual;
+		final long                                      idleTimeoutNanos;
+		@Nullable
+		final Scheduler                                 timer;
 
 		volatile int wip;
 
@@ -138,8 +172,25 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 		static final AtomicIntegerFieldUpdater<GroupByMain> GROUP_COUNT =
 				AtomicIntegerFieldUpdater.newUpdater(GroupByMain.class, "groupCount");
 
+		/**
+		 * Serializes the eviction task with the completion of the groups on termination:
+		 * a termination arriving while the eviction task is {@link #EVICTING} is left
+		 * {@link #TERMINATION_PENDING} for that task to perform once it is done.
+		 */
+		volatile int eviction;
+		@SuppressWarnings("rawtypes")
+		static final AtomicIntegerFieldUpdater<GroupByMain> EVICTION =
+				AtomicIntegerFieldUpdater.newUpdater(GroupByMain.class, "eviction");
+
+		static final int EVICTION_IDLE       = 0;
+		static final int EVICTING            = 1;
+		static final int TERMINATION_PENDING = 2;
+		static final int EVICTION_TERMINATED = 3;
+
 		Subscription s;
 
+		Disposable evictionTask = Disposables.disposed();
+
 		volatile boolean enableAsyncFusion;
 
 		GroupByMain(CoreSubscriber<? super GroupedFlux<K, V>> actual,
@@ -148,6 +199,17 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 				int prefetch,
 				Function<? super T, ? extends K> keySelector,
 				Function<? super T, ? extends V> valueSelector) {
+			this(actual, queue, groupQueueSupplier, prefetch, keySelector, valueSelector, 0L, null);
+		}
+
+		GroupByMain(CoreSubscriber<? super GroupedFlux<K, V>> actual,
+				Queue<GroupedFlux<K, V>> queue,
+				Supplier<? extends Queue<V>> groupQueueSupplier,
+				int prefetch,
+				Function<? super T, ? extends K> keySelector,
+				Function<? super T, ? extends V> valueSelector,
+				long idleTimeoutNanos,
+				@Nullable Scheduler timer) {
 			this.actual = actual;
 			this.queue = queue;
 			this.groupQueueSupplier = groupQueueSupplier;
@@ -155,6 +217,8 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 			this.groupMap = new ConcurrentHashMap<>();
 			this.keySelector = keySelector;
 			this.valueSelector = valueSelector;
+			this.idleTimeoutNanos = idleTimeoutNanos;
+			this.timer = timer;
 			GROUP_COUNT.lazySet(this, 1);
 		}
 
@@ -168,6 +232,16 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 			if (Operators.validate(this.s, s)) {
 				this.s = s;
 				actual.onSubscribe(this);
+				if (timer != null) {
+					try {
+						evictionTask = timer.schedulePeriodically(this::evictIdleGroups,
+								idleTimeoutNanos, idleTimeoutNanos, TimeUnit.NANOSECONDS);
+					}
+					catch (RejectedExecutionException ree) {
+						onError(Operators.onRejectedExecution(ree, s, null, null, actual.currentContext()));
+						return;
+					}
+				}
 				s.request(Operators.unboundedOrPrefetch(prefetch));
 			}
 		}
@@ -193,6 +267,17 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 
 			UnicastGroupedFlux<K, V> g = groupMap.get(key);
 
+			if (g != null && timer != null) {
+				if (g.tryAcquire()) {
+					g.onNext(value);
+					g.release();
+					return;
+				}
+				// the group has just been evicted, start a new one for the key
+				groupMap.remove(key, g);
+				g = null;
+			}
+
 			if (g == null) {
 				// if the main is cancelled, don't create new groups
 				if (cancelled == 0) {
@@ -215,8 +300,10 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 		@Override
 		public void onError(Throwable t) {
 			if (Exceptions.addThrowable(ERROR, this, t)) {
-				done = true;
-				drain();
+				evictionTask.dispose();
+				if (stopEviction()) {
+					terminate();
+				}
 			}
 			else {
 				Operators.onErrorDropped(t, actual.currentContext());
@@ -228,14 +315,55 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 			if(done){
 				return;
 			}
-			for (UnicastGroupedFlux<K, V> g : groupMap.values()) {
-				g.onComplete();
+			evictionTask.dispose();
+			if (stopEviction()) {
+				terminate();
+			}
+		}
+
+		/**
+		 * Complete the groups unless the main sequence failed, in which case the drain
+		 * errors them, and let the drain terminate the main sequence.
+		 */
+		void terminate() {
+			if (error == null) {
+				for (UnicastGroupedFlux<K, V> g : groupMap.values()) {
+					g.onComplete();
+				}
+				groupMap.clear();
 			}
-			groupMap.clear();
 			done = true;
 			drain();
 		}
 
+		/**
+		 * Prevent any further eviction pass.
+		 *
+		 * @return true if the caller should {@link #terminate()}, false if an eviction pass
+		 * in progress will do it once done
+		 */
+		boolean stopEviction() {
+			if (timer == null) {
+				return true;
+			}
+			for (; ; ) {
+				int e = eviction;
+				if (e == EVICTING) {
+					if (EVICTION.compareAndSet(this, EVICTING, TERMINATION_PENDING)) {
+						return false;
+					}
+				}
+				else if (e == EVICTION_IDLE) {
+					if (EVICTION.compareAndSet(this, EVICTION_IDLE, EVICTION_TERMINATED)) {
+						return true;
+					}
+				}
+				else {
+					return true;
+				}
+			}
+		}
+
 		@Override
 		@Nullable
 		public Object scanUnsafe(Attr key) {
@@ -246,7 +374,8 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 			if (key == Attr.BUFFERED) return queue.size();
 			if (key == Attr.CANCELLED) return cancelled == 1;
 			if (key == Attr.ERROR) return error;
-			if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+			if (key == Attr.RUN_ON) return timer;
+			if (key == Attr.RUN_STYLE) return timer == null ? Attr.RunStyle.SYNC : Attr.RunStyle.ASYNC;
 
 			return InnerOperator.super.scanUnsafe(key);
 		}
@@ -281,6 +410,7 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 		public void cancel() {
 			if (CANCELLED.compareAndSet(this, 0, 1)) {
 				if (GROUP_COUNT.decrementAndGet(this) == 0) {
+					evictionTask.dispose();
 					s.cancel();
 				}
 				else if (!enableAsyncFusion) {
@@ -301,13 +431,14 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 			}
 		}
 
-		void groupTerminated(K key) {
+		void groupTerminated(UnicastGroupedFlux<K, V> group) {
 			if (groupCount == 0) {
 				return;
 			}
-			groupMap.remove(key);
+			groupMap.remove(group.key, group);
 			int groupRemaining = GROUP_COUNT.decrementAndGet(this);
 			if (groupRemaining == 0) {
+				evictionTask.dispose();
 				s.cancel();
 			}
 			else if (groupRemaining == 1) {
@@ -317,6 +448,31 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 			}
 		}
 
+		/**
+		 * Complete and evict the groups that received no value since the previous run,
+		 * and mark the other ones as idle. Doesn't run concurrently with the completion of
+		 * the groups on termination, which it performs instead if the main sequence
+		 * terminates meanwhile.
+		 */
+		void evictIdleGroups() {
+			if (!EVICTION.compareAndSet(this, EVICTION_IDLE, EVICTING)) {
+				return;
+			}
+			for (UnicastGroupedFlux<K, V> g : groupMap.values()) {
+				if (eviction != EVICTING) {
+					break;
+				}
+				if (g.tryEvict()) {
+					groupMap.remove(g.key, g);
+					g.onComplete();
+				}
+			}
+			if (!EVICTION.compareAndSet(this, EVICTING, EVICTION_IDLE)) {
+				EVICTION.lazySet(this, EVICTION_TERMINATED);
+				terminate();
+			}
+		}
+
 		void drain() {
 			if (WIP.getAndIncrement(this) != 0) {
 				return;
@@ -519,6 +675,22 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 
 		volatile boolean outputFused;
 
+		/**
+		 * The eviction state, only used when idle groups are evicted: the main
+		 * subscriber marks the group {@link #BUSY} while passing it a value and
+		 * {@link #TOUCHED} afterwards, while the eviction task turns {@link #TOUCHED}
+		 * into {@link #IDLE} and {@link #IDLE} into {@link #EVICTED}.
+		 */
+		volatile int usage;
+		@SuppressWarnings("rawtypes")
+		static final AtomicIntegerFieldUpdater<UnicastGroupedFlux> USAGE =
+				AtomicIntegerFieldUpdater.newUpdater(UnicastGroupedFlux.class, "usage");
+
+		static final int TOUCHED = 0;
+		static final int IDLE    = 1;
+		static final int BUSY    = 2;
+		static final int EVICTED = 3;
+
 		int produced;
 		boolean isFirstRequest = true;
 
@@ -536,8 +708,33 @@ final class FluxGroupBy<T, K, V> extends InternalFluxOperator<T, GroupedFlux<K,
 		void doTerminate() {
 			GroupByMain<?, K, V> r = parent;
 			if (r != null && PARENT.compareAndSet(this, r, null)) {
-				r.groupTerminated(key);
+				r.groupTerminated(this);
+			}
+		}
+
+		boolean tryAcquire() {
+			for (; ; ) {
+				int u = usage;
+				if (u == EVICTED) {
+					return false;
+				}
+				if (USAGE.compareAndSet(this, u, BUSY)) {
+					return true;
+				}
+			}
+		}
+
+		void release() {
+			USAGE.lazySet(this, TOUCHED);
+		}
+
+		boolean tryEvict() {
+			int u = usage;
+			if (u == TOUCHED) {
+				USAGE.compareAndSet(this, TOUCHED, IDLE);
+				return false;
 			}
+			return u == IDLE && USAGE.compareAndSet(this, IDLE, EVICTED);
 		}
 
 		void drainRegular(Subscriber<? super V> a) {
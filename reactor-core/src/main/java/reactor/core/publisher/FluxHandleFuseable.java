@@ -77,7 +77,7 @@ final class FluxHandleFuseable<T, R> extends InternalFluxOperator<T, R> implemen
 	static final class HandleFuseableSubscriber<T, R>
 			implements InnerOperator<T, R>,
 			           ConditionalSubscriber<T>, QueueSubscription<R>,
-			           SynchronousSink<R> {
+			           SynchronousSink<R>, BatchSubscriber<T> {
 
 		final CoreSubscriber<? super R>                 actual;
 		final BiConsumer<? super T, SynchronousSink<R>> handler;
@@ -87,10 +87,18 @@ final class FluxHandleFuseable<T, R> extends InternalFluxOperator<T, R> implemen
 		Throwable error;
 		R         data;
 
+		volatile boolean cancelled;
+
 		QueueSubscription<T> s;
 
 		int sourceMode;
 
+		/**
+		 * The reusable buffer of handled values for batched delivery.
+		 */
+		@Nullable
+		Object[] buffer;
+
 		HandleFuseableSubscriber(CoreSubscriber<? super R> actual,
 				BiConsumer<? super T, SynchronousSink<R>> handler) {
 			this.actual = actual;
@@ -217,6 +225,93 @@ final class FluxHandleFuseable<T, R> extends InternalFluxOperator<T, R> implemen
 			}
 		}
 
+		@Override
+		@SuppressWarnings("unchecked")
+		public int onNextBatch(Object[] values, int offset, int length) {
+			final int end = offset + length;
+			if (done) {
+				Operators.onNextDroppedMultiple(values, offset, end, actual.currentContext());
+				return length;
+			}
+			if (actual instanceof BatchSubscriber) {
+				return handleBatch((BatchSubscriber<? super R>) actual, values, offset, end);
+			}
+
+			int consumed = 0;
+			for (int i = offset; i != end; i++) {
+				if (cancelled || done) {
+					Operators.onDiscardMultiple(values, i, end, actual.currentContext());
+					break;
+				}
+				if (tryOnNext((T) values[i])) {
+					consumed++;
+				}
+			}
+			return consumed;
+		}
+
+		@SuppressWarnings("unchecked")
+		int handleBatch(BatchSubscriber<? super R> a, Object[] values, int offset, int end) {
+			Object[] b = buffer;
+			if (b == null) {
+				b = new Object[Operators.BATCH_SIZE];
+				buffer = b;
+			}
+
+			int consumed = 0;
+			int n = 0;
+			for (int i = offset; i != end; i++) {
+				T t = (T) values[i];
+
+				try {
+					handler.accept(t, this);
+				}
+				catch (Throwable e) {
+					Throwable e_ = Operators.onNextError(t, e, actual.currentContext(), s);
+					if (e_ != null) {
+						consumed += Operators.onNextBatch(a, b, n);
+						onError(e_);
+						Operators.onDiscardMultiple(values, i + 1, end, actual.currentContext());
+						return consumed;
+					}
+					reset();
+					continue;
+				}
+				R v = data;
+				data = null;
+				if (v != null) {
+					b[n++] = v;
+				}
+				if (stop) {
+					Throwable e_ = error == null ? null : Operators.onNextError(t, error, actual.currentContext(), s);
+					if (error == null || e_ != null) {
+						consumed += Operators.onNextBatch(a, b, n);
+						done = true; //set done because we throw or go through `actual` directly
+						if (e_ != null) {
+							actual.onError(e_);
+						}
+						else {
+							s.cancel();
+							actual.onComplete();
+						}
+						Operators.onDiscardMultiple(values, i + 1, end, actual.currentContext());
+						return consumed;
+					}
+					reset();
+				}
+
+				if (n == b.length) {
+					consumed += Operators.onNextBatch(a, b, n);
+					n = 0;
+					if (cancelled) {
+						Operators.onDiscardMultiple(values, i + 1, end, actual.currentContext());
+						return consumed;
+					}
+				}
+			}
+			return consumed + Operators.onNextBatch(a, b, n);
+		}
+
 		@Override
 		public void onError(Throwable t) {
 			if (done) {
@@ -262,6 +357,7 @@ final class FluxHandleFuseable<T, R> extends InternalFluxOperator<T, R> implemen
 
 		@Override
 		public void cancel() {
+			cancelled = true;
 			s.cancel();
 		}
 
@@ -434,7 +530,7 @@ final class FluxHandleFuseable<T, R> extends InternalFluxOperator<T, R> implemen
 
 	static final class HandleFuseableConditionalSubscriber<T, R>
 			implements ConditionalSubscriber<T>, InnerOperator<T, R>,
-			           QueueSubscription<R>, SynchronousSink<R> {
+			           QueueSubscription<R>, SynchronousSink<R>, BatchSubscriber<T> {
 
 		final ConditionalSubscriber<? super R>          actual;
 		final BiConsumer<? super T, SynchronousSink<R>> handler;
@@ -444,10 +540,18 @@ final class FluxHandleFuseable<T, R> extends InternalFluxOperator<T, R> implemen
 		Throwable error;
 		R         data;
 
+		volatile boolean cancelled;
+
 		QueueSubscription<T> s;
 
 		int sourceMode;
 
+		/**
+		 * The reusable buffer of handled values for batched delivery.
+		 */
+		@Nullable
+		Object[] buffer;
+
 		HandleFuseableConditionalSubscriber(ConditionalSubscriber<? super R> actual,
 				BiConsumer<? super T, SynchronousSink<R>> handler) {
 			this.actual = actual;
@@ -583,6 +687,93 @@ final class FluxHandleFuseable<T, R> extends InternalFluxOperator<T, R> implemen
 			return emit;
 		}
 
+		@Override
+		@SuppressWarnings("unchecked")
+		public int onNextBatch(Object[] values, int offset, int length) {
+			final int end = offset + length;
+			if (done) {
+				Operators.onNextDroppedMultiple(values, offset, end, actual.currentContext());
+				return length;
+			}
+			if (actual instanceof BatchSubscriber) {
+				return handleBatch((BatchSubscriber<? super R>) actual, values, offset, end);
+			}
+
+			int consumed = 0;
+			for (int i = offset; i != end; i++) {
+				if (cancelled || done) {
+					Operators.onDiscardMultiple(values, i, end, actual.currentContext());
+					break;
+				}
+				if (tryOnNext((T) values[i])) {
+					consumed++;
+				}
+			}
+			return consumed;
+		}
+
+		@SuppressWarnings("unchecked")
+		int handleBatch(BatchSubscriber<? super R> a, Object[] values, int offset, int end) {
+			Object[] b = buffer;
+			if (b == null) {
+				b = new Object[Operators.BATCH_SIZE];
+				buffer = b;
+			}
+
+			int consumed = 0;
+			int n = 0;
+			for (int i = offset; i != end; i++) {
+				T t = (T) values[i];
+
+				try {
+					handler.accept(t, this);
+				}
+				catch (Throwable e) {
+					Throwable e_ = Operators.onNextError(t, e, actual.currentContext(), s);
+					if (e_ != null) {
+						consumed += Operators.onNextBatch(a, b, n);
+						onError(e_);
+						Operators.onDiscardMultiple(values, i + 1, end, actual.currentContext());
+						return consumed;
+					}
+					reset();
+					continue;
+				}
+				R v = data;
+				data = null;
+				if (v != null) {
+					b[n++] = v;
+				}
+				if (stop) {
+					Throwable e_ = error == null ? null : Operators.onNextError(t, error, actual.currentContext(), s);
+					if (error == null || e_ != null) {
+						consumed += Operators.onNextBatch(a, b, n);
+						done = true; //set done because we throw or go through `actual` directly
+						if (e_ != null) {
+							actual.onError(e_);
+						}
+						else {
+							s.cancel();
+							actual.onComplete();
+						}
+						Operators.onDiscardMultiple(values, i + 1, end, actual.currentContext());
+						return consumed;
+					}
+					reset();
+				}
+
+				if (n == b.length) {
+					consumed += Operators.onNextBatch(a, b, n);
+					n = 0;
+					if (cancelled) {
+						Operators.onDiscardMultiple(values, i + 1, end, actual.currentContext());
+						return consumed;
+					}
+				}
+			}
+			return consumed + Operators.onNextBatch(a, b, n);
+		}
+
 		@Override
 		public void onError(Throwable t) {
 			if (done) {
@@ -656,6 +847,7 @@ final class FluxHandleFuseable<T, R> extends InternalFluxOperator<T, R> implemen
 
 		@Override
 		public void cancel() {
+			cancelled = true;
 			s.cancel();
 		}
 
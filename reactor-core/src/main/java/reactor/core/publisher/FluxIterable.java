@@ -16,6 +16,7 @@
 
 package reactor.core.publisher;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -153,7 +154,7 @@ final class FluxIterable<T> extends Flux<T> implements Fuseable, SourceProducer<
 			return;
 		}
 
-		if (s instanceof ConditionalSubscriber) {
+		if (s instanceof ConditionalSubscriber && !Operators.batchedDelivery(s)) {
 			IterableSubscriptionConditional<? extends T> isc =
 					new IterableSubscriptionConditional<>((ConditionalSubscriber<? super T>) s,
 							sp,
@@ -210,9 +211,16 @@ final class FluxIterable<T> extends Flux<T> implements Fuseable, SourceProducer<
 		final Spliterator<? extends T> spliterator;
 		final boolean knownToBeFinite;
 		final Runnable onClose;
+		final boolean batched;
 
 		volatile boolean cancelled;
 
+		/**
+		 * The reusable buffer of values for batched delivery.
+		 */
+		@Nullable
+		Object[] buffer;
+
 		volatile long requested;
 		@SuppressWarnings("rawtypes")
 		static final AtomicLongFieldUpdater<IterableSubscription> REQUESTED =
@@ -253,6 +261,7 @@ final class FluxIterable<T> extends Flux<T> implements Fuseable, SourceProducer<
 			this.spliterator = spliterator;
 			this.knownToBeFinite = knownToBeFinite;
 			this.onClose = onClose;
+			this.batched = Operators.batchedDelivery(actual);
 		}
 
 		IterableSubscription(CoreSubscriber<? super T> actual,
@@ -287,7 +296,10 @@ final class FluxIterable<T> extends Flux<T> implements Fuseable, SourceProducer<
 		public void request(long n) {
 			if (Operators.validate(n)) {
 				if (Operators.addCap(REQUESTED, this, n) == 0) {
-					if (n == Long.MAX_VALUE) {
+					if (batched) {
+						batchPath(n);
+					}
+					else if (n == Long.MAX_VALUE) {
 						fastPath();
 					}
 					else {
@@ -374,6 +386,92 @@ final class FluxIterable<T> extends Flux<T> implements Fuseable, SourceProducer<
 			}
 		}
 
+		@SuppressWarnings("unchecked")
+		void batchPath(long n) {
+			final BatchSubscriber<? super T> s = (BatchSubscriber<? super T>) actual;
+
+			Object[] b = buffer;
+			if (b == null) {
+				int size = Operators.BATCH_SIZE;
+				if (knownToBeFinite) {
+					size = (int) Math.max(1L, Math.min(spliterator.estimateSize(), size));
+				}
+				b = new Object[size];
+				buffer = b;
+			}
+
+			long e = 0L;
+
+			for (; ; ) {
+
+				while (e != n) {
+					int count = (int) Math.min(n - e, b.length);
+					int k = 0;
+					boolean hasNext = true;
+					Throwable error = null;
+
+					//as in slowPath, an element is only pulled once hasNext returned true
+					for (; ; ) {
+						try {
+							b[k] = Objects.requireNonNull(next(),
+									"The iterator returned a null value");
+						}
+						catch (Throwable ex) {
+							error = ex;
+							break;
+						}
+						k++;
+
+						try {
+							hasNext = hasNext();
+						}
+						catch (Throwable ex) {
+							error = ex;
+							break;
+						}
+
+						if (!hasNext || k == count) {
+							break;
+						}
+					}
+
+					if (cancelled) {
+						Operators.onDiscardMultiple(b, 0, k, actual.currentContext());
+						Arrays.fill(b, 0, k, null);
+						return;
+					}
+
+					e += Operators.onNextBatch(s, b, k);
+
+					if (cancelled) {
+						return;
+					}
+
+					if (error != null) {
+						s.onError(error);
+						onCloseWithDropError();
+						return;
+					}
+
+					if (!hasNext) {
+						s.onComplete();
+						onCloseWithDropError();
+						return;
+					}
+				}
+
+				n = requested;
+
+				if (n == e) {
+					n = REQUESTED.addAndGet(this, -e);
+					if (n == 0L) {
+						return;
+					}
+					e = 0L;
+				}
+			}
+		}
+
 		void fastPath() {
 			final Subscriber<? super T> s = actual;
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.LongSubscriber;
+import reactor.core.Scannable;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Maps the primitive values of a source {@link LongFlux} to objects via a mapper
+ * function.
+ *
+ * @param <R> the result value type
+ */
+final class FluxMapFromLong<R> extends Flux<R> implements Scannable {
+
+	final LongFlux source;
+
+	final LongFunction<? extends R> mapper;
+
+	FluxMapFromLong(LongFlux source, LongFunction<? extends R> mapper) {
+		this.source = Objects.requireNonNull(source, "source");
+		this.mapper = Objects.requireNonNull(mapper, "mapper");
+	}
+
+	@Override
+	public void subscribe(CoreSubscriber<? super R> actual) {
+		source.subscribe(new MapFromLongSubscriber<>(actual, mapper));
+	}
+
+	@Override
+	@Nullable
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.PREFETCH) return Integer.MAX_VALUE;
+		if (key == Attr.PARENT) return source;
+		if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+		return null;
+	}
+
+	static final class MapFromLongSubscriber<R> implements InnerOperator<Long, R>, LongSubscriber {
+
+		final CoreSubscriber<? super R> actual;
+		final LongFunction<? extends R> mapper;
+
+		boolean done;
+
+		Subscription s;
+
+		MapFromLongSubscriber(CoreSubscriber<? super R> actual, LongFunction<? extends R> mapper) {
+			this.actual = actual;
+			this.mapper = mapper;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			if (Operators.validate(this.s, s)) {
+				this.s = s;
+				actual.onSubscribe(this);
+			}
+		}
+
+		@Override
+		public void onNext(long t) {
+			if (done) {
+				Operators.onNextDropped(t, actual.currentContext());
+				return;
+			}
+
+			R v;
+
+			try {
+				v = Objects.requireNonNull(mapper.apply(t),
+						"The mapper returned a null value.");
+			}
+			catch (Throwable e) {
+				Throwable e_ = Operators.onNextError(t, e, actual.currentContext(), s);
+				if (e_ != null) {
+					onError(e_);
+				}
+				else {
+					s.request(1);
+				}
+				return;
+			}
+
+			actual.onNext(v);
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			if (done) {
+				Operators.onErrorDropped(t, actual.currentContext());
+				return;
+			}
+
+			done = true;
+
+			actual.onError(t);
+		}
+
+		@Override
+		public void onComplete() {
+			if (done) {
+				return;
+			}
+			done = true;
+
+			actual.onComplete();
+		}
+
+		@Override
+		@Nullable
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.PARENT) return s;
+			if (key == Attr.TERMINATED) return done;
+			if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+
+			return InnerOperator.super.scanUnsafe(key);
+		}
+
+		@Override
+		public CoreSubscriber<? super R> actual() {
+			return actual;
+		}
+
+		@Override
+		public void request(long n) {
+			s.request(n);
+		}
+
+		@Override
+		public void cancel() {
+			s.cancel();
+		}
+	}
+}
@@ -71,17 +71,26 @@ final class FluxMapFuseable<T, R> extends InternalFluxOperator<T, R> implements
 
 	static final class MapFuseableSubscriber<T, R>
 			implements InnerOperator<T, R>,
-			           QueueSubscription<R> {
+			           QueueSubscription<R>,
+			           BatchSubscriber<T> {
 
 		final CoreSubscriber<? super R>        actual;
 		final Function<? super T, ? extends R> mapper;
 
 		boolean done;
 
+		volatile boolean cancelled;
+
 		QueueSubscription<T> s;
 
 		int sourceMode;
 
+		/**
+		 * The reusable buffer of mapped values for batched delivery.
+		 */
+		@Nullable
+		Object[] buffer;
+
 		MapFuseableSubscriber(CoreSubscriber<? super R> actual,
 				Function<? super T, ? extends R> mapper) {
 			this.actual = actual;
@@ -130,6 +139,92 @@ final class FluxMapFuseable<T, R> extends InternalFluxOperator<T, R> implements
 			}
 		}
 
+		@Override
+		@SuppressWarnings("unchecked")
+		public int onNextBatch(Object[] values, int offset, int length) {
+			final int end = offset + length;
+			if (done) {
+				Operators.onNextDroppedMultiple(values, offset, end, actual.currentContext());
+				return length;
+			}
+			if (actual instanceof BatchSubscriber) {
+				return mapBatch((BatchSubscriber<? super R>) actual, values, offset, end);
+			}
+
+			int consumed = 0;
+			for (int i = offset; i != end; i++) {
+				if (cancelled || done) {
+					Operators.onDiscardMultiple(values, i, end, actual.currentContext());
+					break;
+				}
+				T t = (T) values[i];
+				R v;
+
+				try {
+					v = mapper.apply(t);
+					if (v == null) {
+						throw new NullPointerException("The mapper [" + mapper.getClass().getName() + "] returned a null value.");
+					}
+				}
+				catch (Throwable e) {
+					Throwable e_ = Operators.onNextError(t, e, actual.currentContext(), s);
+					if (e_ != null) {
+						onError(e_);
+					}
+					continue;
+				}
+
+				actual.onNext(v);
+				consumed++;
+			}
+			return consumed;
+		}
+
+		@SuppressWarnings("unchecked")
+		int mapBatch(BatchSubscriber<? super R> a, Object[] values, int offset, int end) {
+			Object[] b = buffer;
+			if (b == null) {
+				b = new Object[Operators.BATCH_SIZE];
+				buffer = b;
+			}
+
+			int consumed = 0;
+			int n = 0;
+			for (int i = offset; i != end; i++) {
+				T t = (T) values[i];
+				R v;
+
+				try {
+					v = mapper.apply(t);
+					if (v == null) {
+						throw new NullPointerException("The mapper [" + mapper.getClass().getName() + "] returned a null value.");
+					}
+				}
+				catch (Throwable e) {
+					Throwable e_ = Operators.onNextError(t, e, actual.currentContext(), s);
+					if (e_ != null) {
+						consumed += Operators.onNextBatch(a, b, n);
+						onError(e_);
+						Operators.onDiscardMultiple(values, i + 1, end, actual.currentContext());
+						return consumed;
+					}
+					continue;
+				}
+
+				b[n++] = v;
+
+				if (n == b.length) {
+					consumed += Operators.onNextBatch(a, b, n);
+					n = 0;
+					if (cancelled) {
+						Operators.onDiscardMultiple(values, i + 1, end, actual.currentContext());
+						return consumed;
+					}
+				}
+			}
+			return consumed + Operators.onNextBatch(a, b, n);
+		}
+
 		@Override
 		public void onError(Throwable t) {
 			if (done) {
@@ -173,6 +268,7 @@ final class FluxMapFuseable<T, R> extends InternalFluxOperator<T, R> implements
 
 		@Override
 		public void cancel() {
+			cancelled = true;
 			s.cancel();
 		}
 
@@ -230,17 +326,25 @@ final class FluxMapFuseable<T, R> extends InternalFluxOperator<T, R> implements
 
 	static final class MapFuseableConditionalSubscriber<T, R>
 			implements ConditionalSubscriber<T>, InnerOperator<T, R>,
-			           QueueSubscription<R> {
+			           QueueSubscription<R>, BatchSubscriber<T> {
 
 		final ConditionalSubscriber<? super R> actual;
 		final Function<? super T, ? extends R> mapper;
 
 		boolean done;
 
+		volatile boolean cancelled;
+
 		QueueSubscription<T> s;
 
 		int sourceMode;
 
+		/**
+		 * The reusable buffer of mapped values for batched delivery.
+		 */
+		@Nullable
+		Object[] buffer;
+
 		MapFuseableConditionalSubscriber(ConditionalSubscriber<? super R> actual,
 				Function<? super T, ? extends R> mapper) {
 			this.actual = actual;
@@ -328,6 +432,76 @@ final class FluxMapFuseable<T, R> extends InternalFluxOperator<T, R> implements
 			}
 		}
 
+		@Override
+		@SuppressWarnings("unchecked")
+		public int onNextBatch(Object[] values, int offset, int length) {
+			final int end = offset + length;
+			if (done) {
+				Operators.onNextDroppedMultiple(values, offset, end, actual.currentContext());
+				return length;
+			}
+			if (actual instanceof BatchSubscriber) {
+				return mapBatch((BatchSubscriber<? super R>) actual, values, offset, end);
+			}
+
+			int consumed = 0;
+			for (int i = offset; i != end; i++) {
+				if (cancelled || done) {
+					Operators.onDiscardMultiple(values, i, end, actual.currentContext());
+					break;
+				}
+				if (tryOnNext((T) values[i])) {
+					consumed++;
+				}
+			}
+			return consumed;
+		}
+
+		@SuppressWarnings("unchecked")
+		int mapBatch(BatchSubscriber<? super R> a, Object[] values, int offset, int end) {
+			Object[] b = buffer;
+			if (b == null) {
+				b = new Object[Operators.BATCH_SIZE];
+				buffer = b;
+			}
+
+			int consumed = 0;
+			int n = 0;
+			for (int i = offset; i != end; i++) {
+				T t = (T) values[i];
+				R v;
+
+				try {
+					v = mapper.apply(t);
+					if (v == null) {
+						throw new NullPointerException("The mapper [" + mapper.getClass().getName() + "] returned a null value.");
+					}
+				}
+				catch (Throwable e) {
+					Throwable e_ = Operators.onNextError(t, e, actual.currentContext(), s);
+					if (e_ != null) {
+						consumed += Operators.onNextBatch(a, b, n);
+						onError(e_);
+						Operators.onDiscardMultiple(values, i + 1, end, actual.currentContext());
+						return consumed;
+					}
+					continue;
+				}
+
+				b[n++] = v;
+
+				if (n == b.length) {
+					consumed += Operators.onNextBatch(a, b, n);
+					n = 0;
+					if (cancelled) {
+						Operators.onDiscardMultiple(values, i + 1, end, actual.currentContext());
+						return consumed;
+					}
+				}
+			}
+			return consumed + Operators.onNextBatch(a, b, n);
+		}
+
 		@Override
 		public void onError(Throwable t) {
 			if (done) {
@@ -362,6 +536,7 @@ final class FluxMapFuseable<T, R> extends InternalFluxOperator<T, R> implements
 
 		@Override
 		public void cancel() {
+			cancelled = true;
 			s.cancel();
 		}
 
@@ -16,7 +16,6 @@
 
 package reactor.core.publisher;
 
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.Queue;
@@ -126,17 +125,23 @@ final class FluxMergeComparing<T> extends Flux<T> implements SourceProducer<T> {
 
 	static final class MergeOrderedMainProducer<T> implements InnerProducer<T> {
 
-		static final Object DONE = new Object();
-
 		final CoreSubscriber<? super T> actual;
 		final MergeOrderedInnerSubscriber<T>[] subscribers;
 		final Comparator<? super T> comparator;
-		final Object[] values;
+		final TournamentTree<T> values;
+		/**
+		 * Indexes of the sources without head value that are not done yet, only the
+		 * first {@link #missingCount} ones being valid.
+		 */
+		final int[] missing;
 		final boolean delayError;
 		final boolean waitForAllSources;
 
 		boolean done;
 
+		int missingCount;
+		int innerDoneCount;
+
 		volatile Throwable error;
 		static final AtomicReferenceFieldUpdater<MergeOrderedMainProducer, Throwable> ERROR =
 				AtomicReferenceFieldUpdater.newUpdater(MergeOrderedMainProducer.class, Throwable.class, "error");
@@ -173,7 +178,12 @@ final class FluxMergeComparing<T> extends Flux<T> implements SourceProducer<T> {
 			for (int i = 0; i < n; i++) {
 				this.subscribers[i] = new MergeOrderedInnerSubscriber<>(this, prefetch);
 			}
-			this.values = new Object[n];
+			this.values = new TournamentTree<>(n, comparator);
+			this.missing = new int[n];
+			for (int i = 0; i < n; i++) {
+				this.missing[i] = i;
+			}
+			this.missingCount = n;
 		}
 
 		void subscribe(Publisher<? extends T>[] sources) {
@@ -243,7 +253,8 @@ final class FluxMergeComparing<T> extends Flux<T> implements SourceProducer<T> {
 			MergeOrderedInnerSubscriber<T>[] subscribers = this.subscribers;
 			int n = subscribers.length;
 
-			Object[] values = this.values;
+			TournamentTree<T> values = this.values;
+			int[] missing = this.missing;
 
 			long e = emitted;
 
@@ -253,7 +264,7 @@ final class FluxMergeComparing<T> extends Flux<T> implements SourceProducer<T> {
 				for (;;) {
 					boolean d = this.done;
 					if (cancelled != 0) {
-						Arrays.fill(values, null);
+						values.clear();
 
 						for (MergeOrderedInnerSubscriber<T> inner : subscribers) {
 							inner.queue.clear();
@@ -261,74 +272,62 @@ final class FluxMergeComparing<T> extends Flux<T> implements SourceProducer<T> {
 						return;
 					}
 
-					int innerDoneCount = 0;
-					int nonEmpty = 0;
-					for (int i = 0; i < n; i++) {
-						Object o = values[i];
-						if (o == DONE) {
-							innerDoneCount++;
-							nonEmpty++;
-						}
-						else if (o == null) {
-							boolean innerDone = subscribers[i].done;
-							o = subscribers[i].queue.poll();
-							if (o != null) {
-								values[i] = o;
-								nonEmpty++;
-							}
-							else if (innerDone) {
-								values[i] = DONE;
-								innerDoneCount++;
-								nonEmpty++;
+					// only the sources without head value need to be polled
+					int m = missingCount;
+					int stillMissing = 0;
+					for (int j = 0; j < m; j++) {
+						int i = missing[j];
+						MergeOrderedInnerSubscriber<T> inner = subscribers[i];
+						boolean innerDone = inner.done;
+						T o = inner.queue.poll();
+						if (o != null) {
+							if (!replay(values, i, o)) {
+								return;
 							}
 						}
+						else if (innerDone) {
+							innerDoneCount++;
+						}
 						else {
-							nonEmpty++;
+							missing[stillMissing++] = i;
 						}
 					}
+					missingCount = stillMissing;
 
 					if (checkTerminated(d || innerDoneCount == n, actual)) {
 						return;
 					}
 
-					if ((waitForAllSources && nonEmpty != n) || (!waitForAllSources && (nonEmpty == 0 || nonEmpty == innerDoneCount)) || e >= r) {
+					if ((waitForAllSources && stillMissing != 0) || e >= r) {
 						break;
 					}
 
-					T min = null;
-					int minIndex = -1;
-
-					int i = 0;
-					for (Object o : values) {
-						if (o != DONE && o != null) {
-							boolean smaller;
-							try {
-								@SuppressWarnings("unchecked")
-								T t = (T) o;
-								smaller = min == null || comparator.compare(min, t) > 0;
-							} catch (Throwable ex) {
-								Exceptions.addThrowable(ERROR, this, ex);
-								cancel();
-								actual.onError(Exceptions.terminate(ERROR, this));
-								return;
-							}
-							if (smaller) {
-								@SuppressWarnings("unchecked")
-								T t = (T) o;
-								min = t;
-								minIndex = i;
-							}
-						}
-						i++;
+					int minIndex = values.winner();
+					if (minIndex < 0) {
+						break;
 					}
 
-					if (minIndex >= 0) {
-						values[minIndex] = null;
+					T min = values.head(minIndex);
+					MergeOrderedInnerSubscriber<T> inner = subscribers[minIndex];
+
+					actual.onNext(min);
 
-						actual.onNext(min);
+					e++;
+					inner.request(1);
 
-						e++;
-						subscribers[minIndex].request(1);
+					// replace the emitted head right away to replay its path only once
+					boolean innerDone = inner.done;
+					T next = inner.queue.poll();
+					if (next == null) {
+						if (innerDone) {
+							innerDoneCount++;
+						}
+						else {
+							missing[missingCount++] = minIndex;
+						}
+					}
+					if (!replay(values, minIndex, next)) {
+						return;
 					}
 				}
 
@@ -340,6 +339,19 @@ final class FluxMergeComparing<T> extends Flux<T> implements SourceProducer<T> {
 			}
 		}
 
+		boolean replay(TournamentTree<T> values, int index, @Nullable T value) {
+			try {
+				values.set(index, value);
+				return true;
+			}
+			catch (Throwable ex) {
+				Exceptions.addThrowable(ERROR, this, ex);
+				cancel();
+				actual.onError(Exceptions.terminate(ERROR, this));
+				return false;
+			}
+		}
+
 		boolean checkTerminated(boolean d, Subscriber<?> a) {
 			if (cancelled != 0) {
 				discardData();
@@ -377,12 +389,11 @@ final class FluxMergeComparing<T> extends Flux<T> implements SourceProducer<T> {
 
 		private void discardData() {
 			Context ctx = actual().currentContext();
-			for (Object v : values) {
-				if (v != DONE) {
-					Operators.onDiscard(v, ctx);
-				}
+			TournamentTree<T> values = this.values;
+			for (int i = 0; i < values.size(); i++) {
+				Operators.onDiscard(values.head(i), ctx);
 			}
-			Arrays.fill(values, null);
+			values.clear();
 			for (MergeOrderedInnerSubscriber<T> subscriber : subscribers) {
 				Operators.onDiscardQueueWithClear(subscriber.queue, ctx, null);
 			}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import org.reactivestreams.Subscription;
+
+import reactor.core.CoreSubscriber;
+import reactor.util.annotation.Nullable;
+import reactor.util.context.Context;
+
+/**
+ * Merges the sorted runs of the {@link SortedRuns} emitted by the rails of a
+ * {@link ParallelFlux}, into a single sorted sequence once the source completes. The
+ * next element is selected with a {@link TournamentTree} and the spilled runs are read
+ * back as the downstream requests elements.
+ *
+ * @param <T> the type of the sorted elements
+ */
+final class FluxMergeSortedRuns<T> extends InternalFluxOperator<SortedRuns<T>, T> {
+
+	final Comparator<? super T> comparator;
+
+	FluxMergeSortedRuns(Flux<? extends SortedRuns<T>> source, Comparator<? super T> comparator) {
+		super(source);
+		this.comparator = comparator;
+	}
+
+	@Override
+	public CoreSubscriber<? super SortedRuns<T>> subscribeOrReturn(CoreSubscriber<? super T> actual) {
+		return new MergeSortedRunsSubscriber<>(actual, comparator);
+	}
+
+	@Override
+	public int getPrefetch() {
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+		return super.scanUnsafe(key);
+	}
+
+	static final class MergeSortedRunsSubscriber<T> extends AbstractMergeSortedRunsSubscriber<SortedRuns<T>, T> {
+
+		MergeSortedRunsSubscriber(CoreSubscriber<? super T> actual, Comparator<? super T> comparator) {
+			super(actual, comparator);
+		}
+
+		@Override
+		public void onNext(SortedRuns<T> sortedRuns) {
+			if (done) {
+				sortedRuns.discard(actual.currentContext());
+				return;
+			}
+			runs.addAll(sortedRuns.runs);
+			if (cancelled) {
+				discardRuns();
+			}
+		}
+
+		@Override
+		public void onComplete() {
+			if (done) {
+				return;
+			}
+			mergeRuns();
+		}
+	}
+
+	/**
+	 * Collects sorted runs from the source, then merges them once it completes. The
+	 * runs are only accessed by the source until then, and by the drain loop afterwards.
+	 *
+	 * @param <I> the type of the source values
+	 * @param <T> the type of the sorted elements
+	 */
+	abstract static class AbstractMergeSortedRunsSubscriber<I, T> implements InnerOperator<I, T> {
+
+		final CoreSubscriber<? super T> actual;
+		final Comparator<? super T>     comparator;
+		final List<Queue<T>>            runs;
+
+		Subscription s;
+
+		/**
+		 * Built once the source completed, then only accessed by the drain loop.
+		 */
+		@Nullable
+		TournamentTree<T> heads;
+
+		long emitted;
+
+		volatile boolean done;
+		volatile boolean cancelled;
+
+		volatile long requested;
+		@SuppressWarnings("rawtypes")
+		static final AtomicLongFieldUpdater<AbstractMergeSortedRunsSubscriber> REQUESTED =
+				AtomicLongFieldUpdater.newUpdater(AbstractMergeSortedRunsSubscriber.class, "requested");
+
+		volatile int wip;
+		@SuppressWarnings("rawtypes")
+		static final AtomicIntegerFieldUpdater<AbstractMergeSortedRunsSubscriber> WIP =
+				AtomicIntegerFieldUpdater.newUpdater(AbstractMergeSortedRunsSubscriber.class, "wip");
+
+		AbstractMergeSortedRunsSubscriber(CoreSubscriber<? super T> actual, Comparator<? super T> comparator) {
+			this.actual = actual;
+			this.comparator = comparator;
+			this.runs = new ArrayList<>();
+		}
+
+		@Override
+		public CoreSubscriber<? super T> actual() {
+			return actual;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			if (Operators.validate(this.s, s)) {
+				this.s = s;
+				actual.onSubscribe(this);
+				s.request(Long.MAX_VALUE);
+			}
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			if (done) {
+				Operators.onErrorDropped(t, actual.currentContext());
+				return;
+			}
+			done = true;
+			discardRuns();
+			actual.onError(t);
+		}
+
+		/**
+		 * Start merging the collected runs, once the source completed.
+		 */
+		void mergeRuns() {
+			List<Queue<T>> runs = this.runs;
+			TournamentTree<T> heads = new TournamentTree<>(runs.size(), comparator);
+			try {
+				for (int i = 0; i < runs.size(); i++) {
+					heads.load(i, runs.get(i).poll());
+				}
+				heads.build();
+			}
+			catch (Throwable e) {
+				done = true;
+				discardHeads(heads);
+				actual.onError(Operators.onOperatorError(e, actual.currentContext()));
+				return;
+			}
+			this.heads = heads;
+			done = true;
+			drain();
+		}
+
+		@Override
+		public void request(long n) {
+			if (Operators.validate(n)) {
+				Operators.addCap(REQUESTED, this, n);
+				drain();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			if (!cancelled) {
+				cancelled = true;
+				s.cancel();
+				onCancel();
+				drain();
+			}
+		}
+
+		/**
+		 * Discard what the source accumulated outside of {@link #runs}, if anything.
+		 */
+		void onCancel() {
+		}
+
+		void drain() {
+			if (WIP.getAndIncrement(this) != 0) {
+				return;
+			}
+			int missed = 1;
+			for (;;) {
+				TournamentTree<T> heads = this.heads;
+				if (heads != null && done) {
+					if (cancelled) {
+						discardHeads(heads);
+					}
+					else if (!emit(heads)) {
+						return;
+					}
+				}
+				missed = WIP.addAndGet(this, -missed);
+				if (missed == 0) {
+					break;
+				}
+			}
+		}
+
+		/**
+		 * @return false if the sequence has been terminated
+		 */
+		boolean emit(TournamentTree<T> heads) {
+			List<Queue<T>> runs = this.runs;
+			long r = requested;
+			long e = emitted;
+			while (e != r) {
+				if (cancelled) {
+					discardHeads(heads);
+					return true;
+				}
+				int index = heads.winner();
+				if (index < 0) {
+					break;
+				}
+				T t = heads.head(index);
+				try {
+					heads.set(index, runs.get(index).poll());
+				}
+				catch (Throwable ex) {
+					Context ctx = actual.currentContext();
+					Operators.onDiscard(t, ctx);
+					discardHeads(heads);
+					actual.onError(Operators.onOperatorError(ex, ctx));
+					return false;
+				}
+				actual.onNext(t);
+				e++;
+			}
+			emitted = e;
+			if (!cancelled && heads.winner() < 0) {
+				this.heads = null;
+				runs.clear();
+				actual.onComplete();
+				return false;
+			}
+			return true;
+		}
+
+		void discardHeads(TournamentTree<T> heads) {
+			Context ctx = actual.currentContext();
+			for (int i = 0; i < heads.size(); i++) {
+				Operators.onDiscard(heads.head(i), ctx);
+			}
+			heads.clear();
+			this.heads = null;
+			discardRuns();
+		}
+
+		void discardRuns() {
+			Context ctx = actual.currentContext();
+			for (Queue<T> run : runs) {
+				Operators.onDiscardQueueWithClear(run, ctx, null);
+			}
+			runs.clear();
+		}
+
+		@Override
+		@Nullable
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.PARENT) return s;
+			if (key == Attr.CANCELLED) return cancelled;
+			if (key == Attr.TERMINATED) return done && heads == null;
+			if (key == Attr.REQUESTED_FROM_DOWNSTREAM) return requested;
+			if (key == Attr.PREFETCH) return Integer.MAX_VALUE;
+			if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+
+			return InnerOperator.super.scanUnsafe(key);
+		}
+	}
+}
@@ -377,10 +377,45 @@ final class FluxOnAssembly<T> extends InternalFluxOperator<T, T> implements Fuse
 			}
 		}
 
+		/**
+		 * Add the publishers tagged with a call site id between the given one and the
+		 * closest assembly operator upstream of it, starting from the furthest one.
+		 */
+		void addCallSites(Publisher<?> parent) {
+			if (CallSiteTable.callSites.length == 0) {
+				return;
+			}
+			List<Publisher<?>> tagged = null;
+			Scannable s = Scannable.from(parent);
+			while (s != null && s.isScanAvailable() && !(s instanceof AssemblyOp)) {
+				if (CallSiteTable.callSiteId(s) != 0) {
+					if (tagged == null) {
+						tagged = new ArrayList<>();
+					}
+					tagged.add((Publisher<?>) s);
+				}
+				s = s.scan(Attr.PARENT);
+			}
+			if (tagged == null) {
+				return;
+			}
+			for (int i = tagged.size() - 1; i >= 0; i--) {
+				Publisher<?> publisher = tagged.get(i);
+				String callSite = CallSiteTable.resolve(CallSiteTable.callSiteId(publisher));
+				if (callSite == null) {
+					continue;
+				}
+				String[] parts = Traces.extractOperatorAssemblyInformationParts(callSite);
+				if (parts.length > 0) {
+					add(publisher, publisher, parts.length > 1 ? parts[0] : "", parts[parts.length - 1]);
+				}
+			}
+		}
+
 		private void add(Publisher<?> operator, Publisher<?> currentAssembly, String prefix, String line) {
 			Scannable parentAssembly = Scannable.from(currentAssembly)
 				.parents()
-				.filter(s -> s instanceof AssemblyOp)
+				.filter(s -> s instanceof AssemblyOp || CallSiteTable.callSiteId(s) != 0)
 				.findFirst()
 				.orElse(null);
 
@@ -609,6 +644,7 @@ final class FluxOnAssembly<T> extends InternalFluxOperator<T, T> implements Fuse
 				}
 			}
 
+			onAssemblyException.addCallSites(parent);
 			onAssemblyException.add(parent, current, snapshotStack);
 
 			return t;
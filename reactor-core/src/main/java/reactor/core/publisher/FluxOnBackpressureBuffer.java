@@ -16,6 +16,7 @@
 
 package reactor.core.publisher;
 
+import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
@@ -39,6 +40,8 @@ final class FluxOnBackpressureBuffer<O> extends InternalFluxOperator<O, O> imple
 	final Consumer<? super O> onOverflow;
 	final int                 bufferSize;
 	final boolean             unbounded;
+	@Nullable
+	final SpillSpec<O>        spillSpec;
 
 	FluxOnBackpressureBuffer(Flux<? extends O> source,
 			int bufferSize,
@@ -51,10 +54,22 @@ final class FluxOnBackpressureBuffer<O> extends InternalFluxOperator<O, O> imple
 		this.bufferSize = bufferSize;
 		this.unbounded = unbounded;
 		this.onOverflow = onOverflow;
+		this.spillSpec = null;
+	}
+
+	FluxOnBackpressureBuffer(Flux<? extends O> source, SpillSpec<O> spillSpec) {
+		super(source);
+		this.spillSpec = Objects.requireNonNull(spillSpec, "spillSpec");
+		this.bufferSize = spillSpec.inMemoryCapacity;
+		this.unbounded = true;
+		this.onOverflow = null;
 	}
 
 	@Override
 	public CoreSubscriber<? super O> subscribeOrReturn(CoreSubscriber<? super O> actual) {
+		if (spillSpec != null) {
+			return new BackpressureBufferSubscriber<>(actual, new SpillingQueue<>(spillSpec));
+		}
 		return new BackpressureBufferSubscriber<>(actual,
 				bufferSize,
 				unbounded,
@@ -137,6 +152,14 @@ final class FluxOnBackpressureBuffer<O> extends InternalFluxOperator<O, O> imple
 			this.queue = q;
 		}
 
+		BackpressureBufferSubscriber(CoreSubscriber<? super T> actual, SpillingQueue<T> queue) {
+			this.actual = actual;
+			this.ctx = actual.currentContext();
+			this.onOverflow = null;
+			this.capacityOrSkip = Integer.MAX_VALUE;
+			this.queue = queue;
+		}
+
 		@Override
 		@Nullable
 		public Object scanUnsafe(Attr key) {
@@ -173,7 +196,18 @@ final class FluxOnBackpressureBuffer<O> extends InternalFluxOperator<O, O> imple
 				Operators.onDiscard(t, ctx);
 			}
 
-			if ((capacityOrSkip != Integer.MAX_VALUE && queue.size() >= capacityOrSkip) || !queue.offer(t)) {
+			boolean offered;
+			try {
+				offered = (capacityOrSkip == Integer.MAX_VALUE || queue.size() < capacityOrSkip) && queue.offer(t);
+			}
+			catch (Throwable e) {
+				// only a spilling queue can fail to encode or write an element
+				Throwable ex = Operators.onOperatorError(s, e, t, ctx);
+				Operators.onDiscard(t, ctx);
+				onError(ex);
+				return;
+			}
+			if (!offered) {
 				Throwable ex = Operators.onOperatorError(s, Exceptions.failWithOverflow(), t, ctx);
 				if (onOverflow != null) {
 					try {
@@ -254,7 +288,20 @@ final class FluxOnBackpressureBuffer<O> extends InternalFluxOperator<O, O> imple
 				while (r != e) {
 					boolean d = done;
 
-					T t = q.poll();
+					T t;
+					try {
+						t = q.poll();
+					}
+					catch (Throwable ex) {
+						// only a spilling queue can fail to read or decode an element
+						Exceptions.throwIfFatal(ex);
+						cancelled = true;
+						s.cancel();
+						Operators.onDiscardQueueWithClear(q, ctx, null);
+						q.clear();
+						a.onError(Operators.onOperatorError(ex, ctx));
+						return;
+					}
 					boolean empty = t == null;
 
 					if (checkTerminated(d, empty, a, t)) {
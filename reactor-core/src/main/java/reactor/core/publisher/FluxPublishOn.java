@@ -51,11 +51,33 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 
 	final int lowTide;
 
+	@Nullable
+	final PrefetchStrategy adaptivePrefetch;
+
+	FluxPublishOn(Flux<? extends T> source,
+			Scheduler scheduler,
+			boolean delayError,
+			int prefetch,
+			int lowTide,
+			Supplier<? extends Queue<T>> queueSupplier) {
+		this(source, scheduler, delayError, prefetch, lowTide, null, queueSupplier);
+	}
+
+	FluxPublishOn(Flux<? extends T> source,
+			Scheduler scheduler,
+			boolean delayError,
+			PrefetchStrategy prefetchStrategy,
+			Supplier<? extends Queue<T>> queueSupplier) {
+		this(source, scheduler, delayError, prefetchStrategy.maxPrefetch, prefetchStrategy.maxPrefetch,
+				prefetchStrategy.isAdaptive() ? prefetchStrategy : null, queueSupplier);
+	}
+
 	FluxPublishOn(Flux<? extends T> source,
 			Scheduler scheduler,
 			boolean delayError,
 			int prefetch,
 			int lowTide,
+			@Nullable PrefetchStrategy adaptivePrefetch,
 			Supplier<? extends Queue<T>> queueSupplier) {
 		super(source);
 		if (prefetch <= 0) {
@@ -65,6 +87,7 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 		this.delayError = delayError;
 		this.prefetch = prefetch;
 		this.lowTide = lowTide;
+		this.adaptivePrefetch = adaptivePrefetch;
 		this.queueSupplier = Objects.requireNonNull(queueSupplier, "queueSupplier");
 	}
 
@@ -87,6 +110,8 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 		Worker worker = Objects.requireNonNull(scheduler.createWorker(),
 				"The scheduler returned a null worker");
 
+		PrefetchStrategy.Window window = adaptivePrefetch == null ? null : adaptivePrefetch.newWindow();
+
 		if (actual instanceof ConditionalSubscriber) {
 			ConditionalSubscriber<? super T> cs = (ConditionalSubscriber<? super T>) actual;
 			source.subscribe(new PublishOnConditionalSubscriber<>(cs,
@@ -95,6 +120,7 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 					delayError,
 					prefetch,
 					lowTide,
+					window,
 					queueSupplier));
 			return null;
 		}
@@ -104,6 +130,7 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 				delayError,
 				prefetch,
 				lowTide,
+				window,
 				queueSupplier);
 	}
 
@@ -120,7 +147,10 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 
 		final int prefetch;
 
-		final int limit;
+		@Nullable
+		final PrefetchStrategy.Window window;
+
+		int limit;
 
 		final Supplier<? extends Queue<T>> queueSupplier;
 
@@ -162,13 +192,39 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 				int prefetch,
 				int lowTide,
 				Supplier<? extends Queue<T>> queueSupplier) {
+			this(actual, scheduler, worker, delayError, prefetch, lowTide, null, queueSupplier);
+		}
+
+		PublishOnSubscriber(CoreSubscriber<? super T> actual,
+				Scheduler scheduler,
+				Worker worker,
+				boolean delayError,
+				int prefetch,
+				int lowTide,
+				@Nullable PrefetchStrategy.Window window,
+				Supplier<? extends Queue<T>> queueSupplier) {
 			this.actual = actual;
 			this.worker = worker;
 			this.scheduler = scheduler;
 			this.delayError = delayError;
 			this.prefetch = prefetch;
 			this.queueSupplier = queueSupplier;
-			this.limit = Operators.unboundedOrLimit(prefetch, lowTide);
+			this.window = window;
+			this.limit = window == null ? Operators.unboundedOrLimit(prefetch, lowTide) : window.limit();
+		}
+
+		long initialRequest() {
+			return window == null ? Operators.unboundedOrPrefetch(prefetch) : window.size;
+		}
+
+		long replenish(long consumed) {
+			PrefetchStrategy.Window w = window;
+			if (w == null) {
+				return consumed;
+			}
+			long n = w.replenish(consumed, queue.size());
+			limit = w.limit();
+			return n;
 		}
 
 		@Override
@@ -196,7 +252,7 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 
 						actual.onSubscribe(this);
 
-						s.request(Operators.unboundedOrPrefetch(prefetch));
+						s.request(initialRequest());
 
 						return;
 					}
@@ -206,7 +262,7 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 
 				actual.onSubscribe(this);
 
-				s.request(Operators.unboundedOrPrefetch(prefetch));
+				s.request(initialRequest());
 			}
 		}
 
@@ -450,7 +506,7 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 						if (r != Long.MAX_VALUE) {
 							r = REQUESTED.addAndGet(this, -e);
 						}
-						s.request(e);
+						s.request(replenish(e));
 						e = 0L;
 					}
 				}
@@ -595,7 +651,7 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 			if (key == Attr.BUFFERED) return queue != null ? queue.size() : 0;
 			if (key == Attr.ERROR) return error;
 			if (key == Attr.DELAY_ERROR) return delayError;
-			if (key == Attr.PREFETCH) return prefetch;
+			if (key == Attr.PREFETCH) return window != null ? window.size : prefetch;
 			if (key == Attr.RUN_ON) return worker;
 			if (key == Attr.RUN_STYLE) return Attr.RunStyle.ASYNC;
 
@@ -647,7 +703,7 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 				long p = produced + 1;
 				if (p == limit) {
 					produced = 0;
-					s.request(p);
+					s.request(replenish(p));
 				}
 				else {
 					produced = p;
@@ -684,7 +740,10 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 
 		final int prefetch;
 
-		final int limit;
+		@Nullable
+		final PrefetchStrategy.Window window;
+
+		int limit;
 
 		final Supplier<? extends Queue<T>> queueSupplier;
 
@@ -731,13 +790,39 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 				int prefetch,
 				int lowTide,
 				Supplier<? extends Queue<T>> queueSupplier) {
+			this(actual, scheduler, worker, delayError, prefetch, lowTide, null, queueSupplier);
+		}
+
+		PublishOnConditionalSubscriber(ConditionalSubscriber<? super T> actual,
+				Scheduler scheduler,
+				Worker worker,
+				boolean delayError,
+				int prefetch,
+				int lowTide,
+				@Nullable PrefetchStrategy.Window window,
+				Supplier<? extends Queue<T>> queueSupplier) {
 			this.actual = actual;
 			this.worker = worker;
 			this.scheduler = scheduler;
 			this.delayError = delayError;
 			this.prefetch = prefetch;
 			this.queueSupplier = queueSupplier;
-			this.limit = Operators.unboundedOrLimit(prefetch, lowTide);
+			this.window = window;
+			this.limit = window == null ? Operators.unboundedOrLimit(prefetch, lowTide) : window.limit();
+		}
+
+		long initialRequest() {
+			return window == null ? Operators.unboundedOrPrefetch(prefetch) : window.size;
+		}
+
+		long replenish(long consumed) {
+			PrefetchStrategy.Window w = window;
+			if (w == null) {
+				return consumed;
+			}
+			long n = w.replenish(consumed, queue.size());
+			limit = w.limit();
+			return n;
 		}
 
 		@Override
@@ -765,7 +850,7 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 
 						actual.onSubscribe(this);
 
-						s.request(Operators.unboundedOrPrefetch(prefetch));
+						s.request(initialRequest());
 
 						return;
 					}
@@ -775,7 +860,7 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 
 				actual.onSubscribe(this);
 
-				s.request(Operators.unboundedOrPrefetch(prefetch));
+				s.request(initialRequest());
 			}
 		}
 
@@ -1008,7 +1093,7 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 					polled++;
 
 					if (polled == limit) {
-						s.request(polled);
+						s.request(replenish(polled));
 						polled = 0L;
 					}
 				}
@@ -1095,7 +1180,7 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 			if (key == Attr.BUFFERED) return queue != null ? queue.size() : 0;
 			if (key == Attr.ERROR) return error;
 			if (key == Attr.DELAY_ERROR) return delayError;
-			if (key == Attr.PREFETCH) return prefetch;
+			if (key == Attr.PREFETCH) return window != null ? window.size : prefetch;
 			if (key == Attr.RUN_ON) return worker;
 			if (key == Attr.RUN_STYLE) return Attr.RunStyle.ASYNC;
 
@@ -1207,7 +1292,7 @@ final class FluxPublishOn<T> extends InternalFluxOperator<T, T> implements Fusea
 				long p = consumed + 1;
 				if (p == limit) {
 					consumed = 0;
-					s.request(p);
+					s.request(replenish(p));
 				}
 				else {
 					consumed = p;
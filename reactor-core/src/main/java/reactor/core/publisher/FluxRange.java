@@ -62,7 +62,7 @@ final class FluxRange extends Flux<Integer>
 			return;
 		}
 		
-		if (actual instanceof ConditionalSubscriber) {
+		if (actual instanceof ConditionalSubscriber && !Operators.batchedDelivery(actual)) {
 			actual.onSubscribe(new RangeSubscriptionConditional((ConditionalSubscriber<? super Integer>) actual, st, en));
 			return;
 		}
@@ -82,10 +82,18 @@ final class FluxRange extends Flux<Integer>
 
 		final long end;
 
+		final boolean batched;
+
 		volatile boolean cancelled;
 
 		long index;
 
+		/**
+		 * The reusable buffer of boxed values for batched delivery.
+		 */
+		@Nullable
+		Object[] buffer;
+
 		volatile long requested;
 		static final AtomicLongFieldUpdater<RangeSubscription> REQUESTED =
 		  AtomicLongFieldUpdater.newUpdater(RangeSubscription.class, "requested");
@@ -94,6 +102,7 @@ final class FluxRange extends Flux<Integer>
 			this.actual = actual;
 			this.index = start;
 			this.end = end;
+			this.batched = Operators.batchedDelivery(actual);
 		}
 
 		@Override
@@ -105,7 +114,9 @@ final class FluxRange extends Flux<Integer>
 		public void request(long n) {
 			if (Operators.validate(n)) {
 				if (Operators.addCap(REQUESTED, this, n) == 0) {
-					if (n == Long.MAX_VALUE) {
+					if (batched) {
+						batchPath(n);
+					} else if (n == Long.MAX_VALUE) {
 						fastPath();
 					} else {
 						slowPath(n);
@@ -119,6 +130,57 @@ final class FluxRange extends Flux<Integer>
 			cancelled = true;
 		}
 
+		void batchPath(long n) {
+			final BatchSubscriber<? super Integer> a = (BatchSubscriber<? super Integer>) actual;
+
+			Object[] b = buffer;
+			if (b == null) {
+				b = new Object[(int) Math.min(end - index, Operators.BATCH_SIZE)];
+				buffer = b;
+			}
+
+			long f = end;
+			long e = 0;
+			long i = index;
+
+			for (; ; ) {
+
+				if (cancelled) {
+					return;
+				}
+
+				while (e != n && i != f) {
+					int count = (int) Math.min(Math.min(f - i, n - e), b.length);
+
+					for (int k = 0; k != count; k++) {
+						b[k] = (int) (i + k);
+					}
+
+					e += Operators.onNextBatch(a, b, count);
+					i += count;
+
+					if (cancelled) {
+						return;
+					}
+				}
+
+				if (i == f) {
+					a.onComplete();
+					return;
+				}
+
+				n = requested;
+				if (n == e) {
+					index = i;
+					n = REQUESTED.addAndGet(this, -e);
+					if (n == 0) {
+						return;
+					}
+					e = 0;
+				}
+			}
+		}
+
 		void fastPath() {
 			final long e = end;
 			final Subscriber<? super Integer> a = actual;
@@ -35,6 +35,8 @@ import reactor.core.Disposable;
 import reactor.core.Fuseable;
 import reactor.core.Scannable;
 import reactor.core.scheduler.Scheduler;
+import reactor.util.Logger;
+import reactor.util.Loggers;
 import reactor.util.annotation.Nullable;
 import reactor.util.concurrent.Queues;
 import reactor.util.context.Context;
@@ -46,6 +48,44 @@ import reactor.util.context.Context;
 final class FluxReplay<T> extends ConnectableFlux<T>
 		implements Scannable, Fuseable, OptimizableOperator<T, T> {
 
+	static final Logger LOGGER = Loggers.getLogger(FluxReplay.class);
+
+	static final int DEFAULT_SEGMENT_SIZE = 64;
+	static final int MAX_SEGMENT_SIZE     = 1 << 20;
+
+	/**
+	 * The number of values per segment of size-bound replay buffers with a large limit,
+	 * rounded up to a power of two. Defaults to 64 and can be set with the
+	 * {@code reactor.replay.segmentSize} system property.
+	 */
+	static final int SEGMENT_SIZE = segmentSize(System.getProperty("reactor.replay.segmentSize"));
+
+	/**
+	 * The limit from which size-bound replay buffers use array segments, chosen so that
+	 * the evicted values a head segment can retain stay small compared to the limit.
+	 */
+	static final int CHUNKED_LIMIT_THRESHOLD = SEGMENT_SIZE * 4;
+
+	/**
+	 * Parse the segment size, falling back to the default rather than failing the class
+	 * initialization if it isn't a number, and clamping it between 2 and
+	 * {@link #MAX_SEGMENT_SIZE} before rounding it up to a power of two.
+	 */
+	static int segmentSize(@Nullable String property) {
+		if (property == null) {
+			return DEFAULT_SEGMENT_SIZE;
+		}
+		int size;
+		try {
+			size = Integer.parseInt(property.trim());
+		}
+		catch (NumberFormatException e) {
+			LOGGER.warn("Invalid reactor.replay.segmentSize '" + property + "', using " + DEFAULT_SEGMENT_SIZE);
+			return DEFAULT_SEGMENT_SIZE;
+		}
+		return Queues.ceilingNextPowerOfTwo(Math.min(MAX_SEGMENT_SIZE, Math.max(2, size)));
+	}
+
 	final CorePublisher<T> source;
 	final int              history;
 	final long             ttl;
@@ -1068,6 +1108,342 @@ final class FluxReplay<T> extends ConnectableFlux<T>
 		}
 	}
 
+	/**
+	 * A size-bound {@link ReplayBuffer} that stores values in linked array segments
+	 * instead of one node per value. Evicting a value only moves the head index, and a
+	 * segment becomes unreachable from the buffer once all of its values are evicted, so
+	 * up to {@code segmentSize - 1} evicted values can remain referenced. The segment size
+	 * must be a power of two, so that the global {@code int} index can wrap around.
+	 */
+	static final class SizeBoundChunkedReplayBuffer<T> implements ReplayBuffer<T> {
+
+		final int limit;
+		final int segmentSize;
+		final int mask;
+		final int indexUpdateLimit;
+
+		volatile Segment head;
+		volatile int     headIndex;
+
+		Segment tail;
+
+		volatile int produced;
+
+		volatile boolean done;
+		Throwable error;
+
+		SizeBoundChunkedReplayBuffer(int limit, int segmentSize) {
+			if (limit < 0) {
+				throw new IllegalArgumentException("Limit cannot be negative");
+			}
+			if (Integer.bitCount(segmentSize) != 1) {
+				throw new IllegalArgumentException("Segment size must be a power of two: " + segmentSize);
+			}
+			this.limit = limit;
+			this.segmentSize = segmentSize;
+			this.mask = segmentSize - 1;
+			this.indexUpdateLimit = Operators.unboundedOrLimit(limit);
+
+			Segment s = new Segment(0, segmentSize);
+			this.tail = s;
+			this.head = s;
+		}
+
+		@Override
+		public boolean isExpired() {
+			return false;
+		}
+
+		@Override
+		public int capacity() {
+			return limit;
+		}
+
+		@Override
+		public void add(T value) {
+			final int i = produced;
+			Segment t = tail;
+			if ((i & mask) == 0 && i != t.base) {
+				Segment s = new Segment(i, segmentSize);
+				s.values[0] = value;
+				t.set(s);
+				tail = s;
+			}
+			else {
+				t.values[i & mask] = value;
+			}
+			produced = i + 1;
+
+			int h = headIndex;
+			if (i + 1 - h > limit) {
+				// publish the index first: readers load head then headIndex and walk
+				// forward if the index is already past their segment
+				headIndex = h + 1;
+				Segment hs = head;
+				if (h + 1 - hs.base == segmentSize) {
+					head = hs.get();
+				}
+			}
+		}
+
+		@Override
+		public void onError(Throwable ex) {
+			error = ex;
+			done = true;
+		}
+
+		@Override
+		public void onComplete() {
+			done = true;
+		}
+
+		/**
+		 * Return the current segment of the given subscription, starting it at the
+		 * oldest retained value if it has not consumed anything yet.
+		 */
+		Segment segment(ReplaySubscription<T> rs) {
+			Segment s = (Segment) rs.node();
+			if (s == null) {
+				s = head;
+				int index = headIndex;
+				while (index - s.base >= segmentSize) {
+					s = s.get();
+				}
+				rs.index(index);
+				rs.node(s);
+			}
+			return s;
+		}
+
+		void replayNormal(ReplaySubscription<T> rs) {
+			final Subscriber<? super T> a = rs.actual();
+			final int n = segmentSize;
+
+			int missed = 1;
+
+			for (; ; ) {
+
+				long r = rs.requested();
+				long e = 0L;
+
+				Segment node = segment(rs);
+				int index = rs.index();
+
+				while (e != r) {
+					if (rs.isCancelled()) {
+						rs.node(null);
+						return;
+					}
+
+					boolean d = done;
+					boolean empty = index == produced;
+
+					if (d && empty) {
+						rs.node(null);
+						Throwable ex = error;
+						if (ex != null) {
+							a.onError(ex);
+						}
+						else {
+							a.onComplete();
+						}
+						return;
+					}
+
+					if (empty) {
+						break;
+					}
+
+					if (index - node.base == n) {
+						node = node.get();
+					}
+
+					@SuppressWarnings("unchecked") T v = (T) node.values[index & mask];
+
+					a.onNext(v);
+
+					e++;
+					index++;
+
+					if (index % indexUpdateLimit == 0) {
+						rs.requestMore(index);
+					}
+				}
+
+				if (e == r) {
+					if (rs.isCancelled()) {
+						rs.node(null);
+						return;
+					}
+
+					boolean d = done;
+					boolean empty = index == produced;
+
+					if (d && empty) {
+						rs.node(null);
+						Throwable ex = error;
+						if (ex != null) {
+							a.onError(ex);
+						}
+						else {
+							a.onComplete();
+						}
+						return;
+					}
+				}
+
+				if (e != 0L) {
+					if (r != Long.MAX_VALUE) {
+						rs.produced(e);
+					}
+				}
+
+				rs.index(index);
+				rs.node(node);
+
+				missed = rs.leave(missed);
+				if (missed == 0) {
+					break;
+				}
+			}
+		}
+
+		void replayFused(ReplaySubscription<T> rs) {
+			int missed = 1;
+
+			final Subscriber<? super T> a = rs.actual();
+
+			for (; ; ) {
+
+				if (rs.isCancelled()) {
+					rs.node(null);
+					return;
+				}
+
+				boolean d = done;
+
+				a.onNext(null);
+
+				if (d) {
+					Throwable ex = error;
+					if (ex != null) {
+						a.onError(ex);
+					}
+					else {
+						a.onComplete();
+					}
+					return;
+				}
+
+				missed = rs.leave(missed);
+				if (missed == 0) {
+					break;
+				}
+			}
+		}
+
+		@Override
+		public void replay(ReplaySubscription<T> rs) {
+			if (!rs.enter()) {
+				return;
+			}
+
+			if (rs.fusionMode() == NONE) {
+				replayNormal(rs);
+			}
+			else {
+				replayFused(rs);
+			}
+		}
+
+		@Override
+		@Nullable
+		public Throwable getError() {
+			return error;
+		}
+
+		@Override
+		public boolean isDone() {
+			return done;
+		}
+
+		@Override
+		@Nullable
+		public T poll(ReplaySubscription<T> rs) {
+			Segment node = segment(rs);
+			int index = rs.index();
+			if (index == produced) {
+				return null;
+			}
+			if (index - node.base == segmentSize) {
+				node = node.get();
+				rs.node(node);
+			}
+			@SuppressWarnings("unchecked") T v = (T) node.values[index & mask];
+
+			if ((index + 1) % indexUpdateLimit == 0) {
+				rs.requestMore(index + 1);
+			}
+			else {
+				rs.index(index + 1);
+			}
+
+			return v;
+		}
+
+		@Override
+		public void clear(ReplaySubscription<T> rs) {
+			rs.node(null);
+		}
+
+		@Override
+		public boolean isEmpty(ReplaySubscription<T> rs) {
+			segment(rs);
+			return rs.index() == produced;
+		}
+
+		@Override
+		public int size(ReplaySubscription<T> rs) {
+			segment(rs);
+			return produced - rs.index();
+		}
+
+		@Override
+		public int size() {
+			return produced - headIndex;
+		}
+
+		static final class Segment extends AtomicReference<Segment> {
+
+			/** */
+			private static final long serialVersionUID = -2412393410371856542L;
+
+			final int      base;
+			final Object[] values;
+
+			Segment(int base, int segmentSize) {
+				this.base = base;
+				this.values = new Object[segmentSize];
+			}
+		}
+	}
+
+	/**
+	 * Create a size-bound {@link ReplayBuffer}, which stores values in array segments of
+	 * {@link #SEGMENT_SIZE} once the limit spans several segments, and in one node per
+	 * value otherwise.
+	 *
+	 * @param limit the maximum number of values to retain
+	 * @param <T> the type of the values
+	 * @return a new size-bound {@link ReplayBuffer}
+	 */
+	static <T> ReplayBuffer<T> sizeBoundReplayBuffer(int limit) {
+		if (limit >= CHUNKED_LIMIT_THRESHOLD) {
+			return new SizeBoundChunkedReplayBuffer<>(limit, SEGMENT_SIZE);
+		}
+		return new SizeBoundReplayBuffer<>(limit);
+	}
+
 	FluxReplay(CorePublisher<T> source,
 			int history,
 			long ttl,
@@ -1107,7 +1483,7 @@ final class FluxReplay<T> extends ConnectableFlux<T>
 					scheduler), this, history);
 		}
 		if (history != Integer.MAX_VALUE) {
-			return new ReplaySubscriber<>(new SizeBoundReplayBuffer<>(history),
+			return new ReplaySubscriber<>(sizeBoundReplayBuffer(history),
 					this,
 					history);
 		}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.Comparator;
+
+import reactor.core.CoreSubscriber;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Sorts the source values by accumulating them into {@link SortedRuns}, which spill the
+ * full runs to disk, then merges the runs once the source completes.
+ *
+ * @param <T> the type of the sorted elements
+ * @see FluxMergeSortedRuns
+ */
+final class FluxSortSpilling<T> extends InternalFluxOperator<T, T> {
+
+	final Comparator<? super T> comparator;
+	final SpillSpec<T>          spillSpec;
+
+	FluxSortSpilling(Flux<? extends T> source, Comparator<? super T> comparator, SpillSpec<T> spillSpec) {
+		super(source);
+		if (spillSpec.inMemoryCapacity < 1) {
+			throw new IllegalArgumentException("spillSpec.inMemoryCapacity must be strictly positive to sort runs");
+		}
+		this.comparator = comparator;
+		this.spillSpec = spillSpec;
+	}
+
+	@Override
+	public CoreSubscriber<? super T> subscribeOrReturn(CoreSubscriber<? super T> actual) {
+		return new SortSpillingSubscriber<>(actual, comparator, new SortedRuns<>(comparator, spillSpec));
+	}
+
+	@Override
+	public int getPrefetch() {
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+		return super.scanUnsafe(key);
+	}
+
+	static final class SortSpillingSubscriber<T>
+			extends FluxMergeSortedRuns.AbstractMergeSortedRunsSubscriber<T, T> {
+
+		/**
+		 * The runs being accumulated, guarded by this subscriber and set to null once
+		 * the source terminated or the subscriber got cancelled.
+		 */
+		@Nullable
+		SortedRuns<T> sortedRuns;
+
+		SortSpillingSubscriber(CoreSubscriber<? super T> actual,
+				Comparator<? super T> comparator,
+				SortedRuns<T> sortedRuns) {
+			super(actual, comparator);
+			this.sortedRuns = sortedRuns;
+		}
+
+		@Override
+		public void onNext(T t) {
+			if (done) {
+				Operators.onNextDropped(t, actual.currentContext());
+				return;
+			}
+			try {
+				synchronized (this) {
+					SortedRuns<T> r = sortedRuns;
+					if (r != null) {
+						r.add(t);
+						return;
+					}
+				}
+			}
+			catch (Throwable e) {
+				onError(Operators.onOperatorError(s, e, actual.currentContext()));
+				return;
+			}
+			Operators.onDiscard(t, actual.currentContext());
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			if (done) {
+				Operators.onErrorDropped(t, actual.currentContext());
+				return;
+			}
+			SortedRuns<T> r = takeSortedRuns();
+			if (r != null) {
+				r.discard(actual.currentContext());
+			}
+			super.onError(t);
+		}
+
+		@Override
+		public void onComplete() {
+			if (done) {
+				return;
+			}
+			SortedRuns<T> r = takeSortedRuns();
+			if (r == null) {
+				return;
+			}
+			try {
+				r.complete();
+			}
+			catch (Throwable e) {
+				r.discard(actual.currentContext());
+				super.onError(Operators.onOperatorError(e, actual.currentContext()));
+				return;
+			}
+			runs.addAll(r.runs);
+			mergeRuns();
+		}
+
+		@Override
+		void onCancel() {
+			SortedRuns<T> r = takeSortedRuns();
+			if (r != null) {
+				r.discard(actual.currentContext());
+			}
+		}
+
+		@Nullable
+		synchronized SortedRuns<T> takeSortedRuns() {
+			SortedRuns<T> r = sortedRuns;
+			sortedRuns = null;
+			return r;
+		}
+	}
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Signals a timeout (or switches to another sequence) in case no item arrives from the
+ * main source within a fixed {@link Duration} of the previous one (or of the
+ * subscription for the first item).
+ * <p>
+ * Unlike {@link FluxTimeout}, which subscribes to a new timeout {@link Publisher} for
+ * each item, this operator only records the time of the latest item and keeps a single
+ * timer per subscriber, which is re-armed for the remaining time when it fires too early.
+ * <p>
+ * Times are measured with {@link System#nanoTime()}, like the delays of the timer, unless
+ * the {@link Scheduler} defines its own notion of time by overriding
+ * {@link Scheduler#now(TimeUnit)}, as virtual time schedulers do.
+ *
+ * @param <T> the value type
+ */
+final class FluxTimeoutFixed<T> extends InternalFluxOperator<T, T> {
+
+	/**
+	 * Whether a {@link Scheduler} class overrides {@link Scheduler#now(TimeUnit)}.
+	 */
+	static final ClassValue<Boolean> OWN_CLOCK = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("now", TimeUnit.class).getDeclaringClass() != Scheduler.class;
+			}
+			catch (NoSuchMethodException e) {
+				return false;
+			}
+		}
+	};
+
+	/**
+	 * Whether the time of the given {@link Scheduler} must be used instead of
+	 * {@link System#nanoTime()}, looking through the cached shared schedulers.
+	 */
+	static boolean hasOwnClock(Scheduler timer) {
+		if (timer instanceof Supplier) {
+			Object cached = ((Supplier<?>) timer).get();
+			if (cached instanceof Scheduler) {
+				timer = (Scheduler) cached;
+			}
+		}
+		return OWN_CLOCK.get(timer.getClass());
+	}
+
+	final long timeoutNanos;
+
+	final Scheduler timer;
+
+	final boolean ownClock;
+
+	@Nullable
+	final Publisher<? extends T> other;
+
+	@Nullable
+	final String timeoutDescription; //only useful when no `other`
+
+	FluxTimeoutFixed(Flux<? extends T> source,
+			Duration timeout,
+			Scheduler timer,
+			@Nullable Publisher<? extends T> other) {
+		super(source);
+		this.timeoutNanos = timeout.toNanos();
+		this.timer = Objects.requireNonNull(timer, "timer");
+		this.ownClock = hasOwnClock(timer);
+		if (other == null) {
+			this.other = null;
+			this.timeoutDescription = FluxTimeout.addNameToTimeoutDescription(source,
+					timeout.toMillis() + "ms");
+		}
+		else {
+			this.other = Operators.toFluxOrMono(other);
+			this.timeoutDescription = null;
+		}
+	}
+
+	@Override
+	public CoreSubscriber<? super T> subscribeOrReturn(CoreSubscriber<? super T> actual) {
+		return new FixedTimeoutSubscriber<>(actual, timeoutNanos, timer, ownClock, other, timeoutDescription);
+	}
+
+	@Override
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.RUN_ON) return timer;
+		if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+		return super.scanUnsafe(key);
+	}
+
+	static final class FixedTimeoutSubscriber<T>
+			extends Operators.MultiSubscriptionSubscriber<T, T>
+			implements Runnable {
+
+		static final int ACTIVE     = 0;
+		static final int TIMING_OUT = 1;
+		static final int TERMINATED = 2;
+
+		final long      timeoutNanos;
+		final Scheduler timer;
+		final boolean   ownClock;
+
+		@Nullable
+		final Publisher<? extends T> other;
+		@Nullable
+		final String                 timeoutDescription; //only useful/non-null when no `other`
+
+		Subscription s;
+
+		/**
+		 * The time of the latest item (or of the subscription), as given by
+		 * {@link #now()}. onNext writes it then reads {@link #state}, and additionally
+		 * updates the produced count of the subscription arbiter when there is a fallback.
+		 */
+		volatile long lastActivity;
+
+		/**
+		 * The timer moves from ACTIVE to TIMING_OUT, checks that no item arrived in the
+		 * meantime, then either commits to TERMINATED or goes back to ACTIVE. onNext
+		 * writes {@link #lastActivity} before reading the state, so that either the
+		 * timer sees the new item or onNext sees the timeout.
+		 */
+		volatile int state;
+		@SuppressWarnings("rawtypes")
+		static final AtomicIntegerFieldUpdater<FixedTimeoutSubscriber> STATE =
+				AtomicIntegerFieldUpdater.newUpdater(FixedTimeoutSubscriber.class, "state");
+
+		volatile Disposable task;
+		@SuppressWarnings("rawtypes")
+		static final AtomicReferenceFieldUpdater<FixedTimeoutSubscriber, Disposable> TASK =
+				AtomicReferenceFieldUpdater.newUpdater(FixedTimeoutSubscriber.class,
+						Disposable.class,
+						"task");
+
+		FixedTimeoutSubscriber(CoreSubscriber<? super T> actual,
+				long timeoutNanos,
+				Scheduler timer,
+				boolean ownClock,
+				@Nullable Publisher<? extends T> other,
+				@Nullable String timeoutDescription) {
+			super(Operators.serialize(actual));
+			this.timeoutNanos = timeoutNanos;
+			this.timer = timer;
+			this.ownClock = ownClock;
+			this.other = other;
+			this.timeoutDescription = timeoutDescription;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			if (Operators.validate(this.s, s)) {
+				this.s = s;
+
+				set(s);
+
+				lastActivity = now();
+
+				actual.onSubscribe(this);
+				schedule(timeoutNanos);
+			}
+		}
+
+		@Override
+		protected boolean shouldCancelCurrent() {
+			return true;
+		}
+
+		@Override
+		public void onNext(T t) {
+			lastActivity = now();
+
+			if (!isActive()) {
+				s.cancel();
+				Operators.onNextDropped(t, actual.currentContext());
+				return;
+			}
+
+			actual.onNext(t);
+
+			if (other != null) {
+				producedOne();
+			}
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			if (!terminate()) {
+				Operators.onErrorDropped(t, actual.currentContext());
+				return;
+			}
+
+			OperatorDisposables.dispose(TASK, this);
+
+			actual.onError(t);
+		}
+
+		@Override
+		public void onComplete() {
+			if (!terminate()) {
+				return;
+			}
+
+			OperatorDisposables.dispose(TASK, this);
+
+			actual.onComplete();
+		}
+
+		@Override
+		public void cancel() {
+			STATE.set(this, TERMINATED);
+			OperatorDisposables.dispose(TASK, this);
+			super.cancel();
+		}
+
+		/**
+		 * Wait for a concurrent timer to decide whether it times out or not.
+		 *
+		 * @return true if the sequence hasn't been terminated
+		 */
+		boolean isActive() {
+			for (;;) {
+				int st = state;
+				if (st != TIMING_OUT) {
+					return st == ACTIVE;
+				}
+			}
+		}
+
+		boolean terminate() {
+			for (;;) {
+				if (!isActive()) {
+					return false;
+				}
+				if (STATE.compareAndSet(this, ACTIVE, TERMINATED)) {
+					return true;
+				}
+			}
+		}
+
+		long now() {
+			return ownClock ? timer.now(TimeUnit.NANOSECONDS) : System.nanoTime();
+		}
+
+		void schedule(long delayNanos) {
+			if (state != ACTIVE) {
+				return;
+			}
+			Disposable d;
+			try {
+				d = timer.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+			}
+			catch (RejectedExecutionException ree) {
+				//a timer that can't be scheduled is considered as elapsed, like in Flux#timeout(Publisher)
+				if (STATE.compareAndSet(this, ACTIVE, TERMINATED)) {
+					handleTimeout();
+				}
+				return;
+			}
+			OperatorDisposables.replace(TASK, this, d);
+		}
+
+		@Override
+		public void run() {
+			if (state != ACTIVE) {
+				return;
+			}
+			long last = lastActivity;
+			long elapsed = now() - last;
+			if (elapsed < timeoutNanos) {
+				schedule(timeoutNanos - elapsed);
+				return;
+			}
+			if (!STATE.compareAndSet(this, ACTIVE, TIMING_OUT)) {
+				return;
+			}
+			if (lastActivity != last) {
+				//an item arrived in between, the timer is re-armed from that item
+				if (STATE.compareAndSet(this, TIMING_OUT, ACTIVE)) {
+					schedule(timeoutNanos - (now() - lastActivity));
+				}
+				return;
+			}
+			if (STATE.compareAndSet(this, TIMING_OUT, TERMINATED)) {
+				handleTimeout();
+			}
+		}
+
+		void handleTimeout() {
+			if (other == null) {
+				super.cancel();
+				actual.onError(new TimeoutException("Did not observe any item or terminal signal within "
+						+ timeoutDescription + " (and no fallback has been configured)"));
+			}
+			else {
+				set(Operators.emptySubscription());
+
+				other.subscribe(new FluxTimeout.TimeoutOtherSubscriber<>(actual, this));
+			}
+		}
+
+		@Override
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.RUN_ON) return timer;
+			if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+			return super.scanUnsafe(key);
+		}
+	}
+}
@@ -345,6 +345,41 @@ public abstract class Hooks {
 		GLOBAL_TRACE = false;
 	}
 
+	/**
+	 * Globally enables the interning of the call sites captured by
+	 * {@link #onOperatorDebug()}, {@link Flux#checkpoint(String, boolean)} and the other
+	 * traceback-capturing checkpoints, which makes keeping the assembly information
+	 * enabled in production cheaper.
+	 * <p>
+	 * The stack is still walked at assembly time, but only up to the first user frame.
+	 * Instead of retaining the walked frames for each assembled operator, the operators
+	 * assembled from the same user frame share a single call site, kept in a global
+	 * table keyed by the user frame's class, method and bytecode index. The textual
+	 * representation of a call site is only built the first time an error is decorated
+	 * with it, and then reused. Note that the table retains the classes of the frames.
+	 * <p>
+	 * This can also be enabled by setting the {@code reactor.trace.internCallSites}
+	 * system property to {@code true}. Interning is only available on Java 9+, and has
+	 * no effect on Java 8.
+	 *
+	 * @see #disableCallSiteInterning()
+	 * @since 3.8.0
+	 */
+	public static void enableCallSiteInterning() {
+		INTERNED_CALL_SITES = true;
+	}
+
+	/**
+	 * Globally disables the interning of call sites that was previously enabled by
+	 * {@link #enableCallSiteInterning()}. Already interned call sites stay in use by the
+	 * operators that were assembled with them.
+	 *
+	 * @since 3.8.0
+	 */
+	public static void disableCallSiteInterning() {
+		INTERNED_CALL_SITES = false;
+	}
+
 	/**
 	 * Set the custom global error mode hook for operators that support resuming
 	 * during an error in their {@link org.reactivestreams.Subscriber#onNext(Object)}.
@@ -514,6 +549,89 @@ public abstract class Hooks {
 		DETECT_CONTEXT_LOSS = false;
 	}
 
+	/**
+	 * Globally enables the delivery of values in batches from in-memory sources
+	 * ({@link Flux#fromArray(Object[])}, {@link Flux#range(int, int)},
+	 * {@link Flux#fromIterable(Iterable)} and {@link Flux#fromStream(java.util.stream.Stream)}
+	 * of known size) to the operators that support it, like {@link Flux#map(Function)},
+	 * {@link Flux#filter(java.util.function.Predicate)} and
+	 * {@link Flux#handle(java.util.function.BiConsumer)}, which then process each batch
+	 * in a tight loop. Batches are unrolled into individual onNext signals at the first
+	 * operator or subscriber that doesn't support them.
+	 * <p>
+	 * Note that as a consequence, the functions of consecutive batch-aware operators
+	 * can be applied to up to one batch of values ahead of the downstream
+	 * {@link Subscriber}, including values that end up not being delivered because of a
+	 * cancellation. The values of a batch that aren't processed because of a cancellation
+	 * or an error are {@link Flux#doOnDiscard(Class, Consumer) discarded}.
+	 *
+	 * @see reactor.core.Fuseable.BatchSubscriber
+	 * @since 3.8.0
+	 */
+	public static void enableBatchedDelivery() {
+		BATCHED_DELIVERY = true;
+	}
+
+	/**
+	 * Globally disables the delivery of values in batches that was previously enabled
+	 * by {@link #enableBatchedDelivery()}.
+	 *
+	 * @since 3.8.0
+	 */
+	public static void disableBatchedDelivery() {
+		BATCHED_DELIVERY = false;
+	}
+
+	private static final String OPERATOR_PROFILING_KEY = "OPERATOR_PROFILING";
+
+	/**
+	 * Globally enables the profiling of the operators assembled from now on, sampling
+	 * the delivery time of one value out of 16. See {@link #enableOperatorProfiling(int)}.
+	 *
+	 * @see OperatorProfile
+	 * @since 3.8.0
+	 */
+	public static void enableOperatorProfiling() {
+		enableOperatorProfiling(OperatorProfiling.DEFAULT_SAMPLE_RATE);
+	}
+
+	/**
+	 * Globally enables the profiling of the operators assembled from now on. Each
+	 * operator is {@link #onEachOperator(String, Function) lifted} with a subscriber
+	 * that counts the values, requests and terminations it emits, and for one value out
+	 * of {@code sampleRate} measures the time its delivery took as well as the number of
+	 * values the operator {@link reactor.core.Scannable.Attr#BUFFERED buffers}. The
+	 * statistics are aggregated into {@link OperatorProfile}s which form a tree
+	 * following the {@link reactor.core.Scannable} topology of the pipelines, and which
+	 * can be read at any time starting from {@link OperatorProfile#roots()}.
+	 * <p>
+	 * Note that the profiled operators can't be {@link reactor.core.Fuseable fused}
+	 * with their downstream, and that delivery times only include the time spent
+	 * downstream up to the first asynchronous boundary. This is meant to find where the
+	 * time goes in a pipeline, not to be left enabled in production.
+	 *
+	 * @param sampleRate the number of values per timed value, 1 to time all of them
+	 * @see #disableOperatorProfiling()
+	 * @since 3.8.0
+	 */
+	public static void enableOperatorProfiling(int sampleRate) {
+		if (sampleRate < 1) {
+			throw new IllegalArgumentException("sampleRate must be strictly positive, was: " + sampleRate);
+		}
+		onEachOperator(OPERATOR_PROFILING_KEY, OperatorProfiling.hook(sampleRate));
+	}
+
+	/**
+	 * Globally disables the profiling of the operators assembled from now on. The
+	 * already assembled pipelines keep on updating their {@link OperatorProfile}s.
+	 *
+	 * @see #enableOperatorProfiling(int)
+	 * @since 3.8.0
+	 */
+	public static void disableOperatorProfiling() {
+		resetOnEachOperator(OPERATOR_PROFILING_KEY);
+	}
+
 	private static final String CONTEXT_IN_THREAD_LOCALS_KEY = "CONTEXT_IN_THREAD_LOCALS";
 
 	/**
@@ -561,6 +679,38 @@ public abstract class Hooks {
 		}
 	}
 
+	/**
+	 * Globally enables a cheaper way of restoring {@link ThreadLocal}s from the
+	 * {@link Context}, used by the operators of the
+	 * {@link #enableAutomaticContextPropagation() automatic context propagation}.
+	 * <p>
+	 * Instead of capturing the previous values in a new map for each signal, each thread
+	 * caches the values of the registered {@code ThreadLocalAccessor}s for the last
+	 * {@link Context} instance it has restored, leaves the {@link ThreadLocal}s which
+	 * already hold the right value untouched and restores the others from a reusable
+	 * stack, so that restoring doesn't allocate. The last restored {@link Context} is
+	 * retained by each thread until it restores another one.
+	 * <p>
+	 * It requires version 1.0.3 or higher of the
+	 * <a href="https://github.com/micrometer-metrics/context-propagation">context-propagation library</a>
+	 * to have an effect.
+	 *
+	 * @since 3.8.0
+	 */
+	public static void enableCachedThreadLocalRestoration() {
+		ContextPropagationSupport.cacheThreadLocalRestoration = true;
+	}
+
+	/**
+	 * Globally disables the cached restoration of {@link ThreadLocal}s that was
+	 * previously enabled by {@link #enableCachedThreadLocalRestoration()}.
+	 *
+	 * @since 3.8.0
+	 */
+	public static void disableCachedThreadLocalRestoration() {
+		ContextPropagationSupport.cacheThreadLocalRestoration = false;
+	}
+
 	@Nullable
 	@SuppressWarnings("unchecked")
 	static Function<Publisher, Publisher> createOrUpdateOpHook(Collection<Function<? super Publisher<Object>, ? extends Publisher<Object>>> hooks) {
@@ -659,9 +809,14 @@ public abstract class Hooks {
 
 	static boolean GLOBAL_TRACE = initStaticGlobalTrace();
 
+	static boolean INTERNED_CALL_SITES = Boolean.parseBoolean(System.getProperty(
+			"reactor.trace.internCallSites", "false"));
+
 
 	static boolean DETECT_CONTEXT_LOSS = false;
 
+	static boolean BATCHED_DELIVERY = false;
+
 	static {
 		onEachOperatorHooks = new LinkedHashMap<>(1);
 		onLastOperatorHooks = new LinkedHashMap<>(1);
@@ -703,6 +858,20 @@ public abstract class Hooks {
 		return addAssemblyInfo(publisher, new AssemblySnapshot(callSite));
 	}
 
+	/**
+	 *
+	 * @deprecated Should only be used by the instrumentation, DOES NOT guarantee any compatibility
+	 */
+	@Nullable
+	@Deprecated
+	public static <T, P extends Publisher<T>> Publisher<T> addCallSiteId(@Nullable P publisher, Class<?> owner, int index) {
+		if (publisher == null) {
+			return null;
+		}
+		CallSiteTable.tag(publisher, CallSiteTable.id(owner, index));
+		return publisher;
+	}
+
 	static <T, P extends Publisher<T>> Publisher<T> addAssemblyInfo(P publisher, AssemblySnapshot stacktrace) {
 		if (publisher instanceof Callable) {
 			if (publisher instanceof Mono) {
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.CorePublisher;
+import reactor.core.CoreSubscriber;
+import reactor.core.Disposable;
+import reactor.core.LongSubscriber;
+import reactor.util.annotation.Nullable;
+import reactor.util.context.Context;
+
+/**
+ * A Reactive Streams {@link Publisher} of primitive {@code long} values, which are passed
+ * between its sources and operators without boxing them into {@link Long} instances.
+ * <p>
+ * The values are only boxed when leaving the {@link LongFlux}: when subscribing with a
+ * plain {@link Subscriber}, when converting it to a {@link Flux} via {@link #boxed()}, or
+ * when mapping the values to objects via {@link #mapToObj(LongFunction)}. The aggregation
+ * operators like {@link #sum()} or {@link #reduce(long, LongBinaryOperator)} only box
+ * their single result. A {@link Flux} can be converted to a {@link LongFlux} via
+ * {@link Flux#mapToLong(java.util.function.ToLongFunction)}.
+ * <p>
+ * Values are exchanged through {@link LongSubscriber#onNext(long)}, and the usual
+ * Reactive Streams rules, including backpressure, apply.
+ *
+ * @since 3.8.0
+ */
+public abstract class LongFlux implements CorePublisher<Long> {
+
+	/**
+	 * Build a {@link LongFlux} that will only emit a sequence of {@code count} incrementing
+	 * values, starting from {@code start}. That is, emit values between {@code start}
+	 * (included) and {@code start + count} (excluded) then complete.
+	 *
+	 * @param start the first value to be emitted
+	 * @param count the total number of incrementing values to emit, including the first value
+	 * @return a ranged {@link LongFlux}
+	 */
+	public static LongFlux range(long start, long count) {
+		return onAssembly(new LongFluxRange(start, count));
+	}
+
+	/**
+	 * Create a {@link LongFlux} that emits the values contained in the provided array.
+	 *
+	 * @param values the array to read values from
+	 * @return a new {@link LongFlux}
+	 */
+	public static LongFlux fromArray(long... values) {
+		return onAssembly(new LongFluxArray(values));
+	}
+
+	/**
+	 * Decorate the specified {@link Publisher} of {@link Long} with the {@link LongFlux}
+	 * API, unboxing its values once.
+	 *
+	 * @param source the source to decorate
+	 * @return a new {@link LongFlux}
+	 */
+	public static LongFlux from(Publisher<Long> source) {
+		if (source instanceof LongFlux) {
+			return (LongFlux) source;
+		}
+		return Flux.from(source).mapToLong(Long::longValue);
+	}
+
+	/**
+	 * Transform the values emitted by this {@link LongFlux} by applying a synchronous
+	 * function to each of them.
+	 * <p><strong>Error Mode Support:</strong> This operator supports
+	 * {@link Flux#onErrorContinue(java.util.function.BiConsumer) resuming on errors}.
+	 * Exceptions thrown by the mapper then cause the source value to be dropped and a
+	 * new element ({@code request(1)}) being requested from upstream.
+	 *
+	 * @param mapper the synchronous transforming {@link LongUnaryOperator}
+	 * @return a transformed {@link LongFlux}
+	 */
+	public final LongFlux map(LongUnaryOperator mapper) {
+		return onAssembly(new LongFluxMap(this, mapper));
+	}
+
+	/**
+	 * Evaluate each value emitted by this {@link LongFlux} against the given
+	 * {@link LongPredicate}. If the predicate test succeeds, the value is emitted. If the
+	 * predicate test fails, the value is ignored and a request of 1 is made upstream.
+	 * <p><strong>Error Mode Support:</strong> This operator supports
+	 * {@link Flux#onErrorContinue(java.util.function.BiConsumer) resuming on errors}.
+	 * Exceptions thrown by the predicate then cause the source value to be dropped and a
+	 * new element ({@code request(1)}) being requested from upstream.
+	 *
+	 * @param predicate the {@link LongPredicate} to test values against
+	 * @return a new {@link LongFlux} containing only values that pass the predicate test
+	 */
+	public final LongFlux filter(LongPredicate predicate) {
+		return onAssembly(new LongFluxFilter(this, predicate));
+	}
+
+	/**
+	 * Transform the values emitted by this {@link LongFlux} into objects by applying a
+	 * synchronous function to each of them, resulting in a {@link Flux}.
+	 *
+	 * @param mapper the synchronous transforming {@link LongFunction}
+	 * @param <R> the transformed type
+	 * @return a transformed {@link Flux}
+	 */
+	public final <R> Flux<R> mapToObj(LongFunction<? extends R> mapper) {
+		return Flux.onAssembly(new FluxMapFromLong<>(this, mapper));
+	}
+
+	/**
+	 * Convert this {@link LongFlux} into a {@link Flux} of {@link Long}, boxing each value.
+	 *
+	 * @return a {@link Flux} of the boxed values
+	 */
+	public final Flux<Long> boxed() {
+		return mapToObj(Long::valueOf);
+	}
+
+	/**
+	 * Reduce the values from this {@link LongFlux} sequence into a single value, by
+	 * applying the accumulator to the intermediate result and each value, starting with
+	 * the {@code initial} value.
+	 *
+	 * @param initial the initial intermediate result, which is emitted if the sequence is empty
+	 * @param accumulator the reducing {@link LongBinaryOperator}
+	 * @return a {@link Mono} of the reduced value
+	 */
+	public final Mono<Long> reduce(long initial, LongBinaryOperator accumulator) {
+		return Mono.onAssembly(new MonoReduceLong(this, true, initial, accumulator));
+	}
+
+	/**
+	 * Reduce the values from this {@link LongFlux} sequence into a single value, by
+	 * applying the accumulator to the intermediate result and each value, starting with
+	 * the first value. An empty sequence results in an empty {@link Mono}.
+	 *
+	 * @param accumulator the reducing {@link LongBinaryOperator}
+	 * @return a {@link Mono} of the reduced value
+	 */
+	public final Mono<Long> reduce(LongBinaryOperator accumulator) {
+		return Mono.onAssembly(new MonoReduceLong(this, false, 0L, accumulator));
+	}
+
+	/**
+	 * Sum the values from this {@link LongFlux} sequence, emitting {@code 0} if it is
+	 * empty. As with {@link Long#sum(long, long)}, the sum can overflow.
+	 *
+	 * @return a {@link Mono} of the sum
+	 */
+	public final Mono<Long> sum() {
+		return reduce(0L, Long::sum);
+	}
+
+	/**
+	 * Count the number of values in this {@link LongFlux}.
+	 *
+	 * @return a {@link Mono} of the number of values
+	 */
+	public final Mono<Long> count() {
+		return reduce(0L, (count, v) -> count + 1);
+	}
+
+	/**
+	 * Subscribe a {@link LongConsumer} to this {@link LongFlux} that will consume all the
+	 * values in the sequence. It will request an unbounded demand
+	 * ({@code Long.MAX_VALUE}).
+	 *
+	 * @param consumer the consumer to invoke on each value
+	 * @return a new {@link Disposable} that can be used to cancel the underlying {@link Subscription}
+	 */
+	public final Disposable subscribe(LongConsumer consumer) {
+		Objects.requireNonNull(consumer, "consumer");
+		return subscribe(consumer, null, null);
+	}
+
+	/**
+	 * Subscribe {@link LongConsumer} and {@link Runnable} callbacks to this
+	 * {@link LongFlux} that will respectively consume all the values in the sequence,
+	 * handle errors and react to completion. It will request an unbounded demand
+	 * ({@code Long.MAX_VALUE}).
+	 *
+	 * @param consumer the consumer to invoke on each value
+	 * @param errorConsumer the consumer to invoke on error signal
+	 * @param completeConsumer the consumer to invoke on complete signal
+	 * @return a new {@link Disposable} that can be used to cancel the underlying {@link Subscription}
+	 */
+	public final Disposable subscribe(@Nullable LongConsumer consumer,
+			@Nullable Consumer<? super Throwable> errorConsumer,
+			@Nullable Runnable completeConsumer) {
+		return subscribe(consumer, errorConsumer, completeConsumer, null);
+	}
+
+	/**
+	 * Subscribe {@link LongConsumer} and {@link Runnable} callbacks to this
+	 * {@link LongFlux} that will respectively consume all the values in the sequence,
+	 * handle errors and react to completion. Additionally, a {@link Context} is tied to
+	 * the subscription. It will request an unbounded demand ({@code Long.MAX_VALUE}).
+	 *
+	 * @param consumer the consumer to invoke on each value
+	 * @param errorConsumer the consumer to invoke on error signal
+	 * @param completeConsumer the consumer to invoke on complete signal
+	 * @param initialContext the base {@link Context} tied to the subscription that will
+	 * be visible to operators upstream
+	 * @return a new {@link Disposable} that can be used to cancel the underlying {@link Subscription}
+	 */
+	public final Disposable subscribe(@Nullable LongConsumer consumer,
+			@Nullable Consumer<? super Throwable> errorConsumer,
+			@Nullable Runnable completeConsumer,
+			@Nullable Context initialContext) {
+		LongLambdaSubscriber subscriber = new LongLambdaSubscriber(consumer, errorConsumer,
+				completeConsumer, initialContext);
+		subscribe(subscriber);
+		return subscriber;
+	}
+
+	@Override
+	public final void subscribe(Subscriber<? super Long> actual) {
+		subscribe(Operators.toCoreSubscriber(actual));
+	}
+
+	/**
+	 * Subscribe a {@link CoreSubscriber} of boxed values to this {@link LongFlux}. Unless
+	 * it is a {@link LongSubscriber}, each value is boxed right before being passed to it.
+	 *
+	 * @param actual the {@link Subscriber} interested into the published sequence
+	 */
+	@Override
+	public final void subscribe(CoreSubscriber<? super Long> actual) {
+		if (actual instanceof LongSubscriber) {
+			subscribe((LongSubscriber) actual);
+		}
+		else {
+			subscribe(new BoxingSubscriber(actual));
+		}
+	}
+
+	/**
+	 * Subscribe a {@link LongSubscriber} to this {@link LongFlux}, which receives the
+	 * values through {@link LongSubscriber#onNext(long)} without boxing. The
+	 * {@link Context} of the subscriber is visible to the whole chain.
+	 *
+	 * @param actual the {@link LongSubscriber} interested into the published sequence
+	 */
+	public abstract void subscribe(LongSubscriber actual);
+
+	/**
+	 * To be used by custom operators: invokes assembly {@link Hooks} pointcut given a
+	 * {@link LongFlux}, potentially returning a new {@link LongFlux}. As the hooks and the
+	 * assembly tracing operate on {@link Flux}, the values are boxed through them when
+	 * any of them is active.
+	 *
+	 * @param source the source to apply assembly hooks onto
+	 * @return the source, potentially wrapped with assembly time cross-cutting behavior
+	 */
+	@SuppressWarnings("unchecked")
+	protected static LongFlux onAssembly(LongFlux source) {
+		Function<Publisher, Publisher> hook = Hooks.onEachOperatorHook;
+		if (hook == null && !Hooks.GLOBAL_TRACE) {
+			return source;
+		}
+		Flux<Long> boxed = Flux.onAssembly(Flux.<Long>wrap(source));
+		return new LongFluxFromFlux<>(boxed, Long::longValue);
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	/**
+	 * Boxes each value for a plain {@link CoreSubscriber}.
+	 */
+	static final class BoxingSubscriber implements InnerOperator<Long, Long>, LongSubscriber {
+
+		final CoreSubscriber<? super Long> actual;
+
+		Subscription s;
+
+		BoxingSubscriber(CoreSubscriber<? super Long> actual) {
+			this.actual = actual;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			if (Operators.validate(this.s, s)) {
+				this.s = s;
+				actual.onSubscribe(this);
+			}
+		}
+
+		@Override
+		public void onNext(long value) {
+			actual.onNext(value);
+		}
+
+		@Override
+		public void onNext(Long value) {
+			actual.onNext(value);
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			actual.onError(t);
+		}
+
+		@Override
+		public void onComplete() {
+			actual.onComplete();
+		}
+
+		@Override
+		public void request(long n) {
+			s.request(n);
+		}
+
+		@Override
+		public void cancel() {
+			s.cancel();
+		}
+
+		@Override
+		public CoreSubscriber<? super Long> actual() {
+			return actual;
+		}
+
+		@Override
+		@Nullable
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.PARENT) return s;
+			if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+
+			return InnerOperator.super.scanUnsafe(key);
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.LongSubscriber;
+import reactor.core.Scannable;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Emits the contents of a wrapped (shared) array of primitive long values.
+ */
+final class LongFluxArray extends LongFlux implements Scannable {
+
+	final long[] array;
+
+	LongFluxArray(long[] array) {
+		this.array = Objects.requireNonNull(array, "array");
+	}
+
+	@Override
+	public void subscribe(LongSubscriber actual) {
+		if (array.length == 0) {
+			Operators.complete(actual);
+			return;
+		}
+		actual.onSubscribe(new ArraySubscription(actual, array));
+	}
+
+	@Override
+	@Nullable
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.BUFFERED) return array.length;
+		if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+		return null;
+	}
+
+	static final class ArraySubscription implements InnerProducer<Long> {
+
+		final LongSubscriber actual;
+
+		final long[] array;
+
+		int index;
+
+		volatile boolean cancelled;
+
+		volatile long requested;
+		static final AtomicLongFieldUpdater<ArraySubscription> REQUESTED =
+				AtomicLongFieldUpdater.newUpdater(ArraySubscription.class, "requested");
+
+		ArraySubscription(LongSubscriber actual, long[] array) {
+			this.actual = actual;
+			this.array = array;
+		}
+
+		@Override
+		public CoreSubscriber<? super Long> actual() {
+			return actual;
+		}
+
+		@Override
+		public void request(long n) {
+			if (Operators.validate(n)) {
+				if (Operators.addCap(REQUESTED, this, n) == 0) {
+					if (n == Long.MAX_VALUE) {
+						fastPath();
+					}
+					else {
+						slowPath(n);
+					}
+				}
+			}
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+		void slowPath(long n) {
+			final long[] a = array;
+			final int len = a.length;
+			final LongSubscriber s = actual;
+
+			int i = index;
+			long e = 0;
+
+			for (; ; ) {
+				if (cancelled) {
+					return;
+				}
+
+				while (i != len && e != n) {
+					s.onNext(a[i]);
+
+					if (cancelled) {
+						return;
+					}
+
+					i++;
+					e++;
+				}
+
+				if (i == len) {
+					s.onComplete();
+					return;
+				}
+
+				n = requested;
+
+				if (n == e) {
+					index = i;
+					n = REQUESTED.addAndGet(this, -e);
+					if (n == 0) {
+						return;
+					}
+					e = 0;
+				}
+			}
+		}
+
+		void fastPath() {
+			final long[] a = array;
+			final int len = a.length;
+			final LongSubscriber s = actual;
+
+			for (int i = index; i != len; i++) {
+				if (cancelled) {
+					return;
+				}
+
+				s.onNext(a[i]);
+			}
+			if (cancelled) {
+				return;
+			}
+			s.onComplete();
+		}
+
+		@Override
+		@Nullable
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.CANCELLED) return cancelled;
+			if (key == Attr.REQUESTED_FROM_DOWNSTREAM) return requested;
+			if (key == Attr.BUFFERED) return array.length - index;
+			if (key == Attr.TERMINATED) return index == array.length;
+			if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+
+			return InnerProducer.super.scanUnsafe(key);
+		}
+	}
+}
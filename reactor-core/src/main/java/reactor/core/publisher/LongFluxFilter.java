@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.Objects;
+import java.util.function.LongPredicate;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.LongSubscriber;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Filters out the primitive values of the source {@link LongFlux} that make a predicate
+ * return false.
+ */
+final class LongFluxFilter extends LongFluxOperator {
+
+	final LongPredicate predicate;
+
+	LongFluxFilter(LongFlux source, LongPredicate predicate) {
+		super(source);
+		this.predicate = Objects.requireNonNull(predicate, "predicate");
+	}
+
+	@Override
+	public void subscribe(LongSubscriber actual) {
+		source.subscribe(new FilterSubscriber(actual, predicate));
+	}
+
+	static final class FilterSubscriber implements InnerOperator<Long, Long>, LongSubscriber {
+
+		final LongSubscriber actual;
+		final LongPredicate  predicate;
+
+		boolean done;
+
+		Subscription s;
+
+		FilterSubscriber(LongSubscriber actual, LongPredicate predicate) {
+			this.actual = actual;
+			this.predicate = predicate;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			if (Operators.validate(this.s, s)) {
+				this.s = s;
+				actual.onSubscribe(this);
+			}
+		}
+
+		@Override
+		public void onNext(long t) {
+			if (done) {
+				Operators.onNextDropped(t, actual.currentContext());
+				return;
+			}
+
+			boolean b;
+
+			try {
+				b = predicate.test(t);
+			}
+			catch (Throwable e) {
+				Throwable e_ = Operators.onNextError(t, e, actual.currentContext(), s);
+				if (e_ != null) {
+					onError(e_);
+				}
+				else {
+					s.request(1);
+				}
+				return;
+			}
+
+			if (b) {
+				actual.onNext(t);
+			}
+			else {
+				s.request(1);
+			}
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			if (done) {
+				Operators.onErrorDropped(t, actual.currentContext());
+				return;
+			}
+
+			done = true;
+
+			actual.onError(t);
+		}
+
+		@Override
+		public void onComplete() {
+			if (done) {
+				return;
+			}
+			done = true;
+
+			actual.onComplete();
+		}
+
+		@Override
+		@Nullable
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.PARENT) return s;
+			if (key == Attr.TERMINATED) return done;
+			if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+
+			return InnerOperator.super.scanUnsafe(key);
+		}
+
+		@Override
+		public CoreSubscriber<? super Long> actual() {
+			return actual;
+		}
+
+		@Override
+		public void request(long n) {
+			s.request(n);
+		}
+
+		@Override
+		public void cancel() {
+			s.cancel();
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.LongSubscriber;
+import reactor.core.Scannable;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Maps the values of a source {@link Flux} to primitive long values via a mapper
+ * function.
+ *
+ * @param <T> the source value type
+ */
+final class LongFluxFromFlux<T> extends LongFlux implements Scannable {
+
+	final Flux<? extends T> source;
+
+	final ToLongFunction<? super T> mapper;
+
+	LongFluxFromFlux(Flux<? extends T> source, ToLongFunction<? super T> mapper) {
+		this.source = Objects.requireNonNull(source, "source");
+		this.mapper = Objects.requireNonNull(mapper, "mapper");
+	}
+
+	@Override
+	public void subscribe(LongSubscriber actual) {
+		source.subscribe(new MapToLongSubscriber<>(actual, mapper));
+	}
+
+	@Override
+	@Nullable
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.PREFETCH) return source.getPrefetch();
+		if (key == Attr.PARENT) return source;
+		if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+		return null;
+	}
+
+	static final class MapToLongSubscriber<T> implements InnerOperator<T, Long> {
+
+		final LongSubscriber            actual;
+		final ToLongFunction<? super T> mapper;
+
+		boolean done;
+
+		Subscription s;
+
+		MapToLongSubscriber(LongSubscriber actual, ToLongFunction<? super T> mapper) {
+			this.actual = actual;
+			this.mapper = mapper;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			if (Operators.validate(this.s, s)) {
+				this.s = s;
+				actual.onSubscribe(this);
+			}
+		}
+
+		@Override
+		public void onNext(T t) {
+			if (done) {
+				Operators.onNextDropped(t, actual.currentContext());
+				return;
+			}
+
+			long v;
+
+			try {
+				v = mapper.applyAsLong(t);
+			}
+			catch (Throwable e) {
+				Throwable e_ = Operators.onNextError(t, e, actual.currentContext(), s);
+				if (e_ != null) {
+					onError(e_);
+				}
+				else {
+					s.request(1);
+				}
+				return;
+			}
+
+			actual.onNext(v);
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			if (done) {
+				Operators.onErrorDropped(t, actual.currentContext());
+				return;
+			}
+
+			done = true;
+
+			actual.onError(t);
+		}
+
+		@Override
+		public void onComplete() {
+			if (done) {
+				return;
+			}
+			done = true;
+
+			actual.onComplete();
+		}
+
+		@Override
+		@Nullable
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.PARENT) return s;
+			if (key == Attr.TERMINATED) return done;
+			if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+
+			return InnerOperator.super.scanUnsafe(key);
+		}
+
+		@Override
+		public CoreSubscriber<? super Long> actual() {
+			return actual;
+		}
+
+		@Override
+		public void request(long n) {
+			s.request(n);
+		}
+
+		@Override
+		public void cancel() {
+			s.cancel();
+		}
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.Objects;
+
+import reactor.core.Scannable;
+import reactor.util.annotation.Nullable;
+
+/**
+ * A decorating {@link LongFlux} that transforms the values of a source {@link LongFlux}.
+ */
+abstract class LongFluxOperator extends LongFlux implements Scannable {
+
+	final LongFlux source;
+
+	LongFluxOperator(LongFlux source) {
+		this.source = Objects.requireNonNull(source, "source");
+	}
+
+	@Override
+	@Nullable
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.PREFETCH) return Integer.MAX_VALUE;
+		if (key == Attr.PARENT) return source;
+		if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+		return null;
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.LongSubscriber;
+import reactor.util.annotation.Nullable;
+import reactor.util.context.Context;
+
+/**
+ * A {@link LongSubscriber} that consumes the primitive values of a {@link LongFlux}
+ * with lambdas, requesting an unbounded demand.
+ *
+ * @see LambdaSubscriber
+ */
+final class LongLambdaSubscriber implements InnerConsumer<Long>, LongSubscriber, Disposable {
+
+	final LongConsumer                consumer;
+	final Consumer<? super Throwable> errorConsumer;
+	final Runnable                    completeConsumer;
+	final Context                     initialContext;
+
+	volatile Subscription subscription;
+	static final AtomicReferenceFieldUpdater<LongLambdaSubscriber, Subscription> S =
+			AtomicReferenceFieldUpdater.newUpdater(LongLambdaSubscriber.class,
+					Subscription.class,
+					"subscription");
+
+	LongLambdaSubscriber(@Nullable LongConsumer consumer,
+			@Nullable Consumer<? super Throwable> errorConsumer,
+			@Nullable Runnable completeConsumer,
+			@Nullable Context initialContext) {
+		this.consumer = consumer;
+		this.errorConsumer = errorConsumer;
+		this.completeConsumer = completeConsumer;
+		this.initialContext = initialContext == null ? Context.empty() : initialContext;
+	}
+
+	@Override
+	public Context currentContext() {
+		return this.initialContext;
+	}
+
+	@Override
+	public void onSubscribe(Subscription s) {
+		if (Operators.validate(subscription, s)) {
+			this.subscription = s;
+			s.request(Long.MAX_VALUE);
+		}
+	}
+
+	@Override
+	public void onNext(long x) {
+		try {
+			if (consumer != null) {
+				consumer.accept(x);
+			}
+		}
+		catch (Throwable t) {
+			Exceptions.throwIfFatal(t);
+			this.subscription.cancel();
+			onError(t);
+		}
+	}
+
+	@Override
+	public void onComplete() {
+		Subscription s = S.getAndSet(this, Operators.cancelledSubscription());
+		if (s == Operators.cancelledSubscription()) {
+			return;
+		}
+		if (completeConsumer != null) {
+			try {
+				completeConsumer.run();
+			}
+			catch (Throwable t) {
+				Exceptions.throwIfFatal(t);
+				onError(t);
+			}
+		}
+	}
+
+	@Override
+	public void onError(Throwable t) {
+		Subscription s = S.getAndSet(this, Operators.cancelledSubscription());
+		if (s == Operators.cancelledSubscription()) {
+			Operators.onErrorDropped(t, currentContext());
+			return;
+		}
+		if (errorConsumer != null) {
+			errorConsumer.accept(t);
+		}
+		else {
+			Operators.onErrorDropped(Exceptions.errorCallbackNotImplemented(t), currentContext());
+		}
+	}
+
+	@Override
+	@Nullable
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.PARENT) return subscription;
+		if (key == Attr.PREFETCH) return Integer.MAX_VALUE;
+		if (key == Attr.TERMINATED || key == Attr.CANCELLED) return isDisposed();
+		if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+
+		return null;
+	}
+
+	@Override
+	public boolean isDisposed() {
+		return subscription == Operators.cancelledSubscription();
+	}
+
+	@Override
+	public void dispose() {
+		Subscription s = S.getAndSet(this, Operators.cancelledSubscription());
+		if (s != null && s != Operators.cancelledSubscription()) {
+			s.cancel();
+		}
+	}
+}
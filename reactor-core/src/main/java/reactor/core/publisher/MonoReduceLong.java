@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.Objects;
+import java.util.function.LongBinaryOperator;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.LongSubscriber;
+import reactor.core.Scannable;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Aggregates the primitive values of a source {@link LongFlux} into a single value,
+ * starting either from a seed or from the first value.
+ */
+final class MonoReduceLong extends Mono<Long> implements Scannable {
+
+	final LongFlux source;
+
+	final boolean seeded;
+
+	final long initial;
+
+	final LongBinaryOperator accumulator;
+
+	MonoReduceLong(LongFlux source, boolean seeded, long initial, LongBinaryOperator accumulator) {
+		this.source = Objects.requireNonNull(source, "source");
+		this.seeded = seeded;
+		this.initial = initial;
+		this.accumulator = Objects.requireNonNull(accumulator, "accumulator");
+	}
+
+	@Override
+	public void subscribe(CoreSubscriber<? super Long> actual) {
+		source.subscribe(new ReduceLongSubscriber(actual, seeded, initial, accumulator));
+	}
+
+	@Override
+	@Nullable
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.PREFETCH) return Integer.MAX_VALUE;
+		if (key == Attr.PARENT) return source;
+		if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+		return null;
+	}
+
+	static final class ReduceLongSubscriber extends Operators.BaseFluxToMonoOperator<Long, Long>
+			implements LongSubscriber {
+
+		final LongBinaryOperator accumulator;
+
+		long    value;
+		boolean hasValue;
+		boolean done;
+
+		volatile boolean cancelled;
+
+		ReduceLongSubscriber(CoreSubscriber<? super Long> actual,
+				boolean seeded,
+				long initial,
+				LongBinaryOperator accumulator) {
+			super(actual);
+			this.accumulator = accumulator;
+			this.value = initial;
+			this.hasValue = seeded;
+		}
+
+		@Override
+		@Nullable
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.TERMINATED) return done;
+			if (key == Attr.CANCELLED) return cancelled;
+
+			return super.scanUnsafe(key);
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			s.cancel();
+		}
+
+		@Override
+		public void onNext(long t) {
+			if (done) {
+				Operators.onNextDropped(t, actual.currentContext());
+				return;
+			}
+			if (!hasValue) {
+				value = t;
+				hasValue = true;
+				return;
+			}
+
+			try {
+				value = accumulator.applyAsLong(value, t);
+			}
+			catch (Throwable e) {
+				onError(Operators.onOperatorError(this.s, e, t, actual.currentContext()));
+			}
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			if (done) {
+				Operators.onErrorDropped(t, actual.currentContext());
+				return;
+			}
+			done = true;
+
+			if (cancelled) {
+				Operators.onErrorDropped(t, actual.currentContext());
+				return;
+			}
+
+			actual.onError(t);
+		}
+
+		@Override
+		public void onComplete() {
+			if (done) {
+				return;
+			}
+			done = true;
+
+			if (!hasValue) {
+				actual.onComplete();
+				return;
+			}
+
+			completePossiblyEmpty();
+		}
+
+		@Override
+		@Nullable
+		Long accumulatedValue() {
+			if (cancelled) {
+				return null;
+			}
+			return value;
+		}
+	}
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.Fuseable;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Keeps the {@code k} smallest values of the source according to a {@link Comparator}
+ * in a bounded max-heap, and emits them as a sorted {@link List} once the source
+ * completes. Values that compare equal keep their order in the source, so that the
+ * result is the same as sorting the whole sequence and taking its first {@code k} values.
+ *
+ * @param <T> the value type
+ */
+final class MonoTopK<T> extends MonoFromFluxOperator<T, List<T>> implements Fuseable {
+
+	final int                   k;
+	final Comparator<? super T> comparator;
+
+	MonoTopK(Flux<? extends T> source, int k, Comparator<? super T> comparator) {
+		super(source);
+		if (k < 0) {
+			throw new IllegalArgumentException("k >= 0 required but it was " + k);
+		}
+		this.k = k;
+		this.comparator = comparator;
+	}
+
+	@Override
+	public CoreSubscriber<? super T> subscribeOrReturn(CoreSubscriber<? super List<T>> actual) {
+		return new TopKSubscriber<>(actual, k, comparator);
+	}
+
+	@Override
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+		return super.scanUnsafe(key);
+	}
+
+	static final class TopKSubscriber<T> extends Operators.BaseFluxToMonoOperator<T, List<T>> {
+
+		/**
+		 * Set to null once the values have been emitted, discarded or the subscriber
+		 * got cancelled, guarded by this subscriber.
+		 */
+		@Nullable
+		Heap<T> heap;
+
+		boolean done;
+
+		TopKSubscriber(CoreSubscriber<? super List<T>> actual, int k, Comparator<? super T> comparator) {
+			super(actual);
+			this.heap = new Heap<>(k, comparator);
+		}
+
+		@Override
+		@Nullable
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.TERMINATED) return done;
+			if (key == Attr.CANCELLED) return !done && heap == null;
+
+			return super.scanUnsafe(key);
+		}
+
+		@Override
+		public void onNext(T t) {
+			if (done) {
+				Operators.onNextDropped(t, actual.currentContext());
+				return;
+			}
+
+			T dropped;
+			try {
+				synchronized (this) {
+					Heap<T> h = heap;
+					dropped = h != null ? h.offer(t) : t;
+				}
+			}
+			catch (Throwable ex) {
+				onError(Operators.onOperatorError(s, ex, t, actual.currentContext()));
+				return;
+			}
+			Operators.onDiscard(dropped, actual.currentContext());
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			if (done) {
+				Operators.onErrorDropped(t, actual.currentContext());
+				return;
+			}
+			done = true;
+
+			Heap<T> h = takeHeap();
+			if (h == null) {
+				return;
+			}
+			h.discard(actual);
+
+			actual.onError(t);
+		}
+
+		@Override
+		public void onComplete() {
+			if (done) {
+				return;
+			}
+			done = true;
+
+			completePossiblyEmpty();
+		}
+
+		@Override
+		public void cancel() {
+			s.cancel();
+
+			Heap<T> h = takeHeap();
+			if (h != null) {
+				h.discard(actual);
+			}
+		}
+
+		@Override
+		@Nullable
+		List<T> accumulatedValue() {
+			Heap<T> h = takeHeap();
+			return h == null ? null : h.drainSorted();
+		}
+
+		@Nullable
+		synchronized Heap<T> takeHeap() {
+			Heap<T> h = heap;
+			heap = null;
+			return h;
+		}
+	}
+
+	/**
+	 * A max-heap of up to {@code k} values, ordered by the comparator then by arrival
+	 * order, so that its root is the value to evict first.
+	 */
+	static final class Heap<T> {
+
+		final int                   k;
+		final Comparator<? super T> comparator;
+
+		Object[] values;
+		long[]   arrivals;
+		int      size;
+		long     arrival;
+
+		Heap(int k, Comparator<? super T> comparator) {
+			this.k = k;
+			this.comparator = comparator;
+			int capacity = Math.min(k, 16);
+			this.values = new Object[capacity];
+			this.arrivals = new long[capacity];
+		}
+
+		/**
+		 * Offer a value to the heap.
+		 *
+		 * @param t the value
+		 * @return the value that doesn't belong to the top {@code k} anymore, which is
+		 * either the offered value or the evicted root, or null if the heap wasn't full
+		 */
+		@Nullable
+		@SuppressWarnings("unchecked")
+		T offer(T t) {
+			long a = arrival++;
+			if (size < k) {
+				if (size == values.length) {
+					int capacity = (int) Math.min(k, 2L * size);
+					values = Arrays.copyOf(values, capacity);
+					arrivals = Arrays.copyOf(arrivals, capacity);
+				}
+				int i = size++;
+				values[i] = t;
+				arrivals[i] = a;
+				siftUp(i);
+				return null;
+			}
+			// a later value that compares equal to the root comes after it
+			if (k == 0 || comparator.compare(t, (T) values[0]) >= 0) {
+				return t;
+			}
+			T evicted = (T) values[0];
+			values[0] = t;
+			arrivals[0] = a;
+			siftDown(0);
+			return evicted;
+		}
+
+		/**
+		 * @return the values of the heap, sorted in ascending order
+		 */
+		@SuppressWarnings("unchecked")
+		List<T> drainSorted() {
+			Object[] sorted = new Object[size];
+			for (int i = size - 1; i >= 0; i--) {
+				sorted[i] = values[0];
+				values[0] = values[i];
+				arrivals[0] = arrivals[i];
+				values[i] = null;
+				size = i;
+				siftDown(0);
+			}
+			List<T> list = new ArrayList<>(sorted.length);
+			for (Object v : sorted) {
+				list.add((T) v);
+			}
+			return list;
+		}
+
+		void discard(CoreSubscriber<?> actual) {
+			Operators.onDiscardMultiple(values, 0, size, actual.currentContext());
+			Arrays.fill(values, 0, size, null);
+			size = 0;
+		}
+
+		/**
+		 * @return whether the value at {@code i} comes after the value at {@code j}
+		 */
+		@SuppressWarnings("unchecked")
+		boolean after(int i, int j) {
+			int c = comparator.compare((T) values[i], (T) values[j]);
+			return c > 0 || (c == 0 && arrivals[i] > arrivals[j]);
+		}
+
+		void siftUp(int i) {
+			while (i > 0) {
+				int parent = (i - 1) >>> 1;
+				if (!after(i, parent)) {
+					break;
+				}
+				swap(i, parent);
+				i = parent;
+			}
+		}
+
+		void siftDown(int i) {
+			int size = this.size;
+			for (;;) {
+				int child = 2 * i + 1;
+				if (child >= size) {
+					break;
+				}
+				if (child + 1 < size && after(child + 1, child)) {
+					child++;
+				}
+				if (!after(child, i)) {
+					break;
+				}
+				swap(i, child);
+				i = child;
+			}
+		}
+
+		void swap(int i, int j) {
+			Object v = values[i];
+			values[i] = values[j];
+			values[j] = v;
+			long a = arrivals[i];
+			arrivals[i] = arrivals[j];
+			arrivals[j] = a;
+		}
+	}
+}
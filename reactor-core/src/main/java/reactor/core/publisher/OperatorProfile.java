@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import reactor.core.Scannable;
+import reactor.util.annotation.Nullable;
+
+/**
+ * The statistics gathered for one operator when {@link Hooks#enableOperatorProfiling()
+ * operator profiling} is enabled. Profiles form a tree that follows the
+ * {@link Scannable} topology of the profiled pipelines: the {@link #roots() roots} are
+ * the sources, and the {@link #children() children} of a profile are the operators
+ * that were applied to it. Operators at the same position in several pipelines, or
+ * subscribed several times, share the same profile.
+ * <p>
+ * A profile is a live view: each accessor returns the current value of the statistics,
+ * which keep on being updated while the profiled pipelines run. All the
+ * {@code onNext} timings are sampled, see {@link Hooks#enableOperatorProfiling(int)}.
+ *
+ * @since 3.8.0
+ */
+public final class OperatorProfile {
+
+	static final Map<String, OperatorProfile> ROOTS = new ConcurrentHashMap<>();
+
+	/**
+	 * Return the profiles of the sources of all the pipelines profiled so far, in no
+	 * particular order.
+	 *
+	 * @return the root profiles
+	 */
+	public static List<OperatorProfile> roots() {
+		return new ArrayList<>(ROOTS.values());
+	}
+
+	/**
+	 * Forget all the profiles gathered so far. Pipelines that are currently running
+	 * keep on updating the profiles they already resolved, which are no longer reachable
+	 * from {@link #roots()}.
+	 */
+	public static void reset() {
+		ROOTS.clear();
+	}
+
+	/**
+	 * Return a multi-line description of all the {@link #roots() profiles} gathered so far.
+	 *
+	 * @return a description of the profiles
+	 */
+	public static String describeAll() {
+		StringBuilder sb = new StringBuilder();
+		for (OperatorProfile root : roots()) {
+			root.describe(sb, 0);
+		}
+		return sb.toString();
+	}
+
+	final String                           name;
+	final String                           path;
+	@Nullable
+	final OperatorProfile                  parent;
+	final Map<String, OperatorProfile>     children = new ConcurrentHashMap<>();
+
+	final LongAdder       subscriptions      = new LongAdder();
+	final LongAdder       onNextCount        = new LongAdder();
+	final LongAdder       sampledOnNextCount = new LongAdder();
+	final LongAdder       sampledOnNextNanos = new LongAdder();
+	final LongAdder       bufferedSamples    = new LongAdder();
+	final LongAdder       bufferedSum        = new LongAdder();
+	final LongAccumulator maxBuffered        = new LongAccumulator(Math::max, 0L);
+	final LongAdder       requestCount       = new LongAdder();
+	final LongAdder       requested          = new LongAdder();
+	final LongAdder       unboundedRequests  = new LongAdder();
+	final LongAdder       completions        = new LongAdder();
+	final LongAdder       errors             = new LongAdder();
+	final LongAdder       cancellations      = new LongAdder();
+
+	OperatorProfile(String name, @Nullable OperatorProfile parent) {
+		this.name = name;
+		this.parent = parent;
+		this.path = parent == null ? name : parent.path + "/" + name;
+	}
+
+	OperatorProfile child(String name) {
+		OperatorProfile child = children.get(name);
+		if (child == null) {
+			child = children.computeIfAbsent(name, n -> new OperatorProfile(n, this));
+		}
+		return child;
+	}
+
+	/**
+	 * Return the {@link Scannable#stepName() step name} of the operator.
+	 *
+	 * @return the name of the operator
+	 */
+	public String name() {
+		return name;
+	}
+
+	/**
+	 * Return the names of this operator and of all its parents, from the source down
+	 * to this operator, separated by {@code /}.
+	 *
+	 * @return the path of the operator in the profiled topology
+	 */
+	public String path() {
+		return path;
+	}
+
+	/**
+	 * Return the profile of the operator this operator was applied to, or {@code null}
+	 * for a source.
+	 *
+	 * @return the parent profile, or null
+	 */
+	@Nullable
+	public OperatorProfile parent() {
+		return parent;
+	}
+
+	/**
+	 * Return the profiles of the operators applied to this operator, in no particular
+	 * order.
+	 *
+	 * @return the children profiles
+	 */
+	public List<OperatorProfile> children() {
+		if (children.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return new ArrayList<>(children.values());
+	}
+
+	/**
+	 * Return the number of subscriptions to this operator.
+	 *
+	 * @return the number of subscriptions
+	 */
+	public long subscriptions() {
+		return subscriptions.sum();
+	}
+
+	/**
+	 * Return the number of values emitted by this operator. Values emitted by
+	 * subscriptions that are still running are accounted for at each sample.
+	 *
+	 * @return the number of values emitted
+	 */
+	public long onNextCount() {
+		return onNextCount.sum();
+	}
+
+	/**
+	 * Return the number of values whose delivery was timed.
+	 *
+	 * @return the number of sampled values
+	 */
+	public long sampledOnNextCount() {
+		return sampledOnNextCount.sum();
+	}
+
+	/**
+	 * Return the mean time, in nanoseconds, that the delivery of a value emitted by this
+	 * operator took. This includes the time spent in all the operators and the
+	 * subscriber downstream of this operator, up to the first asynchronous boundary.
+	 *
+	 * @return the mean inclusive {@code onNext} time in nanoseconds, or 0 if no value was sampled
+	 */
+	public double meanOnNextNanos() {
+		long samples = sampledOnNextCount.sum();
+		return samples == 0 ? 0d : (double) sampledOnNextNanos.sum() / samples;
+	}
+
+	/**
+	 * Return an estimation of the mean time, in nanoseconds, spent in the operators
+	 * directly applied to this one for each value emitted by this operator, excluding
+	 * the time spent further downstream, that is the {@link #meanOnNextNanos()} of
+	 * this profile minus the {@link #meanOnNextNanos()} of the children weighted by the
+	 * number of values they emitted. For the operators at the end of the profiled
+	 * pipelines, this is the time spent in the final subscriber.
+	 *
+	 * @return the mean self {@code onNext} time in nanoseconds, or 0 if no value was sampled
+	 */
+	public double meanSelfOnNextNanos() {
+		long count = onNextCount.sum();
+		if (count == 0) {
+			return 0d;
+		}
+		double downstream = 0d;
+		for (OperatorProfile child : children.values()) {
+			downstream += child.meanOnNextNanos() * child.onNextCount();
+		}
+		return Math.max(0d, meanOnNextNanos() - downstream / count);
+	}
+
+	/**
+	 * Return the mean number of values {@link Scannable.Attr#BUFFERED buffered} by
+	 * this operator when a value emitted by it was sampled. Operators that don't report
+	 * a buffer are not sampled.
+	 *
+	 * @return the mean queue depth, or 0 if not sampled
+	 */
+	public double meanBuffered() {
+		long samples = bufferedSamples.sum();
+		return samples == 0 ? 0d : (double) bufferedSum.sum() / samples;
+	}
+
+	/**
+	 * Return the maximum number of values {@link Scannable.Attr#BUFFERED buffered} by
+	 * this operator when a value emitted by it was sampled.
+	 *
+	 * @return the maximum sampled queue depth
+	 */
+	public long maxBuffered() {
+		return maxBuffered.get();
+	}
+
+	/**
+	 * Return the number of times this operator was requested values by its downstream.
+	 *
+	 * @return the number of requests
+	 */
+	public long requestCount() {
+		return requestCount.sum();
+	}
+
+	/**
+	 * Return the total number of values requested from this operator by its
+	 * downstream, excluding {@link #unboundedRequests() unbounded requests}.
+	 *
+	 * @return the total bounded demand
+	 */
+	public long requested() {
+		return requested.sum();
+	}
+
+	/**
+	 * Return the number of unbounded ({@code Long.MAX_VALUE}) requests made to this
+	 * operator by its downstream.
+	 *
+	 * @return the number of unbounded requests
+	 */
+	public long unboundedRequests() {
+		return unboundedRequests.sum();
+	}
+
+	/**
+	 * Return the number of subscriptions to this operator which completed.
+	 *
+	 * @return the number of completions
+	 */
+	public long completions() {
+		return completions.sum();
+	}
+
+	/**
+	 * Return the number of subscriptions to this operator which terminated with an error.
+	 *
+	 * @return the number of errors
+	 */
+	public long errors() {
+		return errors.sum();
+	}
+
+	/**
+	 * Return the number of subscriptions to this operator which were cancelled by
+	 * their downstream.
+	 *
+	 * @return the number of cancellations
+	 */
+	public long cancellations() {
+		return cancellations.sum();
+	}
+
+	/**
+	 * Return a multi-line description of this profile and of all its descendants.
+	 *
+	 * @return a description of the profile tree rooted at this profile
+	 */
+	public String describe() {
+		StringBuilder sb = new StringBuilder();
+		describe(sb, 0);
+		return sb.toString();
+	}
+
+	void describe(StringBuilder sb, int depth) {
+		for (int i = 0; i < depth; i++) {
+			sb.append("  ");
+		}
+		sb.append(this).append('\n');
+		for (OperatorProfile child : children.values()) {
+			child.describe(sb, depth + 1);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s{subscriptions=%d, onNext=%d, meanOnNextNanos=%.1f, " +
+						"meanSelfOnNextNanos=%.1f, meanBuffered=%.1f, maxBuffered=%d, " +
+						"requests=%d, requested=%d, unboundedRequests=%d}",
+				name, subscriptions(), onNextCount(), meanOnNextNanos(),
+				meanSelfOnNextNanos(), meanBuffered(), maxBuffered(), requestCount(),
+				requested(), unboundedRequests());
+	}
+}
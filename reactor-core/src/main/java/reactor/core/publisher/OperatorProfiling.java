@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.Fuseable;
+import reactor.core.Scannable;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Support for {@link Hooks#enableOperatorProfiling(int)}: each assembled operator is
+ * lifted with a {@link ProfilingSubscriber} that records the signals it emits into the
+ * {@link OperatorProfile} resolved from the {@link Scannable} topology at subscription
+ * time.
+ */
+final class OperatorProfiling {
+
+	static final int DEFAULT_SAMPLE_RATE = 16;
+
+	static Function<? super Publisher<Object>, ? extends Publisher<Object>> hook(int sampleRate) {
+		return Operators.liftPublisher((publisher, actual) ->
+				new ProfilingSubscriber<>(actual, resolve(publisher), sampleRate));
+	}
+
+	/**
+	 * Resolve the profile of the given operator, by walking its {@link Scannable#parents()}
+	 * up to the source. The profiling lift wrappers are skipped, so that the path only
+	 * contains the user-visible operators.
+	 */
+	static OperatorProfile resolve(Publisher<?> publisher) {
+		Scannable scannable = Scannable.from(publisher);
+		List<String> names = new ArrayList<>();
+		names.add(name(publisher, scannable));
+		scannable.parents()
+		         .filter(p -> p.scanUnsafe(Scannable.Attr.LIFTER) == null)
+		         .forEach(p -> names.add(p.stepName()));
+
+		OperatorProfile profile = null;
+		for (int i = names.size() - 1; i >= 0; i--) {
+			String name = names.get(i);
+			profile = profile == null
+					? OperatorProfile.ROOTS.computeIfAbsent(name, n -> new OperatorProfile(n, null))
+					: profile.child(name);
+		}
+		return profile;
+	}
+
+	static String name(Publisher<?> publisher, Scannable scannable) {
+		return scannable.isScanAvailable() ? scannable.stepName() : publisher.getClass().getSimpleName();
+	}
+
+	/**
+	 * Sits between an operator and its downstream, counting all the signals and timing
+	 * the delivery of one value out of {@code sampleRate}. The counts are flushed to the
+	 * shared {@link OperatorProfile} at each sample and on termination, including
+	 * cancellation, so that the fast path only touches fields of this subscriber. As a
+	 * cancellation can race with the signal thread, only the total number of values seen
+	 * is published by the signal thread, and each flush claims the values up to that total
+	 * with a CAS, so that no value is counted twice or lost. Values delivered concurrently
+	 * with a cancellation are flushed by the signal thread itself.
+	 * <p>
+	 * It is a {@link Fuseable.QueueSubscription} that always refuses fusion, as the
+	 * downstream of a lifted {@link Fuseable} operator expects one.
+	 */
+	static final class ProfilingSubscriber<T> implements InnerOperator<T, T>, Fuseable.QueueSubscription<T> {
+
+		final CoreSubscriber<? super T> actual;
+		final OperatorProfile           profile;
+		final int                       sampleRate;
+
+		Subscription s;
+		boolean      done;
+
+		int countdown = 1;
+
+		/**
+		 * The number of values seen, only written by the signal thread.
+		 */
+		volatile long seen;
+
+		/**
+		 * The number of values already added to the profile.
+		 */
+		volatile long flushed;
+		@SuppressWarnings("rawtypes")
+		static final AtomicLongFieldUpdater<ProfilingSubscriber> FLUSHED =
+				AtomicLongFieldUpdater.newUpdater(ProfilingSubscriber.class, "flushed");
+
+		volatile boolean cancelled;
+
+		ProfilingSubscriber(CoreSubscriber<? super T> actual, OperatorProfile profile, int sampleRate) {
+			this.actual = actual;
+			this.profile = profile;
+			this.sampleRate = sampleRate;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			if (Operators.validate(this.s, s)) {
+				this.s = s;
+				profile.subscriptions.increment();
+				actual.onSubscribe(this);
+			}
+		}
+
+		@Override
+		public void onNext(T t) {
+			// a volatile write, so that either a racing cancel sees this value or the
+			// check of cancelled below sees the cancel
+			seen = seen + 1;
+			if (--countdown != 0) {
+				actual.onNext(t);
+				if (cancelled) {
+					flush();
+				}
+				return;
+			}
+			countdown = sampleRate;
+
+			long start = System.nanoTime();
+			actual.onNext(t);
+			long elapsed = System.nanoTime() - start;
+
+			flush();
+			OperatorProfile profile = this.profile;
+			profile.sampledOnNextCount.increment();
+			profile.sampledOnNextNanos.add(elapsed);
+
+			Object buffered = s instanceof Scannable ?
+					((Scannable) s).scanUnsafe(Attr.BUFFERED) : null;
+			if (buffered instanceof Number) {
+				long depth = ((Number) buffered).longValue();
+				profile.bufferedSamples.increment();
+				profile.bufferedSum.add(depth);
+				profile.maxBuffered.accumulate(depth);
+			}
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			if (done) {
+				Operators.onErrorDropped(t, actual.currentContext());
+				return;
+			}
+			done = true;
+			flush();
+			profile.errors.increment();
+			actual.onError(t);
+		}
+
+		@Override
+		public void onComplete() {
+			if (done) {
+				return;
+			}
+			done = true;
+			flush();
+			profile.completions.increment();
+			actual.onComplete();
+		}
+
+		@Override
+		public void request(long n) {
+			OperatorProfile profile = this.profile;
+			profile.requestCount.increment();
+			if (n == Long.MAX_VALUE) {
+				profile.unboundedRequests.increment();
+			}
+			else if (n > 0) {
+				profile.requested.add(n);
+			}
+			s.request(n);
+		}
+
+		@Override
+		public void cancel() {
+			if (!done) {
+				profile.cancellations.increment();
+			}
+			cancelled = true;
+			flush();
+			s.cancel();
+		}
+
+		@Override
+		public int requestFusion(int requestedMode) {
+			return Fuseable.NONE;
+		}
+
+		@Override
+		@Nullable
+		public T poll() {
+			return null;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return false;
+		}
+
+		@Override
+		public void clear() {
+
+		}
+
+		@Override
+		public int size() {
+			return 0;
+		}
+
+		void flush() {
+			long upTo = seen;
+			for (; ; ) {
+				long from = flushed;
+				if (upTo <= from) {
+					return;
+				}
+				if (FLUSHED.compareAndSet(this, from, upTo)) {
+					profile.onNextCount.add(upTo - from);
+					return;
+				}
+			}
+		}
+
+		@Override
+		public CoreSubscriber<? super T> actual() {
+			return actual;
+		}
+
+		@Override
+		@Nullable
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.PARENT) return s;
+			if (key == Attr.TERMINATED) return done;
+			if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+
+			return InnerOperator.super.scanUnsafe(key);
+		}
+	}
+}
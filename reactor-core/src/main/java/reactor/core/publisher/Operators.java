@@ -16,6 +16,7 @@
 
 package reactor.core.publisher;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Objects;
@@ -45,6 +46,7 @@ import reactor.core.Scannable.Attr.RunStyle;
 import reactor.util.Logger;
 import reactor.util.Loggers;
 import reactor.util.annotation.Nullable;
+import reactor.util.concurrent.Queues;
 import reactor.util.context.Context;
 
 import static reactor.core.Fuseable.NONE;
@@ -1524,6 +1526,91 @@ public abstract class Operators {
 		return prefetch == Integer.MAX_VALUE ? Integer.MAX_VALUE : lowTide;
 	}
 
+	/**
+	 * The maximum number of values that in-memory sources and operators send in a single
+	 * {@link Fuseable.BatchSubscriber#onNextBatch(Object[], int, int)} call.
+	 */
+	static final int BATCH_SIZE = Queues.SMALL_BUFFER_SIZE;
+
+	/**
+	 * Check if batches of values can be sent to the given {@link Subscriber}, that is if
+	 * {@link Hooks#enableBatchedDelivery() batched delivery} is enabled and it is a
+	 * {@link Fuseable.BatchSubscriber}.
+	 *
+	 * @param s the subscriber
+	 * @return true if values can be sent in batches to the subscriber
+	 */
+	static boolean batchedDelivery(Subscriber<?> s) {
+		return Hooks.BATCHED_DELIVERY && s instanceof Fuseable.BatchSubscriber;
+	}
+
+	/**
+	 * Send the first {@code n} values of a reusable buffer as a batch and clear them
+	 * from the buffer.
+	 *
+	 * @param s the batch subscriber
+	 * @param buffer the buffer holding the values
+	 * @param n the number of values in the buffer
+	 * @return the number of values that count against the request, as returned by the
+	 * subscriber
+	 */
+	static int onNextBatch(Fuseable.BatchSubscriber<?> s, Object[] buffer, int n) {
+		if (n == 0) {
+			return 0;
+		}
+		try {
+			return s.onNextBatch(buffer, 0, n);
+		}
+		finally {
+			Arrays.fill(buffer, 0, n, null);
+		}
+	}
+
+	/**
+	 * Drop the values of a batch that was received after termination.
+	 *
+	 * @param values the array holding the values
+	 * @param from the index of the first value to drop, inclusive
+	 * @param to the index of the last value to drop, exclusive
+	 * @param context a context that might hold a local next consumer
+	 * @see #onNextDropped(Object, Context)
+	 */
+	static void onNextDroppedMultiple(Object[] values, int from, int to, Context context) {
+		for (int i = from; i < to; i++) {
+			onNextDropped(values[i], context);
+		}
+	}
+
+	/**
+	 * Invoke a (local or global) hook that processes the values of a batch that won't be
+	 * processed, because the batch has been cut short by a cancellation or an error.
+	 *
+	 * @param values the array holding the values
+	 * @param from the index of the first value to discard, inclusive
+	 * @param to the index of the last value to discard, exclusive
+	 * @param context the {@link Context} in which to look for local hook
+	 * @see #onDiscard(Object, Context)
+	 */
+	static void onDiscardMultiple(Object[] values, int from, int to, Context context) {
+		if (from >= to) {
+			return;
+		}
+		Consumer<Object> hook = context.getOrDefault(Hooks.KEY_ON_DISCARD, null);
+		if (hook != null) {
+			for (int i = from; i < to; i++) {
+				Object o = values[i];
+				if (o != null) {
+					try {
+						hook.accept(o);
+					}
+					catch (Throwable t) {
+						log.warn("Error while discarding element from a batch, continuing with next element", t);
+					}
+				}
+			}
+		}
+	}
+
 	Operators() {
 	}
 
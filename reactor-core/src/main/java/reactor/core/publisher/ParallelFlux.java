@@ -834,8 +834,10 @@ public abstract class ParallelFlux<T> implements CorePublisher<T> {
 	 * This operator uses the default prefetch size returned by {@code
 	 * Queues.SMALL_BUFFER_SIZE}.
 	 * <p>
-	 * The operator will call {@code Scheduler.createWorker()} as many times as this
-	 * ParallelFlux's parallelism level is.
+	 * The operator will call {@code Scheduler.createWorker(rail, parallelism)} as many
+	 * times as this ParallelFlux's parallelism level is, which lets schedulers like
+	 * {@link Schedulers#newAffinityParallel(String, int)} map each rail to the same
+	 * worker on every subscription.
 	 * <p>
 	 * No assumptions are made about the Scheduler's parallelism level, if the Scheduler's
 	 * parallelism level is lower than the ParallelFlux's, some rails may end up on
@@ -859,8 +861,10 @@ public abstract class ParallelFlux<T> implements CorePublisher<T> {
 	 * This operator uses the default prefetch size returned by {@code
 	 * Queues.SMALL_BUFFER_SIZE}.
 	 * <p>
-	 * The operator will call {@code Scheduler.createWorker()} as many times as this
-	 * ParallelFlux's parallelism level is.
+	 * The operator will call {@code Scheduler.createWorker(rail, parallelism)} as many
+	 * times as this ParallelFlux's parallelism level is, which lets schedulers like
+	 * {@link Schedulers#newAffinityParallel(String, int)} map each rail to the same
+	 * worker on every subscription.
 	 * <p>
 	 * No assumptions are made about the Scheduler's parallelism level, if the Scheduler's
 	 * parallelism level is lower than the ParallelFlux's, some rails may end up on
@@ -952,6 +956,39 @@ public abstract class ParallelFlux<T> implements CorePublisher<T> {
 		return Flux.onAssembly(new ParallelMergeSort<>(railSorted, comparator));
 	}
 
+	/**
+	 * Sorts the 'rails' of this {@link ParallelFlux} without holding all their values in
+	 * memory, and returns a Publisher that sequentially picks the smallest next value
+	 * from the rails. Each rail collects its values into runs of
+	 * {@link SpillSpec#inMemoryCapacity(int)} elements, and each full run is sorted then
+	 * encoded and appended to memory-mapped segment files shared by the runs of the rail,
+	 * as configured by the {@link SpillSpec}. Every 64 runs of a rail are merged into a
+	 * longer one while spilling. Once all the rails complete, the runs of all the rails are
+	 * merged and read back as the sorted sequence is requested.
+	 * <p>
+	 * This operator requires a finite source ParallelFlux.
+	 *
+	 * @param comparator the comparator to use
+	 * @param spillSpec the {@link SpillSpec} configuring the size of the runs, which must
+	 * be strictly positive, and the spilling
+	 *
+	 * @return the new Flux instance
+	 * @see Flux#sort(Comparator, SpillSpec)
+	 * @since 3.8.0
+	 */
+	public final Flux<T> sorted(Comparator<? super T> comparator, SpillSpec<T> spillSpec) {
+		Objects.requireNonNull(comparator, "comparator");
+		Objects.requireNonNull(spillSpec, "spillSpec");
+		if (spillSpec.inMemoryCapacity < 1) {
+			throw new IllegalArgumentException("spillSpec.inMemoryCapacity must be strictly positive to sort runs");
+		}
+		ParallelFlux<SortedRuns<T>> railSorted =
+				reduce(() -> new SortedRuns<>(comparator, spillSpec), SortedRuns::add)
+						.map(SortedRuns::complete);
+
+		return Flux.onAssembly(new FluxMergeSortedRuns<>(railSorted.sequential(), comparator));
+	}
+
 	/**
 	 * Subscribes an array of Subscribers to this {@link ParallelFlux} and triggers the
 	 * execution chain for all 'rails'.
@@ -1124,6 +1161,30 @@ public abstract class ParallelFlux<T> implements CorePublisher<T> {
 		return Mono.onAssembly(new ParallelThen(this));
 	}
 
+	/**
+	 * Keeps the {@code k} smallest values of each 'rail' of this {@link ParallelFlux}
+	 * according to a {@link Comparator} in a bounded heap, and returns a Publisher
+	 * that sequentially picks the {@code k} smallest values from the rails, in ascending
+	 * order, once all the rails complete. This holds up to {@code k} values per rail
+	 * instead of all the values.
+	 * <p>
+	 * This operator requires a finite source ParallelFlux.
+	 *
+	 * @param k the number of values to emit
+	 * @param comparator the comparator to use
+	 *
+	 * @return the new Flux instance
+	 * @see Flux#topK(int, Comparator)
+	 * @since 3.8.0
+	 */
+	public final Flux<T> topK(int k, Comparator<? super T> comparator) {
+		Objects.requireNonNull(comparator, "comparator");
+		ParallelFlux<List<T>> railTopK = new ParallelTopK<>(this, k, comparator);
+
+		return Flux.onAssembly(new ParallelMergeSort<>(railTopK, comparator))
+		           .take(k);
+	}
+
 	/**
 	 * Allows composing operators, in assembly time, on top of this {@link ParallelFlux}
 	 * and returns another {@link ParallelFlux} with composed features.
@@ -87,6 +87,13 @@ final class ParallelMergeSort<T> extends Flux<T> implements Scannable {
 		final Comparator<? super T> comparator;
 		final CoreSubscriber<? super T> actual;
 
+		/**
+		 * Selects the smallest of the current values of the lists, built by the drain
+		 * loop once all the lists have been received.
+		 */
+		@Nullable
+		TournamentTree<T> heads;
+
 		volatile int wip;
 
 		@SuppressWarnings("rawtypes")
@@ -170,7 +177,7 @@ final class ParallelMergeSort<T> extends Flux<T> implements Scannable {
 				cancelled = true;
 				cancelAll();
 				if (WIP.getAndIncrement(this) == 0) {
-					Arrays.fill(lists, null);
+					clear();
 				}
 			}
 		}
@@ -181,6 +188,29 @@ final class ParallelMergeSort<T> extends Flux<T> implements Scannable {
 			}
 		}
 
+		void clear() {
+			Arrays.fill(lists, null);
+			TournamentTree<T> heads = this.heads;
+			if (heads != null) {
+				heads.clear();
+			}
+		}
+
+		TournamentTree<T> heads() {
+			TournamentTree<T> heads = this.heads;
+			if (heads == null) {
+				int n = lists.length;
+				heads = new TournamentTree<>(n, comparator);
+				for (int i = 0; i < n; i++) {
+					List<T> list = lists[i];
+					heads.load(i, list.isEmpty() ? null : list.get(0));
+				}
+				heads.build();
+				this.heads = heads;
+			}
+			return heads;
+		}
+
 		void innerNext(List<T> value, int index) {
 			lists[index] = value;
 			if (REMAINING.decrementAndGet(this) == 0) {
@@ -207,7 +237,6 @@ final class ParallelMergeSort<T> extends Flux<T> implements Scannable {
 			Subscriber<? super T> a = actual;
 			List<T>[] lists = this.lists;
 			int[] indexes = this.indexes;
-			int n = indexes.length;
 
 			for (; ; ) {
 
@@ -216,78 +245,53 @@ final class ParallelMergeSort<T> extends Flux<T> implements Scannable {
 
 				while (e != r) {
 					if (cancelled) {
-						Arrays.fill(lists, null);
+						clear();
 						return;
 					}
 
 					Throwable ex = error;
 					if (ex != null) {
 						cancelAll();
-						Arrays.fill(lists, null);
+						clear();
 						a.onError(ex);
 						return;
 					}
 
-					T min = null;
-					int minIndex = -1;
-
-					for (int i = 0; i < n; i++) {
-						List<T> list = lists[i];
-						int index = indexes[i];
-
-						if (list.size() != index) {
-							if (min == null) {
-								min = list.get(index);
-								minIndex = i;
-							}
-							else {
-								T b = list.get(index);
-								if (comparator.compare(min, b) > 0) {
-									min = b;
-									minIndex = i;
-								}
-							}
-						}
-					}
+					TournamentTree<T> heads = heads();
+					int minIndex = heads.winner();
 
-					if (min == null) {
-						Arrays.fill(lists, null);
+					if (minIndex < 0) {
+						clear();
 						a.onComplete();
 						return;
 					}
 
+					T min = heads.head(minIndex);
 					a.onNext(min);
 
-					indexes[minIndex]++;
+					List<T> list = lists[minIndex];
+					int index = ++indexes[minIndex];
+					heads.set(minIndex, index != list.size() ? list.get(index) : null);
 
 					e++;
 				}
 
 				if (e == r) { //TODO investigate condition always true
 					if (cancelled) {
-						Arrays.fill(lists, null);
+						clear();
 						return;
 					}
 
 					Throwable ex = error;
 					if (ex != null) {
 						cancelAll();
-						Arrays.fill(lists, null);
+						clear();
 						a.onError(ex);
 						return;
 					}
 
-					boolean empty = true;
-
-					for (int i = 0; i < n; i++) {
-						if (indexes[i] != lists[i].size()) {
-							empty = false;
-							break;
-						}
-					}
-
-					if (empty) {
-						Arrays.fill(lists, null);
+					if (heads().winner() < 0) {
+						clear();
 						a.onComplete();
 						return;
 					}
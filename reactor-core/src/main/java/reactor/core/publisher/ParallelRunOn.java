@@ -77,7 +77,8 @@ final class ParallelRunOn<T> extends ParallelFlux<T> implements Scannable{
 		boolean conditional = subscribers[0] instanceof Fuseable.ConditionalSubscriber;
 
 		for (int i = 0; i < n; i++) {
-			Worker w = scheduler.createWorker();
+			// a stable rail to worker mapping, for schedulers backed by a fixed pool
+			Worker w = scheduler.createWorker(i, n);
 
 			if (conditional) {
 				parents[i] = new FluxPublishOn.PublishOnConditionalSubscriber<>(
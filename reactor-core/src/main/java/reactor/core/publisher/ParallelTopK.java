@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.Comparator;
+import java.util.List;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.Fuseable;
+import reactor.core.Scannable;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Keeps the {@code k} smallest values of each 'rail' in a bounded heap, and emits them
+ * as a sorted {@link List} per rail once the rail completes.
+ *
+ * @param <T> the value type
+ * @see MonoTopK
+ */
+final class ParallelTopK<T> extends ParallelFlux<List<T>> implements Scannable, Fuseable {
+
+	final ParallelFlux<? extends T> source;
+	final int                       k;
+	final Comparator<? super T>     comparator;
+
+	ParallelTopK(ParallelFlux<? extends T> source, int k, Comparator<? super T> comparator) {
+		if (k < 0) {
+			throw new IllegalArgumentException("k >= 0 required but it was " + k);
+		}
+		this.source = ParallelFlux.from(source);
+		this.k = k;
+		this.comparator = comparator;
+	}
+
+	@Override
+	@Nullable
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.PARENT) return source;
+		if (key == Attr.PREFETCH) return getPrefetch();
+		if (key == Attr.RUN_STYLE) return Attr.RunStyle.SYNC;
+		if (key == InternalProducerAttr.INSTANCE) return true;
+
+		return null;
+	}
+
+	@Override
+	public int getPrefetch() {
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public void subscribe(CoreSubscriber<? super List<T>>[] subscribers) {
+		if (!validate(subscribers)) {
+			return;
+		}
+
+		int n = subscribers.length;
+		@SuppressWarnings("unchecked")
+		CoreSubscriber<T>[] parents = new CoreSubscriber[n];
+
+		for (int i = 0; i < n; i++) {
+			parents[i] = new MonoTopK.TopKSubscriber<>(subscribers[i], k, comparator);
+		}
+
+		source.subscribe(parents);
+	}
+
+	@Override
+	public int parallelism() {
+		return source.parallelism();
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import reactor.util.annotation.Nullable;
+
+/**
+ * Defines how many elements operators like {@link Flux#publishOn(reactor.core.scheduler.Scheduler, boolean, PrefetchStrategy)},
+ * {@link Flux#flatMap(java.util.function.Function, int, PrefetchStrategy)} or
+ * {@link Flux#concatMap(java.util.function.Function, PrefetchStrategy)} request ahead
+ * of consumption.
+ * <p>
+ * A {@link #fixed(int) fixed} strategy requests the prefetch amount upfront, then
+ * replenishes once 75% of it has been consumed, which is the behavior of the variants
+ * taking an {@code int} prefetch.
+ * <p>
+ * An {@link #adaptive(int, int) adaptive} strategy starts with a window of
+ * {@code minPrefetch} elements and resizes it at each replenishment, between the two
+ * bounds, based on how the consumer keeps up with the deliveries:
+ * <ul>
+ *     <li>the window doubles when the consumer drained all the delivered elements, as it
+ *     waits on the source and a larger batch lets the source run ahead;</li>
+ *     <li>the window halves when everything requested was already delivered and is still
+ *     queued, as the consumer is the bottleneck and buffering more only adds latency and
+ *     memory.</li>
+ * </ul>
+ * Queues are sized for {@code maxPrefetch} elements in both cases.
+ *
+ * @since 3.8.0
+ */
+public final class PrefetchStrategy {
+
+	/**
+	 * Create a {@link PrefetchStrategy} that always requests batches based on the same
+	 * {@code prefetch} amount.
+	 *
+	 * @param prefetch the number of elements to request upfront, {@link Integer#MAX_VALUE} for unbounded
+	 * @return a fixed {@link PrefetchStrategy}
+	 */
+	public static PrefetchStrategy fixed(int prefetch) {
+		if (prefetch <= 0) {
+			throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+		}
+		return new PrefetchStrategy(prefetch, prefetch);
+	}
+
+	/**
+	 * Create a {@link PrefetchStrategy} that resizes the window of requested elements
+	 * between {@code minPrefetch} and {@code maxPrefetch}, based on the observed queue
+	 * occupancy at each replenishment.
+	 *
+	 * @param minPrefetch the initial and smallest number of elements to request ahead
+	 * @param maxPrefetch the largest number of elements to request ahead, which is also
+	 * the capacity of the queues
+	 * @return an adaptive {@link PrefetchStrategy}
+	 */
+	public static PrefetchStrategy adaptive(int minPrefetch, int maxPrefetch) {
+		if (minPrefetch <= 0) {
+			throw new IllegalArgumentException("minPrefetch > 0 required but it was " + minPrefetch);
+		}
+		if (maxPrefetch < minPrefetch) {
+			throw new IllegalArgumentException("maxPrefetch >= minPrefetch required but it was " + maxPrefetch);
+		}
+		return new PrefetchStrategy(minPrefetch, maxPrefetch);
+	}
+
+	final int minPrefetch;
+	final int maxPrefetch;
+
+	PrefetchStrategy(int minPrefetch, int maxPrefetch) {
+		this.minPrefetch = minPrefetch;
+		this.maxPrefetch = maxPrefetch;
+	}
+
+	/**
+	 * @return the smallest number of elements requested ahead
+	 */
+	public int minPrefetch() {
+		return minPrefetch;
+	}
+
+	/**
+	 * @return the largest number of elements requested ahead
+	 */
+	public int maxPrefetch() {
+		return maxPrefetch;
+	}
+
+	/**
+	 * @return true if the requested window is resized between the bounds
+	 */
+	public boolean isAdaptive() {
+		return minPrefetch != maxPrefetch;
+	}
+
+	/**
+	 * Create the per-subscriber state of an adaptive strategy.
+	 *
+	 * @return a new {@link Window}, or null if this strategy is fixed
+	 */
+	@Nullable
+	Window newWindow() {
+		return isAdaptive() ? new Window(minPrefetch, maxPrefetch) : null;
+	}
+
+	@Override
+	public String toString() {
+		return isAdaptive() ? "adaptive(" + minPrefetch + ", " + maxPrefetch + ")" : "fixed(" + maxPrefetch + ")";
+	}
+
+	/**
+	 * The window of an adaptive strategy, for a single subscriber. It is only accessed
+	 * from the drain loop of its operator, and is as such not thread-safe.
+	 */
+	static final class Window {
+
+		final int min;
+		final int max;
+
+		int size;
+
+		Window(int min, int max) {
+			this.min = min;
+			this.max = max;
+			this.size = min;
+		}
+
+		/**
+		 * @return the number of consumed elements after which to replenish
+		 */
+		int limit() {
+			return size - (size >> 2);
+		}
+
+		/**
+		 * Resize the window once {@code consumed} elements have been consumed since the
+		 * last replenishment, and compute the amount to request so that the requested
+		 * but not yet consumed elements match the new window.
+		 *
+		 * @param consumed the number of elements consumed since the last replenishment
+		 * @param queued the number of elements delivered but not yet consumed
+		 * @return the amount to request
+		 */
+		long replenish(long consumed, int queued) {
+			int next = size;
+			if (queued == 0) {
+				next = size > max >> 1 ? max : size << 1;
+			}
+			else if (queued >= size - consumed) {
+				next = Math.max(min, size >> 1);
+			}
+			long n = consumed + next - size;
+			size = next;
+			return n;
+		}
+	}
+}
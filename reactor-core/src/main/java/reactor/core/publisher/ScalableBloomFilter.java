@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A scalable Bloom filter backing {@link Flux#distinctApproximate(java.util.function.Function, int, double)}:
+ * a chain of Bloom filters where a new, twice as large filter is added once the current
+ * one holds as many keys as it was sized for. The false positive probability of each
+ * new filter is halved, so that the overall probability of the filters stays below the
+ * requested one however many keys are added.
+ * <p>
+ * {@link CharSequence}, {@link Long} and {@link UUID} keys are hashed on 64 bits. Other
+ * keys are hashed from their {@link Object#hashCode()}, so that keys with the same hash
+ * code are always considered as the same key, which bounds the false positive
+ * probability from below by about {@code n / 2^32} after {@code n} keys. The filter is
+ * not thread-safe, which is fine for a store of {@link FluxDistinct}.
+ */
+final class ScalableBloomFilter {
+
+	static final double LN2 = Math.log(2);
+
+	final int    expectedInsertions;
+	final double fpp;
+
+	final List<Stage> stages = new ArrayList<>();
+
+	static void checkArguments(int expectedInsertions, double fpp) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("expectedInsertions > 0 required but it was " + expectedInsertions);
+		}
+		if (!(fpp > 0d && fpp < 1d)) {
+			throw new IllegalArgumentException("fpp must be between 0 and 1 (exclusive) but it was " + fpp);
+		}
+	}
+
+	ScalableBloomFilter(int expectedInsertions, double fpp) {
+		checkArguments(expectedInsertions, fpp);
+		this.expectedInsertions = expectedInsertions;
+		this.fpp = fpp;
+		clear();
+	}
+
+	/**
+	 * Add the key to the filter, unless it might have been added before.
+	 *
+	 * @param key the key to add
+	 * @return true if the key was definitely not added before, false if it probably was
+	 */
+	boolean add(Object key) {
+		long h1 = mix(hash64(key));
+		long h2 = mix(h1 + 0x9E3779B97F4A7C15L);
+		for (Stage stage : stages) {
+			if (stage.mightContain(h1, h2)) {
+				return false;
+			}
+		}
+		Stage current = stages.get(stages.size() - 1);
+		current.put(h1, h2);
+		if (current.count == current.capacity) {
+			stages.add(new Stage(current.capacity * 2, current.fpp / 2));
+		}
+		return true;
+	}
+
+	/**
+	 * Forget all the keys, releasing the memory of the grown stages.
+	 */
+	void clear() {
+		stages.clear();
+		stages.add(new Stage(expectedInsertions, fpp / 2));
+	}
+
+	/**
+	 * @return the number of bits used by the filter
+	 */
+	long bitSize() {
+		long size = 0;
+		for (Stage stage : stages) {
+			size += stage.bitSize;
+		}
+		return size;
+	}
+
+	/**
+	 * Hash the key on 64 bits for the common key types whose {@link Object#hashCode()}
+	 * folds more information into 32 bits, and fall back to the hash code otherwise.
+	 */
+	static long hash64(Object key) {
+		if (key instanceof Long) {
+			return (Long) key;
+		}
+		if (key instanceof CharSequence) {
+			// FNV-1a over the chars
+			CharSequence chars = (CharSequence) key;
+			long h = 0xCBF29CE484222325L;
+			for (int i = 0; i < chars.length(); i++) {
+				h = (h ^ chars.charAt(i)) * 0x100000001B3L;
+			}
+			return h;
+		}
+		if (key instanceof UUID) {
+			UUID uuid = (UUID) key;
+			return mix(uuid.getMostSignificantBits()) ^ uuid.getLeastSignificantBits();
+		}
+		return key.hashCode();
+	}
+
+	static long mix(long z) {
+		z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+		z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+		return z ^ (z >>> 33);
+	}
+
+	/**
+	 * A plain Bloom filter sized for {@code capacity} keys, checking the
+	 * {@code hashCount} bits {@code h1 + i * h2} for each key.
+	 */
+	static final class Stage {
+
+		final long   capacity;
+		final double fpp;
+		final long   bitSize;
+		final int    hashCount;
+		final long[] words;
+
+		long count;
+
+		Stage(long capacity, double fpp) {
+			this.capacity = capacity;
+			this.fpp = fpp;
+			long bits = (long) Math.ceil(-capacity * Math.log(fpp) / (LN2 * LN2));
+			this.words = new long[Math.toIntExact((Math.max(bits, 64L) + 63) >>> 6)];
+			this.bitSize = (long) words.length << 6;
+			this.hashCount = Math.max(1, (int) Math.round((double) bitSize / capacity * LN2));
+		}
+
+		boolean mightContain(long h1, long h2) {
+			long combined = h1;
+			for (int i = 0; i < hashCount; i++) {
+				long index = (combined & Long.MAX_VALUE) % bitSize;
+				if ((words[(int) (index >>> 6)] & (1L << index)) == 0) {
+					return false;
+				}
+				combined += h2;
+			}
+			return true;
+		}
+
+		void put(long h1, long h2) {
+			long combined = h1;
+			for (int i = 0; i < hashCount; i++) {
+				long index = (combined & Long.MAX_VALUE) % bitSize;
+				words[(int) (index >>> 6)] |= 1L << index;
+				combined += h2;
+			}
+			count++;
+		}
+	}
+}
@@ -66,6 +66,8 @@ final class SinkManyEmitterProcessor<T> extends Flux<T> implements InternalManyS
 
 	final boolean autoCancel;
 
+	final boolean multiProducer;
+
 	volatile Subscription                                                            s;
 	@SuppressWarnings("rawtypes")
 	static final AtomicReferenceFieldUpdater<SinkManyEmitterProcessor, Subscription> S =
@@ -100,6 +102,11 @@ final class SinkManyEmitterProcessor<T> extends Flux<T> implements InternalManyS
 
 	volatile boolean done;
 
+	volatile int terminating;
+	@SuppressWarnings("rawtypes")
+	static final AtomicIntegerFieldUpdater<SinkManyEmitterProcessor> TERMINATING =
+			AtomicIntegerFieldUpdater.newUpdater(SinkManyEmitterProcessor.class, "terminating");
+
 	volatile Throwable error;
 
 	@SuppressWarnings("rawtypes")
@@ -109,11 +116,19 @@ final class SinkManyEmitterProcessor<T> extends Flux<T> implements InternalManyS
 					"error");
 
 	SinkManyEmitterProcessor(boolean autoCancel, int prefetch) {
+		this(autoCancel, prefetch, false);
+	}
+
+	//when multiProducer is true, the backlog is a multi-producer queue so that tryEmitNext
+	//can be called concurrently: each emitter enqueues its value and whichever emitter
+	//wins the drain loop delivers the backlog to the subscribers
+	SinkManyEmitterProcessor(boolean autoCancel, int prefetch, boolean multiProducer) {
 		if (prefetch < 1) {
 			throw new IllegalArgumentException("bufferSize must be strictly positive, " + "was: " + prefetch);
 		}
 		this.autoCancel = autoCancel;
 		this.prefetch = prefetch;
+		this.multiProducer = multiProducer;
 		//doesn't use INIT/CANCELLED distinction, contrary to FluxPublish)
 		//see remove()
 		SUBSCRIBERS.lazySet(this, EMPTY);
@@ -201,7 +216,7 @@ final class SinkManyEmitterProcessor<T> extends Flux<T> implements InternalManyS
 
 	@Override
 	public EmitResult tryEmitComplete() {
-		if (done) {
+		if (done || (multiProducer && !TERMINATING.compareAndSet(this, 0, 1))) {
 			return EmitResult.FAIL_TERMINATED;
 		}
 		done = true;
@@ -217,7 +232,7 @@ final class SinkManyEmitterProcessor<T> extends Flux<T> implements InternalManyS
 	@Override
 	public EmitResult tryEmitError(Throwable t) {
 		Objects.requireNonNull(t, "tryEmitError must be invoked with a non-null Throwable");
-		if (done) {
+		if (done || (multiProducer && !TERMINATING.compareAndSet(this, 0, 1))) {
 			return EmitResult.FAIL_TERMINATED;
 		}
 		if (Exceptions.addThrowable(ERROR, this, t)) {
@@ -251,7 +266,7 @@ final class SinkManyEmitterProcessor<T> extends Flux<T> implements InternalManyS
 
 		if (q == null) {
 			if (Operators.setOnce(S, this, Operators.emptySubscription())) {
-				q = Queues.<T>get(prefetch).get();
+				q = multiProducer ? Queues.<T>multiproducer(prefetch).get() : Queues.<T>get(prefetch).get();
 				queue = q;
 			}
 			else {
@@ -557,6 +557,53 @@ public final class Sinks {
 		 */
 		<T> Sinks.Many<T> onBackpressureBuffer(int bufferSize, boolean autoCancel);
 
+		/**
+		 * A {@link Sinks.Many} with the same characteristics as {@link #onBackpressureBuffer()},
+		 * except that it is safe to emit from several threads at once: instead of failing
+		 * with {@link EmitResult#FAIL_NON_SERIALIZED}, concurrent calls to
+		 * {@link Many#tryEmitNext(Object) tryEmitNext} each enqueue their element in a
+		 * multi-producer buffer, and exactly one of the emitting threads drains that buffer
+		 * to the subscribers.
+		 * <ul>
+		 *     <li>Multicast</li>
+		 *     <li>Multi-producer: {@link Many#tryEmitNext(Object) tryEmitNext} never returns
+		 *     {@link EmitResult#FAIL_NON_SERIALIZED}. Elements emitted by a given thread are
+		 *     delivered in order, elements emitted concurrently by different threads are
+		 *     interleaved in the order they were enqueued.</li>
+		 *     <li>Without {@link Subscriber}: warm up. Remembers up to {@link Queues#SMALL_BUFFER_SIZE}
+		 *     elements pushed via {@link Many#tryEmitNext(Object)} before the first {@link Subscriber} is registered.</li>
+		 *     <li>Backpressure : this sink honors downstream demand by conforming to the lowest demand in case
+		 *     of multiple subscribers.<br>If the difference between multiple subscribers is greater than {@link Queues#SMALL_BUFFER_SIZE}:
+		 *          <ul><li>{@link Many#tryEmitNext(Object) tryEmitNext} will return {@link EmitResult#FAIL_OVERFLOW}</li>
+		 *          <li>{@link Many#emitNext(Object, Sinks.EmitFailureHandler) emitNext} will terminate the sink by {@link Many#emitError(Throwable, Sinks.EmitFailureHandler) emitting}
+		 *          an {@link Exceptions#failWithOverflow() overflow error}.</li></ul>
+		 *     </li>
+		 *     <li>Replaying: No replay of values seen by earlier subscribers. Only forwards to a {@link Subscriber}
+		 *     the elements that have been pushed to the sink AFTER this subscriber was subscribed, or elements
+		 *     that have been buffered due to backpressure/warm up.</li>
+		 * </ul>
+		 * Terminal signals are not queued: elements emitted concurrently with
+		 * {@link Many#tryEmitComplete() tryEmitComplete} or {@link Many#tryEmitError(Throwable) tryEmitError}
+		 * may or may not be delivered, and only one of several concurrent terminal signals succeeds.
+		 *
+		 * @param <T> the type of elements to emit
+		 * @return a multicast {@link Sinks.Many} that accepts concurrent emissions
+		 * @since 3.8.0
+		 */
+		<T> Sinks.Many<T> multiProducer();
+
+		/**
+		 * A {@link Sinks.Many} with the same characteristics as {@link #multiProducer()},
+		 * except that it remembers up to {@code bufferSize} elements, both for warm up and
+		 * for backpressure. The multi-producer buffer is rounded up to the next power of two.
+		 *
+		 * @param bufferSize the maximum queue size
+		 * @param <T> the type of elements to emit
+		 * @return a multicast {@link Sinks.Many} that accepts concurrent emissions
+		 * @since 3.8.0
+		 */
+		<T> Sinks.Many<T> multiProducer(int bufferSize);
+
 		/**
 		 A {@link Sinks.Many} with the following characteristics:
 		 * <ul>
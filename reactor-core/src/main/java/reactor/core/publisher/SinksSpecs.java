@@ -122,6 +122,16 @@ final class SinksSpecs {
 			return new SinkManyEmitterProcessor<>(autoCancel, bufferSize);
 		}
 
+		@Override
+		public <T> Many<T> multiProducer() {
+			return new SinkManyEmitterProcessor<>(true, Queues.SMALL_BUFFER_SIZE, true);
+		}
+
+		@Override
+		public <T> Many<T> multiProducer(int bufferSize) {
+			return new SinkManyEmitterProcessor<>(true, bufferSize, true);
+		}
+
 		@Override
 		public <T> Many<T> directAllOrNothing() {
 			return new SinkManyBestEffort<>(true);
@@ -252,6 +262,17 @@ final class SinksSpecs {
 			return wrapMany(new SinkManyEmitterProcessor<>(autoCancel, bufferSize));
 		}
 
+		@Override
+		public <T> Many<T> multiProducer() {
+			//not wrapped: the sink supports concurrent emissions by itself
+			return new SinkManyEmitterProcessor<>(true, Queues.SMALL_BUFFER_SIZE, true);
+		}
+
+		@Override
+		public <T> Many<T> multiProducer(int bufferSize) {
+			return new SinkManyEmitterProcessor<>(true, bufferSize, true);
+		}
+
 		@Override
 		public <T> Many<T> directAllOrNothing() {
 			final SinkManyBestEffort<T> original = SinkManyBestEffort.createAllOrNothing();
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+
+import reactor.util.annotation.Nullable;
+import reactor.util.context.Context;
+
+/**
+ * Accumulates elements into sorted runs of up to {@link SpillSpec#inMemoryCapacity}
+ * elements for an external sort: each full run is sorted and appended to a
+ * {@link SpillFile} shared by all the runs, while the last run is kept in memory. The
+ * runs are then merged by {@link FluxMergeSortedRuns}.
+ * <p>
+ * In order to bound the number of runs merged at once, runs are compacted like the levels
+ * of a log-structured merge tree: once {@link #MERGE_FAN_IN} consecutive runs have the
+ * same level, they are merged into a single run of the next level. Each element is thus
+ * rewritten a logarithmic number of times, and merging {@code n} elements never reads
+ * more than {@code MERGE_FAN_IN} runs per level. Only consecutive runs are merged, and
+ * equal elements are taken from the oldest run first, so that the sort stays stable.
+ * <p>
+ * This is not thread-safe: it is meant to be used as the container of a collect or
+ * reduce operator.
+ *
+ * @param <T> the type of the sorted elements
+ */
+final class SortedRuns<T> {
+
+	static final int MERGE_FAN_IN = 64;
+
+	final Comparator<? super T> comparator;
+	final SpillSpec<T>          spillSpec;
+	final int                   runSize;
+	final List<Queue<T>>        runs;
+	/**
+	 * The compaction level of each spilled run of {@link #runs}, which doesn't increase
+	 * from the oldest run to the newest.
+	 */
+	final List<Integer>         levels;
+
+	ArrayList<T> buffer;
+
+	@Nullable
+	SpillFile<T> spillFile;
+
+	SortedRuns(Comparator<? super T> comparator, SpillSpec<T> spillSpec) {
+		this.comparator = comparator;
+		this.spillSpec = spillSpec;
+		this.runSize = spillSpec.inMemoryCapacity;
+		this.runs = new ArrayList<>();
+		this.levels = new ArrayList<>();
+		this.buffer = new ArrayList<>(Math.min(runSize, 1024));
+	}
+
+	/**
+	 * Add an element to the current run, spilling the run once it is full.
+	 *
+	 * @param t the element to add
+	 * @return this instance
+	 */
+	SortedRuns<T> add(T t) {
+		ArrayList<T> b = buffer;
+		b.add(t);
+		if (b.size() == runSize) {
+			b.sort(comparator);
+			SpillFile<T> file = spillFile();
+			file.startRun();
+			for (T v : b) {
+				file.write(v);
+			}
+			runs.add(file.finishRun());
+			levels.add(0);
+			b.clear();
+			compact();
+		}
+		return this;
+	}
+
+	/**
+	 * Sort the elements of the last run, which is kept in memory.
+	 *
+	 * @return this instance
+	 */
+	SortedRuns<T> complete() {
+		ArrayList<T> b = buffer;
+		if (!b.isEmpty()) {
+			b.sort(comparator);
+			runs.add(new ArrayDeque<>(b));
+			b.clear();
+		}
+		return this;
+	}
+
+	SpillFile<T> spillFile() {
+		SpillFile<T> file = spillFile;
+		if (file == null) {
+			file = new SpillFile<>(spillSpec);
+			spillFile = file;
+		}
+		return file;
+	}
+
+	/**
+	 * Merge the newest runs as long as there are {@link #MERGE_FAN_IN} of them at the
+	 * same level.
+	 */
+	void compact() {
+		int n = levels.size();
+		while (n >= MERGE_FAN_IN && levels.get(n - MERGE_FAN_IN).equals(levels.get(n - 1))) {
+			int level = levels.get(n - 1);
+			List<Queue<T>> merged = runs.subList(n - MERGE_FAN_IN, n);
+			Queue<T> run = merge(merged);
+			merged.clear();
+			levels.subList(n - MERGE_FAN_IN, n).clear();
+			runs.add(run);
+			levels.add(level + 1);
+			n = levels.size();
+		}
+	}
+
+	/**
+	 * Merge the given runs into a new spilled run. If the merge fails, the elements
+	 * already read from the runs are added back as runs, so that they are discarded
+	 * along the others.
+	 */
+	Queue<T> merge(List<Queue<T>> sources) {
+		TournamentTree<T> heads = new TournamentTree<>(sources.size(), comparator);
+		SpillFile<T> file = spillFile();
+		file.startRun();
+		try {
+			for (int i = 0; i < sources.size(); i++) {
+				heads.load(i, sources.get(i).poll());
+			}
+			heads.build();
+			int index;
+			while ((index = heads.winner()) != -1) {
+				file.write(heads.head(index));
+				heads.set(index, sources.get(index).poll());
+			}
+			return file.finishRun();
+		}
+		catch (Throwable e) {
+			ArrayDeque<T> polled = new ArrayDeque<>();
+			for (int i = 0; i < heads.size(); i++) {
+				T head = heads.head(i);
+				if (head != null) {
+					polled.add(head);
+				}
+			}
+			runs.add(file.finishRun());
+			runs.add(polled);
+			throw e;
+		}
+	}
+
+	/**
+	 * Discard the elements of the runs, decoding the spilled ones only if a discard
+	 * hook is set.
+	 *
+	 * @param ctx the {@link Context} holding the discard hook
+	 */
+	void discard(Context ctx) {
+		Operators.onDiscardMultiple(buffer, ctx);
+		buffer.clear();
+		for (Queue<T> run : runs) {
+			Operators.onDiscardQueueWithClear(run, ctx, null);
+		}
+		runs.clear();
+		levels.clear();
+	}
+}
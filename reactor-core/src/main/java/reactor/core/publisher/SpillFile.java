@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+
+import reactor.core.publisher.SpillingQueue.Segment;
+import reactor.util.annotation.Nullable;
+
+/**
+ * An append-only spill file shared by the sorted runs of a {@link SortedRuns}: the runs
+ * are written one after another into the same memory-mapped segments, instead of each
+ * run mapping a segment of its own. Segments are sized to the data, starting at
+ * {@link #MIN_SEGMENT_SIZE} and doubling the mapped size with each new segment, up to
+ * {@link SpillSpec#segmentSize}. A record doesn't span segments, like in
+ * {@link SpillingQueue}.
+ * <p>
+ * A segment is unmapped once it is garbage collected, that is once all the runs with
+ * records in it have been read or cleared.
+ * <p>
+ * This is not thread-safe, one run is written at a time by the owning {@link SortedRuns}.
+ *
+ * @param <T> the type of the elements
+ */
+final class SpillFile<T> {
+
+	static final int MIN_SEGMENT_SIZE = 64 * 1024;
+
+	final SpillSpec<T> spec;
+
+	@Nullable
+	ByteBuffer segment;
+	long       mappedBytes;
+	int        mappedSegments;
+
+	@Nullable
+	Run<T> run;
+	int    runStart;
+
+	SpillFile(SpillSpec<T> spec) {
+		this.spec = spec;
+	}
+
+	/**
+	 * Start writing a new run, abandoning the run being written if any.
+	 */
+	void startRun() {
+		run = new Run<>(spec);
+		runStart = segment == null ? 0 : segment.position();
+	}
+
+	/**
+	 * Append an element to the run being written.
+	 *
+	 * @param t the element to append
+	 */
+	void write(T t) {
+		Run<T> r = Objects.requireNonNull(run, "no run started");
+		byte[] bytes = Objects.requireNonNull(spec.encoder.apply(t), "The encoder returned null");
+		int length = Integer.BYTES + bytes.length;
+
+		ByteBuffer s = segment;
+		if (s == null || s.remaining() < length) {
+			if (s != null) {
+				r.addSlice(s, runStart);
+			}
+			s = map(length);
+			runStart = 0;
+		}
+		s.putInt(bytes.length)
+		 .put(bytes);
+		r.size++;
+	}
+
+	/**
+	 * Finish the run being written.
+	 *
+	 * @return the run, as a {@link java.util.Queue} reading the elements back in order
+	 */
+	Run<T> finishRun() {
+		Run<T> r = Objects.requireNonNull(run, "no run started");
+		ByteBuffer s = segment;
+		if (s != null) {
+			r.addSlice(s, runStart);
+			runStart = s.position();
+		}
+		run = null;
+		return r;
+	}
+
+	ByteBuffer map(int length) {
+		long size = Math.min(spec.segmentSize, Math.max(MIN_SEGMENT_SIZE, mappedBytes));
+		int segmentSize = (int) Math.max(size, length);
+		ByteBuffer s = Segment.map(spec.directory, segmentSize).writer;
+		segment = s;
+		mappedBytes += segmentSize;
+		mappedSegments++;
+		return s;
+	}
+
+	/**
+	 * A run read back from the slices of the segments it was written to.
+	 *
+	 * @param <T> the type of the elements
+	 */
+	static final class Run<T> extends AbstractQueue<T> {
+
+		final SpillSpec<T>           spec;
+		final ArrayDeque<ByteBuffer> slices;
+
+		int size;
+
+		Run(SpillSpec<T> spec) {
+			this.spec = spec;
+			this.slices = new ArrayDeque<>();
+		}
+
+		void addSlice(ByteBuffer segment, int start) {
+			if (segment.position() > start) {
+				ByteBuffer slice = segment.duplicate();
+				slice.limit(segment.position())
+				     .position(start);
+				slices.offerLast(slice);
+			}
+		}
+
+		@Override
+		public boolean offer(T t) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		@Nullable
+		public synchronized T poll() {
+			ByteBuffer slice = slices.peekFirst();
+			if (slice == null) {
+				return null;
+			}
+			byte[] bytes = new byte[slice.getInt()];
+			slice.get(bytes);
+			if (!slice.hasRemaining()) {
+				slices.pollFirst();
+			}
+			size--;
+			return spec.decoder.apply(bytes);
+		}
+
+		@Override
+		@Nullable
+		public synchronized T peek() {
+			ByteBuffer slice = slices.peekFirst();
+			if (slice == null) {
+				return null;
+			}
+			slice = slice.duplicate();
+			byte[] bytes = new byte[slice.getInt()];
+			slice.get(bytes);
+			return spec.decoder.apply(bytes);
+		}
+
+		@Override
+		public synchronized int size() {
+			return size;
+		}
+
+		@Override
+		public synchronized boolean isEmpty() {
+			return size == 0;
+		}
+
+		@Override
+		public synchronized void clear() {
+			slices.clear();
+			size = 0;
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
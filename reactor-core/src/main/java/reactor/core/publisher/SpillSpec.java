@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Function;
+
+import reactor.util.concurrent.Queues;
+
+/**
+ * A configuration for operators that can spill the elements they buffer to disk, like
+ * {@link Flux#onBackpressureBuffer(SpillSpec)}. Elements are kept in memory up to
+ * {@link #inMemoryCapacity(int)}, and the overflow is encoded to bytes and appended to
+ * memory-mapped segment files created in the configured directory, which are read back
+ * sequentially and decoded in order.
+ * <p>
+ * The segment files are temporary: they are deleted as soon as they are mapped where the
+ * platform allows it. A consumed segment is reused for the next spilled elements, and
+ * the storage of the other ones is reclaimed once they are garbage collected, or once
+ * the sequence terminates. On platforms that don't allow deleting a mapped file, like
+ * Windows, the files are only deleted once unmapped, so use a dedicated directory.
+ * <p>
+ * The {@link SpillSpec} is copy-on-write and as such can be stored as a "template" and
+ * further configured by different components without a risk of modifying the original
+ * configuration.
+ *
+ * @param <T> the type of the spilled elements
+ * @since 3.8.0
+ */
+public final class SpillSpec<T> {
+
+	static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+	final Path                          directory;
+	final Function<? super T, byte[]>   encoder;
+	final Function<byte[], ? extends T> decoder;
+	final int                           inMemoryCapacity;
+	final int                           segmentSize;
+
+	SpillSpec(Path directory,
+			Function<? super T, byte[]> encoder,
+			Function<byte[], ? extends T> decoder,
+			int inMemoryCapacity,
+			int segmentSize) {
+		this.directory = directory;
+		this.encoder = encoder;
+		this.decoder = decoder;
+		this.inMemoryCapacity = inMemoryCapacity;
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Create a {@link SpillSpec} that spills elements to segment files in the given
+	 * directory, using the provided functions to encode elements to bytes and decode them
+	 * back. It keeps up to {@link Queues#SMALL_BUFFER_SIZE} elements in memory and uses
+	 * segments of 16 MiB by default.
+	 *
+	 * @param directory the directory in which to create the segment files
+	 * @param encoder the function encoding an element to bytes
+	 * @param decoder the function decoding bytes back to an element
+	 * @param <T> the type of the spilled elements
+	 * @return a new {@link SpillSpec}
+	 */
+	public static <T> SpillSpec<T> spillTo(Path directory,
+			Function<? super T, byte[]> encoder,
+			Function<byte[], ? extends T> decoder) {
+		return new SpillSpec<>(Objects.requireNonNull(directory, "directory"),
+				Objects.requireNonNull(encoder, "encoder"),
+				Objects.requireNonNull(decoder, "decoder"),
+				Queues.SMALL_BUFFER_SIZE,
+				DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * Set the number of elements kept in memory before spilling to disk. Once elements
+	 * have been spilled, new elements are spilled as well until the spilled ones have
+	 * been consumed, in order to preserve their ordering.
+	 *
+	 * @param inMemoryCapacity the number of elements to keep in memory, can be {@code 0}
+	 * @return a new copy of the {@link SpillSpec}
+	 */
+	public SpillSpec<T> inMemoryCapacity(int inMemoryCapacity) {
+		if (inMemoryCapacity < 0) {
+			throw new IllegalArgumentException("inMemoryCapacity must be positive or zero: " + inMemoryCapacity);
+		}
+		return new SpillSpec<>(directory, encoder, decoder, inMemoryCapacity, segmentSize);
+	}
+
+	/**
+	 * Set the size in bytes of each memory-mapped segment file. Each element takes the
+	 * length of its encoded form plus 4 bytes, and an element that does not fit in a
+	 * segment gets a segment of its own.
+	 *
+	 * @param segmentSize the size of each segment, in bytes
+	 * @return a new copy of the {@link SpillSpec}
+	 */
+	public SpillSpec<T> segmentSize(int segmentSize) {
+		if (segmentSize < 1) {
+			throw new IllegalArgumentException("segmentSize must be strictly positive: " + segmentSize);
+		}
+		return new SpillSpec<>(directory, encoder, decoder, inMemoryCapacity, segmentSize);
+	}
+
+	@Override
+	public String toString() {
+		return "SpillSpec{" + "directory=" + directory + ", inMemoryCapacity=" + inMemoryCapacity + ", segmentSize=" + segmentSize + '}';
+	}
+}
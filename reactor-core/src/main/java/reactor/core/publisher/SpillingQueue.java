@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+
+import reactor.util.annotation.Nullable;
+import reactor.util.concurrent.Queues;
+
+/**
+ * An unbounded FIFO {@link java.util.Queue} that keeps up to
+ * {@link SpillSpec#inMemoryCapacity} elements on heap and encodes the overflow into
+ * memory-mapped segment files, as configured by a {@link SpillSpec}. Records are written
+ * as their length followed by their bytes, and read back sequentially.
+ * <p>
+ * It supports one producer and one consumer running concurrently. Until the in-memory
+ * capacity is exceeded, elements go through a lock-free single-producer single-consumer
+ * queue. While elements are spilled, operations synchronize on the queue, and the
+ * lock-free path is resumed once the spilled elements have all been consumed.
+ * <p>
+ * Segments are mapped once and reused: a fully read segment of the configured size is
+ * kept as a spare for the next segment to write, so that the queue doesn't map a new
+ * file each time it spills again. Other segments are unmapped once garbage collected.
+ *
+ * @param <T> the type of the elements
+ */
+final class SpillingQueue<T> extends AbstractQueue<T> {
+
+	final SpillSpec<T>        spec;
+	final Queue<T>            memory;
+	/**
+	 * The segments holding spilled elements, guarded by {@code this}.
+	 */
+	final ArrayDeque<Segment> segments;
+
+	/**
+	 * A fully read segment kept for reuse, guarded by {@code this}.
+	 */
+	@Nullable
+	Segment spare;
+
+	/**
+	 * Whether elements are being spilled, in which case all the new elements are spilled
+	 * as well, only written under {@code this}.
+	 */
+	volatile boolean spilling;
+	/**
+	 * The number of spilled elements, only written under {@code this}.
+	 */
+	volatile int     spilled;
+
+	SpillingQueue(SpillSpec<T> spec) {
+		this.spec = spec;
+		this.memory = Queues.<T>unbounded().get();
+		this.segments = new ArrayDeque<>();
+	}
+
+	@Override
+	public boolean offer(T t) {
+		Objects.requireNonNull(t, "t");
+		if (!spilling && memory.size() < spec.inMemoryCapacity) {
+			return memory.offer(t);
+		}
+		synchronized (this) {
+			// the spilled elements might have been consumed in the meantime
+			if (!spilling && memory.size() < spec.inMemoryCapacity) {
+				return memory.offer(t);
+			}
+			spill(t);
+			return true;
+		}
+	}
+
+	void spill(T t) {
+		byte[] bytes = Objects.requireNonNull(spec.encoder.apply(t), "The encoder returned null");
+		int length = Integer.BYTES + bytes.length;
+
+		Segment segment = segments.peekLast();
+		if (segment == null || segment.writer.remaining() < length) {
+			Segment s = spare;
+			if (s != null && s.writer.remaining() >= length) {
+				spare = null;
+				segment = s;
+			}
+			else {
+				segment = Segment.map(spec.directory, Math.max(spec.segmentSize, length));
+			}
+			segments.offerLast(segment);
+		}
+		segment.writer.putInt(bytes.length)
+		              .put(bytes);
+		segment.written++;
+		spilled++;
+		spilling = true;
+	}
+
+	@Override
+	@Nullable
+	public T poll() {
+		T t = memory.poll();
+		if (t != null || !spilling) {
+			return t;
+		}
+		byte[] bytes;
+		synchronized (this) {
+			// older elements might have been offered to memory right before spilling
+			t = memory.poll();
+			if (t != null || spilled == 0) {
+				return t;
+			}
+			Segment segment = segments.peekFirst();
+			bytes = segment.read(segment.reader);
+			segment.read++;
+			if (--spilled == 0) {
+				// keep the current segment for the next spill
+				segments.clear();
+				recycle(segment);
+				spilling = false;
+			}
+			else if (segment.read == segment.written && segment != segments.peekLast()) {
+				recycle(segments.pollFirst());
+			}
+		}
+		return spec.decoder.apply(bytes);
+	}
+
+	void recycle(Segment segment) {
+		if (spare == null && segment.writer.capacity() == spec.segmentSize) {
+			segment.reset();
+			spare = segment;
+		}
+	}
+
+	@Override
+	@Nullable
+	public T peek() {
+		T t = memory.peek();
+		if (t != null || !spilling) {
+			return t;
+		}
+		byte[] bytes;
+		synchronized (this) {
+			t = memory.peek();
+			if (t != null || spilled == 0) {
+				return t;
+			}
+			Segment segment = segments.peekFirst();
+			bytes = segment.read(segment.reader.duplicate());
+		}
+		return spec.decoder.apply(bytes);
+	}
+
+	@Override
+	public int size() {
+		return memory.size() + spilled;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return memory.isEmpty() && spilled == 0;
+	}
+
+	@Override
+	public void clear() {
+		memory.clear();
+		synchronized (this) {
+			segments.clear();
+			spare = null;
+			spilled = 0;
+			spilling = false;
+		}
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * A memory-mapped segment file, with a writing and a reading view.
+	 */
+	static final class Segment {
+
+		final ByteBuffer writer;
+		final ByteBuffer reader;
+
+		int written;
+		int read;
+
+		Segment(MappedByteBuffer buffer) {
+			this.writer = buffer;
+			this.reader = buffer.duplicate();
+		}
+
+		/**
+		 * Map a new temporary segment file of the given size, which is deleted once
+		 * mapped where the platform allows it.
+		 */
+		static Segment map(Path directory, int size) {
+			try {
+				Path file = Files.createTempFile(directory, "reactor-spill-", ".seg");
+				try (FileChannel channel = FileChannel.open(file,
+						StandardOpenOption.READ,
+						StandardOpenOption.WRITE,
+						StandardOpenOption.DELETE_ON_CLOSE)) {
+					return new Segment(channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+				}
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException("Unable to create a spill segment in " + directory, e);
+			}
+		}
+
+		/**
+		 * Rewind the segment so that it can be written again from the start.
+		 */
+		void reset() {
+			writer.clear();
+			reader.clear();
+			written = 0;
+			read = 0;
+		}
+
+		byte[] read(ByteBuffer buffer) {
+			byte[] bytes = new byte[buffer.getInt()];
+			buffer.get(bytes);
+			return bytes;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.micrometer.context.ContextAccessor;
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ThreadLocalAccessor;
+import reactor.util.annotation.Nullable;
+import reactor.util.context.ContextView;
+
+/**
+ * Sets and restores the {@link ThreadLocal} values of a {@link ContextView} without
+ * allocating, as an alternative to
+ * {@link io.micrometer.context.ContextSnapshotFactory#setThreadLocalsFrom(Object, String...)}
+ * used when {@link Hooks#enableCachedThreadLocalRestoration()} is on.
+ * <p>
+ * Each thread has its own instance, which caches the values of the registered
+ * {@link ThreadLocalAccessor}s for the last {@link ContextView} it has seen: contexts
+ * being immutable, these are only resolved again when the context instance or the
+ * registered accessors change. Accessors already holding the value of the context are
+ * left untouched, and the previous values of the others are pushed on a stack that is
+ * reused across signals. As scopes are closed in the reverse order of their opening,
+ * the instance itself acts as the {@link ContextSnapshot.Scope} of the last frame.
+ */
+final class ThreadLocalsRestorer implements ContextSnapshot.Scope {
+
+	static final ThreadLocal<ThreadLocalsRestorer> RESTORERS = ThreadLocal.withInitial(ThreadLocalsRestorer::new);
+
+	static final ContextSnapshot.Scope NO_OP = () -> {
+	};
+
+	static final ThreadLocalAccessor<?>[] NO_ACCESSORS = new ThreadLocalAccessor<?>[0];
+
+	/**
+	 * Set the {@link ThreadLocal} values of the given context on the current thread.
+	 *
+	 * @param context the {@link ContextView} to read values from
+	 * @param registry the {@link ContextRegistry} of the {@link ThreadLocalAccessor}s
+	 * @param clearMissing whether to clear the {@link ThreadLocal}s whose key is missing from the context
+	 * @return the {@link ContextSnapshot.Scope} to close to restore the previous values
+	 */
+	static ContextSnapshot.Scope setThreadLocals(ContextView context, ContextRegistry registry, boolean clearMissing) {
+		return RESTORERS.get().set(context, registry, clearMissing);
+	}
+
+	ThreadLocalAccessor<?>[] accessors = NO_ACCESSORS;
+	Object[]                 values    = new Object[0];
+	@Nullable
+	ContextView              context;
+
+	/**
+	 * The pairs of accessor and previous value of all the open frames.
+	 */
+	Object[] stack  = new Object[16];
+	int      top;
+	/**
+	 * The start index in {@link #stack} of each open frame.
+	 */
+	int[]    frames = new int[8];
+	int      depth;
+
+	@SuppressWarnings("unchecked")
+	ContextSnapshot.Scope set(ContextView context, ContextRegistry registry, boolean clearMissing) {
+		resolve(context, registry);
+
+		int start = top;
+		if (depth == frames.length) {
+			frames = Arrays.copyOf(frames, depth << 1);
+		}
+		frames[depth++] = start;
+		try {
+			for (int i = 0; i < accessors.length; i++) {
+				Object value = values[i];
+				if (value == null && !clearMissing) {
+					continue;
+				}
+				ThreadLocalAccessor<Object> accessor = (ThreadLocalAccessor<Object>) accessors[i];
+				Object previous = accessor.getValue();
+				if (previous == value) {
+					continue;
+				}
+				push(accessor, previous);
+				if (value != null) {
+					accessor.setValue(value);
+				}
+				else {
+					accessor.setValue();
+				}
+			}
+		}
+		catch (Throwable e) {
+			close();
+			throw e;
+		}
+
+		if (top == start) {
+			depth--;
+			return NO_OP;
+		}
+		return this;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void close() {
+		int start = frames[--depth];
+		for (int i = top - 2; i >= start; i -= 2) {
+			ThreadLocalAccessor<Object> accessor = (ThreadLocalAccessor<Object>) stack[i];
+			Object previous = stack[i + 1];
+			stack[i] = null;
+			stack[i + 1] = null;
+			if (previous != null) {
+				accessor.restore(previous);
+			}
+			else {
+				accessor.restore();
+			}
+		}
+		top = start;
+	}
+
+	@SuppressWarnings("unchecked")
+	void resolve(ContextView context, ContextRegistry registry) {
+		List<ThreadLocalAccessor<?>> registered = registry.getThreadLocalAccessors();
+		int n = registered.size();
+		boolean changed = n != accessors.length;
+		for (int i = 0; !changed && i < n; i++) {
+			changed = registered.get(i) != accessors[i];
+		}
+		if (changed) {
+			accessors = registered.toArray(NO_ACCESSORS);
+			values = new Object[accessors.length];
+			this.context = null;
+		}
+
+		if (context != this.context) {
+			ContextAccessor<ContextView, ?> contextAccessor =
+					(ContextAccessor<ContextView, ?>) registry.getContextAccessorForRead(context);
+			for (int i = 0; i < accessors.length; i++) {
+				values[i] = contextAccessor.readValue(context, accessors[i].key());
+			}
+			this.context = context;
+		}
+	}
+
+	void push(ThreadLocalAccessor<?> accessor, @Nullable Object previous) {
+		if (top == stack.length) {
+			stack = Arrays.copyOf(stack, top << 1);
+		}
+		stack[top++] = accessor;
+		stack[top++] = previous;
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import reactor.util.annotation.Nullable;
+
+/**
+ * A tournament tree selecting the smallest of the head values of {@code n} sorted
+ * sources, used by the ordered merge operators. Each internal node holds the index of
+ * the winner of the match between its two children, so that changing the head of one
+ * source only replays the {@code ceil(log2(n))} matches on its path to the root, instead
+ * of comparing all the heads again.
+ * <p>
+ * A source without head value loses against any value. Equal values are won by the
+ * source with the lowest index, which is what a linear scan over the sources would pick.
+ * The tree is not thread-safe, and is meant to be accessed from a serialized drain loop.
+ *
+ * @param <T> the value type
+ */
+final class TournamentTree<T> {
+
+	final Comparator<? super T> comparator;
+	final Object[]              heads;
+	/**
+	 * Winners of the matches, in an implicit binary tree: the root is at index 1, the
+	 * children of node {@code k} are at {@code 2k} and {@code 2k + 1}, and the leaf of
+	 * source {@code i} is at {@code n + i}.
+	 */
+	final int[]                 winners;
+
+	TournamentTree(int n, Comparator<? super T> comparator) {
+		this.comparator = comparator;
+		this.heads = new Object[n];
+		this.winners = new int[Math.max(2 * n, 2)];
+		for (int i = 0; i < n; i++) {
+			winners[n + i] = i;
+		}
+		build();
+	}
+
+	/**
+	 * @return the number of sources
+	 */
+	int size() {
+		return heads.length;
+	}
+
+	/**
+	 * @return the index of the source with the smallest head value, or -1 if no source has one
+	 */
+	int winner() {
+		if (heads.length == 0) {
+			return -1;
+		}
+		int w = winners[1];
+		return heads[w] == null ? -1 : w;
+	}
+
+	/**
+	 * @param index the index of the source
+	 * @return the head value of the source, or null if it has none
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	T head(int index) {
+		return (T) heads[index];
+	}
+
+	/**
+	 * Change the head value of a source and replay the matches on its path to the root.
+	 *
+	 * @param index the index of the source
+	 * @param value the new head value, or null if the source has none
+	 */
+	void set(int index, @Nullable T value) {
+		heads[index] = value;
+		int[] winners = this.winners;
+		for (int k = (heads.length + index) >> 1; k > 0; k >>= 1) {
+			winners[k] = match(winners[2 * k], winners[2 * k + 1]);
+		}
+	}
+
+	/**
+	 * Change the head value of a source without replaying any match, which must be
+	 * followed by a {@link #build()} once all the heads are loaded.
+	 *
+	 * @param index the index of the source
+	 * @param value the new head value, or null if the source has none
+	 */
+	void load(int index, @Nullable T value) {
+		heads[index] = value;
+	}
+
+	/**
+	 * Play all the matches, in {@code n - 1} comparisons.
+	 */
+	void build() {
+		int[] winners = this.winners;
+		for (int k = heads.length - 1; k > 0; k--) {
+			winners[k] = match(winners[2 * k], winners[2 * k + 1]);
+		}
+	}
+
+	/**
+	 * Remove all the head values.
+	 */
+	void clear() {
+		Arrays.fill(heads, null);
+		build();
+	}
+
+	@SuppressWarnings("unchecked")
+	int match(int a, int b) {
+		Object va = heads[a];
+		Object vb = heads[b];
+		if (va == null) {
+			return vb == null ? Math.min(a, b) : b;
+		}
+		if (vb == null) {
+			return a;
+		}
+		int c = comparator.compare((T) va, (T) vb);
+		if (c == 0) {
+			return Math.min(a, b);
+		}
+		return c < 0 ? a : b;
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.util.Objects;
+
+/**
+ * The aggregate of the values of one key within one time window, emitted by
+ * {@link Flux#aggregateByKey(java.util.function.Function, WindowSpec, java.util.function.ToLongFunction, java.util.function.LongBinaryOperator)}.
+ * The bounds of the window are in milliseconds, as measured by the
+ * {@link reactor.core.scheduler.Scheduler#now(java.util.concurrent.TimeUnit) clock} of
+ * the window timer.
+ *
+ * @param <K> the type of the key
+ * @since 3.8.0
+ */
+public final class WindowAggregate<K> {
+
+	final K    key;
+	final long start;
+	final long end;
+	final long value;
+	final long count;
+
+	WindowAggregate(K key, long start, long end, long value, long count) {
+		this.key = key;
+		this.start = start;
+		this.end = end;
+		this.value = value;
+		this.count = count;
+	}
+
+	/**
+	 * @return the key of the aggregated values
+	 */
+	public K key() {
+		return key;
+	}
+
+	/**
+	 * @return the start of the window, in milliseconds (inclusive)
+	 */
+	public long start() {
+		return start;
+	}
+
+	/**
+	 * @return the end of the window, in milliseconds (exclusive)
+	 */
+	public long end() {
+		return end;
+	}
+
+	/**
+	 * @return the aggregate of the values of the key within the window
+	 */
+	public long value() {
+		return value;
+	}
+
+	/**
+	 * @return the number of values of the key within the window, at least 1
+	 */
+	public long count() {
+		return count;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof WindowAggregate)) {
+			return false;
+		}
+		WindowAggregate<?> that = (WindowAggregate<?>) o;
+		return start == that.start && end == that.end && value == that.value && count == that.count && key.equals(that.key);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(key, start, end, value, count);
+	}
+
+	@Override
+	public String toString() {
+		return "WindowAggregate{" + "key=" + key + ", start=" + start + ", end=" + end + ", value=" + value + ", count=" + count + '}';
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * A configuration of the time windows of
+ * {@link Flux#aggregateByKey(java.util.function.Function, WindowSpec, java.util.function.ToLongFunction, java.util.function.LongBinaryOperator)}.
+ * Windows are made of consecutive panes of {@code slide} duration: a tumbling window is a
+ * single pane, while a sliding window of {@code size} spans {@code size / slide} panes
+ * and a new window closes at the end of each pane. All the windows are closed by a single
+ * periodic task on the {@link #timer(Scheduler) timer}, which defaults to
+ * {@link Schedulers#parallel()}.
+ * <p>
+ * The {@link WindowSpec} is copy-on-write and as such can be stored as a "template" and
+ * further configured by different components without a risk of modifying the original
+ * configuration.
+ *
+ * @since 3.8.0
+ */
+public final class WindowSpec {
+
+	final long      sizeMillis;
+	final long      slideMillis;
+	final Scheduler timer;
+
+	WindowSpec(long sizeMillis, long slideMillis, Scheduler timer) {
+		this.sizeMillis = sizeMillis;
+		this.slideMillis = slideMillis;
+		this.timer = timer;
+	}
+
+	/**
+	 * Create a {@link WindowSpec} of non-overlapping windows of the given duration.
+	 *
+	 * @param size the duration of each window, at least one millisecond
+	 * @return a new {@link WindowSpec}
+	 */
+	public static WindowSpec tumbling(Duration size) {
+		long sizeMillis = checkDuration(size, "size");
+		return new WindowSpec(sizeMillis, sizeMillis, Schedulers.parallel());
+	}
+
+	/**
+	 * Create a {@link WindowSpec} of windows of the given duration, a new one closing
+	 * every {@code slide}. The {@code size} must be a multiple of the {@code slide}.
+	 *
+	 * @param size the duration of each window, at least one millisecond
+	 * @param slide the duration between the ends of two consecutive windows, at least
+	 * one millisecond
+	 * @return a new {@link WindowSpec}
+	 */
+	public static WindowSpec sliding(Duration size, Duration slide) {
+		long sizeMillis = checkDuration(size, "size");
+		long slideMillis = checkDuration(slide, "slide");
+		if (sizeMillis % slideMillis != 0) {
+			throw new IllegalArgumentException("size must be a multiple of slide but they were " + size + " and " + slide);
+		}
+		if (sizeMillis / slideMillis > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("size must be at most Integer.MAX_VALUE times slide but they were " + size + " and " + slide);
+		}
+		return new WindowSpec(sizeMillis, slideMillis, Schedulers.parallel());
+	}
+
+	/**
+	 * Set the {@link Scheduler} measuring time and closing the windows.
+	 *
+	 * @param timer the time-capable {@link Scheduler}
+	 * @return a new copy of the {@link WindowSpec}
+	 */
+	public WindowSpec timer(Scheduler timer) {
+		return new WindowSpec(sizeMillis, slideMillis, Objects.requireNonNull(timer, "timer"));
+	}
+
+	/**
+	 * @return the number of panes in each window
+	 */
+	int panes() {
+		return (int) (sizeMillis / slideMillis);
+	}
+
+	static long checkDuration(Duration duration, String name) {
+		long millis = Objects.requireNonNull(duration, name).toMillis();
+		if (millis < 1) {
+			throw new IllegalArgumentException(name + " must be at least 1ms but it was " + duration);
+		}
+		return millis;
+	}
+
+	@Override
+	public String toString() {
+		return "WindowSpec{" + "size=" + sizeMillis + "ms, slide=" + slideMillis + "ms, timer=" + timer + '}';
+	}
+}
@@ -86,6 +86,9 @@ final class BoundedElasticScheduler implements Scheduler,
 	final ThreadFactory factory;
 	final long          ttlMillis;
 
+	@Nullable
+	final SchedulerStats stats;
+
 	volatile SchedulerState<BoundedServices> state;
 	@SuppressWarnings("rawtypes")
 	static final AtomicReferenceFieldUpdater<BoundedElasticScheduler, SchedulerState> STATE =
@@ -114,6 +117,7 @@ final class BoundedElasticScheduler implements Scheduler,
 		this.factory = threadFactory;
 		this.clock = Objects.requireNonNull(clock, "A Clock must be provided");
 		this.ttlMillis = ttlMillis;
+		this.stats = Schedulers.newStats(this::estimatePendingTasks, this::estimateSize);
 
 		STATE.lazySet(this, INIT);
 	}
@@ -301,7 +305,7 @@ final class BoundedElasticScheduler implements Scheduler,
 		//tasks running once will call dispose on the BoundedState, decreasing its usage by one
 		BoundedState picked = state.currentResource.pick();
 		try {
-			return Schedulers.directSchedule(picked.executor, task, picked, 0L, TimeUnit.MILLISECONDS);
+			return Schedulers.directSchedule(picked.executor, task, picked, 0L, TimeUnit.MILLISECONDS, stats);
 		} catch (RejectedExecutionException ex) {
 			// ensure to free the BoundedState so it can be reused
 			picked.dispose();
@@ -314,7 +318,7 @@ final class BoundedElasticScheduler implements Scheduler,
 		//tasks running once will call dispose on the BoundedState, decreasing its usage by one
 		final BoundedState picked = state.currentResource.pick();
 		try {
-			return Schedulers.directSchedule(picked.executor, task, picked, delay, unit);
+			return Schedulers.directSchedule(picked.executor, task, picked, delay, unit, stats);
 		} catch (RejectedExecutionException ex) {
 			// ensure to free the BoundedState so it can be reused
 			picked.dispose();
@@ -333,7 +337,8 @@ final class BoundedElasticScheduler implements Scheduler,
 					task,
 					initialDelay,
 					period,
-					unit);
+					unit,
+					stats);
 			//a composite with picked ensures the cancellation of the task releases the BoundedState
 			// (ie decreases its usage by one)
 			return Disposables.composite(scheduledTask, picked);
@@ -384,6 +389,17 @@ final class BoundedElasticScheduler implements Scheduler,
 		return state.currentResource.idleQueue.size();
 	}
 
+	/**
+	 * @return a best effort total count of the tasks queued by the busy executors
+	 */
+	long estimatePendingTasks() {
+		long pending = 0L;
+		for (BoundedState state : state.currentResource.busyStates.array) {
+			pending += Math.max(0, state.estimateQueueSize());
+		}
+		return pending;
+	}
+
 	/**
 	 * Best effort snapshot of the remaining queue capacity for pending tasks across all the backing executors.
 	 *
@@ -410,6 +426,7 @@ final class BoundedElasticScheduler implements Scheduler,
 		if (key == Attr.BUFFERED) return estimateSize();
 		if (key == Attr.CAPACITY) return maxThreads;
 		if (key == Attr.NAME) return this.toString();
+		if (key == Attr.SCHEDULER_STATS) return stats;
 
 		return null;
 	}
@@ -424,7 +441,7 @@ final class BoundedElasticScheduler implements Scheduler,
 	@Override
 	public Worker createWorker() {
 		BoundedState picked = state.currentResource.pick();
-		ExecutorServiceWorker worker = new ExecutorServiceWorker(picked.executor);
+		ExecutorServiceWorker worker = new ExecutorServiceWorker(picked.executor, stats);
 		worker.disposables.add(picked); //this ensures the BoundedState will be released when worker is disposed
 		return worker;
 	}
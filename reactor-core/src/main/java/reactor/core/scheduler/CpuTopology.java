@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.scheduler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+/**
+ * The CPUs of the machine, grouped by NUMA node (or by socket when the NUMA topology
+ * isn't exposed), as used by {@link Schedulers#newAffinityParallel(String, int)} to
+ * assign its workers to CPU sets.
+ * <p>
+ * On Linux, the topology is read from {@code /sys/devices/system}. On other systems, or
+ * when it can't be read, all the {@link Runtime#availableProcessors() available
+ * processors} are considered to be part of a single node.
+ *
+ * @since 3.8.0
+ */
+public final class CpuTopology {
+
+	static final Logger LOGGER = Loggers.getLogger(CpuTopology.class);
+
+	static final Path SYS_DEVICES_SYSTEM = Paths.get("/sys/devices/system");
+
+	/**
+	 * Detect the topology of the current machine. The result is read once and cached.
+	 *
+	 * @return the {@link CpuTopology} of the current machine
+	 */
+	public static CpuTopology detect() {
+		return Holder.DETECTED;
+	}
+
+	/**
+	 * Create a {@link CpuTopology} out of the given CPU sets, one per node.
+	 *
+	 * @param nodes the CPU sets of each node, none of them being empty
+	 * @return a new {@link CpuTopology}
+	 */
+	public static CpuTopology of(BitSet... nodes) {
+		List<BitSet> list = new ArrayList<>(nodes.length);
+		for (BitSet node : nodes) {
+			if (node.isEmpty()) {
+				throw new IllegalArgumentException("empty CPU set");
+			}
+			list.add((BitSet) node.clone());
+		}
+		if (list.isEmpty()) {
+			throw new IllegalArgumentException("at least one node required");
+		}
+		return new CpuTopology(list);
+	}
+
+	final List<BitSet> nodes;
+
+	CpuTopology(List<BitSet> nodes) {
+		this.nodes = nodes;
+	}
+
+	/**
+	 * @return the number of nodes
+	 */
+	public int nodeCount() {
+		return nodes.size();
+	}
+
+	/**
+	 * Return the CPU set of a node, as a copy.
+	 *
+	 * @param node the index of the node, from 0 (included) to {@link #nodeCount()} (excluded)
+	 * @return the CPUs of the node
+	 */
+	public BitSet cpus(int node) {
+		return (BitSet) nodes.get(node).clone();
+	}
+
+	/**
+	 * Return the node a worker is assigned to, when spreading {@code workers} workers
+	 * over the nodes in contiguous blocks: the first workers go to the first node, and
+	 * so on.
+	 *
+	 * @param worker the index of the worker
+	 * @param workers the number of workers
+	 * @return the index of the node of the worker
+	 */
+	int nodeOf(int worker, int workers) {
+		return (int) ((long) worker * nodes.size() / workers);
+	}
+
+	@Override
+	public String toString() {
+		return "CpuTopology" + nodes;
+	}
+
+	static CpuTopology read(Path sysDevicesSystem) {
+		try {
+			List<BitSet> nodes = readNumaNodes(sysDevicesSystem.resolve("node"));
+			if (nodes.isEmpty()) {
+				nodes = readPackages(sysDevicesSystem.resolve("cpu"));
+			}
+			if (!nodes.isEmpty()) {
+				return new CpuTopology(nodes);
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			LOGGER.debug("Unable to read the CPU topology from " + sysDevicesSystem, e);
+		}
+		BitSet all = new BitSet();
+		all.set(0, Runtime.getRuntime().availableProcessors());
+		return new CpuTopology(Collections.singletonList(all));
+	}
+
+	static List<BitSet> readNumaNodes(Path nodeDir) throws IOException {
+		Map<Integer, BitSet> nodes = new TreeMap<>();
+		if (Files.isDirectory(nodeDir)) {
+			try (DirectoryStream<Path> dirs = Files.newDirectoryStream(nodeDir, "node[0-9]*")) {
+				for (Path dir : dirs) {
+					Path cpuList = dir.resolve("cpulist");
+					if (Files.isReadable(cpuList)) {
+						BitSet cpus = parseCpuList(readFirstLine(cpuList));
+						// memory-only nodes have no CPU
+						if (!cpus.isEmpty()) {
+							nodes.put(Integer.parseInt(dir.getFileName().toString().substring(4)), cpus);
+						}
+					}
+				}
+			}
+		}
+		return new ArrayList<>(nodes.values());
+	}
+
+	static List<BitSet> readPackages(Path cpuDir) throws IOException {
+		Map<Integer, BitSet> packages = new TreeMap<>();
+		if (Files.isDirectory(cpuDir)) {
+			try (DirectoryStream<Path> dirs = Files.newDirectoryStream(cpuDir, "cpu[0-9]*")) {
+				for (Path dir : dirs) {
+					Path packageId = dir.resolve("topology").resolve("physical_package_id");
+					if (Files.isReadable(packageId)) {
+						int cpu = Integer.parseInt(dir.getFileName().toString().substring(3));
+						packages.computeIfAbsent(Integer.parseInt(readFirstLine(packageId)),
+								k -> new BitSet())
+						        .set(cpu);
+					}
+				}
+			}
+		}
+		return new ArrayList<>(packages.values());
+	}
+
+	static String readFirstLine(Path file) throws IOException {
+		List<String> lines = Files.readAllLines(file, StandardCharsets.US_ASCII);
+		return lines.isEmpty() ? "" : lines.get(0).trim();
+	}
+
+	/**
+	 * Parse a Linux CPU list, like {@code 0-23,48-71}.
+	 */
+	static BitSet parseCpuList(String cpuList) {
+		BitSet cpus = new BitSet();
+		for (String range : cpuList.split(",")) {
+			range = range.trim();
+			if (range.isEmpty()) {
+				continue;
+			}
+			int dash = range.indexOf('-');
+			if (dash < 0) {
+				cpus.set(Integer.parseInt(range));
+			}
+			else {
+				cpus.set(Integer.parseInt(range.substring(0, dash)),
+						Integer.parseInt(range.substring(dash + 1)) + 1);
+			}
+		}
+		return cpus;
+	}
+
+	static final class Holder {
+
+		static final CpuTopology DETECTED = read(SYS_DEVICES_SYSTEM);
+	}
+}
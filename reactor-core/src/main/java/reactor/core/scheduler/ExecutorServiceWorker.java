@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 import reactor.core.Disposable;
 import reactor.core.Disposables;
 import reactor.core.Scannable;
+import reactor.util.annotation.Nullable;
 
 /**
  * @author Stephane Maldini
@@ -39,20 +40,30 @@ final class ExecutorServiceWorker implements Scheduler.Worker, Disposable, Scann
 	 */
 	final Composite disposables;
 
+	/**
+	 * The statistics of the {@link Scheduler} this worker belongs to, if enabled
+	 */
+	@Nullable
+	final SchedulerStats stats;
 
 	ExecutorServiceWorker(ScheduledExecutorService exec) {
+		this(exec, null);
+	}
+
+	ExecutorServiceWorker(ScheduledExecutorService exec, @Nullable SchedulerStats stats) {
 		this.exec = exec;
 		this.disposables = Disposables.composite();
+		this.stats = stats;
 	}
 
 	@Override
 	public Disposable schedule(Runnable task) {
-		return Schedulers.workerSchedule(exec, disposables, task, 0L, TimeUnit.MILLISECONDS);
+		return Schedulers.workerSchedule(exec, disposables, task, 0L, TimeUnit.MILLISECONDS, stats);
 	}
 
 	@Override
 	public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
-		return Schedulers.workerSchedule(exec, disposables, task, delay, unit);
+		return Schedulers.workerSchedule(exec, disposables, task, delay, unit, stats);
 	}
 
 	@Override
@@ -64,7 +75,8 @@ final class ExecutorServiceWorker implements Scheduler.Worker, Disposable, Scann
 				task,
 				initialDelay,
 				period,
-				unit);
+				unit,
+				stats);
 	}
 
 	@Override
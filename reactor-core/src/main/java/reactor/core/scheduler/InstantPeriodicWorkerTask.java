@@ -52,6 +52,10 @@ final class InstantPeriodicWorkerTask implements Disposable, Callable<Void> {
 
 	Thread thread;
 
+	/** statistics of the scheduler, if enabled */
+	@Nullable
+	SchedulerStats stats;
+
 	InstantPeriodicWorkerTask(Runnable task, ExecutorService executor) {
 		this.task = task;
 		this.executor = executor;
@@ -68,13 +72,22 @@ final class InstantPeriodicWorkerTask implements Disposable, Callable<Void> {
 	public Void call() {
 		thread = Thread.currentThread();
 		try {
+			SchedulerStats s = stats;
+			long start = s == null ? 0L : s.taskStarted(Long.MIN_VALUE);
+			boolean failure = false;
 			try {
 				task.run();
 				setRest(executor.submit(this));
 			}
 			catch (Throwable ex) {
+				failure = true;
 				Schedulers.handleError(ex);
 			}
+			finally {
+				if (s != null) {
+					s.taskDone(start, failure);
+				}
+			}
 		}
 		finally {
 			thread = null;
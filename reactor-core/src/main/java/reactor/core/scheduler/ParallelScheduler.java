@@ -16,6 +16,7 @@
 
 package reactor.core.scheduler;
 
+import java.util.BitSet;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -23,17 +24,23 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import reactor.core.Disposable;
 import reactor.core.Scannable;
 import reactor.core.publisher.Mono;
+import reactor.util.annotation.Nullable;
 
 /**
  * Scheduler that hosts a fixed pool of single-threaded ScheduledExecutorService-based workers
  * and is suited for parallel work. This scheduler is time-capable (can schedule with
  * delay / periodically).
+ * <p>
+ * When created with a {@link CpuTopology}, the workers are spread over its nodes in
+ * contiguous blocks, and each thread is bound to the CPUs of its node by the thread
+ * binder before running any task.
  *
  * @author Stephane Maldini
  * @author Simon Baslé
@@ -53,6 +60,12 @@ final class ParallelScheduler implements Scheduler, Supplier<ScheduledExecutorSe
 
     final int n;
     final ThreadFactory factory;
+    @Nullable
+    final CpuTopology topology;
+    @Nullable
+    final Consumer<? super BitSet> threadBinder;
+    @Nullable
+    final SchedulerStats stats;
 
     volatile SchedulerState<ScheduledExecutorService[]> state;
     @SuppressWarnings("rawtypes")
@@ -64,11 +77,30 @@ final class ParallelScheduler implements Scheduler, Supplier<ScheduledExecutorSe
     int roundRobin;
 
     ParallelScheduler(int n, ThreadFactory factory) {
+        this(n, factory, null, null);
+    }
+
+    ParallelScheduler(int n, ThreadFactory factory, @Nullable CpuTopology topology,
+            @Nullable Consumer<? super BitSet> threadBinder) {
         if (n <= 0) {
             throw new IllegalArgumentException("n > 0 required but it was " + n);
         }
         this.n = n;
         this.factory = factory;
+        this.topology = topology;
+        this.threadBinder = threadBinder;
+        this.stats = Schedulers.newStats(this::pendingTasks, () -> isDisposed() ? 0L : n);
+    }
+
+    long pendingTasks() {
+        SchedulerState<ScheduledExecutorService[]> a = state;
+        long pending = 0L;
+        if (a != null) {
+            for (ScheduledExecutorService executor : a.currentResource) {
+                pending += SchedulerStats.queueSize(executor);
+            }
+        }
+        return pending;
     }
 
     /**
@@ -83,6 +115,26 @@ final class ParallelScheduler implements Scheduler, Supplier<ScheduledExecutorSe
         return poolExecutor;
     }
 
+    /**
+     * Instantiates the {@link ScheduledExecutorService} of the {@code index}-th worker,
+     * which threads are bound to the CPUs of its node when there is a {@link CpuTopology}.
+     */
+    ScheduledExecutorService get(int index) {
+        if (topology == null || threadBinder == null) {
+            return get();
+        }
+        BitSet cpus = topology.cpus(topology.nodeOf(index, n));
+        Consumer<? super BitSet> binder = threadBinder;
+        ScheduledThreadPoolExecutor poolExecutor = new ScheduledThreadPoolExecutor(1,
+                r -> factory.newThread(() -> {
+                    binder.accept(cpus);
+                    r.run();
+                }));
+        poolExecutor.setMaximumPoolSize(1);
+        poolExecutor.setRemoveOnCancelPolicy(true);
+        return poolExecutor;
+    }
+
 	@Override
 	public boolean isDisposed() {
 		SchedulerState<ScheduledExecutorService[]> current = state;
@@ -106,7 +158,7 @@ final class ParallelScheduler implements Scheduler, Supplier<ScheduledExecutorSe
 				SchedulerState.init(new ScheduledExecutorService[n]);
 
 		for (int i = 0; i < n; i++) {
-			b.currentResource[i] = Schedulers.decorateExecutorService(this, this.get());
+			b.currentResource[i] = Schedulers.decorateExecutorService(this, this.get(i));
 		}
 
 		if (!STATE.compareAndSet(this, null, b)) {
@@ -132,7 +184,7 @@ final class ParallelScheduler implements Scheduler, Supplier<ScheduledExecutorSe
 		SchedulerState<ScheduledExecutorService[]> b =
 				SchedulerState.init(new ScheduledExecutorService[n]);
 		for (int i = 0; i < n; i++) {
-			b.currentResource[i] = Schedulers.decorateExecutorService(this, this.get());
+			b.currentResource[i] = Schedulers.decorateExecutorService(this, this.get(i));
 		}
 
 		if (STATE.compareAndSet(this, a, b)) {
@@ -210,6 +262,14 @@ final class ParallelScheduler implements Scheduler, Supplier<ScheduledExecutorSe
 	}
 
 	ScheduledExecutorService pick() {
+		return pick(-1);
+	}
+
+	/**
+	 * Pick the executor at the given index, or the next one in round-robin order when
+	 * the index is negative.
+	 */
+	ScheduledExecutorService pick(int index) {
 		SchedulerState<ScheduledExecutorService[]> a = state;
 		if (a == null) {
 			init();
@@ -219,6 +279,9 @@ final class ParallelScheduler implements Scheduler, Supplier<ScheduledExecutorSe
 			}
 		}
 		if (a.currentResource != SHUTDOWN) {
+			if (index >= 0) {
+				return a.currentResource[index];
+			}
 			// ignoring the race condition here, its already random who gets which executor
 			int idx = roundRobin;
 			if (idx == n) {
@@ -235,12 +298,12 @@ final class ParallelScheduler implements Scheduler, Supplier<ScheduledExecutorSe
 
     @Override
     public Disposable schedule(Runnable task) {
-	    return Schedulers.directSchedule(pick(), task, null, 0L, TimeUnit.MILLISECONDS);
+	    return Schedulers.directSchedule(pick(), task, null, 0L, TimeUnit.MILLISECONDS, stats);
     }
 
     @Override
     public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
-	    return Schedulers.directSchedule(pick(), task, null, delay, unit);
+	    return Schedulers.directSchedule(pick(), task, null, delay, unit, stats);
     }
 
     @Override
@@ -252,16 +315,20 @@ final class ParallelScheduler implements Scheduler, Supplier<ScheduledExecutorSe
 			    task,
 			    initialDelay,
 			    period,
-			    unit);
+			    unit,
+			    stats);
     }
 
     @Override
     public String toString() {
-        StringBuilder ts = new StringBuilder(Schedulers.PARALLEL)
+        StringBuilder ts = new StringBuilder(topology == null ? Schedulers.PARALLEL : Schedulers.AFFINITY_PARALLEL)
                 .append('(').append(n);
         if (factory instanceof ReactorThreadFactory) {
             ts.append(",\"").append(((ReactorThreadFactory) factory).get()).append('\"');
         }
+        if (topology != null) {
+            ts.append(",nodes=").append(topology.nodeCount());
+        }
         ts.append(')');
         return ts.toString();
     }
@@ -271,6 +338,7 @@ final class ParallelScheduler implements Scheduler, Supplier<ScheduledExecutorSe
         if (key == Attr.TERMINATED || key == Attr.CANCELLED) return isDisposed();
         if (key == Attr.CAPACITY || key == Attr.BUFFERED) return n; //BUFFERED: number of workers doesn't vary
         if (key == Attr.NAME) return this.toString();
+        if (key == Attr.SCHEDULER_STATS) return stats;
 
         return null;
     }
@@ -283,6 +351,23 @@ final class ParallelScheduler implements Scheduler, Supplier<ScheduledExecutorSe
 
     @Override
     public Worker createWorker() {
-        return new ExecutorServiceWorker(pick());
+        return new ExecutorServiceWorker(pick(), stats);
+    }
+
+    /**
+     * With a {@link CpuTopology}, create a worker on the executor matching the index, so
+     * that the {@code index}-th of {@code count} workers always runs on the same thread.
+     * When there are more workers than threads, neighbouring indexes share a thread, so
+     * that they stay on the same node of the topology.
+     * <p>
+     * Otherwise, workers are picked in round-robin order like with {@link #createWorker()},
+     * so that concurrent users with fewer workers than threads spread over all of them.
+     */
+    @Override
+    public Worker createWorker(int index, int count) {
+        if (topology == null || index < 0 || index >= count) {
+            return createWorker();
+        }
+        return new ExecutorServiceWorker(pick((int) ((long) index * n / count)), stats);
     }
 }
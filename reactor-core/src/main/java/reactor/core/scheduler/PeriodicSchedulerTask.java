@@ -36,6 +36,13 @@ final class PeriodicSchedulerTask implements Runnable, Disposable, Callable<Void
 
 	Thread thread;
 
+	/** statistics of the scheduler, if enabled */
+	@Nullable
+	SchedulerStats stats;
+	/** the time at which the next execution is due, when there are statistics */
+	long           dueNanos;
+	long           periodNanos;
+
 	PeriodicSchedulerTask(Runnable task) {
 		this.task = task;
 	}
@@ -45,12 +52,22 @@ final class PeriodicSchedulerTask implements Runnable, Disposable, Callable<Void
 	public Void call() {
 		thread = Thread.currentThread();
 		try {
+			SchedulerStats s = stats;
+			long start = s == null ? 0L : s.taskStarted(dueNanos);
+			boolean failure = false;
 			try {
 				task.run();
 			}
 			catch (Throwable ex) {
+				failure = true;
 				Schedulers.handleError(ex);
 			}
+			finally {
+				if (s != null) {
+					s.taskDone(start, failure);
+					dueNanos += periodNanos;
+				}
+			}
 		}
 		finally {
 			thread = null;
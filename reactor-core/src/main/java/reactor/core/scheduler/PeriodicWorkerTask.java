@@ -45,6 +45,13 @@ final class PeriodicWorkerTask implements Runnable, Disposable, Callable<Void> {
 
 	Thread thread;
 
+	/** statistics of the scheduler, if enabled */
+	@Nullable
+	SchedulerStats stats;
+	/** the time at which the next execution is due, when there are statistics */
+	long           dueNanos;
+	long           periodNanos;
+
 	PeriodicWorkerTask(Runnable task, Composite parent) {
 		this.task = task;
 		PARENT.lazySet(this, parent);
@@ -55,12 +62,22 @@ final class PeriodicWorkerTask implements Runnable, Disposable, Callable<Void> {
 	public Void call() {
 		thread = Thread.currentThread();
 		try {
+			SchedulerStats s = stats;
+			long start = s == null ? 0L : s.taskStarted(dueNanos);
+			boolean failure = false;
 			try {
 				task.run();
 			}
 			catch (Throwable ex) {
+				failure = true;
 				Schedulers.handleError(ex);
 			}
+			finally {
+				if (s != null) {
+					s.taskDone(start, failure);
+					dueNanos += periodNanos;
+				}
+			}
 		}
 		finally {
 			thread = null;
@@ -47,6 +47,13 @@ public final class ReactorBlockHoundIntegration implements BlockHoundIntegration
 
         builder.allowBlockingCallsInside(ThreadPoolExecutor.class.getName(), "processWorkerExit");
 
+        // Idle work-stealing lanes park until they're signalled, a cancelled task waits for its interruption
+        builder.allowBlockingCallsInside(WorkStealingParallelScheduler.Lane.class.getName(), "park");
+        builder.allowBlockingCallsInside(WorkStealingParallelScheduler.WorkStealingTask.class.getName(), "awaitInterruption");
+
+        // The timing wheel's thread parks until the next tick
+        builder.allowBlockingCallsInside(TimingWheel.class.getName(), "awaitTick");
+
         // Most allowances are from the schedulers package but this one is from the publisher package.
         // For now, let's not add a separate integration, but rather let's define the class name manually
         // ContextRegistry reads files as part of the Service Loader aspect. If class is initialized in a non-blocking thread, BlockHound would complain
@@ -125,6 +125,23 @@ public interface Scheduler extends Disposable {
 	 */
 	Worker createWorker();
 
+	/**
+	 * Creates a worker of this Scheduler for the {@code index}-th of {@code count} related
+	 * workers, like the rails of a {@link reactor.core.publisher.ParallelFlux} running on
+	 * this Scheduler. Implementations backed by a fixed pool can use the index to map
+	 * each of them to the same underlying resource, every time it is requested.
+	 * <p>
+	 * The default implementation ignores the index and calls {@link #createWorker()}.
+	 *
+	 * @param index the index of the worker, from 0 (included) to {@code count} (excluded)
+	 * @param count the number of related workers
+	 * @return the Worker instance.
+	 * @since 3.8.0
+	 */
+	default Worker createWorker(int index, int count) {
+		return createWorker();
+	}
+
 	/**
 	 * Instructs this Scheduler to release all resources and reject
 	 * any new tasks to be executed.
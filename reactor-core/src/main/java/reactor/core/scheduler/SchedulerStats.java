@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.scheduler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import reactor.core.Scannable;
+
+/**
+ * Statistics of the tasks run by a {@link Scheduler}, gathered by the
+ * {@link Schedulers#parallel() parallel}, {@link Schedulers#single() single} and
+ * {@link Schedulers#boundedElastic() boundedElastic} schedulers (including the ones
+ * created with the {@code Schedulers.newXxx} factory methods) when
+ * {@link Schedulers#enableStats()} has been called before their creation. They are
+ * exposed by the scheduler as its {@link Scannable.Attr#SCHEDULER_STATS} attribute.
+ * <p>
+ * The statistics are recorded from the task objects the schedulers already create, and
+ * don't allocate per task. Counts are cumulative since the creation of the scheduler,
+ * except for the {@link #pending() pending tasks} and the worker counts, which are read
+ * from the scheduler when called.
+ *
+ * @since 3.8.0
+ */
+public final class SchedulerStats {
+
+	final LongAdder submitted = new LongAdder();
+	final LongAdder completed = new LongAdder();
+	final LongAdder failed    = new LongAdder();
+	final LongAdder rejected  = new LongAdder();
+	final LongAdder running   = new LongAdder();
+
+	final Histogram queueTime     = new Histogram();
+	final Histogram executionTime = new Histogram();
+
+	final LongSupplier pendingSupplier;
+	final LongSupplier workersSupplier;
+
+	SchedulerStats(LongSupplier pendingSupplier, LongSupplier workersSupplier) {
+		this.pendingSupplier = pendingSupplier;
+		this.workersSupplier = workersSupplier;
+	}
+
+	/**
+	 * @return the number of tasks submitted to the scheduler or its workers, including
+	 * the rejected ones
+	 */
+	public long submitted() {
+		return submitted.sum();
+	}
+
+	/**
+	 * @return the number of task executions that have completed, including the failed
+	 * ones. Periodic tasks count once per execution.
+	 */
+	public long completed() {
+		return completed.sum();
+	}
+
+	/**
+	 * @return the number of task executions that have thrown an exception
+	 */
+	public long failed() {
+		return failed.sum();
+	}
+
+	/**
+	 * @return the number of tasks that have been rejected, either because the
+	 * scheduler or worker was disposed or because its task queue was full
+	 */
+	public long rejected() {
+		return rejected.sum();
+	}
+
+	/**
+	 * @return the number of tasks waiting in the queues of the scheduler, including the
+	 * delayed and periodic ones waiting for their next execution
+	 */
+	public long pending() {
+		return pendingSupplier.getAsLong();
+	}
+
+	/**
+	 * @return the number of threads currently running a task
+	 */
+	public long busyWorkers() {
+		return Math.max(0L, running.sum());
+	}
+
+	/**
+	 * @return the number of live threads which are not currently running a task
+	 */
+	public long idleWorkers() {
+		return Math.max(0L, workersSupplier.getAsLong() - busyWorkers());
+	}
+
+	/**
+	 * Return the {@link Histogram} of the time tasks have spent between the moment they
+	 * were due (their submission, or the end of their delay for delayed and periodic
+	 * tasks) and the start of their execution.
+	 *
+	 * @return the queue time {@link Histogram}
+	 */
+	public Histogram queueTime() {
+		return queueTime;
+	}
+
+	/**
+	 * @return the {@link Histogram} of the execution time of tasks
+	 */
+	public Histogram executionTime() {
+		return executionTime;
+	}
+
+	@Override
+	public String toString() {
+		return "SchedulerStats{" +
+				"submitted=" + submitted() +
+				", completed=" + completed() +
+				", failed=" + failed() +
+				", rejected=" + rejected() +
+				", busyWorkers=" + busyWorkers() +
+				'}';
+	}
+
+	/**
+	 * Record the start of a task which was due at {@code dueNanos}, or
+	 * {@link Long#MIN_VALUE} if its queue time shouldn't be recorded.
+	 *
+	 * @return the start time, to be passed to {@link #taskDone(long, boolean)}
+	 */
+	long taskStarted(long dueNanos) {
+		long now = System.nanoTime();
+		if (dueNanos != Long.MIN_VALUE) {
+			queueTime.record(now - dueNanos);
+		}
+		running.increment();
+		return now;
+	}
+
+	void taskDone(long startNanos, boolean failure) {
+		executionTime.record(System.nanoTime() - startNanos);
+		running.decrement();
+		completed.increment();
+		if (failure) {
+			failed.increment();
+		}
+	}
+
+	/**
+	 * @return the number of tasks queued by an executor, or 0 if it can't be determined
+	 */
+	static long queueSize(Executor executor) {
+		if (executor instanceof ThreadPoolExecutor) {
+			return ((ThreadPoolExecutor) executor).getQueue().size();
+		}
+		return 0L;
+	}
+
+	/**
+	 * @return the time at which a task submitted now with the given delay will be due
+	 */
+	static long dueNanos(long delay, TimeUnit unit) {
+		long now = System.nanoTime();
+		return delay <= 0L ? now : now + unit.toNanos(delay);
+	}
+
+	/**
+	 * A histogram of durations with exponential buckets: the first bucket counts
+	 * durations below {@code 1024ns}, and each following bucket the durations below
+	 * twice the upper bound of the previous one, the last bucket counting all the
+	 * remaining ones (above {@code 2^40ns}, ie. about 18 minutes).
+	 */
+	public static final class Histogram {
+
+		static final int MIN_SHIFT = 10;
+		static final int BUCKETS   = 32;
+
+		final LongAdder[] buckets = new LongAdder[BUCKETS];
+		final LongAdder   total   = new LongAdder();
+
+		Histogram() {
+			for (int i = 0; i < BUCKETS; i++) {
+				buckets[i] = new LongAdder();
+			}
+		}
+
+		void record(long nanos) {
+			if (nanos < 0L) {
+				nanos = 0L;
+			}
+			buckets[bucketIndex(nanos)].increment();
+			total.add(nanos);
+		}
+
+		static int bucketIndex(long nanos) {
+			int index = 64 - Long.numberOfLeadingZeros(nanos >>> MIN_SHIFT);
+			return Math.min(index, BUCKETS - 1);
+		}
+
+		/**
+		 * @return the number of recorded durations
+		 */
+		public long count() {
+			long count = 0L;
+			for (LongAdder bucket : buckets) {
+				count += bucket.sum();
+			}
+			return count;
+		}
+
+		/**
+		 * @return the sum of the recorded durations, in nanoseconds
+		 */
+		public long totalNanos() {
+			return total.sum();
+		}
+
+		/**
+		 * @return the number of buckets of this histogram
+		 */
+		public int bucketCount() {
+			return BUCKETS;
+		}
+
+		/**
+		 * Return the exclusive upper bound of the durations counted by a bucket, or
+		 * {@link Long#MAX_VALUE} for the last bucket.
+		 *
+		 * @param bucket the index of the bucket
+		 * @return the upper bound of the bucket, in nanoseconds
+		 */
+		public long bucketUpperBoundNanos(int bucket) {
+			if (bucket < 0 || bucket >= BUCKETS) {
+				throw new IndexOutOfBoundsException("bucket " + bucket);
+			}
+			return bucket == BUCKETS - 1 ? Long.MAX_VALUE : 1L << (MIN_SHIFT + bucket);
+		}
+
+		/**
+		 * @return a snapshot of the count of each bucket
+		 */
+		public long[] bucketCounts() {
+			long[] counts = new long[BUCKETS];
+			for (int i = 0; i < BUCKETS; i++) {
+				counts[i] = buckets[i].sum();
+			}
+			return counts;
+		}
+
+		/**
+		 * Estimate a percentile of the recorded durations, as the upper bound of the
+		 * bucket it falls in (or the lower bound of the last bucket).
+		 *
+		 * @param percentile the percentile, between 0 and 1
+		 * @return the estimated percentile in nanoseconds, or 0 if nothing was recorded
+		 */
+		public long percentileNanos(double percentile) {
+			if (percentile < 0d || percentile > 1d) {
+				throw new IllegalArgumentException("percentile must be between 0 and 1, was " + percentile);
+			}
+			long[] counts = bucketCounts();
+			long count = 0L;
+			for (long c : counts) {
+				count += c;
+			}
+			if (count == 0L) {
+				return 0L;
+			}
+			long rank = Math.max(1L, (long) Math.ceil(percentile * count));
+			long seen = 0L;
+			for (int i = 0; i < BUCKETS - 1; i++) {
+				seen += counts[i];
+				if (seen >= rank) {
+					return bucketUpperBoundNanos(i);
+				}
+			}
+			return 1L << (MIN_SHIFT + BUCKETS - 2);
+		}
+
+		@Override
+		public String toString() {
+			long count = count();
+			return "Histogram{count=" + count + ", meanNanos=" + (count == 0L ? 0L : totalNanos() / count) + '}';
+		}
+	}
+}
@@ -44,6 +44,12 @@ final class SchedulerTask implements Runnable, Disposable, Callable<Void> {
 
 	Thread thread;
 
+	/** statistics of the scheduler, if enabled */
+	@Nullable
+	SchedulerStats stats;
+	/** the time at which the task is due, when there are statistics */
+	long           dueNanos;
+
 	SchedulerTask(Runnable task, @Nullable Disposable parent) {
 		this.task = task;
 		PARENT.lazySet(this, parent);
@@ -64,12 +70,21 @@ final class SchedulerTask implements Runnable, Disposable, Callable<Void> {
 					break;
 				}
 			}
+			SchedulerStats s = stats;
+			long start = s == null ? 0L : s.taskStarted(dueNanos);
+			boolean failure = false;
 			try {
 				task.run();
 			}
 			catch (Throwable ex) {
+				failure = true;
 				Schedulers.handleError(ex);
 			}
+			finally {
+				if (s != null) {
+					s.taskDone(start, failure);
+				}
+			}
 		}
 		finally {
 			thread = null;
@@ -16,6 +16,8 @@
 
 package reactor.core.scheduler;
 
+import java.time.Duration;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -33,7 +35,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -488,6 +492,52 @@ public abstract class Schedulers {
 		return fromFactory;
 	}
 
+	/**
+	 * {@link Scheduler} that runs each task on a new {@link VirtualThread}, and bounds
+	 * the number of tasks running concurrently with a semaphore instead of a pool of
+	 * workers. Tasks waiting for a permit are parked on their own {@link VirtualThread},
+	 * so there is no cap on the number of pending tasks. Tasks submitted through a
+	 * {@link Scheduler.Worker} run in FIFO order and non-concurrently. Disposing the
+	 * {@link Scheduler} or a {@link Scheduler.Worker} interrupts the running tasks.
+	 * <p>
+	 * This scheduler is suited for blocking work, e.g. JDBC calls, whose concurrency is
+	 * bounded by the resources it uses.
+	 * <p>
+	 * <b>Note:</b> this scheduler is available only in Java 21+ runtime
+	 *
+	 * @param maxConcurrency the maximum number of tasks running concurrently
+	 * @param name Thread prefix
+	 *
+	 * @return a new {@link Scheduler} running each task on a new {@link VirtualThread}
+	 * @since 3.8.0
+	 */
+	public static Scheduler newVirtualThreadPerTask(int maxConcurrency, String name) {
+		return newVirtualThreadPerTask(maxConcurrency,
+				new VirtualThreadFactory(name, false, Schedulers::defaultUncaughtException));
+	}
+
+	/**
+	 * {@link Scheduler} that runs each task on a new {@link Thread} created by the given
+	 * {@link ThreadFactory}, typically one of {@link VirtualThread}s, and bounds the number
+	 * of tasks running concurrently with a semaphore instead of a pool of workers. Tasks
+	 * submitted through a {@link Scheduler.Worker} run in FIFO order and non-concurrently.
+	 * Disposing the {@link Scheduler} or a {@link Scheduler.Worker} interrupts the running
+	 * tasks.
+	 * <p>
+	 * <b>Note:</b> this scheduler is available only in Java 21+ runtime
+	 *
+	 * @param maxConcurrency the maximum number of tasks running concurrently
+	 * @param threadFactory a {@link ThreadFactory} to create the thread of each task
+	 *
+	 * @return a new {@link Scheduler} running each task on a new {@link Thread}
+	 * @since 3.8.0
+	 */
+	public static Scheduler newVirtualThreadPerTask(int maxConcurrency, ThreadFactory threadFactory) {
+		Scheduler fromFactory = factory.newVirtualThreadPerTask(maxConcurrency, threadFactory);
+		fromFactory.init();
+		return fromFactory;
+	}
+
 	/**
 	 * {@link Scheduler} that hosts a fixed pool of single-threaded ExecutorService-based
 	 * workers and is suited for parallel work. This type of {@link Scheduler} detects and
@@ -553,6 +603,161 @@ public abstract class Schedulers {
 		return fromFactory;
 	}
 
+	/**
+	 * {@link Scheduler} that hosts a fixed pool of threads and is suited for parallel work,
+	 * in which idle threads steal tasks submitted directly to the {@link Scheduler} from
+	 * busier threads. Tasks submitted through a {@link Scheduler.Worker} remain bound to a
+	 * single thread and are thus still executed in FIFO order and non-concurrently.
+	 * This type of {@link Scheduler} detects and rejects usage of blocking Reactor APIs.
+	 *
+	 * @param name Thread prefix
+	 *
+	 * @return a new work-stealing {@link Scheduler} suited for parallel work
+	 * @since 3.8.0
+	 */
+	public static Scheduler newWorkStealingParallel(String name) {
+		return newWorkStealingParallel(name, DEFAULT_POOL_SIZE);
+	}
+
+	/**
+	 * {@link Scheduler} that hosts a fixed pool of threads and is suited for parallel work,
+	 * in which idle threads steal tasks submitted directly to the {@link Scheduler} from
+	 * busier threads. Tasks submitted through a {@link Scheduler.Worker} remain bound to a
+	 * single thread and are thus still executed in FIFO order and non-concurrently.
+	 * This type of {@link Scheduler} detects and rejects usage of blocking Reactor APIs.
+	 *
+	 * @param name Thread prefix
+	 * @param parallelism Number of pooled threads.
+	 *
+	 * @return a new work-stealing {@link Scheduler} suited for parallel work
+	 * @since 3.8.0
+	 */
+	public static Scheduler newWorkStealingParallel(String name, int parallelism) {
+		return newWorkStealingParallel(name, parallelism, false);
+	}
+
+	/**
+	 * {@link Scheduler} that hosts a fixed pool of threads and is suited for parallel work,
+	 * in which idle threads steal tasks submitted directly to the {@link Scheduler} from
+	 * busier threads. Tasks submitted through a {@link Scheduler.Worker} remain bound to a
+	 * single thread and are thus still executed in FIFO order and non-concurrently.
+	 * This type of {@link Scheduler} detects and rejects usage of blocking Reactor APIs.
+	 *
+	 * @param name Thread prefix
+	 * @param parallelism Number of pooled threads.
+	 * @param daemon false if the {@link Scheduler} requires an explicit {@link
+	 * Scheduler#dispose()} to exit the VM.
+	 *
+	 * @return a new work-stealing {@link Scheduler} suited for parallel work
+	 * @since 3.8.0
+	 */
+	public static Scheduler newWorkStealingParallel(String name, int parallelism, boolean daemon) {
+		return newWorkStealingParallel(parallelism,
+				new ReactorThreadFactory(name, WorkStealingParallelScheduler.COUNTER, daemon,
+						true, Schedulers::defaultUncaughtException));
+	}
+
+	/**
+	 * {@link Scheduler} that hosts a fixed pool of threads and is suited for parallel work,
+	 * in which idle threads steal tasks submitted directly to the {@link Scheduler} from
+	 * busier threads. Tasks submitted through a {@link Scheduler.Worker} remain bound to a
+	 * single thread and are thus still executed in FIFO order and non-concurrently.
+	 *
+	 * @param parallelism Number of pooled threads.
+	 * @param threadFactory a {@link ThreadFactory} to use for the fixed initialized
+	 * number of {@link Thread}
+	 *
+	 * @return a new work-stealing {@link Scheduler} suited for parallel work
+	 * @since 3.8.0
+	 */
+	public static Scheduler newWorkStealingParallel(int parallelism, ThreadFactory threadFactory) {
+		final Scheduler fromFactory = factory.newWorkStealingParallel(parallelism, threadFactory);
+		fromFactory.init();
+		return fromFactory;
+	}
+
+	/**
+	 * {@link Scheduler} that hosts a fixed pool of single-threaded ExecutorService-based
+	 * workers spread over the nodes of the {@link CpuTopology#detect() detected CPU
+	 * topology}, and is suited for parallel work. The rails of a
+	 * {@link reactor.core.publisher.ParallelFlux#runOn(Scheduler) ParallelFlux running on
+	 * it} are mapped to the same workers on each subscription, with neighbouring rails
+	 * sharing the same node.
+	 * <p>
+	 * Threads are not pinned to the CPUs of their node, as the JDK has no API for it. Use
+	 * {@link #newAffinityParallel(String, int, Consumer)} with a native thread binder to
+	 * pin them. This type of {@link Scheduler} detects and rejects usage of blocking
+	 * Reactor APIs.
+	 *
+	 * @param name Thread prefix
+	 * @param parallelism Number of pooled workers.
+	 *
+	 * @return a new {@link Scheduler} that hosts a fixed pool of topology-aware workers
+	 * @since 3.8.0
+	 */
+	public static Scheduler newAffinityParallel(String name, int parallelism) {
+		return newAffinityParallel(name, parallelism, null);
+	}
+
+	/**
+	 * {@link Scheduler} that hosts a fixed pool of single-threaded ExecutorService-based
+	 * workers spread over the nodes of the {@link CpuTopology#detect() detected CPU
+	 * topology}, and is suited for parallel work. The rails of a
+	 * {@link reactor.core.publisher.ParallelFlux#runOn(Scheduler) ParallelFlux running on
+	 * it} are mapped to the same workers on each subscription, with neighbouring rails
+	 * sharing the same node.
+	 * <p>
+	 * The thread binder is invoked on each thread before it runs any task, with the CPUs
+	 * of its node, and is expected to set the affinity of the current thread, for
+	 * instance through {@code sched_setaffinity}. This type of {@link Scheduler} detects
+	 * and rejects usage of blocking Reactor APIs.
+	 *
+	 * @param name Thread prefix
+	 * @param parallelism Number of pooled workers.
+	 * @param threadBinder a callback binding the current thread to the given CPU set, or
+	 * null to not pin the threads
+	 *
+	 * @return a new {@link Scheduler} that hosts a fixed pool of topology-aware workers
+	 * @since 3.8.0
+	 */
+	public static Scheduler newAffinityParallel(String name, int parallelism,
+			@Nullable Consumer<? super BitSet> threadBinder) {
+		return newAffinityParallel(parallelism,
+				new ReactorThreadFactory(name, ParallelScheduler.COUNTER, false, true,
+						Schedulers::defaultUncaughtException),
+				CpuTopology.detect(),
+				threadBinder);
+	}
+
+	/**
+	 * {@link Scheduler} that hosts a fixed pool of single-threaded ExecutorService-based
+	 * workers spread over the nodes of the given {@link CpuTopology}, and is suited for
+	 * parallel work. The rails of a
+	 * {@link reactor.core.publisher.ParallelFlux#runOn(Scheduler) ParallelFlux running on
+	 * it} are mapped to the same workers on each subscription, with neighbouring rails
+	 * sharing the same node.
+	 * <p>
+	 * The thread binder is invoked on each thread before it runs any task, with the CPUs
+	 * of its node, and is expected to set the affinity of the current thread.
+	 *
+	 * @param parallelism Number of pooled workers.
+	 * @param threadFactory a {@link ThreadFactory} to use for the fixed initialized
+	 * number of {@link Thread}
+	 * @param topology the {@link CpuTopology} to spread the workers over
+	 * @param threadBinder a callback binding the current thread to the given CPU set, or
+	 * null to not pin the threads
+	 *
+	 * @return a new {@link Scheduler} that hosts a fixed pool of topology-aware workers
+	 * @since 3.8.0
+	 */
+	public static Scheduler newAffinityParallel(int parallelism, ThreadFactory threadFactory,
+			CpuTopology topology, @Nullable Consumer<? super BitSet> threadBinder) {
+		final Scheduler fromFactory = factory.newAffinityParallel(parallelism, threadFactory,
+				topology, threadBinder);
+		fromFactory.init();
+		return fromFactory;
+	}
+
 	/**
 	 * {@link Scheduler} that hosts a single-threaded ExecutorService-based worker. This type of {@link Scheduler}
 	 * detects and rejects usage of blocking Reactor APIs.
@@ -743,6 +948,106 @@ public abstract class Schedulers {
 		removeExecutorServiceDecorator(SchedulerMetricDecorator.METRICS_DECORATOR_KEY);
 	}
 
+	/**
+	 * Gather {@link SchedulerStats statistics} of the tasks run by the
+	 * {@link #parallel()}, {@link #single()} and {@link #boundedElastic()} schedulers
+	 * created from now on, including the ones created with the corresponding
+	 * {@code newXxx} factory methods. The statistics are exposed as the
+	 * {@link Scannable.Attr#SCHEDULER_STATS} attribute of these schedulers.
+	 * <p>
+	 * Unlike {@link #enableMetrics()}, the executors and tasks aren't wrapped: the
+	 * statistics are recorded by the task objects these schedulers create anyway, without
+	 * further allocation. Schedulers that were already created, including the cached
+	 * default ones, don't gather statistics.
+	 *
+	 * @see #disableStats()
+	 * @since 3.8.0
+	 */
+	public static void enableStats() {
+		statsEnabled = true;
+	}
+
+	/**
+	 * Stop gathering {@link SchedulerStats statistics} in the schedulers created from now
+	 * on. Schedulers that were created while they were {@link #enableStats() enabled}
+	 * keep on gathering them.
+	 *
+	 * @since 3.8.0
+	 */
+	public static void disableStats() {
+		statsEnabled = false;
+	}
+
+	/**
+	 * Create the {@link SchedulerStats} of a new scheduler, if they are enabled.
+	 */
+	@Nullable
+	static SchedulerStats newStats(LongSupplier pendingTasks, LongSupplier workers) {
+		return statsEnabled ? new SchedulerStats(pendingTasks, workers) : null;
+	}
+
+	/**
+	 * Use a shared hashed timing wheel to keep track of delayed tasks submitted to
+	 * {@link ExecutorService}-backed {@link Scheduler}s (eg. {@link #parallel()},
+	 * {@link #single()}, {@link #fromExecutorService(ExecutorService)} and their workers),
+	 * with a tick of 1ms and 512 ticks per wheel.
+	 *
+	 * @see #enableTimingWheel(Duration, int)
+	 * @since 3.8.0
+	 */
+	public static void enableTimingWheel() {
+		enableTimingWheel(Duration.ofMillis(1), 512);
+	}
+
+	/**
+	 * Use a shared hashed timing wheel to keep track of delayed tasks submitted to
+	 * {@link ExecutorService}-backed {@link Scheduler}s (eg. {@link #parallel()},
+	 * {@link #single()}, {@link #fromExecutorService(ExecutorService)} and their workers),
+	 * instead of the {@link ScheduledExecutorService}'s own delay queue.
+	 * <p>
+	 * Registering and cancelling a delayed task on the timing wheel are constant time
+	 * and lock-free operations, which suits workloads with a large number of timeouts
+	 * that are mostly cancelled before they expire. The delayed tasks are only submitted
+	 * to the {@link Scheduler} once their delay has elapsed, with a precision of
+	 * {@code tickDuration}: they never run before their delay but can run up to one tick
+	 * later. Periodic tasks are still scheduled directly on the executors, and
+	 * {@link #boundedElastic()} keeps using its own queue so that its task cap applies to
+	 * delayed tasks as well.
+	 * <p>
+	 * Calling this method again replaces the current timing wheel, letting the previous
+	 * one expire the tasks it already holds before it terminates.
+	 *
+	 * @param tickDuration the duration of a tick, ie. the precision of the timing wheel
+	 * @param ticksPerWheel the number of ticks in a revolution of the wheel, rounded up
+	 * to the next power of two
+	 * @see #disableTimingWheel()
+	 * @since 3.8.0
+	 */
+	public static void enableTimingWheel(Duration tickDuration, int ticksPerWheel) {
+		TimingWheel wheel = new TimingWheel(tickDuration.toNanos(), TimeUnit.NANOSECONDS,
+				ticksPerWheel, new ReactorThreadFactory(TIMING_WHEEL, TimingWheel.COUNTER,
+				true, true, Schedulers::defaultUncaughtException));
+		TimingWheel previous = CURRENT_TIMING_WHEEL.getAndSet(wheel);
+		if (previous != null) {
+			previous.shutdown();
+		}
+	}
+
+	/**
+	 * If {@link #enableTimingWheel()} has been previously called, go back to scheduling
+	 * delayed tasks directly on the executors. The tasks already held by the timing wheel
+	 * still run once their delay has elapsed.
+	 * No-op if {@link #enableTimingWheel()} hasn't been called.
+	 *
+	 * @since 3.8.0
+	 */
+	public static void disableTimingWheel() {
+		TimingWheel previous = CURRENT_TIMING_WHEEL.getAndSet(null);
+		if (previous != null) {
+			previous.shutdown();
+		}
+	}
+
 	/**
 	 * Re-apply default factory to {@link Schedulers}
 	 */
@@ -1130,6 +1435,23 @@ public abstract class Schedulers {
 			return new BoundedElasticThreadPerTaskScheduler(threadCap, queuedTaskCap, threadFactory);
 		}
 
+		/**
+		 * {@link Scheduler} that runs each task on a new {@link Thread}, and bounds the
+		 * number of tasks running concurrently with a semaphore instead of a pool of
+		 * workers.
+		 * <p>
+		 * <b>Note:</b> for now this scheduler is available only in Java 21+ runtime
+		 *
+		 * @param maxConcurrency the maximum number of tasks running concurrently
+		 * @param threadFactory a {@link ThreadFactory} to create the thread of each task
+		 *
+		 * @return a new {@link Scheduler} running each task on a new {@link Thread}
+		 * @since 3.8.0
+		 */
+		default Scheduler newVirtualThreadPerTask(int maxConcurrency, ThreadFactory threadFactory) {
+			return new VirtualThreadPerTaskScheduler(maxConcurrency, threadFactory);
+		}
+
 		/**
 		 * {@link Scheduler} that hosts a fixed pool of workers and is suited for parallel
 		 * work.
@@ -1145,6 +1467,40 @@ public abstract class Schedulers {
 			return new ParallelScheduler(parallelism, threadFactory);
 		}
 
+		/**
+		 * {@link Scheduler} that hosts a fixed pool of threads which steal tasks from
+		 * each other when idle, and is suited for parallel work.
+		 *
+		 * @param parallelism Number of pooled threads.
+		 * @param threadFactory a {@link ThreadFactory} to use for the fixed initialized
+		 * number of {@link Thread}
+		 *
+		 * @return a new work-stealing {@link Scheduler} suited for parallel work
+		 * @since 3.8.0
+		 */
+		default Scheduler newWorkStealingParallel(int parallelism, ThreadFactory threadFactory) {
+			return new WorkStealingParallelScheduler(parallelism, threadFactory);
+		}
+
+		/**
+		 * {@link Scheduler} that hosts a fixed pool of workers spread over the nodes of a
+		 * {@link CpuTopology}, and is suited for parallel work.
+		 *
+		 * @param parallelism Number of pooled workers.
+		 * @param threadFactory a {@link ThreadFactory} to use for the fixed initialized
+		 * number of {@link Thread}
+		 * @param topology the {@link CpuTopology} to spread the workers over
+		 * @param threadBinder a callback binding the current thread to the given CPU
+		 * set, or null to not pin the threads
+		 *
+		 * @return a new {@link Scheduler} that hosts a fixed pool of topology-aware workers
+		 * @since 3.8.0
+		 */
+		default Scheduler newAffinityParallel(int parallelism, ThreadFactory threadFactory,
+				CpuTopology topology, @Nullable Consumer<? super BitSet> threadBinder) {
+			return new ParallelScheduler(parallelism, threadFactory, topology, threadBinder);
+		}
+
 		/**
 		 * {@link Scheduler} that hosts a single worker and is suited for non-blocking
 		 * work.
@@ -1205,13 +1561,19 @@ public abstract class Schedulers {
 	static final String BOUNDED_ELASTIC       = "boundedElastic"; // Blocking stuff with scale to zero
 	static final String LOOM_BOUNDED_ELASTIC  = "loomBoundedElastic"; // Loom stuff
 	static final String PARALLEL              = "parallel"; //scale up common tasks
+	static final String WORK_STEALING_PARALLEL = "workStealingParallel"; //scale up common tasks, balanced
+	static final String AFFINITY_PARALLEL     = "affinityParallel"; //scale up common tasks, per CPU node
 	static final String SINGLE                = "single"; //non blocking tasks
 	static final String IMMEDIATE             = "immediate";
+	static final String VIRTUAL_THREAD_PER_TASK = "virtualThreadPerTask";
 	static final String FROM_EXECUTOR         = "fromExecutor";
 	static final String FROM_EXECUTOR_SERVICE = "fromExecutorService";
+	static final String TIMING_WHEEL          = "timingWheel";
 
 
 	// Cached schedulers in atomic references:
+	static volatile boolean statsEnabled;
+
 	static AtomicReference<CachedScheduler> CACHED_BOUNDED_ELASTIC = new AtomicReference<>();
 	static AtomicReference<CachedScheduler> CACHED_PARALLEL        = new AtomicReference<>();
 	static AtomicReference<CachedScheduler> CACHED_SINGLE          = new AtomicReference<>();
@@ -1228,6 +1590,8 @@ public abstract class Schedulers {
 	static final Map<String, BiFunction<Scheduler, ScheduledExecutorService, ScheduledExecutorService>>
 			DECORATORS = new LinkedHashMap<>();
 
+	static final AtomicReference<TimingWheel> CURRENT_TIMING_WHEEL = new AtomicReference<>();
+
 	static volatile Factory factory = DEFAULT;
 
 	private static final LinkedHashMap<String, BiConsumer<Thread, Throwable>> onHandleErrorHooks = new LinkedHashMap<>(1);
@@ -1379,14 +1743,39 @@ public abstract class Schedulers {
 			@Nullable Disposable parent,
 			long delay,
 			TimeUnit unit) {
+		return directSchedule(exec, task, parent, delay, unit, null);
+	}
+
+	static Disposable directSchedule(ScheduledExecutorService exec,
+			Runnable task,
+			@Nullable Disposable parent,
+			long delay,
+			TimeUnit unit,
+			@Nullable SchedulerStats stats) {
 		task = onSchedule(task);
 		SchedulerTask sr = new SchedulerTask(task, parent);
+		if (stats != null) {
+			stats.submitted.increment();
+			sr.stats = stats;
+			sr.dueNanos = SchedulerStats.dueNanos(delay, unit);
+		}
 		Future<?> f;
-		if (delay <= 0L) {
-			f = exec.submit((Callable<?>) sr);
+		try {
+			if (delay <= 0L) {
+				f = exec.submit((Callable<?>) sr);
+			}
+			else if (timingWheelSchedule(exec, sr, sr, sr::setFuture, delay, unit)) {
+				return sr;
+			}
+			else {
+				f = exec.schedule((Callable<?>) sr, delay, unit);
+			}
 		}
-		else {
-			f = exec.schedule((Callable<?>) sr, delay, unit);
+		catch (RejectedExecutionException ex) {
+			if (stats != null) {
+				stats.rejected.increment();
+			}
+			throw ex;
 		}
 		sr.setFuture(f);
 
@@ -1398,28 +1787,54 @@ public abstract class Schedulers {
 			long initialDelay,
 			long period,
 			TimeUnit unit) {
+		return directSchedulePeriodically(exec, task, initialDelay, period, unit, null);
+	}
+
+	static Disposable directSchedulePeriodically(ScheduledExecutorService exec,
+			Runnable task,
+			long initialDelay,
+			long period,
+			TimeUnit unit,
+			@Nullable SchedulerStats stats) {
 		task = onSchedule(task);
+		if (stats != null) {
+			stats.submitted.increment();
+		}
 
-		if (period <= 0L) {
-			InstantPeriodicWorkerTask isr =
-					new InstantPeriodicWorkerTask(task, exec);
-			Future<?> f;
-			if (initialDelay <= 0L) {
-				f = exec.submit(isr);
+		try {
+			if (period <= 0L) {
+				InstantPeriodicWorkerTask isr =
+						new InstantPeriodicWorkerTask(task, exec);
+				isr.stats = stats;
+				Future<?> f;
+				if (initialDelay <= 0L) {
+					f = exec.submit(isr);
+				}
+				else {
+					f = exec.schedule(isr, initialDelay, unit);
+				}
+				isr.setFirst(f);
+
+				return isr;
 			}
 			else {
-				f = exec.schedule(isr, initialDelay, unit);
-			}
-			isr.setFirst(f);
+				PeriodicSchedulerTask sr = new PeriodicSchedulerTask(task);
+				if (stats != null) {
+					sr.stats = stats;
+					sr.dueNanos = SchedulerStats.dueNanos(initialDelay, unit);
+					sr.periodNanos = unit.toNanos(period);
+				}
+				Future<?> f = exec.scheduleAtFixedRate(sr, initialDelay, period, unit);
+				sr.setFuture(f);
 
-			return isr;
+				return sr;
+			}
 		}
-		else {
-			PeriodicSchedulerTask sr = new PeriodicSchedulerTask(task);
-			Future<?> f = exec.scheduleAtFixedRate(sr, initialDelay, period, unit);
-			sr.setFuture(f);
-
-			return sr;
+		catch (RejectedExecutionException ex) {
+			if (stats != null) {
+				stats.rejected.increment();
+			}
+			throw ex;
 		}
 	}
 
@@ -1428,10 +1843,27 @@ public abstract class Schedulers {
 			Runnable task,
 			long delay,
 			TimeUnit unit) {
+		return workerSchedule(exec, tasks, task, delay, unit, null);
+	}
+
+	static Disposable workerSchedule(ScheduledExecutorService exec,
+			Disposable.Composite tasks,
+			Runnable task,
+			long delay,
+			TimeUnit unit,
+			@Nullable SchedulerStats stats) {
 		task = onSchedule(task);
 
 		WorkerTask sr = new WorkerTask(task, tasks);
+		if (stats != null) {
+			stats.submitted.increment();
+			sr.stats = stats;
+			sr.dueNanos = SchedulerStats.dueNanos(delay, unit);
+		}
 		if (!tasks.add(sr)) {
+			if (stats != null) {
+				stats.rejected.increment();
+			}
 			throw Exceptions.failWithRejected();
 		}
 
@@ -1440,12 +1872,18 @@ public abstract class Schedulers {
 			if (delay <= 0L) {
 				f = exec.submit((Callable<?>) sr);
 			}
+			else if (timingWheelSchedule(exec, sr, sr, sr::setFuture, delay, unit)) {
+				return sr;
+			}
 			else {
 				f = exec.schedule((Callable<?>) sr, delay, unit);
 			}
 			sr.setFuture(f);
 		}
 		catch (RejectedExecutionException ex) {
+			if (stats != null) {
+				stats.rejected.increment();
+			}
 			sr.dispose();
 			//RejectedExecutionException are propagated up
 			throw ex;
@@ -1454,19 +1892,69 @@ public abstract class Schedulers {
 		return sr;
 	}
 
+	/**
+	 * Register a delayed task on the {@link #enableTimingWheel() timing wheel}, if any,
+	 * which submits it to the executor once its delay has elapsed. The task's future is
+	 * the timing wheel's timeout until then, so that disposing the task cancels it.
+	 *
+	 * @return false if the task must be scheduled directly on the executor instead
+	 */
+	static boolean timingWheelSchedule(ScheduledExecutorService exec,
+			Callable<?> task,
+			Disposable disposable,
+			Consumer<Future<?>> futureSetter,
+			long delay,
+			TimeUnit unit) {
+		TimingWheel wheel = CURRENT_TIMING_WHEEL.get();
+		if (wheel == null
+				|| exec instanceof DelegateServiceScheduler.UnsupportedScheduledExecutorService
+				|| exec instanceof BoundedElasticScheduler.BoundedScheduledExecutorService
+				|| exec.isShutdown()) {
+			return false;
+		}
+		TimingWheel.Timeout timeout = wheel.newTimeout(() -> {
+			try {
+				futureSetter.accept(exec.submit(task));
+			}
+			catch (RejectedExecutionException ex) {
+				//the executor has been shut down in the meantime
+				disposable.dispose();
+			}
+		}, delay, unit);
+		futureSetter.accept(timeout);
+		return wheel.add(timeout);
+	}
+
 	static Disposable workerSchedulePeriodically(ScheduledExecutorService exec,
 			Disposable.Composite tasks,
 			Runnable task,
 			long initialDelay,
 			long period,
 			TimeUnit unit) {
+		return workerSchedulePeriodically(exec, tasks, task, initialDelay, period, unit, null);
+	}
+
+	static Disposable workerSchedulePeriodically(ScheduledExecutorService exec,
+			Disposable.Composite tasks,
+			Runnable task,
+			long initialDelay,
+			long period,
+			TimeUnit unit,
+			@Nullable SchedulerStats stats) {
 		task = onSchedule(task);
+		if (stats != null) {
+			stats.submitted.increment();
+		}
 
 		if (period <= 0L) {
 			InstantPeriodicWorkerTask isr =
 					new InstantPeriodicWorkerTask(task, exec, tasks);
+			isr.stats = stats;
 			if (!tasks.add(isr)) {
-			  throw Exceptions.failWithRejected();
+				if (stats != null) {
+					stats.rejected.increment();
+				}
+				throw Exceptions.failWithRejected();
 			}
 			try {
 				Future<?> f;
@@ -1479,11 +1967,17 @@ public abstract class Schedulers {
 				isr.setFirst(f);
 			}
 			catch (RejectedExecutionException ex) {
+				if (stats != null) {
+					stats.rejected.increment();
+				}
 				isr.dispose();
 				//RejectedExecutionException are propagated up
 				throw ex;
 			}
 			catch (IllegalArgumentException | NullPointerException ex) {
+				if (stats != null) {
+					stats.rejected.increment();
+				}
 				isr.dispose();
 				//IllegalArgumentException are wrapped into RejectedExecutionException and propagated up
 				throw new RejectedExecutionException(ex);
@@ -1493,7 +1987,15 @@ public abstract class Schedulers {
 		}
 
 		PeriodicWorkerTask sr = new PeriodicWorkerTask(task, tasks);
+		if (stats != null) {
+			sr.stats = stats;
+			sr.dueNanos = SchedulerStats.dueNanos(initialDelay, unit);
+			sr.periodNanos = unit.toNanos(period);
+		}
 		if (!tasks.add(sr)) {
+			if (stats != null) {
+				stats.rejected.increment();
+			}
 			throw Exceptions.failWithRejected();
 		}
 
@@ -1502,11 +2004,17 @@ public abstract class Schedulers {
 			sr.setFuture(f);
 		}
 		catch (RejectedExecutionException ex) {
+			if (stats != null) {
+				stats.rejected.increment();
+			}
 			sr.dispose();
 			//RejectedExecutionException are propagated up
 			throw ex;
 		}
 		catch (IllegalArgumentException | NullPointerException ex) {
+			if (stats != null) {
+				stats.rejected.increment();
+			}
 			sr.dispose();
 			//IllegalArgumentException are wrapped into RejectedExecutionException and propagated up
 			throw new RejectedExecutionException(ex);
@@ -28,6 +28,7 @@ import java.util.function.Supplier;
 import reactor.core.Disposable;
 import reactor.core.Scannable;
 import reactor.core.publisher.Mono;
+import reactor.util.annotation.Nullable;
 
 /**
  * Scheduler that works with a single-threaded ScheduledExecutorService and is suited for
@@ -47,6 +48,9 @@ final class SingleScheduler implements Scheduler, Supplier<ScheduledExecutorServ
 
 	final ThreadFactory factory;
 
+	@Nullable
+	final SchedulerStats stats;
+
 	volatile SchedulerState<ScheduledExecutorService> state;
 	@SuppressWarnings("rawtypes")
 	private static final AtomicReferenceFieldUpdater<SingleScheduler, SchedulerState> STATE =
@@ -59,6 +63,8 @@ final class SingleScheduler implements Scheduler, Supplier<ScheduledExecutorServ
 
 	SingleScheduler(ThreadFactory factory) {
 		this.factory = factory;
+		this.stats = Schedulers.newStats(() -> SchedulerStats.queueSize(state.currentResource),
+				() -> isDisposed() ? 0L : 1L);
 		STATE.lazySet(this, INIT);
 	}
 
@@ -185,12 +191,12 @@ final class SingleScheduler implements Scheduler, Supplier<ScheduledExecutorServ
 	public Disposable schedule(Runnable task) {
 		ScheduledExecutorService executor = state.currentResource;
 		return Schedulers.directSchedule(executor, task, null, 0L,
-				TimeUnit.MILLISECONDS);
+				TimeUnit.MILLISECONDS, stats);
 	}
 
 	@Override
 	public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
-		return Schedulers.directSchedule(state.currentResource, task, null, delay, unit);
+		return Schedulers.directSchedule(state.currentResource, task, null, delay, unit, stats);
 	}
 
 	@Override
@@ -202,7 +208,8 @@ final class SingleScheduler implements Scheduler, Supplier<ScheduledExecutorServ
 				task,
 				initialDelay,
 				period,
-				unit);
+				unit,
+				stats);
 	}
 
 	@Override
@@ -220,12 +227,13 @@ final class SingleScheduler implements Scheduler, Supplier<ScheduledExecutorServ
 		if (key == Attr.TERMINATED || key == Attr.CANCELLED) return isDisposed();
 		if (key == Attr.NAME) return this.toString();
 		if (key == Attr.CAPACITY || key == Attr.BUFFERED) return 1; //BUFFERED: number of workers doesn't vary
+		if (key == Attr.SCHEDULER_STATS) return stats;
 
 		return Schedulers.scanExecutor(state.currentResource, key);
 	}
 
 	@Override
 	public Worker createWorker() {
-		return new ExecutorServiceWorker(state.currentResource);
+		return new ExecutorServiceWorker(state.currentResource, stats);
 	}
 }
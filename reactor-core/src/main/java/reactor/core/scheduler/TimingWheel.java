@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.scheduler;
+
+import java.util.Queue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import reactor.util.annotation.Nullable;
+import reactor.util.concurrent.Queues;
+
+/**
+ * A hashed timing wheel, which keeps delayed tasks in {@code ticksPerWheel} buckets
+ * instead of a binary heap. Adding and cancelling a timeout are O(1) operations that
+ * don't take any lock: new and cancelled timeouts are handed over to the single timer
+ * thread through lock-free queues, and that thread moves them in and out of the buckets
+ * on each tick.
+ * <p>
+ * Timeouts further away than a full revolution of the wheel stay in their bucket and
+ * are only expired once the required number of revolutions have happened. The precision
+ * of timeouts is the {@code tickNanos}: a task never expires before its delay, but can
+ * expire up to one tick later.
+ * <p>
+ * Expired timeouts run their {@link Runnable} on the timer thread, which is expected to
+ * immediately hand over the actual work to an executor.
+ */
+final class TimingWheel implements Runnable {
+
+	static final AtomicLong COUNTER = new AtomicLong();
+
+	static final int RUNNING       = 0;
+	static final int SHUTTING_DOWN = 1;
+	static final int TERMINATED    = 2;
+
+	/**
+	 * The maximum number of new timeouts moved into the buckets on each tick, so that a
+	 * burst of submissions doesn't delay the expiration of the current bucket too much.
+	 */
+	static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+	final long     tickNanos;
+	final Bucket[] buckets;
+	final int      mask;
+	final long     startTime;
+	final Thread   thread;
+
+	final Queue<Timeout> pendingTimeouts;
+	final Queue<Timeout> cancelledTimeouts;
+
+	volatile int state;
+	static final AtomicIntegerFieldUpdater<TimingWheel> STATE =
+			AtomicIntegerFieldUpdater.newUpdater(TimingWheel.class, "state");
+
+	volatile int idle;
+	static final AtomicIntegerFieldUpdater<TimingWheel> IDLE =
+			AtomicIntegerFieldUpdater.newUpdater(TimingWheel.class, "idle");
+
+	/** number of timeouts in the buckets, only accessed by the timer thread */
+	long activeTimeouts;
+	/** the next tick to process, only accessed by the timer thread */
+	long tick;
+
+	TimingWheel(long tickDuration, TimeUnit unit, int ticksPerWheel, ThreadFactory threadFactory) {
+		if (tickDuration <= 0L) {
+			throw new IllegalArgumentException("tickDuration must be strictly positive, was " + tickDuration);
+		}
+		if (ticksPerWheel <= 0) {
+			throw new IllegalArgumentException("ticksPerWheel must be strictly positive, was " + ticksPerWheel);
+		}
+		int size = Queues.ceilingNextPowerOfTwo(ticksPerWheel);
+		this.tickNanos = Math.max(1L, unit.toNanos(tickDuration));
+		this.buckets = new Bucket[size];
+		for (int i = 0; i < size; i++) {
+			buckets[i] = new Bucket();
+		}
+		this.mask = size - 1;
+		this.pendingTimeouts = Queues.<Timeout>unboundedMultiproducer().get();
+		this.cancelledTimeouts = Queues.<Timeout>unboundedMultiproducer().get();
+		this.startTime = System.nanoTime();
+		this.thread = threadFactory.newThread(this);
+		this.thread.start();
+	}
+
+	/**
+	 * Create a {@link Timeout} that will run the {@link Runnable} on the timer thread
+	 * once the delay has elapsed. The timeout is only considered by the timing wheel once
+	 * passed to {@link #add(Timeout)}, which lets callers publish it beforehand.
+	 *
+	 * @param task the action to perform once expired
+	 * @param delay the delay
+	 * @param unit the delay's unit
+	 * @return a new {@link Timeout}
+	 */
+	Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+		return new Timeout(this, task, System.nanoTime() + unit.toNanos(delay) - startTime);
+	}
+
+	/**
+	 * Add a {@link Timeout} created by {@link #newTimeout(Runnable, long, TimeUnit)} to
+	 * this timing wheel.
+	 *
+	 * @param timeout the timeout to add
+	 * @return false if this timing wheel has been shut down and the timeout won't expire
+	 */
+	boolean add(Timeout timeout) {
+		if (state != RUNNING) {
+			return false;
+		}
+		pendingTimeouts.offer(timeout);
+		// only the first producer to see the timer thread idle needs to wake it up
+		if (idle == 1 && IDLE.compareAndSet(this, 1, 0)) {
+			LockSupport.unpark(thread);
+		}
+		// the timer thread might have terminated in between, only keep the timeout if it
+		// has already expired
+		if (state != RUNNING && timeout.cancel(false)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Stop accepting new timeouts. The timer thread terminates once all the timeouts
+	 * that were already accepted have expired or have been cancelled.
+	 */
+	void shutdown() {
+		if (STATE.compareAndSet(this, RUNNING, SHUTTING_DOWN)) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	boolean isTerminated() {
+		return state == TERMINATED;
+	}
+
+	@Override
+	public void run() {
+		try {
+			for (;;) {
+				if (!awaitTick()) {
+					break;
+				}
+				processCancelled();
+				transferPending();
+				expire(buckets[(int) tick & mask]);
+				tick++;
+			}
+		}
+		finally {
+			state = TERMINATED;
+		}
+	}
+
+	/**
+	 * Wait for the end of the current tick, parking indefinitely if there is no timeout
+	 * at all.
+	 *
+	 * @return false if the timer thread should terminate
+	 */
+	boolean awaitTick() {
+		for (;;) {
+			if (activeTimeouts == 0L && pendingTimeouts.isEmpty()) {
+				if (state != RUNNING) {
+					return false;
+				}
+				idle = 1;
+				if (pendingTimeouts.isEmpty() && state == RUNNING) {
+					LockSupport.park(this);
+				}
+				idle = 0;
+				// nothing was in the wheel: skip the ticks that elapsed while idle
+				long elapsedTicks = (System.nanoTime() - startTime) / tickNanos;
+				if (elapsedTicks > tick) {
+					tick = elapsedTicks;
+				}
+				continue;
+			}
+			long sleepNanos = tickNanos * (tick + 1) - (System.nanoTime() - startTime);
+			if (sleepNanos <= 0L) {
+				return true;
+			}
+			LockSupport.parkNanos(this, sleepNanos);
+		}
+	}
+
+	void processCancelled() {
+		Timeout timeout;
+		while ((timeout = cancelledTimeouts.poll()) != null) {
+			Bucket bucket = timeout.bucket;
+			if (bucket != null) {
+				bucket.remove(timeout);
+				activeTimeouts--;
+			}
+		}
+	}
+
+	void transferPending() {
+		for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+			Timeout timeout = pendingTimeouts.poll();
+			if (timeout == null) {
+				return;
+			}
+			if (timeout.state != Timeout.PENDING) {
+				continue;
+			}
+			long calculated = timeout.deadline / tickNanos;
+			timeout.remainingRounds = (calculated - tick) / buckets.length;
+			// a timeout which deadline is in the past is expired on the current tick
+			long ticks = Math.max(calculated, tick);
+			buckets[(int) ticks & mask].add(timeout);
+			activeTimeouts++;
+		}
+	}
+
+	void expire(Bucket bucket) {
+		Timeout timeout = bucket.head;
+		while (timeout != null) {
+			Timeout next = timeout.next;
+			if (timeout.remainingRounds <= 0L) {
+				bucket.remove(timeout);
+				activeTimeouts--;
+				timeout.expire();
+			}
+			else if (timeout.state != Timeout.PENDING) {
+				bucket.remove(timeout);
+				activeTimeouts--;
+			}
+			else {
+				timeout.remainingRounds--;
+			}
+			timeout = next;
+		}
+	}
+
+	/**
+	 * A doubly-linked list of {@link Timeout}, only accessed by the timer thread.
+	 */
+	static final class Bucket {
+
+		@Nullable
+		Timeout head;
+		@Nullable
+		Timeout tail;
+
+		void add(Timeout timeout) {
+			timeout.bucket = this;
+			if (head == null) {
+				head = tail = timeout;
+			}
+			else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		void remove(Timeout timeout) {
+			Timeout next = timeout.next;
+			Timeout prev = timeout.prev;
+			if (prev != null) {
+				prev.next = next;
+			}
+			if (next != null) {
+				next.prev = prev;
+			}
+			if (timeout == head) {
+				head = next;
+			}
+			if (timeout == tail) {
+				tail = prev;
+			}
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+		}
+	}
+
+	/**
+	 * A delayed task registered in a {@link TimingWheel}. It is exposed as a
+	 * {@link Future} so that it can be used as the pending future of a
+	 * {@link SchedulerTask} or {@link WorkerTask} until it expires.
+	 */
+	static final class Timeout implements Future<Void> {
+
+		static final int PENDING   = 0;
+		static final int EXPIRED   = 1;
+		static final int CANCELLED = 2;
+
+		final TimingWheel wheel;
+		final Runnable    task;
+		/** relative to the wheel's startTime */
+		final long        deadline;
+
+		// only accessed by the timer thread
+		long    remainingRounds;
+		@Nullable
+		Timeout next;
+		@Nullable
+		Timeout prev;
+		@Nullable
+		Bucket  bucket;
+
+		volatile int state;
+		static final AtomicIntegerFieldUpdater<Timeout> STATE =
+				AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+		Timeout(TimingWheel wheel, Runnable task, long deadline) {
+			this.wheel = wheel;
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		void expire() {
+			if (!STATE.compareAndSet(this, PENDING, EXPIRED)) {
+				return;
+			}
+			try {
+				task.run();
+			}
+			catch (Throwable ex) {
+				Schedulers.handleError(ex);
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+				return false;
+			}
+			wheel.cancelledTimeouts.offer(this);
+			return true;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return state == CANCELLED;
+		}
+
+		@Override
+		public boolean isDone() {
+			return state != PENDING;
+		}
+
+		@Override
+		public Void get() {
+			throw new UnsupportedOperationException("Timeout doesn't support blocking get");
+		}
+
+		@Override
+		public Void get(long timeout, TimeUnit unit) {
+			throw new UnsupportedOperationException("Timeout doesn't support blocking get");
+		}
+	}
+}
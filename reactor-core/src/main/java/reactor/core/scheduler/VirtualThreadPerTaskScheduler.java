@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.scheduler;
+
+import java.util.concurrent.ThreadFactory;
+
+import reactor.core.Disposable;
+import reactor.core.Scannable;
+
+/**
+ * Not supported in Java versions lower than 21, see the Java 21 variant.
+ */
+final class VirtualThreadPerTaskScheduler implements Scheduler, Scannable {
+
+	VirtualThreadPerTaskScheduler(int maxConcurrency, ThreadFactory factory) {
+		throw new UnsupportedOperationException("Unsupported in JDK lower than 21");
+	}
+
+	@Override
+	public Object scanUnsafe(Attr key) {
+		return null;
+	}
+
+	@Override
+	public Disposable schedule(Runnable task) {
+		throw new UnsupportedOperationException("Unsupported in JDK lower than 21");
+	}
+
+	@Override
+	public Worker createWorker() {
+		throw new UnsupportedOperationException("Unsupported in JDK lower than 21");
+	}
+}
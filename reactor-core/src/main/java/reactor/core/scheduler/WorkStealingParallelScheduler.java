@@ -0,0 +1,901 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.scheduler;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.Exceptions;
+import reactor.core.Scannable;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.Nullable;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Scheduler that hosts a fixed pool of threads and is suited for parallel work, in which
+ * idle threads steal the tasks submitted directly to the {@link Scheduler} from the run
+ * queue of busier threads. Tasks submitted through a {@link Scheduler.Worker} stay bound
+ * to the thread backing that worker, so that they are still executed in FIFO order and
+ * never concurrently. This scheduler is time-capable (can schedule with delay /
+ * periodically).
+ * <p>
+ * Unlike {@link ParallelScheduler}, threads are not backed by a
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor}: each thread owns a bounded
+ * lock-free ring buffer of stealable tasks, a multi-producer inbox for its worker-bound
+ * and delayed tasks and a thread-confined heap of timers. As a consequence,
+ * {@link Schedulers#addExecutorServiceDecorator(String, java.util.function.BiFunction) executor service decorators}
+ * don't apply to this scheduler.
+ * <p>
+ * Like {@link ParallelScheduler}, {@link #disposeGracefully()} lets pending delayed tasks
+ * run once they are due while periodic tasks are cancelled.
+ */
+final class WorkStealingParallelScheduler implements Scheduler,
+                                                     SchedulerState.DisposeAwaiter<WorkStealingParallelScheduler.Lane[]>,
+                                                     Scannable {
+
+	static final AtomicLong COUNTER = new AtomicLong();
+
+	static final Lane[] SHUTDOWN = new Lane[0];
+	static final Lane   TERMINATED = new Lane(null, 0, SHUTDOWN, null);
+
+	/**
+	 * The capacity of each thread's stealable run queue. Tasks that don't fit are kept in
+	 * the thread's inbox, where they can't be stolen.
+	 */
+	static final int RUN_QUEUE_CAPACITY = 1024;
+
+	final int           n;
+	final ThreadFactory factory;
+
+	volatile SchedulerState<Lane[]> state;
+	@SuppressWarnings("rawtypes")
+	static final AtomicReferenceFieldUpdater<WorkStealingParallelScheduler, SchedulerState> STATE =
+			AtomicReferenceFieldUpdater.newUpdater(WorkStealingParallelScheduler.class, SchedulerState.class, "state");
+
+	volatile int idleLanes;
+	static final AtomicIntegerFieldUpdater<WorkStealingParallelScheduler> IDLE_LANES =
+			AtomicIntegerFieldUpdater.newUpdater(WorkStealingParallelScheduler.class, "idleLanes");
+
+	int roundRobin;
+
+	WorkStealingParallelScheduler(int n, ThreadFactory factory) {
+		if (n <= 0) {
+			throw new IllegalArgumentException("n > 0 required but it was " + n);
+		}
+		this.n = n;
+		this.factory = factory;
+	}
+
+	Lane[] newLanes() {
+		Lane[] lanes = new Lane[n];
+		for (int i = 0; i < n; i++) {
+			lanes[i] = new Lane(this, i, lanes, factory);
+		}
+		return lanes;
+	}
+
+	@Override
+	public boolean isDisposed() {
+		SchedulerState<Lane[]> current = state;
+		return current != null && current.currentResource == SHUTDOWN;
+	}
+
+	@Override
+	public void init() {
+		SchedulerState<Lane[]> a = this.state;
+		if (a != null) {
+			if (a.currentResource == SHUTDOWN) {
+				throw new IllegalStateException(
+						"Initializing a disposed scheduler is not permitted"
+				);
+			}
+			// return early - scheduler already initialized
+			return;
+		}
+
+		SchedulerState<Lane[]> b = SchedulerState.init(newLanes());
+
+		if (STATE.compareAndSet(this, null, b)) {
+			for (Lane lane : b.currentResource) {
+				lane.thread.start();
+			}
+		}
+		// otherwise the threads were never started, nothing to free
+		else if (isDisposed()) {
+			throw new IllegalStateException(
+					"Initializing a disposed scheduler is not permitted"
+			);
+		}
+	}
+
+	@Override
+	@Deprecated
+	public void start() {
+		SchedulerState<Lane[]> a = this.state;
+
+		if (a != null && a.currentResource != SHUTDOWN) {
+			return;
+		}
+
+		SchedulerState<Lane[]> b = SchedulerState.init(newLanes());
+
+		if (STATE.compareAndSet(this, a, b)) {
+			for (Lane lane : b.currentResource) {
+				lane.thread.start();
+			}
+		}
+		// someone else shutdown or started successfully, the threads were never started
+	}
+
+	@Override
+	public boolean await(Lane[] resource, long timeout, TimeUnit timeUnit) throws InterruptedException {
+		for (Lane lane : resource) {
+			if (!lane.terminated.await(timeout, timeUnit)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void dispose() {
+		SchedulerState<Lane[]> previous = state;
+
+		if (previous != null && previous.currentResource == SHUTDOWN) {
+			if (previous.initialResource != null) {
+				for (Lane lane : previous.initialResource) {
+					lane.shutdown(Lane.STOP);
+				}
+			}
+			return;
+		}
+
+		SchedulerState<Lane[]> shutdown = SchedulerState.transition(
+				previous == null ? null : previous.currentResource, SHUTDOWN, this
+		);
+
+		STATE.compareAndSet(this, previous, shutdown);
+
+		// If unsuccessful - either another thread disposed or restarted - no issue,
+		// we only care about the one stored in shutdown.
+		if (shutdown.initialResource != null) {
+			for (Lane lane : shutdown.initialResource) {
+				lane.shutdown(Lane.STOP);
+			}
+		}
+	}
+
+	@Override
+	public Mono<Void> disposeGracefully() {
+		return Mono.defer(() -> {
+			SchedulerState<Lane[]> previous = state;
+
+			if (previous != null && previous.currentResource == SHUTDOWN) {
+				return previous.onDispose;
+			}
+
+			SchedulerState<Lane[]> shutdown = SchedulerState.transition(
+					previous == null ? null : previous.currentResource, SHUTDOWN, this
+			);
+
+			STATE.compareAndSet(this, previous, shutdown);
+
+			// If unsuccessful - either another thread disposed or restarted - no issue,
+			// we only care about the one stored in shutdown.
+			if (shutdown.initialResource != null) {
+				for (Lane lane : shutdown.initialResource) {
+					lane.shutdown(Lane.SHUTDOWN);
+				}
+			}
+			return shutdown.onDispose;
+		});
+	}
+
+	Lane pick() {
+		SchedulerState<Lane[]> a = state;
+		if (a == null) {
+			init();
+			a = state;
+			if (a == null) {
+				throw new IllegalStateException("lanes uninitialized after implicit init()");
+			}
+		}
+		if (a.currentResource != SHUTDOWN) {
+			// ignoring the race condition here, its already random who gets which lane
+			int idx = roundRobin;
+			if (idx == n) {
+				idx = 0;
+				roundRobin = 1;
+			}
+			else {
+				roundRobin = idx + 1;
+			}
+			return a.currentResource[idx];
+		}
+		return TERMINATED;
+	}
+
+	@Override
+	public Disposable schedule(Runnable task) {
+		return pick().schedule(task, null, 0L, WorkStealingTask.NO_PERIOD, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+		return pick().schedule(task, null, delay, WorkStealingTask.NO_PERIOD, unit);
+	}
+
+	@Override
+	public Disposable schedulePeriodically(Runnable task,
+			long initialDelay,
+			long period,
+			TimeUnit unit) {
+		return pick().schedule(task, null, initialDelay, Math.max(0L, period), unit);
+	}
+
+	@Override
+	public Worker createWorker() {
+		return new WorkStealingWorker(pick());
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder ts = new StringBuilder(Schedulers.WORK_STEALING_PARALLEL)
+				.append('(').append(n);
+		if (factory instanceof ReactorThreadFactory) {
+			ts.append(",\"").append(((ReactorThreadFactory) factory).get()).append('\"');
+		}
+		ts.append(')');
+		return ts.toString();
+	}
+
+	@Override
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.TERMINATED || key == Attr.CANCELLED) return isDisposed();
+		if (key == Attr.CAPACITY || key == Attr.BUFFERED) return n; //BUFFERED: number of workers doesn't vary
+		if (key == Attr.NAME) return this.toString();
+
+		return null;
+	}
+
+	@Override
+	public Stream<? extends Scannable> inners() {
+		return Stream.of(state.currentResource);
+	}
+
+	/**
+	 * A thread of the {@link WorkStealingParallelScheduler} along with its queues.
+	 */
+	static final class Lane implements Runnable, Scannable {
+
+		static final int RUNNING  = 0;
+		static final int SHUTDOWN = 1;
+		static final int STOP     = 2;
+
+		static final Comparator<WorkStealingTask> TIMER_ORDER = (t1, t2) -> {
+			long diff = t1.deadline - t2.deadline;
+			if (diff != 0L) {
+				return diff < 0L ? -1 : 1;
+			}
+			return Long.compare(t1.sequence, t2.sequence);
+		};
+
+		@Nullable
+		final WorkStealingParallelScheduler parent;
+		final int                           index;
+		final Lane[]                        lanes;
+		final Thread                        thread;
+		final CountDownLatch                terminated;
+
+		/**
+		 * Stealable direct tasks, offered by any thread and polled by this lane's thread
+		 * as well as sibling lanes' threads.
+		 */
+		final RunQueue                      runQueue;
+		/**
+		 * Tasks that can only be run by this lane's thread: worker-bound tasks, delayed
+		 * tasks and direct tasks that overflowed the {@link #runQueue}.
+		 */
+		final Queue<WorkStealingTask>       inbox;
+		/**
+		 * Delayed and periodic tasks, confined to this lane's thread.
+		 */
+		final PriorityQueue<WorkStealingTask> timers;
+
+		volatile int status;
+		static final AtomicIntegerFieldUpdater<Lane> STATUS =
+				AtomicIntegerFieldUpdater.newUpdater(Lane.class, "status");
+
+		volatile boolean parked;
+
+		volatile int cancelledTimers;
+		static final AtomicIntegerFieldUpdater<Lane> CANCELLED_TIMERS =
+				AtomicIntegerFieldUpdater.newUpdater(Lane.class, "cancelledTimers");
+
+		long timerSequence;
+		int  tick;
+		int  stealCursor;
+
+		@SuppressWarnings("ConstantConditions")
+		Lane(@Nullable WorkStealingParallelScheduler parent, int index, Lane[] lanes, @Nullable ThreadFactory factory) {
+			this.parent = parent;
+			this.index = index;
+			this.lanes = lanes;
+			this.runQueue = new RunQueue(RUN_QUEUE_CAPACITY);
+			this.inbox = Queues.<WorkStealingTask>unboundedMultiproducer().get();
+			this.timers = new PriorityQueue<>(TIMER_ORDER);
+			this.terminated = new CountDownLatch(1);
+			if (factory == null) {
+				this.thread = null;
+				this.status = STOP;
+				this.terminated.countDown();
+			}
+			else {
+				this.thread = factory.newThread(this);
+			}
+		}
+
+		Disposable schedule(Runnable task, @Nullable Composite tasks, long delay, long period, TimeUnit unit) {
+			if (status != RUNNING) {
+				throw Exceptions.failWithRejected();
+			}
+			task = Schedulers.onSchedule(task);
+
+			boolean stealable = tasks == null && delay <= 0L && period == WorkStealingTask.NO_PERIOD;
+			long deadline = delay <= 0L && period == WorkStealingTask.NO_PERIOD ?
+					WorkStealingTask.IMMEDIATE :
+					System.nanoTime() + unit.toNanos(Math.max(0L, delay));
+			long periodNanos = period == WorkStealingTask.NO_PERIOD ? period : unit.toNanos(period);
+
+			WorkStealingTask t = new WorkStealingTask(task, tasks, this, deadline, periodNanos);
+			if (tasks != null && !tasks.add(t)) {
+				throw Exceptions.failWithRejected();
+			}
+
+			if (stealable) {
+				if (!runQueue.offer(t)) {
+					inbox.offer(t);
+				}
+				if (parked) {
+					LockSupport.unpark(thread);
+				}
+				else {
+					signalIdleSibling();
+				}
+			}
+			else {
+				inbox.offer(t);
+				if (parked) {
+					LockSupport.unpark(thread);
+				}
+			}
+
+			if (status != RUNNING) {
+				// the lane might have terminated before seeing the task
+				t.dispose();
+				throw Exceptions.failWithRejected();
+			}
+			return t;
+		}
+
+		void signalIdleSibling() {
+			WorkStealingParallelScheduler p = parent;
+			if (p == null || p.idleLanes == 0) {
+				return;
+			}
+			for (Lane lane : lanes) {
+				if (lane.parked) {
+					LockSupport.unpark(lane.thread);
+					return;
+				}
+			}
+		}
+
+		void shutdown(int newStatus) {
+			for (;;) {
+				int s = status;
+				if (s >= newStatus) {
+					return;
+				}
+				if (STATUS.compareAndSet(this, s, newStatus)) {
+					break;
+				}
+			}
+			if (newStatus == STOP) {
+				thread.interrupt();
+			}
+			else {
+				LockSupport.unpark(thread);
+			}
+		}
+
+		void onTimerCancelled() {
+			CANCELLED_TIMERS.incrementAndGet(this);
+		}
+
+		@Override
+		public void run() {
+			try {
+				for (;;) {
+					WorkStealingTask t = poll();
+					if (status == STOP) {
+						if (t != null) {
+							t.dispose();
+						}
+						break;
+					}
+					if (t != null) {
+						// clear a potential interruption coming from the dispose() of a
+						// previous task, it must not leak into this one
+						Thread.interrupted();
+						t.run();
+						continue;
+					}
+					if (status != RUNNING) {
+						// graceful shutdown: no more immediate work, wait for the pending
+						// delayed tasks
+						WorkStealingTask next = nextTimerOnShutdown();
+						if (next == null) {
+							break;
+						}
+						LockSupport.parkNanos(this, next.deadline - System.nanoTime());
+						continue;
+					}
+					park();
+				}
+			}
+			finally {
+				clear();
+				terminated.countDown();
+			}
+		}
+
+		@Nullable
+		WorkStealingTask poll() {
+			WorkStealingTask t = pollTimer();
+			if (t != null) {
+				return t;
+			}
+			if ((tick++ & 1) == 0) {
+				t = pollInbox();
+				if (t == null) {
+					t = runQueue.poll();
+				}
+			}
+			else {
+				t = runQueue.poll();
+				if (t == null) {
+					t = pollInbox();
+				}
+			}
+			if (t == null) {
+				t = steal();
+			}
+			return t;
+		}
+
+		@Nullable
+		WorkStealingTask pollInbox() {
+			for (;;) {
+				WorkStealingTask t = inbox.poll();
+				if (t == null || t.deadline == WorkStealingTask.IMMEDIATE) {
+					return t;
+				}
+				if (!t.isDisposed()) {
+					t.sequence = timerSequence++;
+					timers.offer(t);
+				}
+			}
+		}
+
+		@Nullable
+		WorkStealingTask pollTimer() {
+			PriorityQueue<WorkStealingTask> timers = this.timers;
+			if (timers.isEmpty()) {
+				return null;
+			}
+			int cancelled = cancelledTimers;
+			if (cancelled > 64 && cancelled > timers.size() >> 1) {
+				CANCELLED_TIMERS.addAndGet(this, -cancelled);
+				timers.removeIf(WorkStealingTask::isDisposed);
+			}
+			long now = System.nanoTime();
+			for (;;) {
+				WorkStealingTask t = timers.peek();
+				if (t == null) {
+					return null;
+				}
+				if (t.isDisposed()) {
+					timers.poll();
+					continue;
+				}
+				if (t.deadline - now > 0L) {
+					return null;
+				}
+				return timers.poll();
+			}
+		}
+
+		@Nullable
+		WorkStealingTask steal() {
+			Lane[] lanes = this.lanes;
+			int n = lanes.length;
+			int start = stealCursor;
+			for (int i = 0; i < n; i++) {
+				int idx = start + i;
+				if (idx >= n) {
+					idx -= n;
+				}
+				if (idx == index) {
+					continue;
+				}
+				WorkStealingTask t = lanes[idx].runQueue.poll();
+				if (t != null) {
+					stealCursor = idx;
+					return t;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Cancel the periodic timers, as {@link java.util.concurrent.ScheduledThreadPoolExecutor#shutdown()}
+		 * does, and return the next pending delayed task if any.
+		 */
+		@Nullable
+		WorkStealingTask nextTimerOnShutdown() {
+			timers.removeIf(t -> {
+				if (t.period != WorkStealingTask.NO_PERIOD) {
+					t.dispose();
+					return true;
+				}
+				return t.isDisposed();
+			});
+			return timers.peek();
+		}
+
+		void reschedule(WorkStealingTask t) {
+			if (status != RUNNING) {
+				t.dispose();
+				return;
+			}
+			t.sequence = timerSequence++;
+			timers.offer(t);
+		}
+
+		boolean hasWork() {
+			if (status != RUNNING || !inbox.isEmpty() || !runQueue.isEmpty()) {
+				return true;
+			}
+			for (Lane lane : lanes) {
+				if (!lane.runQueue.isEmpty()) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void park() {
+			WorkStealingParallelScheduler p = parent;
+			assert p != null;
+			parked = true;
+			IDLE_LANES.incrementAndGet(p);
+			try {
+				if (hasWork()) {
+					return;
+				}
+				WorkStealingTask next = timers.peek();
+				if (next == null) {
+					LockSupport.park(this);
+				}
+				else {
+					LockSupport.parkNanos(this, next.deadline - System.nanoTime());
+				}
+			}
+			finally {
+				parked = false;
+				IDLE_LANES.decrementAndGet(p);
+			}
+		}
+
+		void clear() {
+			WorkStealingTask t;
+			while ((t = inbox.poll()) != null) {
+				t.dispose();
+			}
+			while ((t = runQueue.poll()) != null) {
+				t.dispose();
+			}
+			while ((t = timers.poll()) != null) {
+				t.dispose();
+			}
+		}
+
+		@Override
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.TERMINATED) return terminated.getCount() == 0L;
+			if (key == Attr.CANCELLED) return status != RUNNING;
+			if (key == Attr.CAPACITY) return RUN_QUEUE_CAPACITY;
+			if (key == Attr.BUFFERED) return runQueue.size() + inbox.size();
+			if (key == Attr.NAME) return thread == null ? "terminated" : thread.getName();
+
+			return null;
+		}
+	}
+
+	/**
+	 * A bounded multi-producer multi-consumer ring buffer, based on Dmitry Vyukov's
+	 * algorithm, used as the stealable run queue of a {@link Lane}.
+	 */
+	static final class RunQueue {
+
+		final AtomicReferenceArray<WorkStealingTask> buffer;
+		final AtomicLongArray                        sequences;
+		final int                                    mask;
+
+		volatile long producerIndex;
+		static final AtomicLongFieldUpdater<RunQueue> PRODUCER_INDEX =
+				AtomicLongFieldUpdater.newUpdater(RunQueue.class, "producerIndex");
+
+		volatile long consumerIndex;
+		static final AtomicLongFieldUpdater<RunQueue> CONSUMER_INDEX =
+				AtomicLongFieldUpdater.newUpdater(RunQueue.class, "consumerIndex");
+
+		RunQueue(int capacity) {
+			int actualCapacity = Queues.ceilingNextPowerOfTwo(capacity);
+			this.buffer = new AtomicReferenceArray<>(actualCapacity);
+			this.sequences = new AtomicLongArray(actualCapacity);
+			this.mask = actualCapacity - 1;
+			for (int i = 0; i < actualCapacity; i++) {
+				sequences.lazySet(i, i);
+			}
+		}
+
+		boolean offer(WorkStealingTask t) {
+			for (;;) {
+				long pi = producerIndex;
+				int offset = (int) pi & mask;
+				long delta = sequences.get(offset) - pi;
+				if (delta == 0L) {
+					if (PRODUCER_INDEX.compareAndSet(this, pi, pi + 1)) {
+						buffer.lazySet(offset, t);
+						sequences.lazySet(offset, pi + 1);
+						return true;
+					}
+				}
+				else if (delta < 0L) {
+					return false;
+				}
+			}
+		}
+
+		@Nullable
+		WorkStealingTask poll() {
+			for (;;) {
+				long ci = consumerIndex;
+				int offset = (int) ci & mask;
+				long delta = sequences.get(offset) - (ci + 1);
+				if (delta == 0L) {
+					if (CONSUMER_INDEX.compareAndSet(this, ci, ci + 1)) {
+						WorkStealingTask t = buffer.get(offset);
+						buffer.lazySet(offset, null);
+						sequences.lazySet(offset, ci + mask + 1);
+						return t;
+					}
+				}
+				else if (delta < 0L) {
+					return null;
+				}
+			}
+		}
+
+		boolean isEmpty() {
+			return producerIndex == consumerIndex;
+		}
+
+		int size() {
+			long size = producerIndex - consumerIndex;
+			return size < 0L ? 0 : (int) size;
+		}
+	}
+
+	/**
+	 * A {@link Runnable} submitted to a {@link Lane}, which can be one-shot, delayed or
+	 * periodic and bound to the {@link Composite} of a {@link Scheduler.Worker}.
+	 */
+	static final class WorkStealingTask implements Runnable, Disposable {
+
+		static final long IMMEDIATE = Long.MIN_VALUE;
+		static final long NO_PERIOD = -1L;
+
+		static final int READY        = 0;
+		static final int RUNNING      = 1;
+		static final int FINISHED     = 2;
+		static final int CANCELLED    = 3;
+		static final int INTERRUPTING = 4;
+
+		final Runnable            task;
+		@Nullable
+		final Composite           parent;
+		final Lane                lane;
+		final long                period;
+
+		/** only accessed by the lane's thread once the task has been submitted */
+		long deadline;
+		/** only accessed by the lane's thread, tie-breaker between timers with the same deadline */
+		long sequence;
+		/** set before moving to RUNNING */
+		Thread thread;
+
+		volatile int state;
+		static final AtomicIntegerFieldUpdater<WorkStealingTask> STATE =
+				AtomicIntegerFieldUpdater.newUpdater(WorkStealingTask.class, "state");
+
+		WorkStealingTask(Runnable task, @Nullable Composite parent, Lane lane, long deadline, long period) {
+			this.task = task;
+			this.parent = parent;
+			this.lane = lane;
+			this.deadline = deadline;
+			this.period = period;
+		}
+
+		@Override
+		public void run() {
+			thread = Thread.currentThread();
+			if (!STATE.compareAndSet(this, READY, RUNNING)) {
+				return;
+			}
+			try {
+				task.run();
+			}
+			catch (Throwable ex) {
+				Schedulers.handleError(ex);
+			}
+
+			if (period == NO_PERIOD) {
+				if (STATE.compareAndSet(this, RUNNING, FINISHED)) {
+					if (parent != null) {
+						parent.remove(this);
+					}
+				}
+				else {
+					awaitInterruption();
+				}
+			}
+			else if (STATE.compareAndSet(this, RUNNING, READY)) {
+				deadline = period == 0L ? System.nanoTime() : deadline + period;
+				lane.reschedule(this);
+			}
+			else {
+				awaitInterruption();
+			}
+		}
+
+		void awaitInterruption() {
+			while (state == INTERRUPTING) {
+				Thread.yield();
+			}
+			// clear the interruption that targeted this task
+			Thread.interrupted();
+		}
+
+		@Override
+		public boolean isDisposed() {
+			int s = state;
+			return s == FINISHED || s == CANCELLED || s == INTERRUPTING;
+		}
+
+		@Override
+		public void dispose() {
+			for (;;) {
+				int s = state;
+				if (s == READY) {
+					if (STATE.compareAndSet(this, READY, CANCELLED)) {
+						if (deadline != IMMEDIATE) {
+							lane.onTimerCancelled();
+						}
+						break;
+					}
+				}
+				else if (s == RUNNING) {
+					Thread t = thread;
+					if (t != Thread.currentThread()) {
+						if (STATE.compareAndSet(this, RUNNING, INTERRUPTING)) {
+							t.interrupt();
+							state = CANCELLED;
+							break;
+						}
+					}
+					else if (STATE.compareAndSet(this, RUNNING, CANCELLED)) {
+						break;
+					}
+				}
+				else {
+					return;
+				}
+			}
+			if (parent != null) {
+				parent.remove(this);
+			}
+		}
+	}
+
+	static final class WorkStealingWorker implements Worker, Scannable {
+
+		final Lane lane;
+
+		/**
+		 * Cleanup tasks to be performed when this worker is {@link Disposable#dispose() disposed},
+		 * including but not limited to tasks that have been scheduled on the worker.
+		 */
+		final Composite tasks;
+
+		WorkStealingWorker(Lane lane) {
+			this.lane = lane;
+			this.tasks = Disposables.composite();
+		}
+
+		@Override
+		public Disposable schedule(Runnable task) {
+			return lane.schedule(task, tasks, 0L, WorkStealingTask.NO_PERIOD, TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+			return lane.schedule(task, tasks, delay, WorkStealingTask.NO_PERIOD, unit);
+		}
+
+		@Override
+		public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+			return lane.schedule(task, tasks, initialDelay, Math.max(0L, period), unit);
+		}
+
+		@Override
+		public void dispose() {
+			tasks.dispose();
+		}
+
+		@Override
+		public boolean isDisposed() {
+			return tasks.isDisposed();
+		}
+
+		@Override
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.BUFFERED) return tasks.size();
+			if (key == Attr.TERMINATED || key == Attr.CANCELLED) return isDisposed();
+			if (key == Attr.NAME) return "WorkStealingWorker";
+			if (key == Attr.PARENT) return lane;
+
+			return null;
+		}
+	}
+}
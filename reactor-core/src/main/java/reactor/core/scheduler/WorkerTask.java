@@ -70,6 +70,12 @@ final class WorkerTask implements Runnable, Disposable, Callable<Void> {
 	static final AtomicReferenceFieldUpdater<WorkerTask, Thread> THREAD =
 			AtomicReferenceFieldUpdater.newUpdater(WorkerTask.class, Thread.class, "thread");
 
+	/** statistics of the scheduler, if enabled */
+	@Nullable
+	SchedulerStats stats;
+	/** the time at which the task is due, when there are statistics */
+	long           dueNanos;
+
 	WorkerTask(Runnable task, Composite parent) {
 		this.task = task;
 		PARENT.lazySet(this, parent);
@@ -80,12 +86,21 @@ final class WorkerTask implements Runnable, Disposable, Callable<Void> {
 	public Void call() {
 		THREAD.lazySet(this, Thread.currentThread());
 		try {
+			SchedulerStats s = stats;
+			long start = s == null ? 0L : s.taskStarted(dueNanos);
+			boolean failure = false;
 			try {
 				task.run();
 			}
 			catch (Throwable ex) {
+				failure = true;
 				Schedulers.handleError(ex);
 			}
+			finally {
+				if (s != null) {
+					s.taskDone(start, failure);
+				}
+			}
 		}
 		finally {
 			THREAD.lazySet(this, null);
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.util.concurrent;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import reactor.util.annotation.Nullable;
+
+/*
+ * The code was inspired by the similarly named JCTools class:
+ * https://github.com/JCTools/JCTools/blob/master/jctools-core/src/main/java/org/jctools/queues/atomic
+ */
+/**
+ * A bounded, array backed, multi-producer multi-consumer queue, based on Dmitry Vyukov's
+ * bounded MPMC queue.
+ * <p>
+ * Each slot has a sequence number telling whether it is ready to be written to or read
+ * from in the current lap around the array: producers and consumers claim slots by
+ * incrementing their respective index with a CAS, once the sequence of the slot at that
+ * index matches, and publish the slot for the other side by updating its sequence.
+ *
+ * @param <E> the value type
+ */
+final class MpmcArrayQueue<E> extends PaddedQueueIndexes<E> {
+
+	final AtomicReferenceArray<E> buffer;
+	final AtomicLongArray         sequences;
+	final int                     mask;
+
+	MpmcArrayQueue(int capacity) {
+		// with a single slot, a sequence couldn't tell the written and consumed states apart
+		int length = Queues.ceilingNextPowerOfTwo(Math.max(2, capacity));
+		this.buffer = new AtomicReferenceArray<>(length);
+		this.sequences = new AtomicLongArray(length);
+		this.mask = length - 1;
+		for (int i = 0; i < length; i++) {
+			sequences.lazySet(i, i);
+		}
+	}
+
+	@Override
+	public boolean offer(E e) {
+		Objects.requireNonNull(e, "e");
+		for (;;) {
+			long pi = producerIndex;
+			int offset = (int) pi & mask;
+			long sequence = sequences.get(offset);
+			if (sequence < pi) {
+				// the slot still holds the element of the previous lap
+				if (pi - mask - 1 >= consumerIndex) {
+					return false;
+				}
+			}
+			else if (sequence == pi && casProducerIndex(pi, pi + 1)) {
+				buffer.lazySet(offset, e);
+				sequences.lazySet(offset, pi + 1);
+				return true;
+			}
+		}
+	}
+
+	@Override
+	@Nullable
+	public E poll() {
+		for (;;) {
+			long ci = consumerIndex;
+			int offset = (int) ci & mask;
+			long sequence = sequences.get(offset);
+			long expected = ci + 1;
+			if (sequence < expected) {
+				// the slot is not written yet
+				if (ci >= producerIndex) {
+					return null;
+				}
+			}
+			else if (sequence == expected && casConsumerIndex(ci, expected)) {
+				E e = buffer.get(offset);
+				buffer.lazySet(offset, null);
+				sequences.lazySet(offset, ci + mask + 1);
+				return e;
+			}
+		}
+	}
+
+	@Override
+	@Nullable
+	public E peek() {
+		for (;;) {
+			long ci = consumerIndex;
+			int offset = (int) ci & mask;
+			long sequence = sequences.get(offset);
+			if (sequence < ci + 1) {
+				if (ci >= producerIndex) {
+					return null;
+				}
+			}
+			else if (sequence == ci + 1) {
+				E e = buffer.get(offset);
+				if (e != null && ci == consumerIndex) {
+					return e;
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return consumerIndex >= producerIndex;
+	}
+
+	@Override
+	public int size() {
+		return Math.max(0, indexDistance());
+	}
+
+	@Override
+	public void clear() {
+		while (poll() != null) { } // NOPMD
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		throw new UnsupportedOperationException();
+	}
+
+	int length() {
+		return mask + 1;
+	}
+}
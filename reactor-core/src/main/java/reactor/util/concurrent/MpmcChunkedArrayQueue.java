@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.util.concurrent;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import reactor.util.annotation.Nullable;
+
+/**
+ * An unbounded multi-producer multi-consumer queue, backed by a linked list of
+ * fixed-size array chunks, based on the FAAArrayQueue of Pedro Ramalhete and Andreia
+ * Correia.
+ * <p>
+ * Each chunk has its own enqueue and dequeue indexes, which producers and consumers
+ * claim slots from with an atomic increment. A producer then CASes its element into its
+ * slot, while a consumer swaps the content of its slot with a {@link #TAKEN} marker: a
+ * consumer overtaking a slow producer thus invalidates the slot, and the producer retries
+ * with another one. Producers filling a chunk append a new one, and consumers move to it
+ * once they have taken all the slots of the current one.
+ *
+ * @param <E> the value type
+ */
+final class MpmcChunkedArrayQueue<E> extends AbstractQueue<E> {
+
+	static final Object TAKEN = new Object();
+
+	final int chunkSize;
+
+	volatile Chunk head;
+	@SuppressWarnings("rawtypes")
+	static final AtomicReferenceFieldUpdater<MpmcChunkedArrayQueue, Chunk> HEAD =
+			AtomicReferenceFieldUpdater.newUpdater(MpmcChunkedArrayQueue.class, Chunk.class, "head");
+
+	volatile Chunk tail;
+	@SuppressWarnings("rawtypes")
+	static final AtomicReferenceFieldUpdater<MpmcChunkedArrayQueue, Chunk> TAIL =
+			AtomicReferenceFieldUpdater.newUpdater(MpmcChunkedArrayQueue.class, Chunk.class, "tail");
+
+	MpmcChunkedArrayQueue(int chunkSize) {
+		this.chunkSize = Math.max(2, chunkSize);
+		Chunk first = new Chunk(this.chunkSize, null);
+		HEAD.lazySet(this, first);
+		TAIL.lazySet(this, first);
+	}
+
+	@Override
+	public boolean offer(E e) {
+		Objects.requireNonNull(e, "e");
+		for (;;) {
+			Chunk t = tail;
+			int index = Chunk.ENQUEUE_INDEX.getAndIncrement(t);
+			if (index < chunkSize) {
+				if (t.compareAndSet(index, null, e)) {
+					return true;
+				}
+				// a consumer has taken the slot before we could write to it
+				continue;
+			}
+			if (t != tail) {
+				continue;
+			}
+			Chunk next = t.next;
+			if (next == null) {
+				Chunk appended = new Chunk(chunkSize, e);
+				if (Chunk.NEXT.compareAndSet(t, null, appended)) {
+					TAIL.compareAndSet(this, t, appended);
+					return true;
+				}
+			}
+			else {
+				TAIL.compareAndSet(this, t, next);
+			}
+		}
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public E poll() {
+		for (;;) {
+			Chunk h = head;
+			if (h.dequeueIndex >= h.enqueueIndex && h.next == null) {
+				return null;
+			}
+			int index = Chunk.DEQUEUE_INDEX.getAndIncrement(h);
+			if (index >= chunkSize) {
+				Chunk next = h.next;
+				if (next == null) {
+					return null;
+				}
+				HEAD.compareAndSet(this, h, next);
+				continue;
+			}
+			Object e = h.getAndSet(index, TAKEN);
+			if (e != null) {
+				return (E) e;
+			}
+		}
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public E peek() {
+		for (Chunk c = head; c != null; c = c.next) {
+			int end = Math.min(c.enqueueIndex, chunkSize);
+			for (int i = Math.min(c.dequeueIndex, chunkSize); i < end; i++) {
+				Object e = c.get(i);
+				if (e != null && e != TAKEN) {
+					return (E) e;
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * The number of elements, which is exact when the queue is quiescent and approximate
+	 * while it is being used concurrently.
+	 */
+	@Override
+	public int size() {
+		long size = 0;
+		for (Chunk c = head; c != null && size < Integer.MAX_VALUE; c = c.next) {
+			size += Math.max(0, Math.min(c.enqueueIndex, chunkSize) - Math.min(c.dequeueIndex, chunkSize));
+		}
+		return (int) Math.min(size, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public void clear() {
+		while (poll() != null) { } // NOPMD
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		throw new UnsupportedOperationException();
+	}
+
+	static final class Chunk extends AtomicReferenceArray<Object> {
+
+		private static final long serialVersionUID = 3370208520493339826L;
+
+		volatile int enqueueIndex;
+		static final AtomicIntegerFieldUpdater<Chunk> ENQUEUE_INDEX =
+				AtomicIntegerFieldUpdater.newUpdater(Chunk.class, "enqueueIndex");
+
+		volatile int dequeueIndex;
+		static final AtomicIntegerFieldUpdater<Chunk> DEQUEUE_INDEX =
+				AtomicIntegerFieldUpdater.newUpdater(Chunk.class, "dequeueIndex");
+
+		volatile Chunk next;
+		static final AtomicReferenceFieldUpdater<Chunk, Chunk> NEXT =
+				AtomicReferenceFieldUpdater.newUpdater(Chunk.class, Chunk.class, "next");
+
+		Chunk(int size, @Nullable Object first) {
+			super(size);
+			if (first != null) {
+				lazySet(0, first);
+				ENQUEUE_INDEX.lazySet(this, 1);
+			}
+		}
+	}
+}
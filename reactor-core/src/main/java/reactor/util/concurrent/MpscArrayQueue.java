@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.util.concurrent;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import reactor.util.annotation.Nullable;
+
+/*
+ * The code was inspired by the similarly named JCTools class:
+ * https://github.com/JCTools/JCTools/blob/master/jctools-core/src/main/java/org/jctools/queues/atomic
+ */
+/**
+ * A bounded, array backed, multi-producer single-consumer queue.
+ * <p>
+ * Producers claim a slot by incrementing the producer index with a CAS, then write their
+ * element to it. The consumer can therefore see a claimed slot that is not written yet,
+ * in which case {@link #poll()} spins until the element is visible.
+ *
+ * @param <E> the value type
+ */
+final class MpscArrayQueue<E> extends PaddedQueueIndexes<E> {
+
+	final AtomicReferenceArray<E> buffer;
+	final int                     mask;
+
+	MpscArrayQueue(int capacity) {
+		int length = Queues.ceilingNextPowerOfTwo(Math.max(2, capacity));
+		this.buffer = new AtomicReferenceArray<>(length);
+		this.mask = length - 1;
+		PRODUCER_LIMIT.lazySet(this, length);
+	}
+
+	@Override
+	public boolean offer(E e) {
+		Objects.requireNonNull(e, "e");
+		long limit = producerLimit;
+		for (;;) {
+			long pi = producerIndex;
+			if (pi >= limit) {
+				limit = consumerIndex + mask + 1;
+				if (pi >= limit) {
+					return false;
+				}
+				PRODUCER_LIMIT.lazySet(this, limit);
+			}
+			if (casProducerIndex(pi, pi + 1)) {
+				buffer.lazySet((int) pi & mask, e);
+				return true;
+			}
+		}
+	}
+
+	@Override
+	@Nullable
+	public E poll() {
+		long ci = consumerIndex;
+		int offset = (int) ci & mask;
+		E e = buffer.get(offset);
+		if (e == null) {
+			if (ci == producerIndex) {
+				return null;
+			}
+			// a producer has claimed the slot but its element is not visible yet
+			do {
+				e = buffer.get(offset);
+			}
+			while (e == null);
+		}
+		buffer.lazySet(offset, null);
+		soConsumerIndex(ci + 1);
+		return e;
+	}
+
+	@Override
+	@Nullable
+	public E peek() {
+		long ci = consumerIndex;
+		int offset = (int) ci & mask;
+		E e = buffer.get(offset);
+		if (e == null && ci != producerIndex) {
+			do {
+				e = buffer.get(offset);
+			}
+			while (e == null);
+		}
+		return e;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return consumerIndex == producerIndex;
+	}
+
+	@Override
+	public int size() {
+		return indexDistance();
+	}
+
+	@Override
+	public void clear() {
+		while (poll() != null) { } // NOPMD
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		throw new UnsupportedOperationException();
+	}
+
+	int length() {
+		return mask + 1;
+	}
+}
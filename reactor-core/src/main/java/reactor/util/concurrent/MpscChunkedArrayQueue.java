@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.util.concurrent;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import reactor.util.annotation.Nullable;
+
+/*
+ * The code was inspired by the JCTools MpscUnboundedXaddArrayQueue:
+ * https://github.com/JCTools/JCTools/blob/master/jctools-core/src/main/java/org/jctools/queues
+ */
+/**
+ * An unbounded multi-producer single-consumer queue, backed by a linked list of
+ * fixed-size array chunks.
+ * <p>
+ * Producers claim an index with a single atomic increment of the producer index, which
+ * never fails nor retries, then walk from the last known producer chunk to the chunk
+ * holding that index, appending new chunks as needed. Only one allocation per chunk is
+ * needed, instead of one per element as in {@link MpscLinkedQueue}.
+ *
+ * @param <E> the value type
+ */
+final class MpscChunkedArrayQueue<E> extends PaddedQueueIndexes<E> {
+
+	final int chunkSize;
+
+	volatile Chunk<E> producerChunk;
+	@SuppressWarnings("rawtypes")
+	static final AtomicReferenceFieldUpdater<MpscChunkedArrayQueue, Chunk> PRODUCER_CHUNK =
+			AtomicReferenceFieldUpdater.newUpdater(MpscChunkedArrayQueue.class, Chunk.class, "producerChunk");
+
+	/**
+	 * Only accessed by the consumer.
+	 */
+	Chunk<E> consumerChunk;
+
+	MpscChunkedArrayQueue(int chunkSize) {
+		this.chunkSize = Math.max(2, chunkSize);
+		Chunk<E> first = new Chunk<>(0L, this.chunkSize);
+		this.consumerChunk = first;
+		PRODUCER_CHUNK.lazySet(this, first);
+	}
+
+	@Override
+	public boolean offer(E e) {
+		Objects.requireNonNull(e, "e");
+		// reading the chunk before claiming the index ensures the chunk doesn't start after it
+		Chunk<E> start = producerChunk;
+		long pi = PRODUCER_INDEX.getAndIncrement(this);
+
+		Chunk<E> chunk = start;
+		while (pi >= chunk.base + chunkSize) {
+			chunk = chunk.nextOrAppend(chunkSize);
+		}
+		if (chunk != start) {
+			PRODUCER_CHUNK.compareAndSet(this, start, chunk);
+		}
+		chunk.lazySet((int) (pi - chunk.base), e);
+		return true;
+	}
+
+	@Override
+	@Nullable
+	public E poll() {
+		long ci = consumerIndex;
+		Chunk<E> chunk = consumerChunkFor(ci);
+		if (chunk == null) {
+			return null;
+		}
+		int offset = (int) (ci - chunk.base);
+		E e = chunk.get(offset);
+		if (e == null) {
+			if (ci == producerIndex) {
+				return null;
+			}
+			// a producer has claimed the index but its element is not visible yet
+			do {
+				e = chunk.get(offset);
+			}
+			while (e == null);
+		}
+		chunk.lazySet(offset, null);
+		soConsumerIndex(ci + 1);
+		return e;
+	}
+
+	@Override
+	@Nullable
+	public E peek() {
+		long ci = consumerIndex;
+		Chunk<E> chunk = consumerChunkFor(ci);
+		if (chunk == null) {
+			return null;
+		}
+		int offset = (int) (ci - chunk.base);
+		E e = chunk.get(offset);
+		if (e == null && ci != producerIndex) {
+			do {
+				e = chunk.get(offset);
+			}
+			while (e == null);
+		}
+		return e;
+	}
+
+	/**
+	 * Move the consumer to the next chunk once it has consumed the current one.
+	 *
+	 * @return the chunk holding the given consumer index, or null if the queue is empty
+	 */
+	@Nullable
+	Chunk<E> consumerChunkFor(long ci) {
+		Chunk<E> chunk = consumerChunk;
+		if (ci == chunk.base + chunkSize) {
+			Chunk<E> next = chunk.next;
+			if (next == null) {
+				if (ci == producerIndex) {
+					return null;
+				}
+				// a producer has claimed an index in the next chunk, which is being appended
+				do {
+					next = chunk.next;
+				}
+				while (next == null);
+			}
+			consumerChunk = next;
+			return next;
+		}
+		return chunk;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return consumerIndex == producerIndex;
+	}
+
+	@Override
+	public int size() {
+		return indexDistance();
+	}
+
+	@Override
+	public void clear() {
+		while (poll() != null) { } // NOPMD
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		throw new UnsupportedOperationException();
+	}
+
+	static final class Chunk<E> extends AtomicReferenceArray<E> {
+
+		private static final long serialVersionUID = -2441718961513318460L;
+
+		final long base;
+
+		volatile Chunk<E> next;
+		@SuppressWarnings("rawtypes")
+		static final AtomicReferenceFieldUpdater<Chunk, Chunk> NEXT =
+				AtomicReferenceFieldUpdater.newUpdater(Chunk.class, Chunk.class, "next");
+
+		Chunk(long base, int size) {
+			super(size);
+			this.base = base;
+		}
+
+		@SuppressWarnings("unchecked")
+		Chunk<E> nextOrAppend(int size) {
+			Chunk<E> n = next;
+			if (n != null) {
+				return n;
+			}
+			Chunk<E> appended = new Chunk<>(base + size, size);
+			if (NEXT.compareAndSet(this, null, appended)) {
+				return appended;
+			}
+			return next;
+		}
+	}
+}
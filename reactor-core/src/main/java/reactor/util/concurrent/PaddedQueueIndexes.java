@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.util.concurrent;
+
+import java.util.AbstractQueue;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * The producer and consumer indexes of the multi-producer array queues, padded so that
+ * producers and consumers don't contend on the same cache lines. The padding follows
+ * the class hierarchy layout of {@link SpscArrayQueue}.
+ *
+ * @param <E> the value type
+ */
+abstract class PaddedQueueIndexes<E> extends QueueIndexesPad2<E> {
+
+	final boolean casProducerIndex(long expect, long update) {
+		return PRODUCER_INDEX.compareAndSet(this, expect, update);
+	}
+
+	final boolean casConsumerIndex(long expect, long update) {
+		return CONSUMER_INDEX.compareAndSet(this, expect, update);
+	}
+
+	final void soConsumerIndex(long index) {
+		CONSUMER_INDEX.lazySet(this, index);
+	}
+
+	/**
+	 * @return the number of elements between the consumer and producer indexes, which
+	 * may be higher than the actual size if producers have claimed indexes they haven't
+	 * written to yet
+	 */
+	final int indexDistance() {
+		long ci = consumerIndex;
+		for (;;) {
+			long pi = producerIndex;
+			long ci2 = consumerIndex;
+			if (ci == ci2) {
+				return (int) Math.min(pi - ci, Integer.MAX_VALUE);
+			}
+			ci = ci2;
+		}
+	}
+}
+
+@SuppressWarnings("unused")
+abstract class QueueIndexesPad0<E> extends AbstractQueue<E> {
+
+	long p00, p01, p02, p03, p04, p05, p06, p07; //  64b
+	long p10, p11, p12, p13, p14, p15, p16, p17; // 128b
+}
+
+abstract class QueueProducerIndex<E> extends QueueIndexesPad0<E> {
+
+	volatile long producerIndex;
+	@SuppressWarnings("rawtypes")
+	static final AtomicLongFieldUpdater<QueueProducerIndex> PRODUCER_INDEX =
+			AtomicLongFieldUpdater.newUpdater(QueueProducerIndex.class, "producerIndex");
+
+	/**
+	 * A cached lower bound of the index producers can't reach without checking the
+	 * consumer index, only used by bounded queues.
+	 */
+	volatile long producerLimit;
+	@SuppressWarnings("rawtypes")
+	static final AtomicLongFieldUpdater<QueueProducerIndex> PRODUCER_LIMIT =
+			AtomicLongFieldUpdater.newUpdater(QueueProducerIndex.class, "producerLimit");
+}
+
+@SuppressWarnings("unused")
+abstract class QueueIndexesPad1<E> extends QueueProducerIndex<E> {
+
+	long p00, p01, p02, p03, p04, p05, p06, p07; //  64b
+	long p10, p11, p12, p13, p14, p15, p16, p17; // 128b
+}
+
+abstract class QueueConsumerIndex<E> extends QueueIndexesPad1<E> {
+
+	volatile long consumerIndex;
+	@SuppressWarnings("rawtypes")
+	static final AtomicLongFieldUpdater<QueueConsumerIndex> CONSUMER_INDEX =
+			AtomicLongFieldUpdater.newUpdater(QueueConsumerIndex.class, "consumerIndex");
+}
+
+@SuppressWarnings("unused")
+abstract class QueueIndexesPad2<E> extends QueueConsumerIndex<E> {
+
+	long p00, p01, p02, p03, p04, p05, p06, p07; //  64b
+	long p10, p11, p12, p13, p14, p15, p16, p17; // 128b
+}
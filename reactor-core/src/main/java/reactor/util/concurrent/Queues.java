@@ -34,7 +34,8 @@ import reactor.util.annotation.Nullable;
 
 /**
  * Queue utilities and suppliers for 1-producer/1-consumer ready queues adapted for
- * various given capacities.
+ * various given capacities, as well as array backed queues for multiple producers
+ * and/or multiple consumers.
  */
 public final class Queues {
 
@@ -66,6 +67,15 @@ public final class Queues {
 		else if(q instanceof MpscLinkedQueue) {
 			return Integer.MAX_VALUE;
 		}
+		else if (q instanceof MpscArrayQueue) {
+			return ((MpscArrayQueue) q).length();
+		}
+		else if (q instanceof MpmcArrayQueue) {
+			return ((MpmcArrayQueue) q).length();
+		}
+		else if (q instanceof MpscChunkedArrayQueue || q instanceof MpmcChunkedArrayQueue) {
+			return Integer.MAX_VALUE;
+		}
 		else if (q instanceof BlockingQueue) {
 			return ((BlockingQueue) q).remainingCapacity();
 		}
@@ -226,6 +236,62 @@ public final class Queues {
 		return () -> Hooks.wrapQueue(new MpscLinkedQueue<T>());
 	}
 
+	/**
+	 * Returns an unbounded queue suitable for multi-producer/single-consumer (MPSC)
+	 * scenarios, backed by a linked list of array chunks of the given size. Producers
+	 * claim a slot with a single atomic increment and only allocate once per chunk.
+	 * <p>
+	 * Unlike {@link #unboundedMultiproducer()}, the queue doesn't offer pairs of values
+	 * atomically via {@link java.util.function.BiPredicate}.
+	 *
+	 * @param chunkSize the number of slots of each chunk
+	 * @param <T> the reified {@link Queue} generic type
+	 * @return an unbounded MPSC {@link Queue} {@link Supplier}
+	 * @since 3.8.0
+	 */
+	public static <T> Supplier<Queue<T>> unboundedMultiproducer(int chunkSize) {
+		return () -> Hooks.wrapQueue(new MpscChunkedArrayQueue<T>(chunkSize));
+	}
+
+	/**
+	 * Returns a bounded, array backed queue suitable for multi-producer/single-consumer
+	 * (MPSC) scenarios. The capacity is rounded up to the next power of two.
+	 *
+	 * @param capacity the minimum capacity of the queue
+	 * @param <T> the reified {@link Queue} generic type
+	 * @return a bounded MPSC {@link Queue} {@link Supplier}
+	 * @since 3.8.0
+	 */
+	public static <T> Supplier<Queue<T>> multiproducer(int capacity) {
+		return () -> Hooks.wrapQueue(new MpscArrayQueue<T>(capacity));
+	}
+
+	/**
+	 * Returns a bounded, array backed queue suitable for multi-producer/multi-consumer
+	 * (MPMC) scenarios. The capacity is rounded up to the next power of two.
+	 *
+	 * @param capacity the minimum capacity of the queue
+	 * @param <T> the reified {@link Queue} generic type
+	 * @return a bounded MPMC {@link Queue} {@link Supplier}
+	 * @since 3.8.0
+	 */
+	public static <T> Supplier<Queue<T>> multiproducerMulticonsumer(int capacity) {
+		return () -> Hooks.wrapQueue(new MpmcArrayQueue<T>(capacity));
+	}
+
+	/**
+	 * Returns an unbounded queue suitable for multi-producer/multi-consumer (MPMC)
+	 * scenarios, backed by a linked list of array chunks of the given size.
+	 *
+	 * @param chunkSize the number of slots of each chunk
+	 * @param <T> the reified {@link Queue} generic type
+	 * @return an unbounded MPMC {@link Queue} {@link Supplier}
+	 * @since 3.8.0
+	 */
+	public static <T> Supplier<Queue<T>> unboundedMultiproducerMulticonsumer(int chunkSize) {
+		return () -> Hooks.wrapQueue(new MpmcChunkedArrayQueue<T>(chunkSize));
+	}
+
 	private Queues() {
 		//prevent construction
 	}
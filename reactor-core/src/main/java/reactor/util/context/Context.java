@@ -183,7 +183,7 @@ public interface Context extends ContextView {
 		});
 		@SuppressWarnings("unchecked")
 		final Map<Object, Object> generifiedMap = (Map<Object, Object>) map;
-		return new ContextN(generifiedMap);
+		return PersistentContext.fromIfLarger(new ContextN(generifiedMap));
 	}
 
 	/**
@@ -277,7 +277,7 @@ public interface Context extends ContextView {
 			// make it return Context{1-5}
 			return Context.of((Map<?, ?>) newContext);
 		}
-		return newContext;
+		return PersistentContext.fromIfLarger(newContext);
 	}
 
 	/**
@@ -299,7 +299,7 @@ public interface Context extends ContextView {
 		if (combined.size() <= 5) {
 			return Context.of((Map<?, ?>) combined);
 		}
-		return combined;
+		return PersistentContext.fromIfLarger(combined);
 	}
 
 	/**
@@ -108,6 +108,9 @@ final class Context2 implements CoreContext {
 
 	@Override
 	public Context putAllInto(Context base) {
+		if (base instanceof ContextN) {
+			return ((ContextN) base).putAllSmall(this);
+		}
 		return base
 				.put(this.key1, this.value1)
 				.put(this.key2, this.value2);
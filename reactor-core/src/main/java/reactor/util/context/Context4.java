@@ -172,6 +172,9 @@ final class Context4 implements CoreContext {
 
 	@Override
 	public Context putAllInto(Context base) {
+		if (base instanceof ContextN) {
+			return ((ContextN) base).putAllSmall(this);
+		}
 		return base
 				.put(this.key1, this.value1)
 				.put(this.key2, this.value2)
@@ -163,6 +163,9 @@ final class Context5 implements CoreContext {
 
 	@Override
 	public Context putAllInto(Context base) {
+		if (base instanceof ContextN) {
+			return ((ContextN) base).putAllSmall(this);
+		}
 		return base
 				.put(this.key1, this.value1)
 				.put(this.key2, this.value2)
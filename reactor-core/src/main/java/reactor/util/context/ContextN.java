@@ -81,6 +81,10 @@ final class ContextN extends LinkedHashMap<Object, Object>
 	 */
 	@Override
 	public Context put(Object key, Object value) {
+		if (size() >= PersistentContext.THRESHOLD && !containsKey(key)) {
+			// copying the whole map on each put gets quadratic for deep contextWrite chains
+			return PersistentContext.from(this).put(key, value);
+		}
 		ContextN newContext = new ContextN(this);
 		newContext.accept(key, value);
 		return newContext;
@@ -152,7 +156,7 @@ final class ContextN extends LinkedHashMap<Object, Object>
 			ContextN newContext = new ContextN(base.size() + this.size());
 			((CoreContext) base).unsafePutAllInto(newContext);
 			newContext.putAll((Map<Object, Object>) this);
-			return newContext;
+			return PersistentContext.fromIfLarger(newContext);
 		}
 
 		Context[] holder = new Context[]{base};
@@ -160,6 +164,21 @@ final class ContextN extends LinkedHashMap<Object, Object>
 		return holder[0];
 	}
 
+	/**
+	 * Copy this {@link ContextN} once to add all the entries of a small {@link CoreContext},
+	 * rather than once per entry. The result stays a {@link ContextN} so that the entries
+	 * keep their insertion order, unless it grows past {@link PersistentContext#THRESHOLD}.
+	 *
+	 * @param other the {@link Context2} to {@link Context5} whose entries to add
+	 * @return a new {@link Context} with all the entries of this and the other context
+	 */
+	Context putAllSmall(CoreContext other) {
+		ContextN newContext = new ContextN(this.size() + other.size());
+		newContext.putAll((Map<Object, Object>) this);
+		other.unsafePutAllInto(newContext);
+		return PersistentContext.fromIfLarger(newContext);
+	}
+
 	@Override
 	public void unsafePutAllInto(ContextN other) {
 		other.putAll((Map<Object, Object>) this);
@@ -195,7 +214,7 @@ final class ContextN extends LinkedHashMap<Object, Object>
 			other.stream().sequential().forEach(newContext);
 		}
 
-		return newContext;
+		return PersistentContext.fromIfLarger(newContext);
 	}
 
 	@Override
@@ -206,7 +225,24 @@ final class ContextN extends LinkedHashMap<Object, Object>
 
 		ContextN newContext = new ContextN(this);
 		from.forEach(newContext);
-		return newContext;
+		return PersistentContext.fromIfLarger(newContext);
+	}
+
+	/**
+	 * Compare the entries of this context as a {@link Map}, or with the ones of a
+	 * {@link PersistentContext} holding the same entries.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof PersistentContext) {
+			return o.equals(this);
+		}
+		return super.equals(o);
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode();
 	}
 
 	@Override
@@ -130,14 +130,17 @@ public interface ContextView {
 	int size();
 
 	/**
-	 * Stream key/value pairs from this {@link Context}
+	 * Stream key/value pairs from this {@link Context}. No particular order is guaranteed:
+	 * small contexts stream their entries in insertion order, but larger ones follow the
+	 * hashes of their keys.
 	 *
 	 * @return a {@link Stream} of key/value pairs held by this context
 	 */
 	Stream<Map.Entry<Object, Object>> stream();
 
 	/**
-	 * Perform the given action for each entry in this {@link ContextView}. If the action throws an
+	 * Perform the given action for each entry in this {@link ContextView}, in the same order
+	 * as {@link #stream()}. If the action throws an
 	 * exception, it is immediately propagated to the caller and the remaining items
 	 * will not be processed.
 	 *
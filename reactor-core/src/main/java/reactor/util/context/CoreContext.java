@@ -47,7 +47,7 @@ interface CoreContext extends Context {
 			// make it return Context{1-5}
 			return Context.of((Map<?, ?>) newContext);
 		}
-		return newContext;
+		return PersistentContext.fromIfLarger(newContext);
 	}
 
 	/**
@@ -0,0 +1,539 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.util.context;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import reactor.util.annotation.Nullable;
+
+/**
+ * A {@link Context} backed by a persistent hash array mapped trie, used for contexts of
+ * more than {@link #THRESHOLD} entries. Unlike {@link ContextN} which copies all its
+ * entries on each write, a {@link #put(Object, Object)} or {@link #delete(Object)} only
+ * copies the path to the affected entry, in {@code O(log32 n)}, and shares all the other
+ * nodes with the original {@link Context}.
+ * <p>
+ * Iteration order follows the hashes of the keys, not the insertion order.
+ */
+final class PersistentContext implements CoreContext {
+
+	/**
+	 * The maximum size of a {@link ContextN}: a {@link PersistentContext} always holds more
+	 * entries. Smaller contexts are cheaper to copy, and use {@link ContextN} or the
+	 * {@code Context1..5} specializations.
+	 */
+	static final int THRESHOLD = 16;
+
+	static final int BITS = 5;
+	static final int MASK = (1 << BITS) - 1;
+
+	static final Object[] NO_ENTRIES = new Object[0];
+	static final Node[]   NO_NODES   = new Node[0];
+
+	/**
+	 * Create a {@link PersistentContext} holding the entries of the given {@link ContextN}.
+	 *
+	 * @param source the {@link ContextN} to copy
+	 * @return a new {@link PersistentContext}
+	 */
+	static PersistentContext from(ContextN source) {
+		Merger merger = new Merger(BitmapNode.EMPTY, 0, true);
+		source.forEach(merger);
+		return new PersistentContext(merger.root, merger.size);
+	}
+
+	/**
+	 * Return the given {@link ContextN} if it holds at most {@link #THRESHOLD} entries, or
+	 * a {@link PersistentContext} holding the same entries otherwise.
+	 *
+	 * @param source the {@link ContextN} to check
+	 * @return a {@link Context} of the right implementation for its size
+	 */
+	static Context fromIfLarger(ContextN source) {
+		return source.size() > THRESHOLD ? from(source) : source;
+	}
+
+	final Node root;
+	final int  size;
+
+	PersistentContext(Node root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	@Override
+	public Context put(Object key, Object value) {
+		Objects.requireNonNull(key, "key");
+		Objects.requireNonNull(value, "value");
+
+		int hash = key.hashCode();
+		Object previous = root.find(key, hash, 0);
+		if (previous == value) {
+			return this;
+		}
+		return new PersistentContext(root.put(key, value, hash, 0), previous == null ? size + 1 : size);
+	}
+
+	@Override
+	public Context delete(Object key) {
+		Objects.requireNonNull(key, "key");
+
+		int hash = key.hashCode();
+		if (root.find(key, hash, 0) == null) {
+			return this;
+		}
+		Node newRoot = root.delete(key, hash, 0);
+		int newSize = size - 1;
+		if (newSize <= THRESHOLD) {
+			ContextN contextN = new ContextN(newSize);
+			newRoot.forEach(contextN);
+			return contextN;
+		}
+		return new PersistentContext(newRoot, newSize);
+	}
+
+	@Override
+	public boolean hasKey(Object key) {
+		return find(key) != null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key) {
+		Object value = find(key);
+		if (value != null) {
+			return (T) value;
+		}
+		throw new NoSuchElementException("Context does not contain key: " + key);
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T getOrDefault(Object key, @Nullable T defaultValue) {
+		Object value = find(key);
+		if (value != null) {
+			return (T) value;
+		}
+		return defaultValue;
+	}
+
+	@Nullable
+	Object find(@Nullable Object key) {
+		if (key == null) {
+			return null;
+		}
+		return root.find(key, key.hashCode(), 0);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Stream<Map.Entry<Object, Object>> stream() {
+		List<Map.Entry<Object, Object>> entries = new ArrayList<>(size);
+		root.forEach((k, v) -> entries.add(new AbstractMap.SimpleImmutableEntry<>(k, v)));
+		return entries.stream();
+	}
+
+	@Override
+	public void forEach(BiConsumer<Object, Object> action) {
+		root.forEach(action);
+	}
+
+	@Override
+	public Context putAll(ContextView other) {
+		if (other.isEmpty()) {
+			return this;
+		}
+		Merger merger = new Merger(root, size, true);
+		other.forEach(merger);
+		return merger.result(this);
+	}
+
+	@Override
+	public Context putAllMap(Map<?, ?> from) {
+		if (from.isEmpty()) {
+			return this;
+		}
+		Merger merger = new Merger(root, size, true);
+		from.forEach(merger);
+		return merger.result(this);
+	}
+
+	@Override
+	public Context putAllInto(Context base) {
+		if (base instanceof PersistentContext) {
+			PersistentContext persistentBase = (PersistentContext) base;
+			Merger merger = new Merger(persistentBase.root, persistentBase.size, true);
+			root.forEach(merger);
+			return merger.result(persistentBase);
+		}
+		if (base instanceof CoreContext) {
+			// our entries take precedence, so only add the base ones we don't have
+			Merger merger = new Merger(root, size, false);
+			base.forEach(merger);
+			return merger.result(this);
+		}
+
+		Context[] holder = new Context[]{base};
+		root.forEach((k, v) -> holder[0] = holder[0].put(k, v));
+		return holder[0];
+	}
+
+	@Override
+	public void unsafePutAllInto(ContextN other) {
+		root.forEach(other);
+	}
+
+	/**
+	 * Compare the entries of this context with the ones of another {@link PersistentContext}
+	 * or {@link ContextN}, the way {@link ContextN} compares its entries as a {@link Map}.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof PersistentContext) && !(o instanceof ContextN)) {
+			return false;
+		}
+		CoreContext other = (CoreContext) o;
+		if (size != other.size()) {
+			return false;
+		}
+		boolean[] holder = new boolean[]{true};
+		root.forEach((k, v) -> {
+			if (holder[0] && !v.equals(other.getOrDefault(k, null))) {
+				holder[0] = false;
+			}
+		});
+		return holder[0];
+	}
+
+	/**
+	 * Hash the entries of this context the way {@link Map#hashCode()} does, so that it is
+	 * consistent with the {@link ContextN} holding the same entries.
+	 */
+	@Override
+	public int hashCode() {
+		int[] holder = new int[1];
+		root.forEach((k, v) -> holder[0] += k.hashCode() ^ v.hashCode());
+		return holder[0];
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("PersistentContext{");
+		boolean[] first = new boolean[]{true};
+		root.forEach((k, v) -> {
+			if (first[0]) {
+				first[0] = false;
+			}
+			else {
+				sb.append(", ");
+			}
+			sb.append(k).append('=').append(v);
+		});
+		return sb.append('}').toString();
+	}
+
+	static int fragment(int hash, int shift) {
+		return (hash >>> shift) & MASK;
+	}
+
+	static int index(int bitmap, int bit) {
+		return Integer.bitCount(bitmap & (bit - 1));
+	}
+
+	static Node merge(Object key1, Object value1, int hash1, Object key2, Object value2, int hash2, int shift) {
+		if (shift >= 32) {
+			return new CollisionNode(new Object[]{key1, value1, key2, value2});
+		}
+		int fragment1 = fragment(hash1, shift);
+		int fragment2 = fragment(hash2, shift);
+		if (fragment1 == fragment2) {
+			return new BitmapNode(0, 1 << fragment1, NO_ENTRIES,
+					new Node[]{merge(key1, value1, hash1, key2, value2, hash2, shift + BITS)});
+		}
+		Object[] entries = fragment1 < fragment2 ?
+				new Object[]{key1, value1, key2, value2} :
+				new Object[]{key2, value2, key1, value1};
+		return new BitmapNode((1 << fragment1) | (1 << fragment2), 0, entries, NO_NODES);
+	}
+
+	/**
+	 * Accumulates entries into a trie, copying the paths to the modified entries.
+	 */
+	static final class Merger implements BiConsumer<Object, Object> {
+
+		final boolean overwrite;
+
+		Node root;
+		int  size;
+
+		Merger(Node root, int size, boolean overwrite) {
+			this.root = root;
+			this.size = size;
+			this.overwrite = overwrite;
+		}
+
+		@Override
+		public void accept(Object key, Object value) {
+			Objects.requireNonNull(key, "key");
+			Objects.requireNonNull(value, "value");
+
+			int hash = key.hashCode();
+			Object previous = root.find(key, hash, 0);
+			if (previous == null) {
+				size++;
+			}
+			else if (!overwrite || previous == value) {
+				return;
+			}
+			root = root.put(key, value, hash, 0);
+		}
+
+		Context result(PersistentContext original) {
+			return root == original.root ? original : new PersistentContext(root, size);
+		}
+	}
+
+	/**
+	 * An immutable node of the trie.
+	 */
+	abstract static class Node {
+
+		@Nullable
+		abstract Object find(Object key, int hash, int shift);
+
+		abstract Node put(Object key, Object value, int hash, int shift);
+
+		/**
+		 * Remove the mapping of a key that is known to be present in this node.
+		 */
+		abstract Node delete(Object key, int hash, int shift);
+
+		abstract void forEach(BiConsumer<Object, Object> action);
+
+		/**
+		 * @return the entries of this node if it holds a single entry and no sub-node, null otherwise
+		 */
+		@Nullable
+		abstract Object[] singleEntry();
+	}
+
+	/**
+	 * A node dispatching on 5 bits of the hash, which holds entries inline when they
+	 * are alone in their slot, and sub-nodes otherwise.
+	 */
+	static final class BitmapNode extends Node {
+
+		static final BitmapNode EMPTY = new BitmapNode(0, 0, NO_ENTRIES, NO_NODES);
+
+		final int      dataMap;
+		final int      nodeMap;
+		final Object[] entries;
+		final Node[]   nodes;
+
+		BitmapNode(int dataMap, int nodeMap, Object[] entries, Node[] nodes) {
+			this.dataMap = dataMap;
+			this.nodeMap = nodeMap;
+			this.entries = entries;
+			this.nodes = nodes;
+		}
+
+		@Override
+		@Nullable
+		Object find(Object key, int hash, int shift) {
+			int bit = 1 << fragment(hash, shift);
+			if ((dataMap & bit) != 0) {
+				int i = index(dataMap, bit) << 1;
+				return key.equals(entries[i]) ? entries[i + 1] : null;
+			}
+			if ((nodeMap & bit) != 0) {
+				return nodes[index(nodeMap, bit)].find(key, hash, shift + BITS);
+			}
+			return null;
+		}
+
+		@Override
+		Node put(Object key, Object value, int hash, int shift) {
+			int bit = 1 << fragment(hash, shift);
+			if ((dataMap & bit) != 0) {
+				int i = index(dataMap, bit) << 1;
+				Object existingKey = entries[i];
+				if (key.equals(existingKey)) {
+					Object[] newEntries = entries.clone();
+					newEntries[i + 1] = value;
+					return new BitmapNode(dataMap, nodeMap, newEntries, nodes);
+				}
+				Node sub = merge(existingKey, entries[i + 1], existingKey.hashCode(), key, value, hash, shift + BITS);
+				int newNodeMap = nodeMap | bit;
+				return new BitmapNode(dataMap ^ bit, newNodeMap, removePair(entries, i),
+						insertNode(nodes, index(newNodeMap, bit), sub));
+			}
+			if ((nodeMap & bit) != 0) {
+				int n = index(nodeMap, bit);
+				Node[] newNodes = nodes.clone();
+				newNodes[n] = nodes[n].put(key, value, hash, shift + BITS);
+				return new BitmapNode(dataMap, nodeMap, entries, newNodes);
+			}
+			return new BitmapNode(dataMap | bit, nodeMap, insertPair(entries, index(dataMap, bit) << 1, key, value), nodes);
+		}
+
+		@Override
+		Node delete(Object key, int hash, int shift) {
+			int bit = 1 << fragment(hash, shift);
+			if ((dataMap & bit) != 0) {
+				return new BitmapNode(dataMap ^ bit, nodeMap, removePair(entries, index(dataMap, bit) << 1), nodes);
+			}
+			int n = index(nodeMap, bit);
+			Node sub = nodes[n].delete(key, hash, shift + BITS);
+			Object[] single = sub.singleEntry();
+			if (single != null) {
+				// a sub-node left with a single entry is inlined
+				return new BitmapNode(dataMap | bit, nodeMap ^ bit,
+						insertPair(entries, index(dataMap, bit) << 1, single[0], single[1]),
+						removeNode(nodes, n));
+			}
+			Node[] newNodes = nodes.clone();
+			newNodes[n] = sub;
+			return new BitmapNode(dataMap, nodeMap, entries, newNodes);
+		}
+
+		@Override
+		void forEach(BiConsumer<Object, Object> action) {
+			for (int i = 0; i < entries.length; i += 2) {
+				action.accept(entries[i], entries[i + 1]);
+			}
+			for (Node node : nodes) {
+				node.forEach(action);
+			}
+		}
+
+		@Override
+		@Nullable
+		Object[] singleEntry() {
+			return entries.length == 2 && nodes.length == 0 ? entries : null;
+		}
+
+		static Object[] insertPair(Object[] entries, int i, Object key, Object value) {
+			Object[] result = new Object[entries.length + 2];
+			System.arraycopy(entries, 0, result, 0, i);
+			result[i] = key;
+			result[i + 1] = value;
+			System.arraycopy(entries, i, result, i + 2, entries.length - i);
+			return result;
+		}
+
+		static Object[] removePair(Object[] entries, int i) {
+			if (entries.length == 2) {
+				return NO_ENTRIES;
+			}
+			Object[] result = new Object[entries.length - 2];
+			System.arraycopy(entries, 0, result, 0, i);
+			System.arraycopy(entries, i + 2, result, i, entries.length - i - 2);
+			return result;
+		}
+
+		static Node[] insertNode(Node[] nodes, int i, Node node) {
+			Node[] result = new Node[nodes.length + 1];
+			System.arraycopy(nodes, 0, result, 0, i);
+			result[i] = node;
+			System.arraycopy(nodes, i, result, i + 1, nodes.length - i);
+			return result;
+		}
+
+		static Node[] removeNode(Node[] nodes, int i) {
+			if (nodes.length == 1) {
+				return NO_NODES;
+			}
+			Node[] result = new Node[nodes.length - 1];
+			System.arraycopy(nodes, 0, result, 0, i);
+			System.arraycopy(nodes, i + 1, result, i, nodes.length - i - 1);
+			return result;
+		}
+	}
+
+	/**
+	 * A node holding the entries of keys with the same hash, once all its bits are used.
+	 */
+	static final class CollisionNode extends Node {
+
+		final Object[] entries;
+
+		CollisionNode(Object[] entries) {
+			this.entries = entries;
+		}
+
+		@Override
+		@Nullable
+		Object find(Object key, int hash, int shift) {
+			for (int i = 0; i < entries.length; i += 2) {
+				if (key.equals(entries[i])) {
+					return entries[i + 1];
+				}
+			}
+			return null;
+		}
+
+		@Override
+		Node put(Object key, Object value, int hash, int shift) {
+			for (int i = 0; i < entries.length; i += 2) {
+				if (key.equals(entries[i])) {
+					Object[] newEntries = entries.clone();
+					newEntries[i + 1] = value;
+					return new CollisionNode(newEntries);
+				}
+			}
+			return new CollisionNode(BitmapNode.insertPair(entries, entries.length, key, value));
+		}
+
+		@Override
+		Node delete(Object key, int hash, int shift) {
+			for (int i = 0; i < entries.length; i += 2) {
+				if (key.equals(entries[i])) {
+					return new CollisionNode(BitmapNode.removePair(entries, i));
+				}
+			}
+			return this;
+		}
+
+		@Override
+		void forEach(BiConsumer<Object, Object> action) {
+			for (int i = 0; i < entries.length; i += 2) {
+				action.accept(entries[i], entries[i + 1]);
+			}
+		}
+
+		@Override
+		@Nullable
+		Object[] singleEntry() {
+			return entries.length == 2 ? entries : null;
+		}
+	}
+}
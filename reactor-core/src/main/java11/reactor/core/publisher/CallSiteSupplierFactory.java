@@ -16,11 +16,16 @@
 
 package reactor.core.publisher;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import reactor.util.annotation.Nullable;
+
 import static reactor.core.publisher.Traces.full;
 import static reactor.core.publisher.Traces.isUserCode;
 import static reactor.core.publisher.Traces.shouldSanitize;
@@ -71,6 +76,11 @@ final class CallSiteSupplierFactory implements Supplier<Supplier<String>>, Funct
 	 */
 	@Override
 	public Supplier<String> get() {
+		if (Hooks.INTERNED_CALL_SITES) {
+			return StackWalker.getInstance()
+			                  .walk(InternedCallSite.FINDER);
+		}
+
 		StackWalker.StackFrame[] stack =
 				StackWalker.getInstance()
 				           .walk(this);
@@ -83,34 +93,212 @@ final class CallSiteSupplierFactory implements Supplier<Supplier<String>>, Funct
 			return () -> "\t" + stack[0].toString() + "\n";
 		}
 
-		return () -> {
-			StringBuilder sb = new StringBuilder();
+		return () -> resolve(toStackTraceElements(stack));
+	}
+
+	static StackTraceElement[] toStackTraceElements(StackWalker.StackFrame[] stack) {
+		StackTraceElement[] elements = new StackTraceElement[stack.length];
+		for (int i = 0; i < stack.length; i++) {
+			elements[i] = stack[i].toStackTraceElement();
+		}
+		return elements;
+	}
+
+	static String resolve(StackTraceElement[] stack) {
+		if (stack.length == 0) {
+			return "";
+		}
+
+		if (stack.length == 1) {
+			return "\t" + stack[0].toString() + "\n";
+		}
+
+		StringBuilder sb = new StringBuilder();
+
+		for (int j = stack.length - 2; j > 0; j--) {
+			StackTraceElement previous = stack[j];
+
+			if (!full) {
+				if (previous.isNativeMethod()) {
+					continue;
+				}
+
+				String previousRow =
+						previous.getClassName() + "." + previous.getMethodName();
+				if (shouldSanitize(previousRow)) {
+					continue;
+				}
+			}
+			sb.append("\t")
+			  .append(previous.toString())
+			  .append("\n");
+			break;
+		}
+
+		sb.append("\t")
+		  .append(stack[stack.length - 1].toString())
+		  .append("\n");
+
+		return sb.toString();
+	}
+
+	/**
+	 * A call site shared by all the assemblies made from the same user frame, which is
+	 * identified by its class, method and bytecode index. The frames walked up to the
+	 * first user frame are converted to {@link StackTraceElement}s, which don't retain
+	 * the classes, and interned in a global table the first time the call site is seen.
+	 * The {@link String} representation is only built when first needed, typically when
+	 * an error is decorated with the assembly information, and then cached.
+	 */
+	static final class InternedCallSite implements Supplier<String> {
+
+		static final int MAX_FRAMES = 10;
+
+		/**
+		 * Beyond that many distinct call sites, which likely denotes generated code,
+		 * new call sites are resolved without being interned.
+		 */
+		static final int MAX_INTERNED = 65_536;
+
+		static final Function<Stream<StackWalker.StackFrame>, Supplier<String>> FINDER =
+				InternedCallSite::find;
+
+		static final InternedCallSite EMPTY = new InternedCallSite(new StackTraceElement[0]);
+
+		static final ConcurrentHashMap<Key, InternedCallSite> TABLE = new ConcurrentHashMap<>();
+
+		static final ThreadLocal<Lookup> LOOKUP = ThreadLocal.withInitial(Lookup::new);
+
+		static Supplier<String> find(Stream<StackWalker.StackFrame> s) {
+			Lookup lookup = LOOKUP.get();
+			StackWalker.StackFrame[] frames = lookup.frames;
+			Iterator<StackWalker.StackFrame> iterator = s.iterator();
+			iterator.next(); // .get
 
-			for (int j = stack.length - 2; j > 0; j--) {
-				StackWalker.StackFrame previous = stack[j];
+			int i = 0;
+			try {
+				String className = null;
+				while (iterator.hasNext()) {
+					StackWalker.StackFrame frame = iterator.next();
 
-				if (!full) {
-					if (previous.isNativeMethod()) {
-						continue;
+					if (i >= frames.length) {
+						return new InternedCallSite(toStackTraceElements(deepFrames(frames, frame, iterator)));
 					}
 
-					String previousRow =
-							previous.getClassName() + "." + previous.getMethodName();
-					if (shouldSanitize(previousRow)) {
-						continue;
+					frames[i++] = frame;
+					className = frame.getClassName();
+
+					if (isUserCode(className)) {
+						break;
 					}
 				}
-				sb.append("\t")
-				  .append(previous.toString())
-				  .append("\n");
-				break;
+				if (i == 0) {
+					return EMPTY;
+				}
+
+				StackWalker.StackFrame user = frames[i - 1];
+				Key key = lookup.key.set(className, user.getMethodName(), user.getByteCodeIndex());
+				InternedCallSite callSite = TABLE.get(key);
+				if (callSite == null) {
+					callSite = new InternedCallSite(toStackTraceElements(Arrays.copyOf(frames, i)));
+					if (TABLE.size() < MAX_INTERNED) {
+						InternedCallSite existing = TABLE.putIfAbsent(key.copy(), callSite);
+						if (existing != null) {
+							callSite = existing;
+						}
+					}
+				}
+				return callSite;
+			}
+			finally {
+				// don't retain the frames, and their classes, in the thread local
+				Arrays.fill(frames, 0, i, null);
 			}
+		}
 
-			sb.append("\t")
-			  .append(stack[stack.length - 1].toString())
-			  .append("\n");
+		/**
+		 * Walk the remaining frames up to the first user frame of a call site deeper than
+		 * {@link #MAX_FRAMES}, which is captured without being interned.
+		 */
+		static StackWalker.StackFrame[] deepFrames(StackWalker.StackFrame[] frames,
+				StackWalker.StackFrame frame,
+				Iterator<StackWalker.StackFrame> iterator) {
+			ArrayList<StackWalker.StackFrame> deep = new ArrayList<>(Arrays.asList(frames));
+			deep.add(frame);
+			while (!isUserCode(frame.getClassName()) && iterator.hasNext()) {
+				frame = iterator.next();
+				deep.add(frame);
+			}
+			return deep.toArray(new StackWalker.StackFrame[0]);
+		}
+
+		final StackTraceElement[] stack;
+
+		@Nullable
+		String resolved;
+
+		InternedCallSite(StackTraceElement[] stack) {
+			this.stack = stack;
+		}
+
+		@Override
+		public String get() {
+			String r = resolved;
+			if (r == null) {
+				// benign race, the result is the same for all threads
+				r = resolve(stack);
+				resolved = r;
+			}
+			return r;
+		}
+	}
+
+	/**
+	 * Reusable per-thread state, so that looking up an already interned call site
+	 * doesn't allocate.
+	 */
+	static final class Lookup {
+
+		final StackWalker.StackFrame[] frames = new StackWalker.StackFrame[InternedCallSite.MAX_FRAMES];
+		final Key                      key    = new Key();
+	}
+
+	static final class Key {
+
+		String className  = "";
+		String methodName = "";
+		int    bci;
+		int    hash;
 
-			return sb.toString();
-		};
+		Key set(String className, String methodName, int bci) {
+			this.className = className;
+			this.methodName = methodName;
+			this.bci = bci;
+			this.hash = 31 * (31 * className.hashCode() + methodName.hashCode()) + bci;
+			return this;
+		}
+
+		Key copy() {
+			return new Key().set(className, methodName, bci);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return bci == other.bci
+					&& className.equals(other.className)
+					&& methodName.equals(other.methodName);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
 	}
-}
\ No newline at end of file
+}
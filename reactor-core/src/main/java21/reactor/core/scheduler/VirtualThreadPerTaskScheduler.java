@@ -0,0 +1,542 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.scheduler;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.Scannable;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.Nullable;
+import reactor.util.concurrent.Queues;
+
+import static reactor.core.scheduler.Schedulers.onSchedule;
+
+/**
+ * A {@link Scheduler} that runs each task on a new {@link Thread}, typically a virtual
+ * one, and bounds the number of tasks running concurrently with a {@link Semaphore}
+ * rather than a pool of workers. Tasks waiting for a permit, or for their delay to
+ * elapse, are parked on their own thread, which is cheap with virtual threads.
+ * <p>
+ * A {@link Scheduler.Worker} runs its tasks one at a time and in submission order: they
+ * are enqueued in a lock-free queue owned by the worker, and each of them starts the
+ * thread of the next one once it is done.
+ * <p>
+ * {@link #dispose()} and {@link Worker#dispose()} cancel the pending tasks and interrupt
+ * the threads of the running ones, whereas {@link #disposeGracefully()} only rejects new
+ * tasks and stops the periodic ones, and completes once the already submitted tasks
+ * have run.
+ */
+final class VirtualThreadPerTaskScheduler implements Scheduler, Scannable {
+
+	final int           maxConcurrency;
+	final ThreadFactory factory;
+	final Semaphore     permits;
+
+	/**
+	 * The tasks that are either waiting or running, to cancel them on disposal.
+	 */
+	final Set<VirtualThreadTask>  tasks      = ConcurrentHashMap.newKeySet();
+	final CompletableFuture<Void> terminated = new CompletableFuture<>();
+
+	volatile boolean disposed;
+
+	VirtualThreadPerTaskScheduler(int maxConcurrency, ThreadFactory factory) {
+		if (maxConcurrency <= 0) {
+			throw new IllegalArgumentException("maxConcurrency must be strictly positive, was " + maxConcurrency);
+		}
+		this.maxConcurrency = maxConcurrency;
+		this.factory = factory;
+		this.permits = new Semaphore(maxConcurrency, true);
+	}
+
+	@Override
+	public void init() {
+		if (disposed) {
+			throw new IllegalStateException("Initializing a disposed scheduler is not permitted");
+		}
+	}
+
+	@Override
+	@Deprecated
+	public void start() {
+		throw new UnsupportedOperationException("Use init method instead");
+	}
+
+	@Override
+	public boolean isDisposed() {
+		return disposed;
+	}
+
+	@Override
+	public void dispose() {
+		disposed = true;
+		for (VirtualThreadTask task : tasks) {
+			task.cancel(true);
+		}
+		tryTerminate();
+	}
+
+	@Override
+	public Mono<Void> disposeGracefully() {
+		return Mono.defer(() -> {
+			disposed = true;
+			for (VirtualThreadTask task : tasks) {
+				if (task.isPeriodic()) {
+					task.cancel(false);
+				}
+			}
+			tryTerminate();
+			return Mono.fromFuture(terminated, true);
+		});
+	}
+
+	void tryTerminate() {
+		if (disposed && tasks.isEmpty()) {
+			terminated.complete(null);
+		}
+	}
+
+	@Override
+	public Disposable schedule(Runnable task) {
+		return submit(new VirtualThreadTask(this, null, onSchedule(task), 0L, -1L));
+	}
+
+	@Override
+	public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+		return submit(new VirtualThreadTask(this, null, onSchedule(task), unit.toNanos(delay), -1L));
+	}
+
+	@Override
+	public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+		return submit(new VirtualThreadTask(this, null, onSchedule(task), unit.toNanos(initialDelay),
+				unit.toNanos(period)));
+	}
+
+	VirtualThreadTask submit(VirtualThreadTask task) {
+		VirtualThreadWorker worker = task.worker;
+		if (disposed || (worker != null && worker.disposed)) {
+			throw Exceptions.failWithRejected();
+		}
+		tasks.add(task);
+		if (worker != null) {
+			worker.tasks.add(task);
+		}
+		// checking again after the task is visible to a concurrent dispose
+		if (disposed || (worker != null && worker.disposed)) {
+			task.finish();
+			throw Exceptions.failWithRejected();
+		}
+
+		if (worker == null) {
+			startThread(task::runDirect);
+		}
+		else if (task.initialDelayNanos > 0L) {
+			startThread(task::delayThenEnqueue);
+		}
+		else {
+			worker.enqueue(task);
+		}
+		return task;
+	}
+
+	void startThread(Runnable runnable) {
+		factory.newThread(runnable).start();
+	}
+
+	@Override
+	public Worker createWorker() {
+		return new VirtualThreadWorker(this);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder ts = new StringBuilder(Schedulers.VIRTUAL_THREAD_PER_TASK).append('(');
+		if (factory instanceof ReactorThreadFactory) {
+			ts.append('\"').append(((ReactorThreadFactory) factory).get()).append("\",");
+		}
+		return ts.append("maxConcurrency=").append(maxConcurrency).append(')').toString();
+	}
+
+	@Override
+	public Object scanUnsafe(Attr key) {
+		if (key == Attr.TERMINATED || key == Attr.CANCELLED) return isDisposed();
+		if (key == Attr.BUFFERED) return tasks.size();
+		if (key == Attr.CAPACITY) return maxConcurrency;
+		if (key == Attr.NAME) return this.toString();
+
+		return null;
+	}
+
+	@Override
+	public Stream<? extends Scannable> inners() {
+		return tasks.stream();
+	}
+
+	/**
+	 * A {@link Worker} running its tasks one at a time, in submission order, each on a
+	 * new thread started by the previous one.
+	 */
+	static final class VirtualThreadWorker implements Worker, Scannable {
+
+		final VirtualThreadPerTaskScheduler parent;
+		final Queue<VirtualThreadTask>      queue = Queues.<VirtualThreadTask>unboundedMultiproducer().get();
+		final Set<VirtualThreadTask>        tasks = ConcurrentHashMap.newKeySet();
+
+		volatile boolean disposed;
+
+		volatile int wip;
+		static final AtomicIntegerFieldUpdater<VirtualThreadWorker> WIP =
+				AtomicIntegerFieldUpdater.newUpdater(VirtualThreadWorker.class, "wip");
+
+		VirtualThreadWorker(VirtualThreadPerTaskScheduler parent) {
+			this.parent = parent;
+		}
+
+		@Override
+		public Disposable schedule(Runnable task) {
+			return parent.submit(new VirtualThreadTask(parent, this, onSchedule(task), 0L, -1L));
+		}
+
+		@Override
+		public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+			return parent.submit(new VirtualThreadTask(parent, this, onSchedule(task), unit.toNanos(delay), -1L));
+		}
+
+		@Override
+		public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+			return parent.submit(new VirtualThreadTask(parent, this, onSchedule(task),
+					unit.toNanos(initialDelay), unit.toNanos(period)));
+		}
+
+		void enqueue(VirtualThreadTask task) {
+			queue.offer(task);
+			if (WIP.getAndIncrement(this) == 0) {
+				parent.startThread(this::drain);
+			}
+		}
+
+		/**
+		 * Run the next task on the current thread, skipping the cancelled ones, and start
+		 * a new thread for the task after it, if any.
+		 */
+		void drain() {
+			for (;;) {
+				VirtualThreadTask task = queue.poll();
+				boolean used = task != null && task.runEnqueued();
+
+				if (WIP.decrementAndGet(this) == 0) {
+					return;
+				}
+				if (used) {
+					parent.startThread(this::drain);
+					return;
+				}
+			}
+		}
+
+		@Override
+		public void dispose() {
+			if (disposed) {
+				return;
+			}
+			disposed = true;
+			for (VirtualThreadTask task : tasks) {
+				task.cancel(true);
+			}
+		}
+
+		@Override
+		public boolean isDisposed() {
+			return disposed;
+		}
+
+		@Override
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.TERMINATED || key == Attr.CANCELLED) return isDisposed();
+			if (key == Attr.BUFFERED) return tasks.size();
+			if (key == Attr.PARENT) return parent;
+			if (key == Attr.NAME) return parent + ".worker";
+
+			return null;
+		}
+	}
+
+	/**
+	 * A task holding the thread it currently waits or runs on, so that it can be
+	 * interrupted when cancelled.
+	 */
+	static final class VirtualThreadTask implements Disposable, Scannable {
+
+		static final int WAITING   = 0;
+		static final int RUNNING   = 1;
+		static final int DONE      = 2;
+		static final int CANCELLED = 3;
+
+		final VirtualThreadPerTaskScheduler parent;
+		@Nullable
+		final VirtualThreadWorker           worker;
+		final Runnable                      task;
+		final long                          initialDelayNanos;
+		/**
+		 * The period of a periodic task, or a negative value.
+		 */
+		final long                          periodNanos;
+
+		long nextRunNanos;
+
+		@Nullable
+		volatile Thread thread;
+
+		volatile int state;
+		static final AtomicIntegerFieldUpdater<VirtualThreadTask> STATE =
+				AtomicIntegerFieldUpdater.newUpdater(VirtualThreadTask.class, "state");
+
+		VirtualThreadTask(VirtualThreadPerTaskScheduler parent,
+				@Nullable VirtualThreadWorker worker,
+				Runnable task,
+				long initialDelayNanos,
+				long periodNanos) {
+			this.parent = parent;
+			this.worker = worker;
+			this.task = task;
+			this.initialDelayNanos = Math.max(0L, initialDelayNanos);
+			this.periodNanos = periodNanos;
+			this.nextRunNanos = System.nanoTime() + this.initialDelayNanos;
+		}
+
+		boolean isPeriodic() {
+			return periodNanos >= 0L;
+		}
+
+		/**
+		 * Run a task submitted directly to the scheduler on its own thread, including
+		 * all the runs of a periodic task.
+		 */
+		void runDirect() {
+			thread = Thread.currentThread();
+			try {
+				while (awaitNextRun() && acquire()) {
+					boolean repeat;
+					try {
+						repeat = execute();
+					}
+					finally {
+						parent.permits.release();
+					}
+					if (!repeat) {
+						break;
+					}
+				}
+			}
+			finally {
+				thread = null;
+				finish();
+			}
+		}
+
+		/**
+		 * Wait for the next run of a {@link Worker} task, then hand it over to the worker.
+		 */
+		void delayThenEnqueue() {
+			thread = Thread.currentThread();
+			boolean ready;
+			try {
+				ready = awaitNextRun();
+			}
+			finally {
+				thread = null;
+			}
+			if (ready) {
+				Thread.interrupted();
+				worker.enqueue(this);
+			}
+			else {
+				finish();
+			}
+		}
+
+		/**
+		 * Run a {@link Worker} task on the current thread.
+		 *
+		 * @return false if the task was skipped because it was cancelled, true otherwise,
+		 * in which case the current thread may have been interrupted and must not be
+		 * used for the next task
+		 */
+		boolean runEnqueued() {
+			if (state != WAITING) {
+				finish();
+				return false;
+			}
+			thread = Thread.currentThread();
+			boolean repeat = false;
+			try {
+				if (acquire()) {
+					try {
+						repeat = execute();
+					}
+					finally {
+						parent.permits.release();
+					}
+				}
+			}
+			finally {
+				thread = null;
+			}
+			if (repeat && !parent.disposed) {
+				if (nextRunNanos - System.nanoTime() > 0L) {
+					parent.startThread(this::delayThenEnqueue);
+				}
+				else {
+					worker.enqueue(this);
+				}
+			}
+			else {
+				finish();
+			}
+			return true;
+		}
+
+		/**
+		 * Park until the time of the next run.
+		 *
+		 * @return false if the task was cancelled in the meantime
+		 */
+		boolean awaitNextRun() {
+			for (;;) {
+				if (state != WAITING) {
+					return false;
+				}
+				long remaining = nextRunNanos - System.nanoTime();
+				if (remaining <= 0L) {
+					return true;
+				}
+				LockSupport.parkNanos(this, remaining);
+				// cancellation interrupts the thread to unpark it
+				Thread.interrupted();
+			}
+		}
+
+		boolean acquire() {
+			try {
+				parent.permits.acquire();
+			}
+			catch (InterruptedException e) {
+				cancel(false);
+				return false;
+			}
+			if (state != WAITING) {
+				parent.permits.release();
+				return false;
+			}
+			return true;
+		}
+
+		/**
+		 * Run the task once.
+		 *
+		 * @return true if it is periodic and should run again
+		 */
+		boolean execute() {
+			// a disposed worker may not have reached this task yet
+			if (worker != null && worker.disposed) {
+				cancel(false);
+				return false;
+			}
+			if (!STATE.compareAndSet(this, WAITING, RUNNING)) {
+				return false;
+			}
+			try {
+				task.run();
+			}
+			catch (Throwable ex) {
+				Schedulers.handleError(ex);
+				STATE.compareAndSet(this, RUNNING, DONE);
+				return false;
+			}
+			if (!isPeriodic()) {
+				STATE.compareAndSet(this, RUNNING, DONE);
+				return false;
+			}
+			if (parent.disposed || !STATE.compareAndSet(this, RUNNING, WAITING)) {
+				return false;
+			}
+			// fixed rate, catching up without overlapping when late
+			nextRunNanos += periodNanos;
+			return true;
+		}
+
+		void cancel(boolean interruptRunning) {
+			for (;;) {
+				int s = state;
+				if (s == DONE || s == CANCELLED) {
+					return;
+				}
+				if (STATE.compareAndSet(this, s, CANCELLED)) {
+					if (s == WAITING || interruptRunning) {
+						Thread t = thread;
+						if (t != null && t != Thread.currentThread()) {
+							t.interrupt();
+						}
+					}
+					return;
+				}
+			}
+		}
+
+		void finish() {
+			STATE.compareAndSet(this, WAITING, DONE);
+			if (worker != null) {
+				worker.tasks.remove(this);
+			}
+			parent.tasks.remove(this);
+			parent.tryTerminate();
+		}
+
+		@Override
+		public void dispose() {
+			cancel(true);
+		}
+
+		@Override
+		public boolean isDisposed() {
+			int s = state;
+			return s == DONE || s == CANCELLED;
+		}
+
+		@Override
+		public Object scanUnsafe(Attr key) {
+			if (key == Attr.TERMINATED) return state == DONE;
+			if (key == Attr.CANCELLED) return state == CANCELLED;
+			if (key == Attr.PARENT) return worker != null ? worker : parent;
+			if (key == Attr.RUN_STYLE) return Attr.RunStyle.ASYNC;
+
+			return null;
+		}
+	}
+}
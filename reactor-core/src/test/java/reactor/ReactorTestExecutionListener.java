@@ -40,6 +40,7 @@ public class ReactorTestExecutionListener implements TestExecutionListener {
 
 	private static void resetHooksAndSchedulers() {
 		Hooks.resetOnOperatorDebug();
+		Hooks.disableCallSiteInterning();
 
 		Hooks.resetOnEachOperator();
 		Hooks.resetOnLastOperator();
@@ -53,10 +54,12 @@ public class ReactorTestExecutionListener implements TestExecutionListener {
 		Hooks.removeQueueWrappers();
 
 		Hooks.disableAutomaticContextPropagation();
+		Hooks.disableCachedThreadLocalRestoration();
 
 		Schedulers.resetOnHandleError();
 		Schedulers.resetFactory();
 		Schedulers.resetOnScheduleHooks();
+		Schedulers.disableStats();
 
 		// TODO capture non-default schedulers and shutdown them
 	}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledForJreRange(min = JRE.JAVA_9)
+class CallSiteInterningTest {
+
+	@BeforeEach
+	void enableDebug() {
+		Hooks.onOperatorDebug();
+		Hooks.enableCallSiteInterning();
+	}
+
+	@AfterEach
+	void resetDebug() {
+		Hooks.resetOnOperatorDebug();
+		Hooks.disableCallSiteInterning();
+	}
+
+	static Flux<Integer> assemble() {
+		return Flux.just(1).map(i -> i);
+	}
+
+	static Flux<Integer> failing() {
+		return Flux.just(1).map(i -> {
+			throw new IllegalStateException("boom");
+		});
+	}
+
+	static Flux<Integer> checkpointed() {
+		return Flux.just(1).checkpoint("foo", true);
+	}
+
+	static Supplier<String> callSite(Flux<?> flux) {
+		assertThat(flux).isInstanceOf(FluxOnAssembly.class);
+		return ((FluxOnAssembly<?>) flux).snapshotStack.assemblyInformationSupplier;
+	}
+
+	@Test
+	void sameCallSiteIsShared() {
+		Supplier<String> first = callSite(assemble());
+		Supplier<String> second = callSite(assemble());
+
+		assertThat(first).isSameAs(second);
+		assertThat(first.get()).contains("CallSiteInterningTest.assemble(CallSiteInterningTest.java:");
+	}
+
+	@Test
+	void distinctCallSitesAreNotShared() {
+		assertThat(callSite(assemble())).isNotSameAs(callSite(failing()));
+	}
+
+	@Test
+	void internedCallSiteResolvesLikeNonInterned() {
+		String interned = callSite(assemble()).get();
+
+		Hooks.disableCallSiteInterning();
+		Supplier<String> first = callSite(assemble());
+		Supplier<String> second = callSite(assemble());
+
+		assertThat(first).isNotSameAs(second);
+		assertThat(first.get()).isEqualTo(interned);
+	}
+
+	@Test
+	void errorsAreDecoratedWithInternedCallSite() {
+		StepVerifier.create(failing())
+		            .verifyErrorSatisfies(e -> assertThat(e.getSuppressed())
+				            .singleElement()
+				            .isInstanceOf(FluxOnAssembly.OnAssemblyException.class)
+				            .satisfies(s -> assertThat(s.getMessage())
+						            .contains("Flux.map ⇢ at reactor.core.publisher.CallSiteInterningTest.failing(CallSiteInterningTest.java:")));
+	}
+
+	@Test
+	void deepCallSiteIsCapturedWithoutInterning() {
+		Supplier<String> first = callSite(deep());
+		Supplier<String> second = callSite(deep());
+
+		assertThat(first).isNotSameAs(second);
+		assertThat(first.get())
+				.contains("CallSiteInterningTest.deep(CallSiteInterningTest.java:")
+				.isEqualTo(second.get());
+	}
+
+	static Flux<Integer> deep() {
+		return DeepAssembly.assemble(2 * CallSiteSupplierFactory.InternedCallSite.MAX_FRAMES);
+	}
+
+	@Test
+	void checkpointsAreInterned() {
+		Hooks.resetOnOperatorDebug();
+		Supplier<String> first = callSite(checkpointed());
+		Supplier<String> second = callSite(checkpointed());
+
+		assertThat(first).isSameAs(second);
+	}
+}
+
+/**
+ * Assembles from frames that aren't user code, to exceed the interning depth.
+ */
+final class DeepAssembly {
+
+	static Flux<Integer> assemble(int depth) {
+		if (depth == 0) {
+			return Flux.just(1).map(i -> i);
+		}
+		return assemble(depth - 1);
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.Scannable;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("deprecation")
+public class CallSiteTableTest {
+
+	@Test
+	public void idsAreResolvedFromTheTableOfTheOwner() {
+		Flux<Integer> just = tag(Flux.just(1, 2), Owner.class, 0);
+		Flux<Integer> map = tag(just.map(i -> i), Owner.class, 1);
+
+		assertThat(Scannable.from(map).scan(Scannable.Attr.CALL_SITE))
+				.isEqualTo("Flux.map ⇢ at com.example.Owner.method(Owner.java:11)");
+		assertThat(Scannable.from(just).scan(Scannable.Attr.CALL_SITE))
+				.isEqualTo("Flux.just ⇢ at com.example.Owner.method(Owner.java:10)");
+		assertThat(CallSiteTable.callSiteId(map)).isEqualTo(CallSiteTable.callSiteId(just) + 1);
+		assertThat(Scannable.from(map).stepName()).isEqualTo("map");
+	}
+
+	@Test
+	public void scanOrDefaultResolvesCallSite() {
+		Flux<Integer> just = tag(Flux.just(1, 2), Owner.class, 0);
+
+		assertThat(Scannable.from(just).scanOrDefault(Scannable.Attr.CALL_SITE, "none"))
+				.isEqualTo("Flux.just ⇢ at com.example.Owner.method(Owner.java:10)");
+		assertThat(Scannable.from(Flux.just(1)).scanOrDefault(Scannable.Attr.CALL_SITE, "none"))
+				.isEqualTo("none");
+	}
+
+	@Test
+	public void concurrentTagging() {
+		List<CompletableFuture<List<Flux<Integer>>>> futures = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			int index = t % 2;
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				List<Flux<Integer>> tagged = new ArrayList<>();
+				for (int i = 0; i < 1000; i++) {
+					tagged.add(tag(Flux.just(i), Owner.class, index));
+				}
+				return tagged;
+			}));
+		}
+
+		int justId = CallSiteTable.id(Owner.class, 0);
+		for (int t = 0; t < futures.size(); t++) {
+			for (Flux<Integer> flux : futures.get(t).join()) {
+				assertThat(CallSiteTable.callSiteId(flux)).isEqualTo(justId + t % 2);
+			}
+		}
+	}
+
+	@Test
+	public void untaggedPublishersHaveNoCallSite() {
+		assertThat(Scannable.from(Flux.just(1).map(i -> i)).scan(Scannable.Attr.CALL_SITE)).isNull();
+		assertThat(Scannable.from(tag(Flux.just(1), NoTable.class, 0)).scan(Scannable.Attr.CALL_SITE)).isNull();
+	}
+
+	@Test
+	public void sharedInstancesAreNotTagged() {
+		Flux<Object> empty = tag(Flux.empty(), Owner.class, 0);
+		Mono<Object> never = tag(Mono.never(), Owner.class, 0);
+
+		assertThat(CallSiteTable.callSiteId(empty)).isZero();
+		assertThat(CallSiteTable.callSiteId(never)).isZero();
+	}
+
+	@Test
+	public void firstCallSiteWins() {
+		Flux<Integer> flux = tag(Flux.just(1), Owner.class, 0);
+		tag(flux, Owner.class, 1);
+
+		assertThat(Scannable.from(flux).scan(Scannable.Attr.CALL_SITE)).startsWith("Flux.just");
+	}
+
+	@Test
+	public void errorsAreDecoratedWithTheCallSitesUpToTheAssemblyOperator() {
+		Flux<Integer> just = tag(Flux.just(1, 2), Owner.class, 0);
+		Flux<Integer> map = tag(just.<Integer>map(i -> {
+			throw new IllegalStateException("boom");
+		}), Owner.class, 1);
+		@SuppressWarnings("unchecked")
+		Flux<Integer> returned = (Flux<Integer>) Hooks.addReturnInfo(map, "at com.example.Owner.method(Owner.java:12)");
+
+		StepVerifier.create(returned)
+		            .verifyErrorSatisfies(e -> {
+			            StringWriter sw = new StringWriter();
+			            e.printStackTrace(new PrintWriter(sw));
+
+			            assertThat(sw.toString())
+					            .contains("Flux.just ⇢ at com.example.Owner.method(Owner.java:10)")
+					            .contains("Flux.map ⇢ at com.example.Owner.method(Owner.java:11)")
+					            .contains("at com.example.Owner.method(Owner.java:12)");
+		            });
+	}
+
+	@SuppressWarnings("unchecked")
+	static <P> P tag(P publisher, Class<?> owner, int index) {
+		return (P) Hooks.addCallSiteId((org.reactivestreams.Publisher<Object>) publisher, owner, index);
+	}
+
+	static final class Owner {
+
+		public static String[] $reactor$callSites() {
+			return new String[] {
+					"\treactor.core.publisher.Flux.just\n\tcom.example.Owner.method(Owner.java:10)\n",
+					"\treactor.core.publisher.Flux.map\n\tcom.example.Owner.method(Owner.java:11)\n"
+			};
+		}
+	}
+
+	static final class NoTable {
+	}
+}
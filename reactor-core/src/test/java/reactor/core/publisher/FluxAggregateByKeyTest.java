@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.reactivestreams.Subscription;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
+import reactor.test.scheduler.VirtualTimeScheduler;
+import reactor.test.subscriber.AssertSubscriber;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class FluxAggregateByKeyTest {
+
+	VirtualTimeScheduler timer;
+
+	@BeforeEach
+	public void setUp() {
+		timer = VirtualTimeScheduler.create();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		timer.dispose();
+	}
+
+	static WindowAggregate<String> aggregate(String key, long start, long end, long value, long count) {
+		return new WindowAggregate<>(key, start, end, value, count);
+	}
+
+	@Test
+	public void tumblingWindowsAggregatePerKey() {
+		TestPublisher<String> source = TestPublisher.create();
+		AssertSubscriber<WindowAggregate<String>> ts = AssertSubscriber.create();
+
+		source.flux()
+		      .aggregateByKey(s -> s.substring(0, 1), WindowSpec.tumbling(Duration.ofSeconds(1)).timer(timer),
+				      String::length, Long::sum)
+		      .subscribe(ts);
+
+		source.next("a", "bb", "aaa");
+		ts.assertNoValues();
+
+		timer.advanceTimeBy(Duration.ofSeconds(1));
+		assertThat(ts.values()).containsExactlyInAnyOrder(aggregate("a", 0, 1000, 4, 2),
+				aggregate("b", 0, 1000, 2, 1));
+
+		source.next("aa");
+		timer.advanceTimeBy(Duration.ofSeconds(1));
+		assertThat(ts.values()).hasSize(3)
+		                       .last()
+		                       .isEqualTo(aggregate("a", 1000, 2000, 2, 1));
+
+		timer.advanceTimeBy(Duration.ofSeconds(5));
+		source.complete();
+		ts.assertValueCount(3)
+		  .assertComplete();
+	}
+
+	@Test
+	public void slidingWindowsMatchRecomputedAggregates() {
+		int panes = 4;
+		int ticks = 40;
+		String[] keys = {"a", "b", "c"};
+		Random random = new Random(42);
+		long[][][] values = new long[ticks][keys.length][];
+		for (int t = 0; t < ticks; t++) {
+			for (int k = 0; k < keys.length; k++) {
+				// some keys skip whole windows, to be forgotten and come back
+				int n = random.nextInt(6) < 2 ? 0 : random.nextInt(4);
+				values[t][k] = random.longs(n, -100, 100).toArray();
+			}
+		}
+
+		TestPublisher<Long[]> source = TestPublisher.create();
+		AssertSubscriber<WindowAggregate<String>> ts = AssertSubscriber.create();
+		source.flux()
+		      .aggregateByKey(v -> keys[v[0].intValue()],
+				      WindowSpec.sliding(Duration.ofMillis(400), Duration.ofMillis(100)).timer(timer),
+				      v -> v[1], Math::max)
+		      .subscribe(ts);
+
+		List<WindowAggregate<String>> expected = new ArrayList<>();
+		for (int t = 0; t < ticks; t++) {
+			for (int k = 0; k < keys.length; k++) {
+				for (long v : values[t][k]) {
+					source.next(new Long[]{(long) k, v});
+				}
+			}
+			timer.advanceTimeBy(Duration.ofMillis(100));
+
+			if (t < panes - 1) {
+				continue;
+			}
+			for (int k = 0; k < keys.length; k++) {
+				long max = Long.MIN_VALUE;
+				long count = 0;
+				for (int p = t - panes + 1; p <= t; p++) {
+					for (long v : values[p][k]) {
+						max = Math.max(max, v);
+						count++;
+					}
+				}
+				if (count > 0) {
+					expected.add(aggregate(keys[k], (t + 1 - panes) * 100L, (t + 1) * 100L, max, count));
+				}
+			}
+			assertThat(ts.values()).as("tick %d", t).containsExactlyInAnyOrderElementsOf(expected);
+		}
+	}
+
+	@Test
+	public void slotGrowsUpToTheWindowAndMatchesRecomputedAggregates() {
+		int panes = 10;
+		FluxAggregateByKey.Slot<String> slot = new FluxAggregateByKey.Slot<>("a", panes);
+		Random random = new Random(7);
+		List<long[]> closed = new ArrayList<>();
+
+		slot.accumulate(1L, Long::sum);
+		slot.close(Long::sum);
+		closed.add(new long[]{1L});
+		assertThat(slot.paneValues).as("initial capacity").hasSize(4);
+		assertThat(slot.frontValues).as("no front stack yet").isNull();
+
+		for (int t = 1; t < 50; t++) {
+			long[] values = random.longs(random.nextInt(3), -100, 100).toArray();
+			for (long v : values) {
+				slot.accumulate(v, Long::sum);
+			}
+			slot.close(Long::sum);
+			closed.add(values);
+
+			long sum = 0L;
+			long count = 0L;
+			for (int p = Math.max(0, t - panes + 1); p <= t; p++) {
+				for (long v : closed.get(p)) {
+					sum += v;
+					count++;
+				}
+			}
+			assertThat(slot.windowCount).as("count at %d", t).isEqualTo(count);
+			if (count > 0) {
+				assertThat(slot.windowValue).as("value at %d", t).isEqualTo(sum);
+			}
+		}
+		assertThat(slot.paneValues).hasSize(panes);
+		assertThat(slot.frontValues).hasSize(panes);
+	}
+
+	@Test
+	public void tumblingSlotDoesNotAllocatePanes() {
+		FluxAggregateByKey.Slot<String> slot = new FluxAggregateByKey.Slot<>("a", 1);
+
+		slot.accumulate(3L, Long::sum);
+		slot.accumulate(4L, Long::sum);
+		slot.close(Long::sum);
+
+		assertThat(slot.windowValue).isEqualTo(7L);
+		assertThat(slot.windowCount).isEqualTo(2L);
+		assertThat(slot.paneValues).isNull();
+		assertThat(slot.frontValues).isNull();
+	}
+
+	@Test
+	public void completionEmitsCurrentWindows() {
+		StepVerifier.create(Flux.just(1, 2, 3, 4, 5)
+		                        .aggregateByKey(i -> i % 2 == 0 ? "even" : "odd",
+				                        WindowSpec.sliding(Duration.ofSeconds(10), Duration.ofSeconds(5)).timer(timer),
+				                        i -> i, Long::sum))
+		            .recordWith(ArrayList::new)
+		            .expectNextCount(2)
+		            .consumeRecordedWith(aggregates -> assertThat(aggregates).containsExactlyInAnyOrder(
+				            aggregate("odd", 0, 5000, 9, 3),
+				            aggregate("even", 0, 5000, 6, 2)))
+		            .verifyComplete();
+	}
+
+	@Test
+	public void aggregatesAreBufferedUntilRequested() {
+		TestPublisher<String> source = TestPublisher.create();
+		AssertSubscriber<WindowAggregate<String>> ts = AssertSubscriber.create(0);
+
+		source.flux()
+		      .aggregateByKey(s -> s, WindowSpec.tumbling(Duration.ofSeconds(1)).timer(timer), s -> 1L, Long::sum)
+		      .subscribe(ts);
+
+		source.assertMinRequested(Long.MAX_VALUE);
+		source.next("a", "b", "c");
+		timer.advanceTimeBy(Duration.ofSeconds(1));
+		source.complete();
+		ts.assertNoValues()
+		  .assertNotComplete();
+
+		ts.request(2);
+		ts.assertValueCount(2)
+		  .assertNotComplete();
+
+		ts.request(1);
+		ts.assertValueCount(3)
+		  .assertComplete();
+	}
+
+	@Test
+	public void keySelectorErrorIsPropagated() {
+		StepVerifier.create(Flux.just("a", "", "b")
+		                        .aggregateByKey(s -> s.substring(0, 1), WindowSpec.tumbling(Duration.ofSeconds(1)).timer(timer),
+				                        String::length, Long::sum))
+		            .expectError(StringIndexOutOfBoundsException.class)
+		            .verifyThenAssertThat()
+		            .hasNotDroppedErrors();
+	}
+
+	@Test
+	public void keySelectorErrorContinues() {
+		List<Object> errored = new ArrayList<>();
+
+		StepVerifier.create(Flux.just("a", "", "aa")
+		                        .aggregateByKey(s -> s.substring(0, 1), WindowSpec.tumbling(Duration.ofSeconds(1)).timer(timer),
+				                        String::length, Long::sum)
+		                        .onErrorContinue((e, v) -> errored.add(v)))
+		            .expectNext(aggregate("a", 0, 1000, 3, 2))
+		            .verifyComplete();
+
+		assertThat(errored).containsExactly("");
+	}
+
+	@Test
+	public void aggregatorErrorOnTickIsPropagated() {
+		TestPublisher<Integer> source = TestPublisher.create();
+		AssertSubscriber<WindowAggregate<String>> ts = AssertSubscriber.create();
+
+		source.flux()
+		      .aggregateByKey(i -> "k", WindowSpec.sliding(Duration.ofSeconds(2), Duration.ofSeconds(1)).timer(timer),
+				      i -> i, (a, b) -> {
+					      if (b == 2) {
+						      throw new IllegalStateException("boom");
+					      }
+					      return a + b;
+				      })
+		      .subscribe(ts);
+
+		source.next(1);
+		timer.advanceTimeBy(Duration.ofSeconds(1));
+		source.next(2);
+		timer.advanceTimeBy(Duration.ofSeconds(1));
+
+		ts.assertErrorMessage("boom");
+		source.assertCancelled();
+	}
+
+	@Test
+	public void cancelStopsTimer() {
+		TestPublisher<String> source = TestPublisher.create();
+		AssertSubscriber<WindowAggregate<String>> ts = AssertSubscriber.create();
+
+		source.flux()
+		      .aggregateByKey(s -> s, WindowSpec.tumbling(Duration.ofSeconds(1)).timer(timer), s -> 1L, Long::sum)
+		      .subscribe(ts);
+
+		source.next("a");
+		ts.cancel();
+		timer.advanceTimeBy(Duration.ofSeconds(1));
+
+		source.assertCancelled();
+		ts.assertNoValues();
+	}
+
+	@Test
+	public void windowSpecValidation() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> WindowSpec.tumbling(Duration.ZERO))
+				.withMessage("size must be at least 1ms but it was PT0S");
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> WindowSpec.sliding(Duration.ofSeconds(1), Duration.ofMillis(300)))
+				.withMessage("size must be a multiple of slide but they were PT1S and PT0.3S");
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> WindowSpec.sliding(Duration.ofSeconds(1), Duration.ofNanos(10)));
+
+		assertThat(WindowSpec.sliding(Duration.ofSeconds(1), Duration.ofMillis(250)).panes()).isEqualTo(4);
+	}
+
+	@Test
+	public void scanOperator() {
+		Flux<WindowAggregate<Integer>> test = Flux.just(1)
+		                                          .aggregateByKey(i -> i, WindowSpec.tumbling(Duration.ofSeconds(1)).timer(Schedulers.single()),
+				                                          i -> i, Long::sum);
+
+		assertThat(Scannable.from(test).scan(Scannable.Attr.RUN_ON)).isSameAs(Schedulers.single());
+		assertThat(Scannable.from(test).scan(Scannable.Attr.RUN_STYLE)).isSameAs(Scannable.Attr.RunStyle.ASYNC);
+	}
+
+	@Test
+	public void scanSubscriber() {
+		CoreSubscriber<WindowAggregate<String>> actual = new LambdaSubscriber<>(null, e -> {}, null, sub -> {});
+		FluxAggregateByKey.AggregateByKeySubscriber<String, String> test =
+				new FluxAggregateByKey.AggregateByKeySubscriber<>(actual, s -> s,
+						WindowSpec.tumbling(Duration.ofSeconds(1)).timer(timer), s -> 1L, Long::sum);
+		Subscription parent = Operators.emptySubscription();
+		test.onSubscribe(parent);
+
+		assertThat(test.scan(Scannable.Attr.PARENT)).isSameAs(parent);
+		assertThat(test.scan(Scannable.Attr.ACTUAL)).isSameAs(actual);
+		assertThat(test.scan(Scannable.Attr.TERMINATED)).isFalse();
+
+		test.onNext("a");
+		timer.advanceTimeBy(Duration.ofSeconds(1));
+		assertThat(test.scan(Scannable.Attr.BUFFERED)).isEqualTo(1);
+
+		test.cancel();
+		assertThat(test.scan(Scannable.Attr.CANCELLED)).isTrue();
+		assertThat(test.scan(Scannable.Attr.BUFFERED)).isZero();
+	}
+}
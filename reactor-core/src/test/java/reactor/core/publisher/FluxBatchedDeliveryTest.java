@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import reactor.core.Fuseable;
+import reactor.test.StepVerifier;
+import reactor.test.subscriber.AssertSubscriber;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FluxBatchedDeliveryTest {
+
+	@BeforeEach
+	public void enableBatchedDelivery() {
+		Hooks.enableBatchedDelivery();
+	}
+
+	@AfterEach
+	public void disableBatchedDelivery() {
+		Hooks.disableBatchedDelivery();
+	}
+
+	@Test
+	public void sourcesSendBatchesWithinRequest() {
+		List<Integer> expected = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+		List<Supplier<Flux<Integer>>> sources = Arrays.asList(
+				() -> Flux.range(0, 1000),
+				() -> Flux.fromArray(expected.toArray(new Integer[0])),
+				() -> Flux.fromIterable(expected),
+				() -> Flux.fromStream(expected.stream()));
+
+		for (Supplier<Flux<Integer>> source : sources) {
+			BatchRecorder<Integer> unbounded = new BatchRecorder<>(Long.MAX_VALUE);
+			source.get().subscribe(unbounded);
+
+			assertThat(unbounded.values).containsExactlyElementsOf(expected);
+			assertThat(unbounded.onNextCount).as("no individual onNext").isZero();
+			assertThat(unbounded.batchSizes).allSatisfy(size -> assertThat(size).isBetween(1, Operators.BATCH_SIZE));
+			assertThat(unbounded.completed).isTrue();
+
+			BatchRecorder<Integer> bounded = new BatchRecorder<>(10);
+			source.get().subscribe(bounded);
+
+			assertThat(bounded.values).containsExactlyElementsOf(expected.subList(0, 10));
+			assertThat(bounded.completed).isFalse();
+
+			bounded.s.request(5);
+			assertThat(bounded.values).containsExactlyElementsOf(expected.subList(0, 15));
+		}
+	}
+
+	@Test
+	public void sourcesDontSendBatchesWhenDisabled() {
+		Hooks.disableBatchedDelivery();
+		BatchRecorder<Integer> recorder = new BatchRecorder<>(Long.MAX_VALUE);
+
+		Flux.range(0, 100).subscribe(recorder);
+
+		assertThat(recorder.batchSizes).isEmpty();
+		assertThat(recorder.onNextCount).isEqualTo(100);
+	}
+
+	@Test
+	public void operatorsForwardBatches() {
+		BatchRecorder<String> recorder = new BatchRecorder<>(Long.MAX_VALUE);
+
+		Flux.range(0, 1000)
+		    .map(i -> i * 2)
+		    .filter(i -> i % 3 == 0)
+		    .<String>handle((i, sink) -> sink.next("#" + i))
+		    .subscribe(recorder);
+
+		assertThat(recorder.values).containsExactlyElementsOf(
+				IntStream.range(0, 1000)
+				         .map(i -> i * 2)
+				         .filter(i -> i % 3 == 0)
+				         .mapToObj(i -> "#" + i)
+				         .collect(Collectors.toList()));
+		assertThat(recorder.onNextCount).isZero();
+		assertThat(recorder.batchSizes).hasSizeLessThan(10);
+	}
+
+	@Test
+	public void sameResultsAsIndividualDelivery() {
+		List<Integer> list = IntStream.range(0, 2000).boxed().collect(Collectors.toList());
+		List<Supplier<Flux<Integer>>> sources = Arrays.asList(
+				() -> Flux.range(0, 2000),
+				() -> Flux.fromArray(list.toArray(new Integer[0])),
+				() -> Flux.fromIterable(list),
+				() -> Flux.fromStream(list.stream()));
+		Function<Flux<Integer>, Flux<String>> chain = f -> f.map(i -> i + 1)
+		                                                    .filter(i -> i % 7 != 0)
+		                                                    .<Integer>handle((i, sink) -> {
+			                                                    if (i % 5 != 0) {
+				                                                    sink.next(i);
+			                                                    }
+		                                                    })
+		                                                    .map(String::valueOf)
+		                                                    .filter(s -> !s.endsWith("3"));
+
+		for (Supplier<Flux<Integer>> source : sources) {
+			Hooks.disableBatchedDelivery();
+			List<String> expected = chain.apply(source.get()).collectList().block();
+			Hooks.enableBatchedDelivery();
+
+			assertThat(chain.apply(source.get()).collectList().block()).containsExactlyElementsOf(expected);
+
+			AssertSubscriber<String> ts = AssertSubscriber.create(0);
+			chain.apply(source.get()).subscribe(ts);
+			ts.request(1);
+			ts.assertValueCount(1);
+			ts.request(99);
+			ts.assertValueCount(100);
+			ts.request(Long.MAX_VALUE);
+			ts.assertValueSequence(expected)
+			  .assertComplete();
+		}
+	}
+
+	@Test
+	public void filteredOutValuesAreReplenished() {
+		AssertSubscriber<Integer> ts = AssertSubscriber.create(10);
+
+		Flux.range(0, 100)
+		    .filter(i -> i % 2 == 0)
+		    .subscribe(ts);
+
+		ts.assertValues(0, 2, 4, 6, 8, 10, 12, 14, 16, 18)
+		  .assertNotComplete();
+
+		ts.request(40);
+		ts.assertValueCount(50)
+		  .assertNotComplete();
+
+		ts.request(1);
+		ts.assertValueCount(50)
+		  .assertComplete();
+	}
+
+	@Test
+	public void mapperErrorInBatch() {
+		StepVerifier.create(Flux.range(1, 10)
+		                        .map(i -> {
+			                        if (i == 5) {
+				                        throw new IllegalStateException("boom");
+			                        }
+			                        return i;
+		                        })
+		                        .map(i -> i * 10))
+		            .expectNext(10, 20, 30, 40)
+		            .verifyErrorMessage("boom");
+	}
+
+	@Test
+	public void mapperErrorInBatchContinues() {
+		List<Integer> errored = new ArrayList<>();
+
+		StepVerifier.create(Flux.range(1, 10)
+		                        .map(i -> {
+			                        if (i % 4 == 0) {
+				                        throw new IllegalStateException("boom");
+			                        }
+			                        return i;
+		                        })
+		                        .filter(i -> i != 6)
+		                        .onErrorContinue((e, v) -> errored.add((Integer) v)), 5)
+		            .expectNext(1, 2, 3, 5, 7)
+		            .thenRequest(10)
+		            .expectNext(9, 10)
+		            .verifyComplete();
+
+		assertThat(errored).containsExactly(4, 8);
+	}
+
+	@Test
+	public void handleStopsInBatch() {
+		StepVerifier.create(Flux.range(1, 10)
+		                        .<Integer>handle((i, sink) -> {
+			                        if (i == 4) {
+				                        sink.complete();
+			                        }
+			                        else {
+				                        sink.next(i);
+			                        }
+		                        })
+		                        .map(i -> i))
+		            .expectNext(1, 2, 3)
+		            .verifyComplete();
+
+		StepVerifier.create(Flux.range(1, 10)
+		                        .<Integer>handle((i, sink) -> {
+			                        sink.next(i);
+			                        if (i == 4) {
+				                        sink.error(new IllegalStateException("boom"));
+			                        }
+		                        })
+		                        .map(i -> i))
+		            .expectNext(1, 2, 3, 4)
+		            .verifyErrorMessage("boom");
+	}
+
+	@Test
+	public void nullArrayElementAfterBatch() {
+		StepVerifier.create(Flux.fromArray(new Integer[] {1, 2, null, 4})
+		                        .map(i -> i))
+		            .expectNext(1, 2)
+		            .verifyErrorSatisfies(e -> assertThat(e)
+				            .isInstanceOf(NullPointerException.class)
+				            .hasMessage("The 2th array element was null"));
+	}
+
+	@Test
+	public void cancellationStopsBatchWithoutDropping() {
+		AtomicInteger mapped = new AtomicInteger();
+		List<Object> dropped = new CopyOnWriteArrayList<>();
+		Hooks.onNextDropped(dropped::add);
+		try {
+			StepVerifier.create(Flux.range(0, 1000)
+			                        .map(i -> {
+				                        mapped.incrementAndGet();
+				                        return i;
+			                        })
+			                        .take(3))
+			            .expectNext(0, 1, 2)
+			            .verifyComplete();
+		}
+		finally {
+			Hooks.resetOnNextDropped();
+		}
+
+		assertThat(mapped).hasValue(3);
+		assertThat(dropped).isEmpty();
+	}
+
+	@Test
+	public void cancellationDiscardsSameValuesAsIndividualDelivery() {
+		List<Integer> list = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+		List<Object> discarded = new ArrayList<>();
+
+		StepVerifier.create(Flux.fromIterable(list)
+		                        .map(i -> i)
+		                        .take(3)
+		                        .doOnDiscard(Integer.class, discarded::add))
+		            .expectNext(0, 1, 2)
+		            .verifyComplete();
+
+		List<Object> discardedIndividually = new ArrayList<>();
+		Hooks.disableBatchedDelivery();
+		StepVerifier.create(Flux.fromIterable(list)
+		                        .map(i -> i)
+		                        .take(3)
+		                        .doOnDiscard(Integer.class, discardedIndividually::add))
+		            .expectNext(0, 1, 2)
+		            .verifyComplete();
+
+		assertThat(discarded).containsExactlyElementsOf(discardedIndividually)
+		                     .containsExactlyElementsOf(list.subList(3, 100));
+	}
+
+	@Test
+	public void fusionIsUnchanged() {
+		StepVerifier.create(Flux.range(1, 5)
+		                        .map(i -> i * 2)
+		                        .filter(i -> i != 4))
+		            .expectFusion(Fuseable.SYNC)
+		            .expectNext(2, 6, 8, 10)
+		            .verifyComplete();
+	}
+
+	static final class BatchRecorder<T> implements Fuseable.BatchSubscriber<T> {
+
+		final long          initialRequest;
+		final List<T>       values     = new ArrayList<>();
+		final List<Integer> batchSizes = new ArrayList<>();
+
+		Subscription s;
+		int          onNextCount;
+		boolean      completed;
+
+		BatchRecorder(long initialRequest) {
+			this.initialRequest = initialRequest;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			this.s = s;
+			s.request(initialRequest);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public int onNextBatch(Object[] values, int offset, int length) {
+			batchSizes.add(length);
+			for (int i = offset; i < offset + length; i++) {
+				this.values.add((T) values[i]);
+			}
+			return length;
+		}
+
+		@Override
+		public void onNext(T t) {
+			onNextCount++;
+			values.add(t);
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			throw new AssertionError("unexpected error", t);
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+}
@@ -36,6 +36,7 @@ import reactor.util.concurrent.Queues;
 import reactor.util.context.Context;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static reactor.core.publisher.Sinks.EmitFailureHandler.FAIL_FAST;
 
 public class  FluxConcatMapTest extends AbstractFluxConcatMapTest {
@@ -487,4 +488,34 @@ public class  FluxConcatMapTest extends AbstractFluxConcatMapTest {
 		            .verifyThenAssertThat()
 		            .hasDiscardedExactly(1);
 	}
+
+	@Test
+	public void adaptivePrefetchGrowsWhileDrained() {
+		Sinks.Many<Integer> source = Sinks.many().unicast().onBackpressureError();
+		List<Long> requests = new ArrayList<>();
+		AssertSubscriber<Integer> ts = AssertSubscriber.create();
+
+		source.asFlux()
+		      .hide()
+		      .doOnRequest(requests::add)
+		      .concatMap(i -> Mono.just(i).hide(), PrefetchStrategy.adaptive(4, 32))
+		      .subscribe(ts);
+
+		for (int i = 0; i < 100; i++) {
+			source.emitNext(i, FAIL_FAST);
+		}
+		source.emitComplete(FAIL_FAST);
+
+		ts.assertValueCount(100)
+		  .assertComplete();
+		assertThat(requests).startsWith(4L, 7L, 14L, 28L, 24L, 24L);
+	}
+
+	@Test
+	public void adaptivePrefetchOnlyWithImmediateErrorMode() {
+		assertThat(Flux.range(0, 10).concatMap(Flux::just, PrefetchStrategy.fixed(16)).getPrefetch()).isEqualTo(16);
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new FluxConcatMap<>(Flux.range(0, 10), Flux::just, Queues.one(), 8,
+						FluxConcatMap.ErrorMode.END, PrefetchStrategy.adaptive(1, 8)));
+	}
 }
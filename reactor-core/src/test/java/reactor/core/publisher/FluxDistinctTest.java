@@ -16,6 +16,7 @@
 
 package reactor.core.publisher;
 
+import java.time.Duration;
 import java.util.AbstractCollection;
 import java.util.Arrays;
 import java.util.Collection;
@@ -40,6 +41,7 @@ import reactor.test.MemoryUtils.RetainedDetector;
 import reactor.test.MockUtils;
 import reactor.test.StepVerifier;
 import reactor.test.publisher.FluxOperatorTest;
+import reactor.test.scheduler.VirtualTimeScheduler;
 import reactor.test.subscriber.AssertSubscriber;
 import reactor.util.annotation.Nullable;
 import reactor.util.context.Context;
@@ -47,6 +49,7 @@ import reactor.util.context.Context;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.awaitility.Awaitility.await;
+import static reactor.core.publisher.Sinks.EmitFailureHandler.FAIL_FAST;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -887,6 +890,127 @@ public class FluxDistinctTest extends FluxOperatorTest<String, String> {
 		}
 	}
 
+	@Test
+	public void distinctWithinForgetsKeysAfterWindow() {
+		VirtualTimeScheduler timer = VirtualTimeScheduler.create();
+		Sinks.Many<Integer> source = Sinks.many().unicast().onBackpressureBuffer();
+		AssertSubscriber<Integer> ts = AssertSubscriber.create();
+
+		source.asFlux()
+		      .distinctWithin(Function.identity(), Duration.ofSeconds(10), timer)
+		      .subscribe(ts);
+
+		source.emitNext(1, FAIL_FAST);
+		source.emitNext(2, FAIL_FAST);
+		source.emitNext(1, FAIL_FAST);
+		ts.assertValues(1, 2);
+
+		timer.advanceTimeBy(Duration.ofSeconds(15));
+		source.emitNext(1, FAIL_FAST);
+		source.emitNext(3, FAIL_FAST);
+		ts.assertValues(1, 2, 3);
+
+		timer.advanceTimeBy(Duration.ofSeconds(10));
+		source.emitNext(1, FAIL_FAST);
+		source.emitNext(3, FAIL_FAST);
+		ts.assertValues(1, 2, 3, 1);
+
+		timer.advanceTimeBy(Duration.ofSeconds(10));
+		source.emitNext(3, FAIL_FAST);
+		source.emitComplete(FAIL_FAST);
+		ts.assertValues(1, 2, 3, 1, 3)
+		  .assertComplete();
+	}
+
+	@Test
+	public void distinctWithinForgetsAllKeysAfterTwoWindows() {
+		ExpiringKeySet keys = new ExpiringKeySet(Duration.ofMillis(100), VirtualTimeScheduler.create());
+		VirtualTimeScheduler timer = (VirtualTimeScheduler) keys.clock;
+
+		assertThat(keys.add("a")).isTrue();
+		assertThat(keys.add("a")).isFalse();
+		timer.advanceTimeBy(Duration.ofMillis(150));
+		assertThat(keys.add("b")).isTrue();
+		assertThat(keys.size()).isEqualTo(2);
+
+		timer.advanceTimeBy(Duration.ofMillis(250));
+		assertThat(keys.add("c")).isTrue();
+		assertThat(keys.size()).as("expired generations dropped").isEqualTo(1);
+		assertThat(keys.add("a")).isTrue();
+		assertThat(keys.add("b")).isTrue();
+	}
+
+	@Test
+	public void distinctWithinDiscardsDuplicates() {
+		StepVerifier.create(Flux.just(1, 2, 1, 3, 2)
+		                        .distinctWithin(Function.identity(), Duration.ofMinutes(1)))
+		            .expectNext(1, 2, 3)
+		            .expectComplete()
+		            .verifyThenAssertThat()
+		            .hasDiscardedExactly(1, 2);
+	}
+
+	@Test
+	public void distinctWithinRejectsInvalidTtl() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> Flux.just(1).distinctWithin(Function.identity(), Duration.ZERO))
+				.withMessage("ttl must be at least 1ms but it was PT0S");
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> Flux.just(1).distinctWithin(Function.identity(), Duration.ofSeconds(-1)));
+	}
+
+	@Test
+	public void distinctWithinRejectsSubMillisecondTtl() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> Flux.just(1).distinctWithin(Function.identity(), Duration.ofNanos(999_999)))
+				.withMessage("ttl must be at least 1ms but it was PT0.000999999S");
+	}
+
+	@Test
+	public void distinctWithinOneMillisecondFiltersDuplicates() {
+		VirtualTimeScheduler vts = VirtualTimeScheduler.create();
+
+		StepVerifier.create(Flux.just(1, 1, 2, 1)
+		                        .distinctWithin(Function.identity(), Duration.ofMillis(1), vts))
+		            .expectNext(1, 2)
+		            .verifyComplete();
+	}
+
+	@Test
+	public void distinctApproximateFiltersDuplicates() {
+		List<Integer> values = Flux.range(0, 10_000)
+		                           .concatWith(Flux.range(0, 10_000))
+		                           .distinctApproximate(100, 0.01)
+		                           .collectList()
+		                           .block();
+
+		assertThat(values).doesNotHaveDuplicates()
+		                  .hasSizeBetween(9_900, 10_000)
+		                  .isSorted();
+	}
+
+	@Test
+	public void distinctApproximateWithKeySelectorDiscardsDuplicates() {
+		StepVerifier.create(Flux.just("a", "bb", "cc", "d", "eee")
+		                        .distinctApproximate(String::length, 10, 0.001))
+		            .expectNext("a", "bb", "eee")
+		            .expectComplete()
+		            .verifyThenAssertThat()
+		            .hasDiscardedExactly("cc", "d");
+	}
+
+	@Test
+	public void distinctApproximateRejectsInvalidArguments() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> Flux.just(1).distinctApproximate(0, 0.01))
+				.withMessage("expectedInsertions > 0 required but it was 0");
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> Flux.just(1).distinctApproximate(10, 0d))
+				.withMessage("fpp must be between 0 and 1 (exclusive) but it was 0.0");
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> Flux.just(1).distinctApproximate(10, 1d));
+	}
+
 	static class DistinctDefaultError {
 
 		private final int i;
@@ -1905,4 +1905,29 @@ public class FluxFlatMapTest {
 			    .verify(Duration.ofSeconds(1)); // Completes after consuming all events
 		}
 	}
+
+	@Test
+	public void adaptivePrefetchResizesEachInner() {
+		List<Long> requests = new ArrayList<>();
+
+		StepVerifier.create(Flux.range(0, 2)
+		                        .flatMap(i -> Flux.range(i * 100, 100)
+		                                          .hide()
+		                                          .doOnRequest(requests::add),
+				                        2, PrefetchStrategy.adaptive(4, 32)))
+		            .expectNextCount(200)
+		            .verifyComplete();
+
+		assertThat(requests).startsWith(4L, 7L, 14L, 28L, 24L, 24L, 24L);
+		assertThat(requests.subList(7, requests.size())).startsWith(4L, 7L, 14L);
+	}
+
+	@Test
+	public void fixedPrefetchStrategyIsRegularFlatMap() {
+		Flux<Integer> test = Flux.range(0, 2).flatMap(Flux::just, 2, PrefetchStrategy.fixed(7));
+
+		assertThat(test).isInstanceOf(FluxFlatMap.class);
+		assertThat(((FluxFlatMap<?, ?>) test).adaptivePrefetch).isNull();
+		assertThat(test.getPrefetch()).isEqualTo(7);
+	}
 }
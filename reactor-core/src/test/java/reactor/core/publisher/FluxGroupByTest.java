@@ -17,6 +17,7 @@
 package reactor.core.publisher;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -38,6 +39,8 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 import reactor.test.publisher.FluxOperatorTest;
+import reactor.test.publisher.TestPublisher;
+import reactor.test.scheduler.VirtualTimeScheduler;
 import reactor.test.subscriber.AssertSubscriber;
 import reactor.util.concurrent.Queues;
 
@@ -1008,4 +1011,100 @@ public class FluxGroupByTest extends
 				.then()
 				.block();
 	}
+
+	@Test
+	public void idleGroupsAreCompletedAndEvicted() {
+		VirtualTimeScheduler timer = VirtualTimeScheduler.create();
+		TestPublisher<String> source = TestPublisher.create();
+		List<AssertSubscriber<String>> groups = new ArrayList<>();
+
+		source.flux()
+		      .groupBy(s -> s.charAt(0), s -> s, 32, Duration.ofSeconds(1), timer)
+		      .subscribe(g -> groups.add(g.subscribeWith(AssertSubscriber.create())));
+
+		source.next("a1", "b1");
+		timer.advanceTimeBy(Duration.ofSeconds(1));
+		source.next("a2");
+		timer.advanceTimeBy(Duration.ofSeconds(1));
+
+		assertThat(groups).hasSize(2);
+		groups.get(0).assertValues("a1", "a2").assertNotComplete();
+		groups.get(1).assertValues("b1").assertComplete();
+
+		source.next("b2");
+		timer.advanceTimeBy(Duration.ofSeconds(1));
+
+		assertThat(groups).hasSize(3);
+		groups.get(0).assertComplete();
+		groups.get(2).assertValues("b2").assertNotComplete();
+
+		source.complete();
+		groups.get(2).assertComplete();
+	}
+
+	@Test
+	public void evictedGroupKeyOpensNewGroup() {
+		VirtualTimeScheduler timer = VirtualTimeScheduler.create();
+		TestPublisher<Integer> source = TestPublisher.create();
+
+		StepVerifier.create(source.flux()
+		                          .groupBy(i -> i % 2, i -> i, 32, Duration.ofMillis(100), timer)
+		                          .flatMap(g -> g.collectList().map(l -> g.key() + ":" + l)))
+		            .then(() -> source.next(1, 2, 3))
+		            .then(() -> timer.advanceTimeBy(Duration.ofMillis(200)))
+		            .expectNextCount(2)
+		            .then(() -> source.next(5))
+		            .then(() -> source.complete())
+		            .expectNext("1:[5]")
+		            .verifyComplete();
+	}
+
+	@Test
+	public void terminationDuringEvictionCompletesGroupsOnce() {
+		VirtualTimeScheduler timer = VirtualTimeScheduler.create();
+		TestPublisher<String> source = TestPublisher.create();
+		List<AssertSubscriber<String>> groups = new ArrayList<>();
+		AssertSubscriber<GroupedFlux<Character, String>> main = AssertSubscriber.create();
+
+		source.flux()
+		      .groupBy(s -> s.charAt(0), s -> s, 32, Duration.ofSeconds(1), timer)
+		      .doOnNext(g -> groups.add(g.doOnComplete(source::complete)
+		                                 .subscribeWith(AssertSubscriber.create())))
+		      .subscribe(main);
+
+		source.next("a1", "b1", "c1");
+		timer.advanceTimeBy(Duration.ofSeconds(2));
+
+		assertThat(groups).hasSize(3);
+		for (AssertSubscriber<String> group : groups) {
+			group.assertValueCount(1)
+			     .assertComplete();
+		}
+		main.assertValueCount(3)
+		    .assertComplete();
+	}
+
+	@Test
+	@Timeout(30)
+	public void idleGroupEvictionDoesNotLoseValues() {
+		int count = 200_000;
+		Long received = Flux.range(0, count)
+		                    .subscribeOn(Schedulers.single())
+		                    .groupBy(i -> i % 1_000, i -> i, 256, Duration.ofNanos(100_000))
+		                    .flatMap(g -> g.count(), Integer.MAX_VALUE)
+		                    .reduce(0L, Long::sum)
+		                    .block();
+
+		assertThat(received).isEqualTo(count);
+	}
+
+	@Test
+	public void scanOperatorWithIdleTimeout() {
+		Flux<Integer> parent = Flux.just(1);
+		Scheduler timer = Schedulers.immediate();
+		Flux<GroupedFlux<Integer, Integer>> test = parent.groupBy(k -> k % 2, v -> -v, 3, Duration.ofSeconds(1), timer);
+
+		assertThat(Scannable.from(test).scan(Scannable.Attr.RUN_ON)).isSameAs(timer);
+		assertThat(Scannable.from(test).scan(Scannable.Attr.RUN_STYLE)).isSameAs(Scannable.Attr.RunStyle.ASYNC);
+	}
 }
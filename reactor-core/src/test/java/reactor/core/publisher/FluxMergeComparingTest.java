@@ -18,6 +18,7 @@ package reactor.core.publisher;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -222,6 +223,40 @@ class FluxMergeComparingTest {
 		            .verifyComplete();
 	}
 
+	@Test
+	void manySourcesWithEqualValuesKeepSourceOrder() {
+		int n = 100;
+		List<Tuple2<Integer, Integer>> expected = new ArrayList<>();
+		@SuppressWarnings("unchecked")
+		Publisher<Tuple2<Integer, Integer>>[] sources = new Publisher[n];
+		for (int i = 0; i < n; i++) {
+			int source = i;
+			List<Tuple2<Integer, Integer>> values = new ArrayList<>();
+			for (int v = i % 7; v < 50; v += 1 + i % 3) {
+				values.add(Tuples.of(v, source));
+			}
+			expected.addAll(values);
+			sources[i] = Flux.fromIterable(values);
+		}
+		expected.sort(Comparator.comparing(Tuple2<Integer, Integer>::getT1)
+		                        .thenComparing(Tuple2::getT2));
+
+		Flux<Tuple2<Integer, Integer>> test =
+				new FluxMergeComparing<>(4, Comparator.comparing(Tuple2::getT1), false, true, sources);
+
+		StepVerifier.create(test)
+		            .expectNextSequence(expected)
+		            .verifyComplete();
+
+		StepVerifier.create(test, 1)
+		            .expectNextSequence(expected.subList(0, 1))
+		            .thenRequest(9)
+		            .expectNextSequence(expected.subList(1, 10))
+		            .thenRequest(Long.MAX_VALUE)
+		            .expectNextSequence(expected.subList(10, expected.size()))
+		            .verifyComplete();
+	}
+
 	@Test
 	void reorderingByIndexWithDelays() {
 		List<Mono<Tuple2<Long, Integer>>> sourceList = Flux.range(1, 10)
@@ -16,6 +16,8 @@
 
 package reactor.core.publisher;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,11 +28,13 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
 import reactor.core.Exceptions;
 import reactor.core.Fuseable;
 import reactor.core.Scannable;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 import reactor.test.StepVerifierOptions;
 import reactor.test.publisher.FluxOperatorTest;
@@ -339,4 +343,88 @@ public class FluxOnBackpressureBufferTest
 
 	    assertThat(test.scan(Scannable.Attr.CAPACITY)).isEqualTo(desiredCapacity);
     }
+
+	@Test
+	public void spillsOverflowToDisk(@TempDir Path directory) {
+		SpillSpec<Integer> spec = SpillSpec.<Integer>spillTo(directory,
+				i -> ByteBuffer.allocate(4).putInt(i).array(),
+				b -> ByteBuffer.wrap(b).getInt())
+		                                    .inMemoryCapacity(10)
+		                                    .segmentSize(64);
+
+		StepVerifier.create(Flux.range(0, 1000)
+		                        .onBackpressureBuffer(spec), 5)
+		            .expectNext(0, 1, 2, 3, 4)
+		            .thenRequest(Long.MAX_VALUE)
+		            .expectNextCount(995)
+		            .verifyComplete();
+	}
+
+	@Test
+	public void spillsOverflowToDiskAsync(@TempDir Path directory) {
+		SpillSpec<Integer> spec = SpillSpec.<Integer>spillTo(directory,
+				i -> ByteBuffer.allocate(4).putInt(i).array(),
+				b -> ByteBuffer.wrap(b).getInt())
+		                                    .inMemoryCapacity(16)
+		                                    .segmentSize(1024);
+
+		List<Integer> values = Flux.range(0, 100_000)
+		                           .subscribeOn(Schedulers.single())
+		                           .onBackpressureBuffer(spec)
+		                           .publishOn(Schedulers.parallel(), 8)
+		                           .collectList()
+		                           .block(Duration.ofSeconds(30));
+
+		assertThat(values).hasSize(100_000)
+		                  .isSorted();
+	}
+
+	@Test
+	public void spillEncoderErrorIsDelayed(@TempDir Path directory) {
+		SpillSpec<Integer> spec = SpillSpec.<Integer>spillTo(directory,
+				i -> {
+					if (i == 3) {
+						throw new IllegalStateException("boom");
+					}
+					return ByteBuffer.allocate(4).putInt(i).array();
+				},
+				b -> ByteBuffer.wrap(b).getInt())
+		                                    .inMemoryCapacity(1);
+
+		TestPublisher<Integer> source = TestPublisher.create();
+
+		StepVerifier.create(source.flux()
+		                          .onBackpressureBuffer(spec), 0)
+		            .then(() -> source.next(0, 1, 2, 3, 4))
+		            .thenRequest(10)
+		            .expectNext(0, 1, 2)
+		            .expectErrorMessage("boom")
+		            .verifyThenAssertThat()
+		            .hasDiscarded(3);
+	}
+
+	@Test
+	public void spillDecoderErrorCancels(@TempDir Path directory) {
+		SpillSpec<Integer> spec = SpillSpec.<Integer>spillTo(directory,
+				i -> ByteBuffer.allocate(4).putInt(i).array(),
+				b -> {
+					int i = ByteBuffer.wrap(b).getInt();
+					if (i == 2) {
+						throw new IllegalStateException("boom");
+					}
+					return i;
+				})
+		                                    .inMemoryCapacity(1);
+
+		TestPublisher<Integer> source = TestPublisher.create();
+
+		StepVerifier.create(source.flux()
+		                          .onBackpressureBuffer(spec), 0)
+		            .then(() -> source.next(0, 1, 2, 3, 4))
+		            .thenRequest(10)
+		            .expectNext(0, 1)
+		            .verifyErrorMessage("boom");
+
+		source.assertCancelled();
+	}
 }
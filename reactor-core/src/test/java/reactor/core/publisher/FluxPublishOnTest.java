@@ -56,6 +56,7 @@ import reactor.core.scheduler.Schedulers;
 import reactor.test.MockUtils;
 import reactor.test.StepVerifier;
 import reactor.test.publisher.FluxOperatorTest;
+import reactor.test.publisher.TestPublisher;
 import reactor.test.subscriber.AssertSubscriber;
 import reactor.util.annotation.Nullable;
 import reactor.util.concurrent.Queues;
@@ -1507,4 +1508,42 @@ public class FluxPublishOnTest extends FluxOperatorTest<String, String> {
 		runOnScannable.parents().forEach(System.out::println);
 		System.out.println(runOnScannable.scan(Scannable.Attr.BUFFERED));
 	}
+
+	@Test
+	public void adaptivePrefetchGrowsWhileDrained() {
+		TestPublisher<Integer> source = TestPublisher.create();
+		List<Long> requests = new ArrayList<>();
+		AssertSubscriber<Integer> ts = AssertSubscriber.create();
+
+		source.flux()
+		      .doOnRequest(requests::add)
+		      .publishOn(Schedulers.immediate(), true, PrefetchStrategy.adaptive(4, 32))
+		      .subscribe(ts);
+
+		for (int i = 0; i < 100; i++) {
+			source.next(i);
+		}
+		source.complete();
+
+		ts.assertValueCount(100)
+		  .assertComplete();
+		assertThat(requests).startsWith(4L, 7L, 14L, 28L, 24L, 24L);
+	}
+
+	@Test
+	public void adaptivePrefetchScansCurrentWindow() {
+		Flux<Integer> test = Flux.range(0, 10)
+		                         .publishOn(Schedulers.immediate(), false, PrefetchStrategy.adaptive(2, 64));
+
+		assertThat(Scannable.from(test).scan(PREFETCH)).isEqualTo(64);
+		assertThat(Flux.range(0, 10).publishOn(Schedulers.immediate(), false, PrefetchStrategy.fixed(8)))
+				.isInstanceOf(FluxPublishOn.class)
+				.satisfies(f -> assertThat(((FluxPublishOn<?>) f).adaptivePrefetch).isNull());
+
+		StepVerifier.create(test, 0)
+		            .consumeSubscriptionWith(s -> assertThat(Scannable.from(s).scan(PREFETCH)).isEqualTo(2))
+		            .thenRequest(10)
+		            .expectNextCount(10)
+		            .verifyComplete();
+	}
 }
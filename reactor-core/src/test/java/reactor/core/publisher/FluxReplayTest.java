@@ -783,6 +783,95 @@ public class FluxReplayTest extends FluxOperatorTest<String, String> {
 		assertThat(totalRequested).containsExactly(8L, 6L, 6L, 6L, 6L);
 	}
 
+	@Test
+	public void segmentSizePropertyIsParsedDefensively() {
+		assertThat(FluxReplay.segmentSize(null)).isEqualTo(64);
+		assertThat(FluxReplay.segmentSize("not a number")).isEqualTo(64);
+		assertThat(FluxReplay.segmentSize("")).isEqualTo(64);
+		assertThat(FluxReplay.segmentSize(" 100 ")).isEqualTo(128);
+		assertThat(FluxReplay.segmentSize("-5")).isEqualTo(2);
+		assertThat(FluxReplay.segmentSize(String.valueOf(Integer.MAX_VALUE))).isEqualTo(FluxReplay.MAX_SEGMENT_SIZE);
+	}
+
+	@Test
+	public void largeHistoryUsesChunkedBuffer() {
+		int history = FluxReplay.CHUNKED_LIMIT_THRESHOLD;
+		ConnectableFlux<Integer> connectable = Flux.range(0, history * 3 + 7).replay(history);
+
+		connectable.connect();
+
+		assertThat(((FluxReplay<Integer>) connectable).connection.buffer)
+				.isInstanceOf(FluxReplay.SizeBoundChunkedReplayBuffer.class);
+		assertThat(Flux.range(0, 5).replay(history - 1).connect()).isNotNull();
+
+		StepVerifier.create(connectable, 1)
+		            .expectNext(history * 2 + 7)
+		            .thenRequest(history - 2)
+		            .expectNextCount(history - 2)
+		            .thenRequest(1)
+		            .expectNext(history * 3 + 6)
+		            .verifyComplete();
+	}
+
+	@Test
+	public void chunkedBufferReplaysLikeNodeBuffer() {
+		for (int limit : new int[] {1, 3, 4, 5, 17}) {
+			SinkManyReplayProcessor<Integer> chunked =
+					new SinkManyReplayProcessor<>(new FluxReplay.SizeBoundChunkedReplayBuffer<>(limit, 4));
+			SinkManyReplayProcessor<Integer> nodes =
+					new SinkManyReplayProcessor<>(new FluxReplay.SizeBoundReplayBuffer<>(limit));
+			List<AssertSubscriber<Integer>> chunkedSubscribers = new ArrayList<>();
+			List<AssertSubscriber<Integer>> nodeSubscribers = new ArrayList<>();
+
+			for (int i = 0; i < 50; i++) {
+				if (i % 7 == 0) {
+					chunkedSubscribers.add(chunked.subscribeWith(AssertSubscriber.create(i % 3 == 0 ? Long.MAX_VALUE : 2)));
+					nodeSubscribers.add(nodes.subscribeWith(AssertSubscriber.create(i % 3 == 0 ? Long.MAX_VALUE : 2)));
+				}
+				chunked.onNext(i);
+				nodes.onNext(i);
+				assertThat(chunked.buffer.size()).as("size for limit %d", limit).isEqualTo(nodes.buffer.size());
+			}
+			chunked.onComplete();
+			nodes.onComplete();
+
+			StepVerifier.create(chunked)
+			            .expectNextSequence(nodes.collectList().block())
+			            .verifyComplete();
+
+			for (int i = 0; i < chunkedSubscribers.size(); i++) {
+				AssertSubscriber<Integer> c = chunkedSubscribers.get(i);
+				AssertSubscriber<Integer> n = nodeSubscribers.get(i);
+				c.request(Long.MAX_VALUE);
+				n.request(Long.MAX_VALUE);
+				c.assertValueSequence(n.values())
+				 .assertComplete();
+			}
+		}
+	}
+
+	@Test
+	public void chunkedBufferFused() {
+		SinkManyReplayProcessor<Integer> replay =
+				new SinkManyReplayProcessor<>(new FluxReplay.SizeBoundChunkedReplayBuffer<>(10, 4));
+		for (int i = 0; i < 25; i++) {
+			replay.onNext(i);
+		}
+		replay.onComplete();
+
+		StepVerifier.create(replay)
+		            .expectFusion(Fuseable.ASYNC)
+		            .expectNext(15, 16, 17, 18, 19, 20, 21, 22, 23, 24)
+		            .verifyComplete();
+	}
+
+	@Test
+	public void chunkedBufferRejectsInvalidSegmentSize() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> new FluxReplay.SizeBoundChunkedReplayBuffer<>(10, 3))
+				.withMessage("Segment size must be a power of two: 3");
+	}
+
 	private static final class TwoRequestsSubscriber extends BaseSubscriber<Integer> {
 
 		final long firstRequest;
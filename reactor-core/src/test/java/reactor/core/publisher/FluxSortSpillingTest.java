@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import reactor.core.Scannable;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class FluxSortSpillingTest {
+
+	@TempDir
+	Path directory;
+
+	SpillSpec<Integer> spec(int runSize) {
+		return SpillSpec.<Integer>spillTo(directory,
+				i -> ByteBuffer.allocate(4).putInt(i).array(),
+				b -> ByteBuffer.wrap(b).getInt())
+		                .inMemoryCapacity(runSize)
+		                .segmentSize(1024);
+	}
+
+	static List<Integer> shuffled(int count) {
+		List<Integer> values = IntStream.range(0, count).boxed().collect(Collectors.toList());
+		Collections.shuffle(values, new Random(42));
+		return values;
+	}
+
+	@Test
+	void sortsAcrossSpilledRuns() throws IOException {
+		List<Integer> values = shuffled(10_000);
+
+		StepVerifier.create(Flux.fromIterable(values)
+		                        .sort(Comparator.naturalOrder(), spec(100)), 0)
+		            .thenRequest(3)
+		            .expectNext(0, 1, 2)
+		            .thenRequest(Long.MAX_VALUE)
+		            .expectNextSequence(IntStream.range(3, 10_000).boxed().collect(Collectors.toList()))
+		            .verifyComplete();
+
+		try (Stream<Path> files = Files.list(directory)) {
+			assertThat(files).as("segment files are deleted once mapped").isEmpty();
+		}
+	}
+
+	@Test
+	void sortIsStable() {
+		List<int[]> values = new ArrayList<>();
+		Random random = new Random(42);
+		// enough runs of 7 values to be compacted twice
+		for (int i = 0; i < 30_000; i++) {
+			values.add(new int[] {random.nextInt(10), i});
+		}
+		SpillSpec<int[]> spec = SpillSpec.<int[]>spillTo(directory,
+				v -> ByteBuffer.allocate(8).putInt(v[0]).putInt(v[1]).array(),
+				b -> {
+					ByteBuffer buffer = ByteBuffer.wrap(b);
+					return new int[] {buffer.getInt(), buffer.getInt()};
+				})
+		                                 .inMemoryCapacity(7);
+
+		List<Integer> sorted = Flux.fromIterable(values)
+		                           .sort(Comparator.comparingInt(v -> v[0]), spec)
+		                           .map(v -> v[1])
+		                           .collectList()
+		                           .block();
+
+		assertThat(sorted).containsExactlyElementsOf(values.stream()
+		                                                   .sorted(Comparator.comparingInt(v -> v[0]))
+		                                                   .map(v -> v[1])
+		                                                   .collect(Collectors.toList()));
+	}
+
+	@Test
+	void runsShareSegmentsAndAreCompacted() {
+		SortedRuns<Integer> runs = new SortedRuns<>(Comparator.naturalOrder(), spec(100).segmentSize(1024 * 1024));
+		for (Integer value : shuffled(50_000)) {
+			runs.add(value);
+		}
+		runs.complete();
+
+		// 500 runs written twice at most, in segments doubling from 64 KiB
+		assertThat(runs.spillFile.mappedSegments).as("segment files mapped").isBetween(1, 6);
+		assertThat(runs.runs).hasSizeLessThan(2 * SortedRuns.MERGE_FAN_IN);
+		assertThat(runs.levels).contains(0, 1);
+
+		StepVerifier.create(new FluxMergeSortedRuns<>(Flux.just(runs), Comparator.naturalOrder()))
+		            .expectNextSequence(IntStream.range(0, 50_000).boxed().collect(Collectors.toList()))
+		            .verifyComplete();
+	}
+
+	@Test
+	void singleRunIsNotSpilled() {
+		SpillSpec<Integer> spec = SpillSpec.<Integer>spillTo(directory,
+				i -> {
+					throw new AssertionError("no value should be spilled");
+				},
+				b -> {
+					throw new AssertionError("no value should be read back");
+				})
+		                                   .inMemoryCapacity(10);
+
+		StepVerifier.create(Flux.just(3, 1, 2)
+		                        .sort(Comparator.naturalOrder(), spec))
+		            .expectNext(1, 2, 3)
+		            .verifyComplete();
+
+		StepVerifier.create(Flux.<Integer>empty()
+		                        .sort(Comparator.naturalOrder(), spec))
+		            .verifyComplete();
+	}
+
+	@Test
+	void rejectsEmptyRuns() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> Flux.just(1).sort(Comparator.naturalOrder(), spec(0)))
+				.withMessageContaining("inMemoryCapacity");
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> Flux.just(1).parallel().sorted(Comparator.naturalOrder(), spec(0)))
+				.withMessageContaining("inMemoryCapacity");
+	}
+
+	@Test
+	void encoderErrorCancelsAndDiscards() {
+		SpillSpec<Integer> spec = SpillSpec.<Integer>spillTo(directory,
+				i -> {
+					if (i == 3) {
+						throw new IllegalStateException("boom");
+					}
+					return ByteBuffer.allocate(4).putInt(i).array();
+				},
+				b -> ByteBuffer.wrap(b).getInt())
+		                                   .inMemoryCapacity(2);
+		TestPublisher<Integer> source = TestPublisher.create();
+
+		StepVerifier.create(source.flux()
+		                          .sort(Comparator.naturalOrder(), spec))
+		            .then(() -> source.next(2, 1, 4, 3))
+		            .expectErrorMessage("boom")
+		            .verifyThenAssertThat()
+		            .hasDiscardedExactly(1, 2, 3, 4);
+
+		source.assertCancelled();
+	}
+
+	@Test
+	void encoderErrorWhileCompactingDiscardsAllValues() {
+		Set<Integer> encoded = new HashSet<>();
+		SpillSpec<Integer> spec = SpillSpec.<Integer>spillTo(directory,
+				i -> {
+					if (!encoded.add(i) && i == 10) {
+						throw new IllegalStateException("boom");
+					}
+					return ByteBuffer.allocate(4).putInt(i).array();
+				},
+				b -> ByteBuffer.wrap(b).getInt())
+		                                   .inMemoryCapacity(1);
+
+		StepVerifier.create(Flux.fromIterable(shuffled(SortedRuns.MERGE_FAN_IN))
+		                        .sort(Comparator.naturalOrder(), spec))
+		            .expectErrorMessage("boom")
+		            .verifyThenAssertThat()
+		            .hasDiscardedElementsSatisfying(discarded -> assertThat(discarded)
+				            .containsExactlyInAnyOrderElementsOf(shuffled(SortedRuns.MERGE_FAN_IN)));
+	}
+
+	@Test
+	void decoderErrorIsPropagated() {
+		SpillSpec<Integer> spec = SpillSpec.<Integer>spillTo(directory,
+				i -> ByteBuffer.allocate(4).putInt(i).array(),
+				b -> {
+					int i = ByteBuffer.wrap(b).getInt();
+					if (i == 1) {
+						throw new IllegalStateException("boom");
+					}
+					return i;
+				})
+		                                   .inMemoryCapacity(3);
+
+		StepVerifier.create(Flux.range(0, 9)
+		                        .sort(Comparator.reverseOrder(), spec))
+		            .expectNext(8, 7, 6, 5, 4, 3)
+		            .expectErrorMessage("boom")
+		            .verifyThenAssertThat()
+		            .hasDiscarded(2);
+	}
+
+	@Test
+	void cancelDiscardsRemainingValues() {
+		StepVerifier.create(Flux.range(0, 10)
+		                        .sort(Comparator.naturalOrder(), spec(4)), 3)
+		            .expectNext(0, 1, 2)
+		            .thenCancel()
+		            .verifyThenAssertThat()
+		            .hasDiscardedExactly(3, 4, 8, 5, 6, 7, 9);
+	}
+
+	@Test
+	void cancelWhileAccumulatingDiscardsValues() {
+		TestPublisher<Integer> source = TestPublisher.create();
+
+		StepVerifier.create(source.flux()
+		                          .sort(Comparator.naturalOrder(), spec(2)))
+		            .then(() -> source.next(3, 2, 1))
+		            .thenCancel()
+		            .verifyThenAssertThat()
+		            .hasDiscardedExactly(1, 2, 3);
+
+		source.assertCancelled();
+	}
+
+	@Test
+	void parallelSortedSpillsEachRail() {
+		List<Integer> values = shuffled(20_000);
+
+		List<Integer> sorted = Flux.fromIterable(values)
+		                           .parallel(4)
+		                           .runOn(Schedulers.parallel())
+		                           .sorted(Comparator.naturalOrder(), spec(256))
+		                           .collectList()
+		                           .block(Duration.ofSeconds(30));
+
+		assertThat(sorted).containsExactlyElementsOf(IntStream.range(0, 20_000).boxed().collect(Collectors.toList()));
+
+		StepVerifier.create(Flux.just(2, 1)
+		                        .parallel(4)
+		                        .sorted(Comparator.naturalOrder(), spec(256)))
+		            .expectNext(1, 2)
+		            .verifyComplete();
+	}
+
+	@Test
+	void scanOperator() {
+		Flux<Integer> parent = Flux.just(1);
+		FluxSortSpilling<Integer> test = new FluxSortSpilling<>(parent, Comparator.naturalOrder(), spec(2));
+
+		assertThat(test.scan(Scannable.Attr.PARENT)).isSameAs(parent);
+		assertThat(test.scan(Scannable.Attr.PREFETCH)).isEqualTo(Integer.MAX_VALUE);
+		assertThat(test.scan(Scannable.Attr.RUN_STYLE)).isSameAs(Scannable.Attr.RunStyle.SYNC);
+	}
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
+import reactor.test.scheduler.VirtualTimeScheduler;
+import reactor.test.subscriber.AssertSubscriber;
+import reactor.test.util.RaceTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FluxTimeoutFixedTest {
+
+	@Test
+	public void durationTimeoutUsesFixedOperator() {
+		assertThat(Flux.never().timeout(Duration.ofMillis(100))).isInstanceOf(FluxTimeoutFixed.class);
+		assertThat(Flux.never().timeout(Duration.ofMillis(100), Flux.empty())).isInstanceOf(FluxTimeoutFixed.class);
+		assertThat(Flux.never().timeout(Duration.ZERO)).isInstanceOf(FluxTimeout.class);
+	}
+
+	@Test
+	public void noTimeoutWhenItemsArriveInTime() {
+		StepVerifier.withVirtualTime(() -> Flux.interval(Duration.ofMillis(80))
+		                                       .take(5)
+		                                       .timeout(Duration.ofMillis(100)))
+		            .thenAwait(Duration.ofMillis(400))
+		            .expectNext(0L, 1L, 2L, 3L, 4L)
+		            .verifyComplete();
+	}
+
+	@Test
+	public void timeoutIsMeasuredFromLatestItem() {
+		TestPublisher<Integer> source = TestPublisher.create();
+		VirtualTimeScheduler vts = VirtualTimeScheduler.create();
+
+		StepVerifier.create(source.flux().timeout(Duration.ofMillis(100), vts))
+		            .then(() -> vts.advanceTimeBy(Duration.ofMillis(80)))
+		            .then(() -> source.next(1))
+		            .expectNext(1)
+		            .then(() -> vts.advanceTimeBy(Duration.ofMillis(80)))
+		            .then(() -> source.next(2))
+		            .expectNext(2)
+		            .then(() -> vts.advanceTimeBy(Duration.ofMillis(99)))
+		            .expectNoEvent(Duration.ZERO)
+		            .then(() -> vts.advanceTimeBy(Duration.ofMillis(1)))
+		            .expectError(TimeoutException.class)
+		            .verify(Duration.ofSeconds(5));
+
+		source.assertCancelled();
+	}
+
+	@Test
+	public void singleTimerPerSubscriber() {
+		TestPublisher<Integer> source = TestPublisher.create();
+		CountingScheduler timer = new CountingScheduler(Schedulers.parallel());
+
+		StepVerifier.create(source.flux().timeout(Duration.ofSeconds(10), timer))
+		            .then(() -> {
+			            for (int i = 0; i < 100_000; i++) {
+				            source.next(i);
+			            }
+			            source.complete();
+		            })
+		            .expectNextCount(100_000)
+		            .verifyComplete();
+
+		assertThat(timer.scheduled).hasValue(1);
+		assertThat(timer.lastTask.get().isDisposed()).as("timer disposed on completion").isTrue();
+	}
+
+	@Test
+	public void timerIsRearmedForRemainingTime() {
+		TestPublisher<Integer> source = TestPublisher.create();
+		VirtualTimeScheduler vts = VirtualTimeScheduler.create();
+		CountingScheduler timer = new CountingScheduler(vts);
+
+		StepVerifier.create(source.flux().timeout(Duration.ofMillis(100), timer))
+		            .then(() -> source.next(1, 2, 3))
+		            .expectNext(1, 2, 3)
+		            .then(() -> vts.advanceTimeBy(Duration.ofMillis(60)))
+		            .then(() -> source.next(4))
+		            .expectNext(4)
+		            .then(() -> assertThat(timer.scheduled).as("items don't schedule").hasValue(1))
+		            .then(() -> vts.advanceTimeBy(Duration.ofMillis(40)))
+		            .then(() -> assertThat(timer.scheduled).as("re-armed on first expiry").hasValue(2))
+		            .then(() -> vts.advanceTimeBy(Duration.ofMillis(59)))
+		            .expectNoEvent(Duration.ZERO)
+		            .then(() -> vts.advanceTimeBy(Duration.ofMillis(1)))
+		            .expectError(TimeoutException.class)
+		            .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	public void fallbackRespectsOutstandingRequests() {
+		TestPublisher<Integer> source = TestPublisher.create();
+		VirtualTimeScheduler vts = VirtualTimeScheduler.create();
+
+		StepVerifier.create(source.flux().timeout(Duration.ofMillis(100), Flux.range(10, 5), vts), 3)
+		            .then(() -> source.next(1, 2))
+		            .expectNext(1, 2)
+		            .then(() -> vts.advanceTimeBy(Duration.ofMillis(100)))
+		            .expectNext(10)
+		            .expectNoEvent(Duration.ZERO)
+		            .thenRequest(10)
+		            .expectNext(11, 12, 13, 14)
+		            .verifyComplete();
+
+		source.assertCancelled();
+	}
+
+	@Test
+	public void rejectedTimerTimesOut() {
+		Scheduler disposed = Schedulers.newSingle("rejectedTimerTimesOut");
+		disposed.dispose();
+
+		StepVerifier.create(Flux.never().timeout(Duration.ofSeconds(10), disposed))
+		            .expectError(TimeoutException.class)
+		            .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	public void synchronousCompletionDoesntScheduleTimer() {
+		CountingScheduler timer = new CountingScheduler(Schedulers.parallel());
+
+		StepVerifier.create(Flux.just(1).timeout(Duration.ofSeconds(10), timer))
+		            .expectNext(1)
+		            .verifyComplete();
+
+		assertThat(timer.scheduled).hasValue(0);
+	}
+
+	@Test
+	public void cancelDisposesTimer() {
+		CountingScheduler timer = new CountingScheduler(Schedulers.parallel());
+		AssertSubscriber<Object> ts = AssertSubscriber.create();
+
+		Flux.never().timeout(Duration.ofSeconds(10), timer).subscribe(ts);
+		assertThat(timer.lastTask.get().isDisposed()).isFalse();
+
+		ts.cancel();
+		assertThat(timer.lastTask.get().isDisposed()).isTrue();
+	}
+
+	@Test
+	public void onNextRacingTimeoutNeverSignalsAfterError() {
+		for (int i = 0; i < 10_000; i++) {
+			ManualScheduler timer = new ManualScheduler();
+			AssertSubscriber<Integer> ts = AssertSubscriber.create();
+			AtomicInteger dropped = new AtomicInteger();
+			FluxTimeoutFixed.FixedTimeoutSubscriber<Integer> test =
+					new FluxTimeoutFixed.FixedTimeoutSubscriber<>(ts, 1L, timer, false, null, "1ns");
+			test.onSubscribe(Operators.emptySubscription());
+
+			Hooks.onNextDropped(v -> dropped.incrementAndGet());
+			try {
+				RaceTestUtils.race(() -> test.onNext(1), timer.task::run);
+			}
+			finally {
+				Hooks.resetOnNextDropped();
+			}
+			//the timer might have been re-armed if the clock didn't move since the item
+			while (test.state != FluxTimeoutFixed.FixedTimeoutSubscriber.TERMINATED) {
+				timer.task.run();
+			}
+
+			ts.assertError(TimeoutException.class);
+			assertThat(ts.values().size() + dropped.get())
+					.as("the item is either emitted before the error or dropped")
+					.isOne();
+		}
+	}
+
+	@Test
+	public void measuresNanoTimeUnlessSchedulerHasItsOwnClock() {
+		VirtualTimeScheduler vts = VirtualTimeScheduler.create();
+		try {
+			assertThat(FluxTimeoutFixed.hasOwnClock(Schedulers.parallel())).as("parallel").isFalse();
+			assertThat(FluxTimeoutFixed.hasOwnClock(new ManualScheduler())).as("default now").isFalse();
+			assertThat(FluxTimeoutFixed.hasOwnClock(vts)).as("virtual time").isTrue();
+
+			VirtualTimeScheduler.getOrSet(vts);
+			assertThat(FluxTimeoutFixed.hasOwnClock(Schedulers.parallel())).as("parallel in virtual time").isTrue();
+		}
+		finally {
+			VirtualTimeScheduler.reset();
+		}
+	}
+
+	@Test
+	public void scanOperator() {
+		Flux<Integer> parent = Flux.just(1);
+		FluxTimeoutFixed<Integer> test = new FluxTimeoutFixed<>(parent, Duration.ofMillis(100), Schedulers.immediate(), null);
+
+		assertThat(test.scan(Scannable.Attr.PARENT)).isSameAs(parent);
+		assertThat(test.scan(Scannable.Attr.RUN_ON)).isSameAs(Schedulers.immediate());
+		assertThat(test.scan(Scannable.Attr.RUN_STYLE)).isSameAs(Scannable.Attr.RunStyle.SYNC);
+	}
+
+	@Test
+	public void scanSubscriber() {
+		CoreSubscriber<String> actual = new LambdaSubscriber<>(null, e -> {}, null, s -> s.request(1));
+		ManualScheduler timer = new ManualScheduler();
+		FluxTimeoutFixed.FixedTimeoutSubscriber<String> test =
+				new FluxTimeoutFixed.FixedTimeoutSubscriber<>(actual, 100L, timer, false, Flux.empty(), null);
+
+		Subscription subscription = Operators.emptySubscription();
+		test.onSubscribe(subscription);
+
+		assertThat(test.scan(Scannable.Attr.PARENT)).isSameAs(subscription);
+		assertThat(test.scan(Scannable.Attr.RUN_STYLE)).isSameAs(Scannable.Attr.RunStyle.SYNC);
+		assertThat(test.scan(Scannable.Attr.REQUESTED_FROM_DOWNSTREAM)).isEqualTo(1L);
+
+		assertThat(test.scan(Scannable.Attr.CANCELLED)).isFalse();
+		test.cancel();
+		assertThat(test.scan(Scannable.Attr.CANCELLED)).isTrue();
+	}
+
+	static final class CountingScheduler implements Scheduler {
+
+		final Scheduler                   delegate;
+		final AtomicInteger               scheduled = new AtomicInteger();
+		final AtomicReference<Disposable> lastTask  = new AtomicReference<>();
+
+		CountingScheduler(Scheduler delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Disposable schedule(Runnable task) {
+			return delegate.schedule(task);
+		}
+
+		@Override
+		public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+			scheduled.incrementAndGet();
+			Disposable d = delegate.schedule(task, delay, unit);
+			lastTask.set(d);
+			return d;
+		}
+
+		@Override
+		public long now(TimeUnit unit) {
+			return delegate.now(unit);
+		}
+
+		@Override
+		public Worker createWorker() {
+			return delegate.createWorker();
+		}
+	}
+
+	/**
+	 * A scheduler that only keeps the latest delayed task, for the test to run it.
+	 */
+	static final class ManualScheduler implements Scheduler {
+
+		Runnable task;
+
+		@Override
+		public Disposable schedule(Runnable task) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+			this.task = task;
+			return Disposables.single();
+		}
+
+		@Override
+		public Worker createWorker() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
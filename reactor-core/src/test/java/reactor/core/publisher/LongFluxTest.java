@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import reactor.core.Disposable;
+import reactor.core.LongSubscriber;
+import reactor.core.Scannable;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class LongFluxTest {
+
+	@Test
+	public void range() {
+		StepVerifier.create(LongFlux.range(Integer.MAX_VALUE, 3))
+		            .expectNext(2147483647L, 2147483648L, 2147483649L)
+		            .verifyComplete();
+
+		StepVerifier.create(LongFlux.range(5, 0))
+		            .verifyComplete();
+	}
+
+	@Test
+	public void rangeInvalidArguments() {
+		assertThatIllegalArgumentException().isThrownBy(() -> LongFlux.range(0, -1));
+		assertThatIllegalArgumentException().isThrownBy(() -> LongFlux.range(Long.MAX_VALUE, 2));
+	}
+
+	@Test
+	public void rangeBackpressured() {
+		StepVerifier.create(LongFlux.range(0, 10), 3)
+		            .expectNext(0L, 1L, 2L)
+		            .thenRequest(5)
+		            .expectNext(3L, 4L, 5L, 6L, 7L)
+		            .thenRequest(Long.MAX_VALUE)
+		            .expectNext(8L, 9L)
+		            .verifyComplete();
+	}
+
+	@Test
+	public void fromArray() {
+		StepVerifier.create(LongFlux.fromArray(3L, 1L, 2L), 2)
+		            .expectNext(3L, 1L)
+		            .thenRequest(1)
+		            .expectNext(2L)
+		            .verifyComplete();
+
+		StepVerifier.create(LongFlux.fromArray())
+		            .verifyComplete();
+	}
+
+	@Test
+	public void fromPublisher() {
+		LongFlux source = LongFlux.range(0, 3);
+		assertThat(LongFlux.from(source)).isSameAs(source);
+
+		StepVerifier.create(LongFlux.from(Flux.just(1L, 2L)).map(v -> v * 10))
+		            .expectNext(10L, 20L)
+		            .verifyComplete();
+	}
+
+	@Test
+	public void operatorsDontBox() {
+		UnboxedSubscriber subscriber = new UnboxedSubscriber();
+
+		Flux.just("a", "bb", "ccc", "dddd")
+		    .mapToLong(String::length)
+		    .map(v -> v * v)
+		    .filter(v -> v != 4L)
+		    .subscribe(subscriber);
+
+		assertThat(subscriber.values).containsExactly(1L, 9L, 16L);
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	public void filterReplenishesRequest() {
+		StepVerifier.create(LongFlux.range(0, 100).filter(v -> v % 10 == 0), 2)
+		            .expectNext(0L, 10L)
+		            .thenRequest(9)
+		            .expectNextCount(8)
+		            .verifyComplete();
+	}
+
+	@Test
+	public void mapToObjAndBoxed() {
+		StepVerifier.create(LongFlux.range(1, 3).mapToObj(v -> "#" + v))
+		            .expectNext("#1", "#2", "#3")
+		            .verifyComplete();
+
+		StepVerifier.create(LongFlux.fromArray(7L, 8L).boxed().map(v -> v + 1))
+		            .expectNext(8L, 9L)
+		            .verifyComplete();
+	}
+
+	@Test
+	public void mapperError() {
+		StepVerifier.create(LongFlux.range(0, 5)
+		                            .map(v -> {
+			                            if (v == 2) {
+				                            throw new IllegalStateException("boom");
+			                            }
+			                            return v;
+		                            }))
+		            .expectNext(0L, 1L)
+		            .verifyErrorMessage("boom");
+	}
+
+	@Test
+	public void mapperErrorContinue() {
+		List<Object> errored = new ArrayList<>();
+
+		StepVerifier.create(LongFlux.range(0, 5)
+		                            .filter(v -> {
+			                            if (v == 2) {
+				                            throw new IllegalStateException("boom");
+			                            }
+			                            return true;
+		                            })
+		                            .boxed()
+		                            .onErrorContinue((e, v) -> errored.add(v)))
+		            .expectNext(0L, 1L, 3L, 4L)
+		            .verifyComplete();
+
+		assertThat(errored).containsExactly(2L);
+	}
+
+	@Test
+	public void aggregations() {
+		LongFlux values = Flux.range(1, 100).mapToLong(i -> i);
+
+		StepVerifier.create(values.sum())
+		            .expectNext(5050L)
+		            .verifyComplete();
+		StepVerifier.create(values.count())
+		            .expectNext(100L)
+		            .verifyComplete();
+		StepVerifier.create(values.reduce(Math::max))
+		            .expectNext(100L)
+		            .verifyComplete();
+		StepVerifier.create(values.reduce(1L, (a, b) -> a * (b % 3 + 1)))
+		            .expectNextCount(1)
+		            .verifyComplete();
+	}
+
+	@Test
+	public void aggregationsOfEmptySequence() {
+		LongFlux empty = LongFlux.fromArray();
+
+		StepVerifier.create(empty.sum())
+		            .expectNext(0L)
+		            .verifyComplete();
+		StepVerifier.create(empty.reduce(Math::max))
+		            .verifyComplete();
+	}
+
+	@Test
+	public void accumulatorError() {
+		StepVerifier.create(LongFlux.range(0, 5)
+		                            .reduce(0L, (a, b) -> {
+			                            if (b == 3) {
+				                            throw new IllegalStateException("boom");
+			                            }
+			                            return a + b;
+		                            }))
+		            .verifyErrorMessage("boom");
+	}
+
+	@Test
+	public void subscribeWithLambdas() {
+		AtomicLong sum = new AtomicLong();
+		AtomicLong completed = new AtomicLong();
+
+		Disposable d = LongFlux.range(0, 10).subscribe(sum::addAndGet, null, completed::incrementAndGet);
+
+		assertThat(sum).hasValue(45L);
+		assertThat(completed).hasValue(1L);
+		assertThat(d.isDisposed()).isTrue();
+	}
+
+	@Test
+	public void consumerErrorCancels() {
+		List<Throwable> errors = new ArrayList<>();
+		AtomicLong seen = new AtomicLong();
+
+		LongFlux.range(0, 10)
+		        .subscribe(v -> {
+			        seen.incrementAndGet();
+			        if (v == 3) {
+				        throw new IllegalStateException("boom");
+			        }
+		        }, errors::add, null);
+
+		assertThat(seen).hasValue(4L);
+		assertThat(errors).singleElement().satisfies(e -> assertThat(e).hasMessage("boom"));
+	}
+
+	@Test
+	public void subscribeWithContext() {
+		AtomicLong sum = new AtomicLong();
+
+		Flux.deferContextual(ctx -> Flux.just(ctx.<String>get("key")))
+		    .mapToLong(String::length)
+		    .map(v -> v * 2)
+		    .subscribe(sum::addAndGet, null, null, Context.of("key", "value"));
+
+		assertThat(sum).hasValue(10L);
+	}
+
+	@Test
+	public void operatorsGoThroughAssemblyHooks() {
+		List<Publisher<?>> assembled = new ArrayList<>();
+		Hooks.onEachOperator("longFluxTest", p -> {
+			assembled.add(p);
+			return p;
+		});
+		try {
+			StepVerifier.create(LongFlux.range(0, 10)
+			                            .map(v -> v * 2)
+			                            .filter(v -> v % 3 == 0))
+			            .expectNext(0L, 6L, 12L, 18L)
+			            .verifyComplete();
+
+			assertThat(assembled).hasSize(3);
+		}
+		finally {
+			Hooks.resetOnEachOperator("longFluxTest");
+		}
+	}
+
+	@Test
+	public void operatorsAreTraced() {
+		Hooks.onOperatorDebug();
+		try {
+			StepVerifier.create(LongFlux.range(0, 10)
+			                            .map(v -> {
+				                            throw new IllegalStateException("boom");
+			                            }))
+			            .expectErrorSatisfies(e -> assertThat(e.getSuppressed())
+					            .anySatisfy(s -> assertThat(s).hasMessageContaining("LongFluxTest.operatorsAreTraced")))
+			            .verify();
+		}
+		finally {
+			Hooks.resetOnOperatorDebug();
+		}
+	}
+
+	@Test
+	public void scanOperators() {
+		LongFlux source = LongFlux.range(0, 10);
+		LongFlux map = source.map(v -> v);
+		LongFlux filter = map.filter(v -> true);
+
+		assertThat(Scannable.from(filter).scan(Scannable.Attr.PARENT)).isSameAs(map);
+		assertThat(Scannable.from(map).scan(Scannable.Attr.PARENT)).isSameAs(source);
+		assertThat(Scannable.from(map).scan(Scannable.Attr.RUN_STYLE)).isSameAs(Scannable.Attr.RunStyle.SYNC);
+		assertThat(Scannable.from(filter).parents().map(Object.class::cast)).containsExactly(map, source);
+	}
+
+	/**
+	 * Fails on boxed values, to check that they are passed as primitives.
+	 */
+	static final class UnboxedSubscriber implements LongSubscriber {
+
+		final List<Long> values = new ArrayList<>();
+
+		boolean completed;
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			s.request(Long.MAX_VALUE);
+		}
+
+		@Override
+		public void onNext(long value) {
+			values.add(value);
+		}
+
+		@Override
+		public void onNext(Long value) {
+			throw new AssertionError("boxed value: " + value);
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			throw new AssertionError("unexpected error", t);
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.Scannable;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class MonoTopKTest {
+
+	@Test
+	void emitsSmallestValuesInOrder() {
+		List<Integer> values = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+		Collections.shuffle(values, new Random(42));
+
+		StepVerifier.create(Flux.fromIterable(values).topK(5, Comparator.naturalOrder()))
+		            .expectNext(0, 1, 2, 3, 4)
+		            .verifyComplete();
+
+		StepVerifier.create(Flux.fromIterable(values).topK(3, Comparator.reverseOrder()), 1)
+		            .expectNext(9999)
+		            .thenRequest(2)
+		            .expectNext(9998, 9997)
+		            .verifyComplete();
+	}
+
+	@Test
+	void sameAsSortThenTake() {
+		Random random = new Random(42);
+		List<Tuple2<Integer, Integer>> values = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			values.add(Tuples.of(random.nextInt(50), i));
+		}
+		Comparator<Tuple2<Integer, Integer>> byKey = Comparator.comparing(Tuple2::getT1);
+
+		for (int k : new int[] {1, 7, 100, 2000, 5000}) {
+			assertThat(Flux.fromIterable(values).topK(k, byKey).collectList().block())
+					.as("k=%d", k)
+					.containsExactlyElementsOf(Flux.fromIterable(values).sort(byKey).take(k).collectList().block());
+		}
+	}
+
+	@Test
+	void fewerValuesThanK() {
+		StepVerifier.create(Flux.just(3, 1, 2).topK(10, Comparator.naturalOrder()))
+		            .expectNext(1, 2, 3)
+		            .verifyComplete();
+
+		StepVerifier.create(Flux.<Integer>empty().topK(10, Comparator.naturalOrder()))
+		            .verifyComplete();
+	}
+
+	@Test
+	void zeroK() {
+		StepVerifier.create(Flux.just(3, 1, 2).topK(0, Comparator.naturalOrder()))
+		            .expectComplete()
+		            .verifyThenAssertThat()
+		            .hasDiscardedExactly(3, 1, 2);
+	}
+
+	@Test
+	void negativeK() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> Flux.just(1).topK(-1, Comparator.naturalOrder()))
+				.withMessage("k >= 0 required but it was -1");
+	}
+
+	@Test
+	void discardsEvictedAndRejectedValues() {
+		StepVerifier.create(Flux.just(5, 3, 4, 1, 6, 2).topK(2, Comparator.naturalOrder()))
+		            .expectNext(1, 2)
+		            .expectComplete()
+		            .verifyThenAssertThat()
+		            .hasDiscardedExactly(5, 4, 6, 3);
+	}
+
+	@Test
+	void discardsHeldValuesOnError() {
+		StepVerifier.create(Flux.just(5, 3, 4)
+		                        .concatWith(Flux.error(new IllegalStateException("boom")))
+		                        .topK(2, Comparator.naturalOrder()))
+		            .expectErrorMessage("boom")
+		            .verifyThenAssertThat()
+		            .hasDiscardedExactly(5, 4, 3);
+	}
+
+	@Test
+	void discardsHeldValuesOnCancel() {
+		TestPublisher<Integer> source = TestPublisher.create();
+
+		StepVerifier.create(source.flux().topK(3, Comparator.naturalOrder()))
+		            .then(() -> source.next(2, 1))
+		            .thenCancel()
+		            .verifyThenAssertThat()
+		            .hasDiscardedExactly(2, 1);
+
+		source.assertCancelled();
+	}
+
+	@Test
+	void comparatorError() {
+		StepVerifier.create(Flux.just(1, 2, 3).topK(2, (a, b) -> {
+			            throw new IllegalStateException("boom");
+		            }))
+		            .verifyErrorMessage("boom");
+	}
+
+	@Test
+	void scanOperator() {
+		Flux<Integer> parent = Flux.just(1);
+		MonoTopK<Integer> test = new MonoTopK<>(parent, 2, Comparator.naturalOrder());
+
+		assertThat(test.scan(Scannable.Attr.PARENT)).isSameAs(parent);
+		assertThat(test.scan(Scannable.Attr.RUN_STYLE)).isSameAs(Scannable.Attr.RunStyle.SYNC);
+	}
+
+	@Test
+	void scanSubscriber() {
+		LambdaMonoSubscriber<List<Integer>> actual = new LambdaMonoSubscriber<>(null, null, null, null);
+		MonoTopK.TopKSubscriber<Integer> test = new MonoTopK.TopKSubscriber<>(actual, 2, Comparator.naturalOrder());
+		test.onSubscribe(Operators.emptySubscription());
+
+		assertThat(test.scan(Scannable.Attr.ACTUAL)).isSameAs(actual);
+		assertThat(test.scan(Scannable.Attr.TERMINATED)).isFalse();
+		assertThat(test.scan(Scannable.Attr.CANCELLED)).isFalse();
+
+		test.cancel();
+		assertThat(test.scan(Scannable.Attr.CANCELLED)).isTrue();
+	}
+}
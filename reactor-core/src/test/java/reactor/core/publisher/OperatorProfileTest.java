@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.Fuseable;
+import reactor.test.StepVerifier;
+import reactor.test.subscriber.AssertSubscriber;
+import reactor.test.util.RaceTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class OperatorProfileTest {
+
+	@AfterEach
+	void disableProfiling() {
+		Hooks.disableOperatorProfiling();
+		OperatorProfile.reset();
+	}
+
+	@Test
+	void profilesFollowTheTopology() {
+		Hooks.enableOperatorProfiling(1);
+
+		Flux.range(0, 100)
+		    .map(i -> i + 1)
+		    .filter(i -> i % 2 == 0)
+		    .blockLast();
+
+		assertThat(OperatorProfile.roots()).singleElement().satisfies(range -> {
+			assertThat(range.name()).isEqualTo("source(FluxRange)");
+			assertThat(range.parent()).isNull();
+			assertThat(range.subscriptions()).isOne();
+			assertThat(range.onNextCount()).isEqualTo(100);
+			assertThat(range.completions()).isOne();
+
+			assertThat(range.children()).singleElement().satisfies(map -> {
+				assertThat(map.name()).isEqualTo("map");
+				assertThat(map.parent()).isSameAs(range);
+				assertThat(map.onNextCount()).isEqualTo(100);
+				assertThat(map.meanOnNextNanos()).isPositive();
+
+				assertThat(map.children()).singleElement().satisfies(filter -> {
+					assertThat(filter.path()).isEqualTo("source(FluxRange)/map/filter");
+					assertThat(filter.onNextCount()).isEqualTo(50);
+					assertThat(filter.sampledOnNextCount()).isEqualTo(50);
+					assertThat(filter.unboundedRequests()).isOne();
+					assertThat(filter.children()).isEmpty();
+				});
+			});
+		});
+	}
+
+	@Test
+	void subscriptionsOfTheSameShapeShareProfiles() {
+		Hooks.enableOperatorProfiling(1);
+
+		Flux<Integer> flux = Flux.range(0, 10).map(i -> i);
+		flux.blockLast();
+		flux.blockLast();
+		Flux.range(0, 5).map(i -> i).blockLast();
+		Flux.range(0, 5).filter(i -> true).blockLast();
+
+		assertThat(OperatorProfile.roots()).singleElement().satisfies(range -> {
+			assertThat(range.subscriptions()).isEqualTo(4);
+			assertThat(range.onNextCount()).isEqualTo(30);
+			assertThat(range.children()).extracting(OperatorProfile::name)
+			                            .containsExactlyInAnyOrder("map", "filter");
+			assertThat(range.children()).filteredOn(p -> p.name().equals("map"))
+			                            .singleElement()
+			                            .satisfies(map -> assertThat(map.onNextCount()).isEqualTo(25));
+		});
+	}
+
+	@Test
+	void timingsAreSampled() {
+		Hooks.enableOperatorProfiling(10);
+
+		Flux.range(0, 95).map(i -> i).blockLast();
+
+		OperatorProfile map = OperatorProfile.roots().get(0).children().get(0);
+		assertThat(map.onNextCount()).isEqualTo(95);
+		assertThat(map.sampledOnNextCount()).isEqualTo(10);
+	}
+
+	@Test
+	void inclusiveTimeIsSplitBetweenOperators() {
+		Hooks.enableOperatorProfiling(1);
+
+		Flux.range(0, 20)
+		    .map(i -> {
+			    long deadline = System.nanoTime() + 200_000;
+			    while (System.nanoTime() < deadline) {
+				    Thread.onSpinWait();
+			    }
+			    return i;
+		    })
+		    .map(i -> i)
+		    .blockLast();
+
+		OperatorProfile range = OperatorProfile.roots().get(0);
+		OperatorProfile slowMap = range.children().get(0);
+		OperatorProfile fastMap = slowMap.children().get(0);
+
+		assertThat(range.meanOnNextNanos()).isGreaterThanOrEqualTo(200_000);
+		assertThat(range.meanSelfOnNextNanos()).isGreaterThanOrEqualTo(200_000);
+		assertThat(slowMap.meanSelfOnNextNanos()).isLessThan(range.meanSelfOnNextNanos());
+		assertThat(fastMap.meanOnNextNanos()).isLessThan(range.meanOnNextNanos());
+	}
+
+	@Test
+	void requestsAndCancellationsAreCounted() {
+		Hooks.enableOperatorProfiling(1);
+
+		StepVerifier.create(Flux.range(0, 100).map(i -> i), 3)
+		            .expectNextCount(3)
+		            .thenRequest(2)
+		            .expectNextCount(2)
+		            .thenCancel()
+		            .verify();
+
+		OperatorProfile map = OperatorProfile.roots().get(0).children().get(0);
+		assertThat(map.requestCount()).isEqualTo(2);
+		assertThat(map.requested()).isEqualTo(5);
+		assertThat(map.unboundedRequests()).isZero();
+		assertThat(map.onNextCount()).isEqualTo(5);
+		assertThat(map.cancellations()).isOne();
+		assertThat(map.completions()).isZero();
+	}
+
+	@Test
+	void cancellationFlushesValuesSinceLastSample() {
+		Hooks.enableOperatorProfiling(16);
+
+		Flux.range(0, 100)
+		    .map(i -> i)
+		    .take(5)
+		    .blockLast();
+
+		OperatorProfile map = OperatorProfile.roots().get(0).children().get(0);
+		assertThat(map.onNextCount()).isEqualTo(5);
+		assertThat(map.sampledOnNextCount()).isOne();
+		assertThat(map.cancellations()).isOne();
+	}
+
+	@Test
+	void cancellationRacingWithValuesCountsEachValueOnce() {
+		Hooks.enableOperatorProfiling(16);
+
+		long received = 0;
+		for (int i = 0; i < 100; i++) {
+			AssertSubscriber<Integer> subscriber = AssertSubscriber.create();
+			Sinks.Many<Integer> sink = Sinks.many().unicast().onBackpressureBuffer();
+			sink.asFlux().map(v -> v).subscribe(subscriber);
+
+			RaceTestUtils.race(() -> {
+				for (int v = 0; v < 100; v++) {
+					sink.tryEmitNext(v);
+				}
+			}, subscriber::cancel);
+			received += subscriber.values().size();
+		}
+
+		OperatorProfile map = OperatorProfile.roots().get(0).children().get(0);
+		assertThat(map.onNextCount()).isEqualTo(received);
+		assertThat(map.cancellations()).isEqualTo(100);
+	}
+
+	@Test
+	void errorsAreCounted() {
+		Hooks.enableOperatorProfiling(1);
+
+		StepVerifier.create(Flux.range(0, 10).map(i -> {
+			            if (i == 3) {
+				            throw new IllegalStateException("boom");
+			            }
+			            return i;
+		            }))
+		            .expectNext(0, 1, 2)
+		            .verifyErrorMessage("boom");
+
+		OperatorProfile map = OperatorProfile.roots().get(0).children().get(0);
+		assertThat(map.errors()).isOne();
+		assertThat(map.onNextCount()).isEqualTo(3);
+	}
+
+	@Test
+	void bufferedValuesAreSampled() {
+		Hooks.enableOperatorProfiling(1);
+
+		AssertSubscriber<Integer> subscriber = AssertSubscriber.create(0);
+		Flux.range(0, 10).onBackpressureBuffer().subscribe(subscriber);
+		subscriber.request(1);
+		subscriber.request(9);
+		subscriber.assertValueCount(10).assertComplete();
+
+		OperatorProfile buffer = OperatorProfile.roots().get(0).children().get(0);
+		assertThat(buffer.name()).isEqualTo("onBackpressureBuffer");
+		assertThat(buffer.maxBuffered()).isPositive();
+		assertThat(buffer.meanBuffered()).isPositive();
+	}
+
+	@Test
+	void profiledOperatorsAreNotFused() {
+		Hooks.enableOperatorProfiling();
+
+		StepVerifier.create(Flux.range(0, 3).map(i -> i))
+		            .expectNoFusionSupport()
+		            .expectNext(0, 1, 2)
+		            .verifyComplete();
+	}
+
+	@Test
+	void disablingOnlyAffectsNewPipelines() {
+		Hooks.enableOperatorProfiling(1);
+		Flux<Integer> profiled = Flux.range(0, 3).map(i -> i);
+		Hooks.disableOperatorProfiling();
+
+		Flux.range(0, 3).filter(i -> true).blockLast();
+		assertThat(OperatorProfile.roots()).isEmpty();
+
+		profiled.blockLast();
+		assertThat(OperatorProfile.describeAll())
+				.startsWith("source(FluxRange){subscriptions=1, onNext=3")
+				.contains("\n  map{subscriptions=1, onNext=3");
+	}
+
+	@Test
+	void resetForgetsProfiles() {
+		Hooks.enableOperatorProfiling();
+		Mono.just(1).map(i -> i).block();
+		assertThat(OperatorProfile.roots()).isNotEmpty();
+
+		OperatorProfile.reset();
+
+		assertThat(OperatorProfile.roots()).isEmpty();
+	}
+
+	@Test
+	void sampleRateMustBePositive() {
+		assertThatIllegalArgumentException().isThrownBy(() -> Hooks.enableOperatorProfiling(0));
+	}
+}
@@ -16,7 +16,10 @@
 
 package reactor.core.publisher;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Subscription;
@@ -24,6 +27,7 @@ import reactor.core.CoreSubscriber;
 import reactor.core.Scannable;
 import reactor.core.publisher.ParallelMergeSort.MergeSortInner;
 import reactor.core.publisher.ParallelMergeSort.MergeSortMain;
+import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static reactor.core.Scannable.Attr.RUN_STYLE;
@@ -31,6 +35,23 @@ import static reactor.core.Scannable.Attr.RunStyle.SYNC;
 
 public class ParallelMergeSortTest {
 
+	@Test
+	public void sortsManyRails() {
+		List<Integer> values = IntStream.range(0, 10_000)
+		                                .map(i -> (i * 7919) % 1000)
+		                                .boxed()
+		                                .collect(Collectors.toList());
+
+		StepVerifier.create(Flux.fromIterable(values)
+		                        .parallel(61)
+		                        .sorted(Comparator.naturalOrder()), 0)
+		            .thenRequest(10)
+		            .expectNext(0, 0, 0, 0, 0, 0, 0, 0, 0, 0)
+		            .thenRequest(Long.MAX_VALUE)
+		            .expectNextSequence(values.stream().sorted().skip(10).collect(Collectors.toList()))
+		            .verifyComplete();
+	}
+
 	@Test
 	public void scanOperator() {
 		ParallelFlux<List<Integer>> source = Flux.just(500, 300).buffer(1).parallel(10);
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.Scannable;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelTopKTest {
+
+	@Test
+	void mergesTopKOfEachRail() {
+		List<Integer> values = IntStream.range(0, 50_000).boxed().collect(Collectors.toList());
+		Collections.shuffle(values, new Random(42));
+
+		List<Integer> top = Flux.fromIterable(values)
+		                        .parallel(4)
+		                        .runOn(Schedulers.parallel())
+		                        .topK(100, Comparator.reverseOrder())
+		                        .collectList()
+		                        .block(Duration.ofSeconds(30));
+
+		assertThat(top).containsExactlyElementsOf(IntStream.range(0, 100)
+		                                                   .mapToObj(i -> 49_999 - i)
+		                                                   .collect(Collectors.toList()));
+	}
+
+	@Test
+	void railsWithFewerValuesThanK() {
+		StepVerifier.create(Flux.just(3, 1, 2)
+		                        .parallel(8)
+		                        .topK(2, Comparator.naturalOrder()))
+		            .expectNext(1, 2)
+		            .verifyComplete();
+
+		StepVerifier.create(Flux.<Integer>empty()
+		                        .parallel(2)
+		                        .topK(2, Comparator.naturalOrder()))
+		            .verifyComplete();
+	}
+
+	@Test
+	void scanOperator() {
+		ParallelFlux<Integer> source = Flux.just(1, 2).parallel(2);
+		ParallelTopK<Integer> test = new ParallelTopK<>(source, 3, Comparator.naturalOrder());
+
+		assertThat(test.scan(Scannable.Attr.PARENT)).isSameAs(source);
+		assertThat(test.scan(Scannable.Attr.PREFETCH)).isEqualTo(Integer.MAX_VALUE);
+		assertThat(test.scan(Scannable.Attr.RUN_STYLE)).isSameAs(Scannable.Attr.RunStyle.SYNC);
+		assertThat(test.parallelism()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class PrefetchStrategyTest {
+
+	@Test
+	public void fixedIsNotAdaptive() {
+		PrefetchStrategy fixed = PrefetchStrategy.fixed(32);
+
+		assertThat(fixed.isAdaptive()).isFalse();
+		assertThat(fixed.minPrefetch()).isEqualTo(32);
+		assertThat(fixed.maxPrefetch()).isEqualTo(32);
+		assertThat(fixed.newWindow()).isNull();
+		assertThat(fixed).hasToString("fixed(32)");
+		assertThat(PrefetchStrategy.adaptive(8, 8).isAdaptive()).isFalse();
+	}
+
+	@Test
+	public void rejectsInvalidBounds() {
+		assertThatIllegalArgumentException().isThrownBy(() -> PrefetchStrategy.fixed(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> PrefetchStrategy.adaptive(0, 8));
+		assertThatIllegalArgumentException().isThrownBy(() -> PrefetchStrategy.adaptive(8, 4))
+		                                    .withMessage("maxPrefetch >= minPrefetch required but it was 4");
+	}
+
+	@Test
+	public void windowGrowsUpToMaxWhenDrained() {
+		PrefetchStrategy.Window window = PrefetchStrategy.adaptive(4, 32).newWindow();
+		assertThat(window).isNotNull();
+		assertThat(window.size).isEqualTo(4);
+		assertThat(window.limit()).isEqualTo(3);
+
+		assertThat(window.replenish(3, 0)).isEqualTo(7);
+		assertThat(window.size).isEqualTo(8);
+		assertThat(window.replenish(window.limit(), 0)).isEqualTo(14);
+		assertThat(window.replenish(window.limit(), 0)).isEqualTo(28);
+		assertThat(window.size).isEqualTo(32);
+
+		assertThat(window.replenish(window.limit(), 0)).as("capped").isEqualTo(24);
+		assertThat(window.size).isEqualTo(32);
+	}
+
+	@Test
+	public void windowShrinksDownToMinWhenFull() {
+		PrefetchStrategy.Window window = PrefetchStrategy.adaptive(4, 64).newWindow();
+		assertThat(window).isNotNull();
+		window.size = 64;
+
+		assertThat(window.replenish(48, 16)).isEqualTo(16);
+		assertThat(window.size).isEqualTo(32);
+		assertThat(window.replenish(24, 8)).isEqualTo(8);
+		assertThat(window.size).isEqualTo(16);
+		assertThat(window.replenish(12, 4)).isEqualTo(4);
+		assertThat(window.replenish(6, 2)).isEqualTo(2);
+		assertThat(window.size).isEqualTo(4);
+
+		assertThat(window.replenish(3, 1)).as("bounded").isEqualTo(3);
+		assertThat(window.size).isEqualTo(4);
+	}
+
+	@Test
+	public void windowKeepsSizeWhenPartiallyDelivered() {
+		PrefetchStrategy.Window window = PrefetchStrategy.adaptive(4, 64).newWindow();
+		assertThat(window).isNotNull();
+		window.size = 16;
+
+		assertThat(window.replenish(12, 2)).isEqualTo(12);
+		assertThat(window.size).isEqualTo(16);
+	}
+}
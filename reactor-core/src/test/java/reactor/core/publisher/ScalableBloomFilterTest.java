@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScalableBloomFilterTest {
+
+	@Test
+	public void addedKeysAreRejected() {
+		ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+
+		for (int i = 0; i < 10_000; i++) {
+			filter.add("key" + i);
+		}
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(filter.add("key" + i)).as("key%d", i).isFalse();
+		}
+	}
+
+	@Test
+	public void falsePositiveRateStaysBelowFppWhenGrowing() {
+		ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+		for (int i = 0; i < 100_000; i++) {
+			filter.add(i);
+		}
+
+		int falsePositives = 0;
+		for (int i = 100_000; i < 200_000; i++) {
+			if (!filter.add(i)) {
+				falsePositives++;
+			}
+		}
+
+		assertThat(filter.stages).hasSizeGreaterThan(5);
+		assertThat(falsePositives).isLessThan(1_000);
+	}
+
+	@Test
+	public void usesFarLessMemoryThanKeys() {
+		ScalableBloomFilter filter = new ScalableBloomFilter(100_000, 0.01);
+		for (int i = 0; i < 100_000; i++) {
+			filter.add(i);
+		}
+
+		assertThat(filter.stages).hasSize(1);
+		assertThat(filter.bitSize() / 8).as("bytes").isLessThan(150_000);
+	}
+
+	@Test
+	public void keysWithSameHashCodeAreDistinguished() {
+		ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+
+		assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+		assertThat(filter.add("Aa")).isTrue();
+		assertThat(filter.add("BB")).isTrue();
+
+		long colliding = (1L << 32) | 1L;
+		assertThat(Long.hashCode(colliding)).isEqualTo(Long.hashCode(0L));
+		assertThat(filter.add(0L)).isTrue();
+		assertThat(filter.add(colliding)).isTrue();
+		assertThat(filter.add(new StringBuilder("Aa"))).as("same chars as a String").isFalse();
+	}
+
+	@Test
+	public void clearDropsGrownStages() {
+		ScalableBloomFilter filter = new ScalableBloomFilter(10, 0.1);
+		for (int i = 0; i < 1_000; i++) {
+			filter.add(i);
+		}
+		assertThat(filter.stages).hasSizeGreaterThan(1);
+
+		filter.clear();
+
+		assertThat(filter.stages).hasSize(1);
+		assertThat(filter.add(1)).isTrue();
+	}
+}
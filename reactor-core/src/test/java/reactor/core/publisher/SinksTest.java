@@ -18,7 +18,9 @@ package reactor.core.publisher;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -38,6 +40,7 @@ import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 import reactor.test.StepVerifierOptions;
 import reactor.test.subscriber.AssertSubscriber;
+import reactor.test.util.RaceTestUtils;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
@@ -109,6 +112,89 @@ class SinksTest {
 		}
 	}
 
+	@Nested
+	class MulticastMultiProducer {
+
+		final Supplier<Sinks.Many<Integer>> supplier = () -> Sinks.many().multicast().multiProducer(16);
+
+		@TestFactory
+		Stream<DynamicContainer> checkSemantics() {
+			return Stream.of(
+					expectMulticast(supplier, 16),
+					expectReplay(supplier, NONE)
+			);
+		}
+
+		@Test
+		void isNotSerialized() {
+			assertThat(Sinks.many().multicast().multiProducer())
+					.isNotInstanceOf(SinksSpecs.AbstractSerializedSink.class);
+		}
+
+		@Test
+		void concurrentEmissionsNeverFail() throws Exception {
+			int producers = 4;
+			int perProducer = 10_000;
+			Sinks.Many<Integer> sink = Sinks.many().multicast().multiProducer(producers * perProducer);
+			AssertSubscriber<Integer> subscriber = AssertSubscriber.create();
+			sink.asFlux().subscribe(subscriber);
+
+			ExecutorService executor = Executors.newFixedThreadPool(producers);
+			CountDownLatch start = new CountDownLatch(1);
+			try {
+				List<Future<List<Sinks.EmitResult>>> futures = new ArrayList<>();
+				for (int p = 0; p < producers; p++) {
+					int offset = p * perProducer;
+					futures.add(executor.submit(() -> {
+						List<Sinks.EmitResult> failures = new ArrayList<>();
+						start.await();
+						for (int i = 0; i < perProducer; i++) {
+							Sinks.EmitResult result = sink.tryEmitNext(offset + i);
+							if (result.isFailure()) {
+								failures.add(result);
+							}
+						}
+						return failures;
+					}));
+				}
+				start.countDown();
+				for (Future<List<Sinks.EmitResult>> future : futures) {
+					assertThat(future.get(10, TimeUnit.SECONDS)).isEmpty();
+				}
+			}
+			finally {
+				executor.shutdownNow();
+			}
+			assertThat(sink.tryEmitComplete()).isEqualTo(Sinks.EmitResult.OK);
+
+			subscriber.await(Duration.ofSeconds(5))
+			          .assertComplete()
+			          .assertValueCount(producers * perProducer);
+
+			int[] lastPerProducer = new int[producers];
+			Arrays.fill(lastPerProducer, -1);
+			for (int value : subscriber.values()) {
+				int p = value / perProducer;
+				assertThat(value).as("per producer order").isGreaterThan(lastPerProducer[p]);
+				lastPerProducer[p] = value;
+			}
+		}
+
+		@Test
+		void onlyOneConcurrentTerminationSucceeds() {
+			for (int i = 0; i < 100; i++) {
+				Sinks.Many<Integer> sink = Sinks.many().multicast().multiProducer();
+				List<Sinks.EmitResult> results = new CopyOnWriteArrayList<>();
+
+				RaceTestUtils.race(() -> results.add(sink.tryEmitComplete()),
+						() -> results.add(sink.tryEmitError(new IllegalStateException("boom"))));
+
+				assertThat(results).containsOnlyOnce(Sinks.EmitResult.OK)
+				                   .contains(Sinks.EmitResult.FAIL_TERMINATED);
+			}
+		}
+	}
+
 	@Nested
 	class MulticastReplayAll {
 
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.publisher;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class SpillingQueueTest {
+
+	@TempDir
+	Path directory;
+
+	SpillSpec<String> spec() {
+		return SpillSpec.spillTo(directory,
+				s -> s.getBytes(StandardCharsets.UTF_8),
+				b -> new String(b, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void keepsOrderAcrossMemoryAndSegments() {
+		SpillingQueue<String> queue = new SpillingQueue<>(spec().inMemoryCapacity(3).segmentSize(16));
+		List<String> polled = new ArrayList<>();
+
+		for (int i = 0; i < 20; i++) {
+			queue.offer("v" + i);
+			if (i % 3 == 0) {
+				polled.add(queue.poll());
+			}
+		}
+		assertThat(queue.size()).isEqualTo(13);
+		assertThat(queue.memory.size()).isZero();
+		assertThat(queue.segments).hasSizeGreaterThan(1);
+		assertThat(queue.peek()).isEqualTo("v7");
+
+		String v;
+		while ((v = queue.poll()) != null) {
+			polled.add(v);
+		}
+
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			expected.add("v" + i);
+		}
+		assertThat(polled).containsExactlyElementsOf(expected);
+		assertThat(queue.isEmpty()).isTrue();
+		assertThat(queue.segments).isEmpty();
+	}
+
+	@Test
+	public void backToMemoryOnceSpilledAreConsumed() {
+		SpillingQueue<String> queue = new SpillingQueue<>(spec().inMemoryCapacity(1));
+
+		queue.offer("a");
+		queue.offer("b");
+		assertThat(queue.spilled).isEqualTo(1);
+
+		assertThat(queue.poll()).isEqualTo("a");
+		queue.offer("c");
+		assertThat(queue.spilled).as("spills while older elements are on disk").isEqualTo(2);
+
+		assertThat(queue.poll()).isEqualTo("b");
+		assertThat(queue.poll()).isEqualTo("c");
+		queue.offer("d");
+		assertThat(queue.spilled).isZero();
+		assertThat(queue.memory.size()).isOne();
+		assertThat(queue.memory.peek()).isEqualTo("d");
+	}
+
+	@Test
+	public void reusesSegmentsOnceRead() {
+		SpillingQueue<String> queue = new SpillingQueue<>(spec().inMemoryCapacity(0).segmentSize(10));
+
+		queue.offer("a");
+		SpillingQueue.Segment first = queue.segments.peekFirst();
+		assertThat(queue.poll()).isEqualTo("a");
+		assertThat(queue.segments).isEmpty();
+		assertThat(queue.spilling).isFalse();
+
+		queue.offer("b");
+		assertThat(queue.segments).containsExactly(first);
+
+		// "b", "c" fill the first segment, "d" needs another one
+		queue.offer("c");
+		queue.offer("d");
+		assertThat(queue.segments).hasSize(2);
+		SpillingQueue.Segment second = queue.segments.peekLast();
+
+		assertThat(queue.poll()).isEqualTo("b");
+		assertThat(queue.poll()).isEqualTo("c");
+		assertThat(queue.spare).as("read segment kept as spare").isSameAs(first);
+
+		queue.offer("e");
+		queue.offer("f");
+		assertThat(queue.segments).containsExactly(second, first);
+		assertThat(queue.spare).isNull();
+
+		assertThat(queue.poll()).isEqualTo("d");
+		assertThat(queue.poll()).isEqualTo("e");
+		assertThat(queue.poll()).isEqualTo("f");
+		assertThat(queue.poll()).isNull();
+	}
+
+	@Test
+	public void concurrentProducerAndConsumerKeepOrder() throws InterruptedException {
+		SpillingQueue<String> queue = new SpillingQueue<>(spec().inMemoryCapacity(16).segmentSize(256));
+		int count = 100_000;
+		Thread producer = new Thread(() -> {
+			for (int i = 0; i < count; i++) {
+				queue.offer(Integer.toString(i));
+			}
+		});
+		producer.start();
+
+		int expected = 0;
+		while (expected < count) {
+			String v = queue.poll();
+			if (v == null) {
+				Thread.yield();
+				continue;
+			}
+			assertThat(v).isEqualTo(Integer.toString(expected));
+			expected++;
+		}
+		producer.join();
+		assertThat(queue.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void largeElementGetsOwnSegment() {
+		SpillingQueue<String> queue = new SpillingQueue<>(spec().inMemoryCapacity(0).segmentSize(8));
+		StringBuilder large = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			large.append(i);
+		}
+
+		queue.offer("x");
+		queue.offer(large.toString());
+		queue.offer("y");
+
+		assertThat(queue.segments).hasSize(3);
+		assertThat(queue.poll()).isEqualTo("x");
+		assertThat(queue.poll()).isEqualTo(large.toString());
+		assertThat(queue.poll()).isEqualTo("y");
+		assertThat(queue.poll()).isNull();
+	}
+
+	@Test
+	public void clearReleasesSegments() {
+		SpillingQueue<String> queue = new SpillingQueue<>(spec().inMemoryCapacity(2));
+		for (int i = 0; i < 10; i++) {
+			queue.offer("v" + i);
+		}
+
+		queue.clear();
+
+		assertThat(queue.isEmpty()).isTrue();
+		assertThat(queue.segments).isEmpty();
+		assertThat(queue.spare).isNull();
+		assertThat(queue.poll()).isNull();
+	}
+
+	@Test
+	public void invalidSpec() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> spec().inMemoryCapacity(-1));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> spec().segmentSize(0));
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> SpillSpec.spillTo(directory, null, b -> b));
+	}
+}
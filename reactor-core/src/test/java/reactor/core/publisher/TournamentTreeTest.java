@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class TournamentTreeTest {
+
+	@Test
+	void emptyTreeHasNoWinner() {
+		TournamentTree<Integer> tree = new TournamentTree<>(0, Comparator.naturalOrder());
+
+		assertThat(tree.size()).isZero();
+		assertThat(tree.winner()).isEqualTo(-1);
+	}
+
+	@Test
+	void sourcesWithoutHeadNeverWin() {
+		TournamentTree<Integer> tree = new TournamentTree<>(3, Comparator.naturalOrder());
+		assertThat(tree.winner()).isEqualTo(-1);
+
+		tree.set(2, 5);
+		assertThat(tree.winner()).isEqualTo(2);
+
+		tree.set(1, 7);
+		assertThat(tree.winner()).isEqualTo(2);
+
+		tree.set(2, null);
+		assertThat(tree.winner()).isEqualTo(1);
+		assertThat(tree.head(1)).isEqualTo(7);
+
+		tree.clear();
+		assertThat(tree.winner()).isEqualTo(-1);
+		assertThat(tree.head(1)).isNull();
+	}
+
+	@Test
+	void equalHeadsAreWonByLowestIndex() {
+		TournamentTree<Integer> tree = new TournamentTree<>(5, Comparator.naturalOrder());
+		for (int i = 4; i >= 0; i--) {
+			tree.load(i, 1);
+		}
+		tree.build();
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(tree.winner()).isEqualTo(i);
+			tree.set(i, null);
+		}
+		assertThat(tree.winner()).isEqualTo(-1);
+	}
+
+	@Test
+	void matchesLinearScanForAnySize() {
+		Random random = new Random(42);
+		for (int n = 1; n <= 70; n++) {
+			TournamentTree<Integer> tree = new TournamentTree<>(n, Comparator.naturalOrder());
+			Integer[] heads = new Integer[n];
+			for (int round = 0; round < 500; round++) {
+				int index = random.nextInt(n);
+				Integer value = random.nextInt(5) == 0 ? null : random.nextInt(20);
+				heads[index] = value;
+				tree.set(index, value);
+
+				assertThat(tree.winner()).as("n=%d round=%d", n, round).isEqualTo(linearScan(heads));
+			}
+		}
+	}
+
+	@Test
+	void comparatorErrorPropagates() {
+		TournamentTree<Integer> tree = new TournamentTree<>(2, (a, b) -> {
+			throw new IllegalStateException("boom");
+		});
+		tree.set(0, 1);
+
+		assertThatIllegalStateException().isThrownBy(() -> tree.set(1, 2))
+		                                 .withMessage("boom");
+	}
+
+	static int linearScan(Integer[] heads) {
+		int min = -1;
+		for (int i = 0; i < heads.length; i++) {
+			if (heads[i] != null && (min < 0 || heads[min] > heads[i])) {
+				min = i;
+			}
+		}
+		return min;
+	}
+}
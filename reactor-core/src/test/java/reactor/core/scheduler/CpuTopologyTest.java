@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.scheduler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class CpuTopologyTest {
+
+	@TempDir
+	Path sys;
+
+	@Test
+	void parseCpuList() {
+		assertThat(CpuTopology.parseCpuList("0-3,8,10-11")).isEqualTo(cpus(0, 1, 2, 3, 8, 10, 11));
+		assertThat(CpuTopology.parseCpuList("5")).isEqualTo(cpus(5));
+		assertThat(CpuTopology.parseCpuList("").isEmpty()).isTrue();
+	}
+
+	@Test
+	void readNumaNodes() throws IOException {
+		write("node/node0/cpulist", "0-1,4-5");
+		write("node/node1/cpulist", "2-3,6-7");
+		write("node/node2/cpulist", "");
+		write("node/node10/cpulist", "8");
+		write("cpu/cpu0/topology/physical_package_id", "0");
+
+		CpuTopology topology = CpuTopology.read(sys);
+
+		assertThat(topology.nodeCount()).isEqualTo(3);
+		assertThat(topology.cpus(0)).isEqualTo(cpus(0, 1, 4, 5));
+		assertThat(topology.cpus(1)).isEqualTo(cpus(2, 3, 6, 7));
+		assertThat(topology.cpus(2)).as("sorted numerically").isEqualTo(cpus(8));
+	}
+
+	@Test
+	void readPackagesWithoutNumaNodes() throws IOException {
+		write("cpu/cpu0/topology/physical_package_id", "0");
+		write("cpu/cpu1/topology/physical_package_id", "1");
+		write("cpu/cpu2/topology/physical_package_id", "0");
+		write("cpu/cpu3/topology/physical_package_id", "1");
+		write("cpu/cpufreq/boost", "1");
+
+		CpuTopology topology = CpuTopology.read(sys);
+
+		assertThat(topology.nodeCount()).isEqualTo(2);
+		assertThat(topology.cpus(0)).isEqualTo(cpus(0, 2));
+		assertThat(topology.cpus(1)).isEqualTo(cpus(1, 3));
+	}
+
+	@Test
+	void singleNodeWhenUnreadable() {
+		CpuTopology topology = CpuTopology.read(sys.resolve("missing"));
+
+		assertThat(topology.nodeCount()).isOne();
+		assertThat(topology.cpus(0).cardinality()).isEqualTo(Runtime.getRuntime().availableProcessors());
+	}
+
+	@Test
+	void detectIsCached() {
+		assertThat(CpuTopology.detect()).isSameAs(CpuTopology.detect());
+		assertThat(CpuTopology.detect().nodeCount()).isPositive();
+	}
+
+	@Test
+	void nodeOfSpreadsWorkersInContiguousBlocks() {
+		CpuTopology topology = CpuTopology.of(cpus(0), cpus(1));
+
+		assertThat(topology.nodeOf(0, 4)).isZero();
+		assertThat(topology.nodeOf(1, 4)).isZero();
+		assertThat(topology.nodeOf(2, 4)).isOne();
+		assertThat(topology.nodeOf(3, 4)).isOne();
+		assertThat(topology.nodeOf(0, 1)).isZero();
+		assertThat(topology.nodeOf(2, 3)).isOne();
+	}
+
+	@Test
+	void ofCopiesAndRejectsEmptySets() {
+		BitSet node = cpus(0, 1);
+		CpuTopology topology = CpuTopology.of(node);
+		node.clear();
+		topology.cpus(0).clear();
+
+		assertThat(topology.cpus(0)).isEqualTo(cpus(0, 1));
+		assertThatIllegalArgumentException().isThrownBy(CpuTopology::of);
+		assertThatIllegalArgumentException().isThrownBy(() -> CpuTopology.of(new BitSet()));
+	}
+
+	void write(String file, String content) throws IOException {
+		Path path = sys.resolve(file);
+		Files.createDirectories(path.getParent());
+		Files.write(path, (content + "\n").getBytes(StandardCharsets.US_ASCII));
+	}
+
+	static BitSet cpus(int... cpus) {
+		BitSet set = new BitSet();
+		for (int cpu : cpus) {
+			set.set(cpu);
+		}
+		return set;
+	}
+}
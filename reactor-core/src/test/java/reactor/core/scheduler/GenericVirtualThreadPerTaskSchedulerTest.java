@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.scheduler;
+
+import org.assertj.core.api.Assumptions;
+
+class GenericVirtualThreadPerTaskSchedulerTest extends AbstractSchedulerTest {
+
+	@Override
+	protected VirtualThreadPerTaskScheduler scheduler() {
+		VirtualThreadPerTaskScheduler test = freshScheduler();
+		test.init();
+		return test;
+	}
+
+	@Override
+	protected VirtualThreadPerTaskScheduler freshScheduler() {
+		Assumptions.assumeThat(GenericBoundedElasticThreadPerTaskSchedulerTest.SUPPORTED).isTrue();
+		return new VirtualThreadPerTaskScheduler(4,
+				new VirtualThreadFactory(
+						"virtualThreadPerTaskSchedulerTest", false,
+						Schedulers::defaultUncaughtException));
+	}
+
+	@Override
+	protected boolean shouldCheckInterrupted() {
+		return true;
+	}
+
+	@Override
+	protected boolean shouldCheckSupportRestart() {
+		return false;
+	}
+}
@@ -17,7 +17,11 @@
 package reactor.core.scheduler;
 
 import java.time.Duration;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
@@ -278,4 +282,110 @@ public class ParallelSchedulerTest extends AbstractSchedulerTest {
 							assertThat(e.isTerminated()).isFalse();
 						}));
 	}
+
+	@Test
+	void affinityWorkersAreBoundToTheCpusOfTheirNode() throws InterruptedException {
+		BitSet node0 = new BitSet();
+		node0.set(0, 2);
+		BitSet node1 = new BitSet();
+		node1.set(2, 4);
+		Map<String, BitSet> bindings = new ConcurrentHashMap<>();
+		Scheduler scheduler = afterTest.autoDispose(Schedulers.newAffinityParallel(4,
+				new ReactorThreadFactory("affinity", new AtomicLong(), true, true, null),
+				CpuTopology.of(node0, node1),
+				cpus -> bindings.put(Thread.currentThread().getName(), cpus)));
+
+		Map<Integer, String> threads = new ConcurrentHashMap<>();
+		CountDownLatch latch = new CountDownLatch(4);
+		for (int i = 0; i < 4; i++) {
+			int index = i;
+			scheduler.createWorker(i, 4).schedule(() -> {
+				threads.put(index, Thread.currentThread().getName());
+				latch.countDown();
+			});
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(threads.values()).doesNotHaveDuplicates();
+		assertThat(bindings.get(threads.get(0))).isEqualTo(node0);
+		assertThat(bindings.get(threads.get(1))).isEqualTo(node0);
+		assertThat(bindings.get(threads.get(2))).isEqualTo(node1);
+		assertThat(bindings.get(threads.get(3))).isEqualTo(node1);
+		assertThat(scheduler).hasToString("affinityParallel(4,\"affinity\",nodes=2)");
+	}
+
+	@Test
+	void indexedWorkersAreStable() throws InterruptedException {
+		Scheduler scheduler = afterTest.autoDispose(Schedulers.newAffinityParallel("indexedWorkersAreStable", 4));
+
+		for (int count : new int[] {2, 4, 8}) {
+			for (int i = 0; i < count; i++) {
+				assertThat(threadOf(scheduler.createWorker(i, count)))
+						.as("worker %d of %d", i, count)
+						.isEqualTo(threadOf(scheduler.createWorker(i, count)))
+						.isEqualTo(threadOf(scheduler.createWorker((int) ((long) i * 4 / count), 4)));
+			}
+		}
+		assertThat(threadOf(scheduler.createWorker(0, 8)))
+				.isEqualTo(threadOf(scheduler.createWorker(1, 8)))
+				.isNotEqualTo(threadOf(scheduler.createWorker(2, 8)));
+	}
+
+	@Test
+	void railsRunOnTheSameThreadsOnEachSubscription() {
+		Scheduler scheduler = afterTest.autoDispose(Schedulers.newAffinityParallel("railsRunOnTheSameThreads", 4));
+		// shifts the round-robin index used by createWorker()
+		scheduler.createWorker().dispose();
+
+		Flux<String> railThreads = Flux.range(0, 400)
+		                               .parallel(4)
+		                               .runOn(scheduler)
+		                               .map(i -> i % 4 + "@" + Thread.currentThread().getName())
+		                               .sequential()
+		                               .distinct();
+
+		Set<String> first = new HashSet<>(railThreads.collectList().block(Duration.ofSeconds(5)));
+		scheduler.createWorker().dispose();
+		Set<String> second = new HashSet<>(railThreads.collectList().block(Duration.ofSeconds(5)));
+
+		assertThat(first).hasSize(4).isEqualTo(second);
+	}
+
+	@Test
+	void concurrentRunOnSpreadOverWorkersWithoutTopology() {
+		Scheduler scheduler = afterTest.autoDispose(Schedulers.newParallel("concurrentRunOnSpread", 8));
+
+		Flux<String> railThreads = Flux.range(0, 200)
+		                               .parallel(2)
+		                               .runOn(scheduler)
+		                               .map(i -> Thread.currentThread().getName())
+		                               .sequential()
+		                               .distinct();
+
+		Set<String> threads = Mono.zip(railThreads.collectList(), railThreads.collectList(),
+				(first, second) -> {
+					Set<String> all = new HashSet<>(first);
+					all.addAll(second);
+					return all;
+				})
+		                          .block(Duration.ofSeconds(5));
+
+		assertThat(threads).hasSize(4);
+	}
+
+	static String threadOf(Scheduler.Worker worker) throws InterruptedException {
+		try {
+			String[] name = new String[1];
+			CountDownLatch latch = new CountDownLatch(1);
+			worker.schedule(() -> {
+				name[0] = Thread.currentThread().getName();
+				latch.countDown();
+			});
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+			return name[0];
+		}
+		finally {
+			worker.dispose();
+		}
+	}
 }
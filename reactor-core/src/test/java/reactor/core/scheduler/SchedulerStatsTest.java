@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import reactor.core.Disposable;
+import reactor.core.Scannable;
+import reactor.test.AutoDisposingExtension;
+import reactor.test.ParameterizedTestWithName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SchedulerStatsTest {
+
+	@RegisterExtension
+	AutoDisposingExtension afterTest = new AutoDisposingExtension();
+
+	@BeforeEach
+	void enableStats() {
+		Schedulers.enableStats();
+	}
+
+	@AfterEach
+	void disableStats() {
+		Schedulers.disableStats();
+	}
+
+	Scheduler scheduler(String type) {
+		switch (type) {
+			case "parallel":
+				return afterTest.autoDispose(Schedulers.newParallel("statsTest", 2));
+			case "single":
+				return afterTest.autoDispose(Schedulers.newSingle("statsTest"));
+			default:
+				return afterTest.autoDispose(Schedulers.newBoundedElastic(2, 100, "statsTest"));
+		}
+	}
+
+	static SchedulerStats stats(Scheduler scheduler) {
+		SchedulerStats stats = Scannable.from(scheduler).scan(Scannable.Attr.SCHEDULER_STATS);
+		assertThat(stats).as("stats of " + scheduler).isNotNull();
+		return stats;
+	}
+
+	@Test
+	void noStatsWhenDisabled() {
+		Schedulers.disableStats();
+
+		assertThat(Scannable.from(scheduler("parallel")).scan(Scannable.Attr.SCHEDULER_STATS)).isNull();
+		assertThat(Scannable.from(scheduler("single")).scan(Scannable.Attr.SCHEDULER_STATS)).isNull();
+		assertThat(Scannable.from(scheduler("boundedElastic")).scan(Scannable.Attr.SCHEDULER_STATS)).isNull();
+	}
+
+	@ParameterizedTestWithName
+	@ValueSource(strings = {"parallel", "single", "boundedElastic"})
+	void countsAndTimesDirectAndWorkerTasks(String type) throws InterruptedException {
+		Scheduler scheduler = scheduler(type);
+		SchedulerStats stats = stats(scheduler);
+		CountDownLatch latch = new CountDownLatch(4);
+
+		scheduler.schedule(latch::countDown);
+		scheduler.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS);
+		Scheduler.Worker worker = afterTest.autoDispose(scheduler.createWorker());
+		worker.schedule(latch::countDown);
+		worker.schedule(() -> {
+			latch.countDown();
+			throw new IllegalStateException("boom");
+		});
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		Awaitility.await().atMost(Duration.ofSeconds(5))
+		          .untilAsserted(() -> assertThat(stats.completed()).isEqualTo(4));
+
+		assertThat(stats.submitted()).isEqualTo(4);
+		assertThat(stats.failed()).isOne();
+		assertThat(stats.rejected()).isZero();
+		assertThat(stats.busyWorkers()).isZero();
+		assertThat(stats.queueTime().count()).isEqualTo(4);
+		assertThat(stats.executionTime().count()).isEqualTo(4);
+		assertThat(stats.executionTime().totalNanos()).isPositive();
+	}
+
+	@ParameterizedTestWithName
+	@ValueSource(strings = {"parallel", "single", "boundedElastic"})
+	void busyWorkersAndPendingTasks(String type) throws InterruptedException {
+		Scheduler scheduler = scheduler(type);
+		SchedulerStats stats = stats(scheduler);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Scheduler.Worker worker = afterTest.autoDispose(scheduler.createWorker());
+
+		worker.schedule(() -> {
+			started.countDown();
+			try {
+				release.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		worker.schedule(() -> {});
+		worker.schedule(() -> {});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(stats.busyWorkers()).isOne();
+		assertThat(stats.pending()).isEqualTo(2);
+		if (type.equals("parallel")) {
+			assertThat(stats.idleWorkers()).isOne();
+		}
+		else {
+			// single has a single thread, boundedElastic only starts the needed ones
+			assertThat(stats.idleWorkers()).isZero();
+		}
+
+		release.countDown();
+		Awaitility.await().atMost(Duration.ofSeconds(5))
+		          .untilAsserted(() -> assertThat(stats.completed()).isEqualTo(3));
+		assertThat(stats.busyWorkers()).isZero();
+		assertThat(stats.pending()).isZero();
+	}
+
+	@ParameterizedTestWithName
+	@ValueSource(strings = {"parallel", "single", "boundedElastic"})
+	void countsRejections(String type) {
+		Scheduler scheduler = scheduler(type);
+		SchedulerStats stats = stats(scheduler);
+		Scheduler.Worker worker = scheduler.createWorker();
+		worker.dispose();
+
+		assertThatExceptionOfType(RejectedExecutionException.class)
+				.isThrownBy(() -> worker.schedule(() -> {}));
+		scheduler.dispose();
+		assertThatExceptionOfType(RejectedExecutionException.class)
+				.isThrownBy(() -> scheduler.schedule(() -> {}));
+
+		assertThat(stats.rejected()).isEqualTo(2);
+		assertThat(stats.idleWorkers()).isZero();
+	}
+
+	@Test
+	void periodicTasksCountEachExecution() {
+		Scheduler scheduler = scheduler("parallel");
+		SchedulerStats stats = stats(scheduler);
+
+		Disposable periodic = scheduler.schedulePeriodically(() -> {}, 0, 5, TimeUnit.MILLISECONDS);
+		Disposable workerPeriodic = afterTest.autoDispose(scheduler.createWorker())
+		                                     .schedulePeriodically(() -> {}, 0, 5, TimeUnit.MILLISECONDS);
+		try {
+			Awaitility.await().atMost(Duration.ofSeconds(5))
+			          .untilAsserted(() -> assertThat(stats.completed()).isGreaterThanOrEqualTo(6));
+		}
+		finally {
+			periodic.dispose();
+			workerPeriodic.dispose();
+		}
+
+		assertThat(stats.submitted()).isEqualTo(2);
+		assertThat(stats.queueTime().count()).isGreaterThanOrEqualTo(6);
+		// late executions are only delayed by the previous one, not by the whole period
+		assertThat(stats.queueTime().percentileNanos(0.5)).isLessThan(TimeUnit.MILLISECONDS.toNanos(5));
+	}
+
+	@Test
+	void statsSurviveRestart() throws InterruptedException {
+		Scheduler scheduler = scheduler("single");
+		SchedulerStats stats = stats(scheduler);
+		CountDownLatch latch = new CountDownLatch(1);
+
+		scheduler.dispose();
+		scheduler.start();
+		scheduler.schedule(latch::countDown);
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(stats(scheduler)).isSameAs(stats);
+		assertThat(stats.submitted()).isOne();
+	}
+
+	@Test
+	void histogramBuckets() {
+		SchedulerStats.Histogram histogram = new SchedulerStats.Histogram();
+
+		assertThat(SchedulerStats.Histogram.bucketIndex(0)).isZero();
+		assertThat(SchedulerStats.Histogram.bucketIndex(1023)).isZero();
+		assertThat(SchedulerStats.Histogram.bucketIndex(1024)).isOne();
+		assertThat(SchedulerStats.Histogram.bucketIndex(2047)).isOne();
+		assertThat(SchedulerStats.Histogram.bucketIndex(2048)).isEqualTo(2);
+		assertThat(SchedulerStats.Histogram.bucketIndex(Long.MAX_VALUE)).isEqualTo(31);
+		assertThat(histogram.bucketUpperBoundNanos(0)).isEqualTo(1024);
+		assertThat(histogram.bucketUpperBoundNanos(30)).isEqualTo(1L << 40);
+		assertThat(histogram.bucketUpperBoundNanos(31)).isEqualTo(Long.MAX_VALUE);
+
+		assertThat(histogram.percentileNanos(0.99)).isZero();
+		for (int i = 0; i < 98; i++) {
+			histogram.record(500);
+		}
+		histogram.record(3_000);
+		histogram.record(-1);
+
+		assertThat(histogram.count()).isEqualTo(100);
+		assertThat(histogram.totalNanos()).isEqualTo(98 * 500 + 3_000);
+		assertThat(histogram.bucketCounts()[0]).isEqualTo(99);
+		assertThat(histogram.bucketCounts()[2]).isOne();
+		assertThat(histogram.percentileNanos(0.5)).isEqualTo(1024);
+		assertThat(histogram.percentileNanos(0.99)).isEqualTo(1024);
+		assertThat(histogram.percentileNanos(1)).isEqualTo(4096);
+		assertThatIllegalArgumentException().isThrownBy(() -> histogram.percentileNanos(1.5));
+	}
+}
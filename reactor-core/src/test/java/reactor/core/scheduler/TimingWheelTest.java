@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.AutoDisposingExtension;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class TimingWheelTest {
+
+	@RegisterExtension
+	public AutoDisposingExtension afterTest = new AutoDisposingExtension();
+
+	TimingWheel wheel(long tickMillis, int ticksPerWheel) {
+		TimingWheel wheel = new TimingWheel(tickMillis, TimeUnit.MILLISECONDS, ticksPerWheel,
+				new ReactorThreadFactory("TimingWheelTest", TimingWheel.COUNTER, true, true,
+						Schedulers::defaultUncaughtException));
+		afterTest.autoDispose(wheel::shutdown);
+		return wheel;
+	}
+
+	@AfterEach
+	void disableTimingWheel() {
+		Schedulers.disableTimingWheel();
+	}
+
+	@Test
+	public void invalidArguments() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> Schedulers.enableTimingWheel(Duration.ZERO, 512));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> Schedulers.enableTimingWheel(Duration.ofMillis(1), 0));
+	}
+
+	@Test
+	public void ticksPerWheelRoundedToPowerOfTwo() {
+		assertThat(wheel(1, 100).buckets).hasSize(128);
+	}
+
+	@Test
+	@Timeout(10)
+	public void timeoutsExpireInDeadlineOrder() throws InterruptedException {
+		TimingWheel wheel = wheel(1, 8);
+		List<Integer> seen = new CopyOnWriteArrayList<>();
+		CountDownLatch done = new CountDownLatch(3);
+
+		//the wheel covers 8ms, these deadlines need several revolutions
+		assertThat(wheel.add(wheel.newTimeout(() -> { seen.add(3); done.countDown(); }, 150, TimeUnit.MILLISECONDS))).isTrue();
+		assertThat(wheel.add(wheel.newTimeout(() -> { seen.add(1); done.countDown(); }, 50, TimeUnit.MILLISECONDS))).isTrue();
+		assertThat(wheel.add(wheel.newTimeout(() -> { seen.add(2); done.countDown(); }, 100, TimeUnit.MILLISECONDS))).isTrue();
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(seen).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	@Timeout(10)
+	public void timeoutNeverExpiresEarly() throws InterruptedException {
+		TimingWheel wheel = wheel(5, 4);
+		for (int i = 0; i < 20; i++) {
+			CountDownLatch done = new CountDownLatch(1);
+			long delay = 7 + i * 3;
+			long start = System.nanoTime();
+			long[] end = new long[1];
+			wheel.add(wheel.newTimeout(() -> {
+				end[0] = System.nanoTime();
+				done.countDown();
+			}, delay, TimeUnit.MILLISECONDS));
+
+			assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(end[0] - start)
+					.as("delay of %dms", delay)
+					.isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(delay));
+		}
+	}
+
+	@Test
+	@Timeout(10)
+	public void cancelledTimeoutDoesntExpire() throws InterruptedException {
+		TimingWheel wheel = wheel(1, 8);
+		AtomicInteger runs = new AtomicInteger();
+
+		TimingWheel.Timeout timeout = wheel.newTimeout(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+		wheel.add(timeout);
+		assertThat(timeout.cancel(false)).isTrue();
+		assertThat(timeout.isCancelled()).isTrue();
+		assertThat(timeout.isDone()).isTrue();
+		assertThat(timeout.cancel(false)).as("second cancel").isFalse();
+
+		CountDownLatch after = new CountDownLatch(1);
+		wheel.add(wheel.newTimeout(after::countDown, 40, TimeUnit.MILLISECONDS));
+		assertThat(after.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(runs).hasValue(0);
+		assertThat(wheel.activeTimeouts).isZero();
+	}
+
+	@Test
+	@Timeout(10)
+	public void manyCancelledTimeoutsAreRemoved() throws InterruptedException {
+		TimingWheel wheel = wheel(1, 64);
+		AtomicInteger runs = new AtomicInteger();
+
+		for (int i = 0; i < 10_000; i++) {
+			TimingWheel.Timeout timeout = wheel.newTimeout(runs::incrementAndGet, 1 + (i % 100), TimeUnit.MILLISECONDS);
+			wheel.add(timeout);
+			if (i % 2 == 0) {
+				timeout.cancel(false);
+			}
+		}
+
+		CountDownLatch after = new CountDownLatch(1);
+		wheel.add(wheel.newTimeout(after::countDown, 200, TimeUnit.MILLISECONDS));
+		assertThat(after.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(runs).hasValue(5_000);
+	}
+
+	@Test
+	@Timeout(10)
+	public void shutdownExpiresPendingTimeoutsThenTerminates() throws InterruptedException {
+		TimingWheel wheel = wheel(1, 8);
+		CountDownLatch done = new CountDownLatch(1);
+		assertThat(wheel.add(wheel.newTimeout(done::countDown, 50, TimeUnit.MILLISECONDS))).isTrue();
+
+		wheel.shutdown();
+		assertThat(wheel.add(wheel.newTimeout(() -> { }, 1, TimeUnit.MILLISECONDS)))
+				.as("rejected after shutdown")
+				.isFalse();
+		assertThat(wheel.isTerminated()).isFalse();
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		wheel.thread.join(5000);
+		assertThat(wheel.isTerminated()).isTrue();
+	}
+
+	@Test
+	@Timeout(10)
+	public void idleWheelTerminatesOnShutdown() throws InterruptedException {
+		TimingWheel wheel = wheel(1, 8);
+		wheel.shutdown();
+		wheel.thread.join(5000);
+		assertThat(wheel.isTerminated()).isTrue();
+	}
+
+	@Test
+	public void parallelSchedulerUsesTimingWheel() {
+		Schedulers.enableTimingWheel();
+		Scheduler s = afterTest.autoDispose(Schedulers.newParallel("delayed", 2));
+		long start = System.nanoTime();
+
+		StepVerifier.create(Mono.delay(Duration.ofMillis(100), s)
+		                        .map(v -> Thread.currentThread().getName()))
+		            .assertNext(name -> assertThat(name).startsWith("delayed-"))
+		            .verifyComplete();
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+				.isGreaterThanOrEqualTo(100L);
+	}
+
+	@Test
+	public void delayedTasksArePendingOnTimingWheel() {
+		Schedulers.enableTimingWheel();
+		Scheduler parallel = afterTest.autoDispose(Schedulers.newParallel("delayed", 2));
+		Scheduler.Worker worker = afterTest.autoDispose(parallel.createWorker());
+		Scheduler boundedElastic = afterTest.autoDispose(Schedulers.newBoundedElastic(2, 10, "delayed"));
+
+		SchedulerTask direct = (SchedulerTask) afterTest.autoDispose(parallel.schedule(() -> { }, 1, TimeUnit.SECONDS));
+		WorkerTask onWorker = (WorkerTask) afterTest.autoDispose(worker.schedule(() -> { }, 1, TimeUnit.SECONDS));
+		SchedulerTask onBoundedElastic = (SchedulerTask) afterTest.autoDispose(boundedElastic.schedule(() -> { }, 1, TimeUnit.SECONDS));
+
+		assertThat(direct.future).isInstanceOf(TimingWheel.Timeout.class);
+		assertThat(onWorker.future).isInstanceOf(TimingWheel.Timeout.class);
+		assertThat(onBoundedElastic.future)
+				.as("boundedElastic keeps delayed tasks in its own queue")
+				.isNotInstanceOf(TimingWheel.Timeout.class);
+	}
+
+	@Test
+	@Timeout(10)
+	public void disposedDelayedTaskIsCancelledOnTimingWheel() throws InterruptedException {
+		Schedulers.enableTimingWheel();
+		Scheduler s = afterTest.autoDispose(Schedulers.newSingle("timingWheel"));
+		Scheduler.Worker worker = afterTest.autoDispose(s.createWorker());
+		AtomicInteger runs = new AtomicInteger();
+
+		Disposable direct = s.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+		Disposable onWorker = worker.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+		direct.dispose();
+		onWorker.dispose();
+		assertThat(direct.isDisposed()).isTrue();
+		assertThat(onWorker.isDisposed()).isTrue();
+
+		CountDownLatch after = new CountDownLatch(1);
+		worker.schedule(after::countDown, 100, TimeUnit.MILLISECONDS);
+		assertThat(after.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(runs).hasValue(0);
+	}
+
+	@Test
+	@Timeout(10)
+	public void delayedTaskOnDisposedSchedulerIsDisposed() throws InterruptedException {
+		Schedulers.enableTimingWheel();
+		Scheduler s = Schedulers.newSingle("timingWheel");
+		AtomicInteger runs = new AtomicInteger();
+
+		Disposable task = s.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+		s.dispose();
+
+		Thread.sleep(150);
+		assertThat(task.isDisposed()).isTrue();
+		assertThat(runs).hasValue(0);
+	}
+
+	@Test
+	public void disableTimingWheelFallsBackToExecutor() throws InterruptedException {
+		Schedulers.enableTimingWheel();
+		TimingWheel wheel = Schedulers.CURRENT_TIMING_WHEEL.get();
+		Schedulers.disableTimingWheel();
+		assertThat(Schedulers.CURRENT_TIMING_WHEEL.get()).isNull();
+		wheel.thread.join(5000);
+		assertThat(wheel.isTerminated()).isTrue();
+
+		Scheduler s = afterTest.autoDispose(Schedulers.newParallel("noTimingWheel", 2));
+		StepVerifier.create(Mono.delay(Duration.ofMillis(10), s)
+		                        .map(v -> Thread.currentThread().getName()))
+		            .assertNext(name -> assertThat(name).startsWith("noTimingWheel-"))
+		            .verifyComplete();
+	}
+
+	@Test
+	public void enableTimingWheelReplacesPrevious() throws InterruptedException {
+		Schedulers.enableTimingWheel();
+		TimingWheel first = Schedulers.CURRENT_TIMING_WHEEL.get();
+		Schedulers.enableTimingWheel(Duration.ofMillis(5), 64);
+		TimingWheel second = Schedulers.CURRENT_TIMING_WHEEL.get();
+
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.tickNanos).isEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+		first.thread.join(5000);
+		assertThat(first.isTerminated()).isTrue();
+	}
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import reactor.core.Disposable;
+import reactor.core.Scannable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class WorkStealingParallelSchedulerTest extends AbstractSchedulerTest {
+
+	@Override
+	protected Scheduler scheduler() {
+		return Schedulers.newWorkStealingParallel("WorkStealingParallelSchedulerTest");
+	}
+
+	@Override
+	protected Scheduler freshScheduler() {
+		return Schedulers.factory.newWorkStealingParallel(Schedulers.DEFAULT_POOL_SIZE,
+				new ReactorThreadFactory("WorkStealingParallelSchedulerTest",
+						WorkStealingParallelScheduler.COUNTER, false,
+						true, Schedulers::defaultUncaughtException));
+	}
+
+	@Override
+	protected boolean shouldCheckInterrupted() {
+		return true;
+	}
+
+	@Override
+	protected boolean shouldCheckMultipleDisposeGracefully() {
+		return true;
+	}
+
+	@Override
+	protected boolean isTerminated(Scheduler s) {
+		WorkStealingParallelScheduler scheduler = (WorkStealingParallelScheduler) s;
+		assert scheduler.state.initialResource != null;
+		for (WorkStealingParallelScheduler.Lane lane : scheduler.state.initialResource) {
+			if (lane.terminated.getCount() != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Test
+	public void negativeParallelism() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> Schedulers.newWorkStealingParallel("test", -1));
+	}
+
+	@Test
+	@Timeout(10)
+	public void idleThreadsStealFromBlockedThread() throws InterruptedException {
+		Scheduler s = afterTest.autoDispose(Schedulers.newWorkStealingParallel("steal", 2));
+		CountDownLatch release = new CountDownLatch(1);
+		int tasks = 100;
+		CountDownLatch done = new CountDownLatch(tasks);
+
+		//the first task blocks its thread, the ones queued behind it need to be stolen
+		s.schedule(() -> {
+			try {
+				release.await();
+			}
+			catch (InterruptedException ignored) {
+			}
+		});
+		for (int i = 0; i < tasks; i++) {
+			s.schedule(done::countDown);
+		}
+
+		assertThat(done.await(5, TimeUnit.SECONDS))
+				.as("tasks queued behind the blocked thread were stolen")
+				.isTrue();
+		release.countDown();
+	}
+
+	@Test
+	@Timeout(10)
+	public void workerTasksRunInOrderOnSameThread() throws InterruptedException {
+		Scheduler s = afterTest.autoDispose(Schedulers.newWorkStealingParallel("order", 4));
+		Scheduler.Worker worker = afterTest.autoDispose(s.createWorker());
+		int tasks = 10_000;
+		List<Integer> seen = new CopyOnWriteArrayList<>();
+		List<String> threads = new CopyOnWriteArrayList<>();
+		CountDownLatch done = new CountDownLatch(tasks);
+
+		for (int i = 0; i < tasks; i++) {
+			int value = i;
+			worker.schedule(() -> {
+				seen.add(value);
+				threads.add(Thread.currentThread().getName());
+				done.countDown();
+			});
+			//busy the other threads with direct tasks, which could be stolen
+			s.schedule(() -> { });
+		}
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(seen).containsExactlyElementsOf(IntStream.range(0, tasks).boxed().collect(Collectors.toList()));
+		assertThat(threads.stream().distinct()).hasSize(1);
+	}
+
+	@Test
+	@Timeout(10)
+	public void delayedTasksRunInDeadlineOrder() throws InterruptedException {
+		Scheduler s = afterTest.autoDispose(Schedulers.newWorkStealingParallel("delayed", 1));
+		List<Integer> seen = new CopyOnWriteArrayList<>();
+		CountDownLatch done = new CountDownLatch(3);
+
+		s.schedule(() -> { seen.add(3); done.countDown(); }, 150, TimeUnit.MILLISECONDS);
+		s.schedule(() -> { seen.add(1); done.countDown(); }, 50, TimeUnit.MILLISECONDS);
+		s.schedule(() -> { seen.add(2); done.countDown(); }, 100, TimeUnit.MILLISECONDS);
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(seen).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	@Timeout(10)
+	public void cancelledDelayedTaskDoesntRun() throws InterruptedException {
+		Scheduler s = afterTest.autoDispose(Schedulers.newWorkStealingParallel("cancelled", 1));
+		AtomicInteger runs = new AtomicInteger();
+
+		Disposable d = s.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+		d.dispose();
+		assertThat(d.isDisposed()).isTrue();
+
+		CountDownLatch after = new CountDownLatch(1);
+		s.schedule(after::countDown, 100, TimeUnit.MILLISECONDS);
+		assertThat(after.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(runs).hasValue(0);
+	}
+
+	@Test
+	public void smokeTestDelay() {
+		Scheduler s = afterTest.autoDispose(Schedulers.newWorkStealingParallel("test"));
+		AtomicLong start = new AtomicLong();
+		AtomicLong end = new AtomicLong();
+
+		StepVerifier.create(Mono
+				.delay(Duration.ofMillis(100), s)
+				.doOnSubscribe(sub -> start.set(System.nanoTime()))
+				.doOnTerminate(() -> end.set(System.nanoTime()))
+		)
+		            .expectSubscription()
+		            .expectNext(0L)
+		            .verifyComplete();
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(end.get() - start.get()))
+				.isGreaterThanOrEqualTo(100L)
+				.isLessThan(200L);
+	}
+
+	@Test
+	public void smokeTestInterval() {
+		Scheduler s = afterTest.autoDispose(scheduler());
+
+		StepVerifier.create(Flux.interval(Duration.ofMillis(100), Duration.ofMillis(200), s))
+		            .expectSubscription()
+		            .expectNoEvent(Duration.ofMillis(50))
+		            .expectNext(0L)
+		            .expectNoEvent(Duration.ofMillis(150))
+		            .expectNext(1L)
+		            .expectNoEvent(Duration.ofMillis(150))
+		            .expectNext(2L)
+		            .thenCancel()
+		            .verify();
+	}
+
+	@Test
+	public void smokeTestPublishOn() {
+		Scheduler s = afterTest.autoDispose(scheduler());
+
+		StepVerifier.create(Flux.range(0, 100_000)
+		                        .publishOn(s)
+		                        .parallel(4)
+		                        .runOn(s)
+		                        .map(i -> i + 1)
+		                        .sequential()
+		                        .count())
+		            .expectNext(100_000L)
+		            .verifyComplete();
+	}
+
+	@Test
+	public void runQueueOverflowsToInbox() throws InterruptedException {
+		Scheduler s = afterTest.autoDispose(Schedulers.newWorkStealingParallel("overflow", 1));
+		CountDownLatch release = new CountDownLatch(1);
+		int tasks = WorkStealingParallelScheduler.RUN_QUEUE_CAPACITY * 3;
+		CountDownLatch done = new CountDownLatch(tasks);
+
+		s.schedule(() -> {
+			try {
+				release.await();
+			}
+			catch (InterruptedException ignored) {
+			}
+		});
+		for (int i = 0; i < tasks; i++) {
+			s.schedule(done::countDown);
+		}
+		release.countDown();
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	@Timeout(10)
+	public void disposeGracefullyRunsPendingDelayedTasksAndCancelsPeriodicOnes() {
+		Scheduler scheduler = afterTest.autoDispose(Schedulers.newWorkStealingParallel("disposeGracefullyTimers", 2));
+		CountDownLatch delayedRun = new CountDownLatch(1);
+		AtomicInteger periodicRuns = new AtomicInteger();
+
+		Disposable delayed = scheduler.schedule(delayedRun::countDown, 200, TimeUnit.MILLISECONDS);
+		Disposable periodic = scheduler.schedulePeriodically(periodicRuns::incrementAndGet, 100, 100, TimeUnit.MILLISECONDS);
+
+		scheduler.disposeGracefully().block(Duration.ofSeconds(5));
+
+		assertThat(delayedRun.getCount()).as("delayed task ran").isZero();
+		assertThat(delayed.isDisposed()).as("delayed disposed").isTrue();
+		assertThat(periodic.isDisposed()).as("periodic cancelled").isTrue();
+		assertThat(periodicRuns).as("periodic runs").hasValueLessThanOrEqualTo(1);
+	}
+
+	@Test
+	public void scanName() {
+		Scheduler withNamedFactory = afterTest.autoDispose(Schedulers.newWorkStealingParallel("scanName", 12));
+		Scheduler withBasicFactory = afterTest.autoDispose(Schedulers.newWorkStealingParallel(12, Thread::new));
+		Scheduler.Worker worker = afterTest.autoDispose(withNamedFactory.createWorker());
+
+		assertThat(Scannable.from(withNamedFactory).scan(Scannable.Attr.NAME))
+				.as("withNamedFactory")
+				.isEqualTo("workStealingParallel(12,\"scanName\")");
+
+		assertThat(Scannable.from(withBasicFactory).scan(Scannable.Attr.NAME))
+				.as("withBasicFactory")
+				.isEqualTo("workStealingParallel(12)");
+
+		assertThat(Scannable.from(worker).scan(Scannable.Attr.NAME))
+				.as("worker")
+				.isEqualTo("WorkStealingWorker");
+	}
+
+	@Test
+	public void scanCapacity() {
+		Scheduler scheduler = afterTest.autoDispose(Schedulers.newWorkStealingParallel(12, Thread::new));
+
+		assertThat(Scannable.from(scheduler).scan(Scannable.Attr.CAPACITY)).isEqualTo(12);
+		assertThat(Scannable.from(scheduler).inners()).hasSize(12);
+	}
+}
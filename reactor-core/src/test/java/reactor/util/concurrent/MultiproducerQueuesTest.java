@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import reactor.test.ParameterizedTestWithName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Named.named;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+public class MultiproducerQueuesTest {
+
+	static final int PRODUCERS = 4;
+	static final int PER_PRODUCER = 50_000;
+
+	private static Stream<Arguments> allQueues() {
+		return Stream.concat(singleConsumerQueues(), multiConsumerQueues());
+	}
+
+	private static Stream<Arguments> singleConsumerQueues() {
+		return Stream.of(
+				arguments(named("MpscArrayQueue", (Supplier<Queue<Integer>>) () -> new MpscArrayQueue<>(16))),
+				arguments(named("MpscChunkedArrayQueue", (Supplier<Queue<Integer>>) () -> new MpscChunkedArrayQueue<>(16)))
+		);
+	}
+
+	private static Stream<Arguments> multiConsumerQueues() {
+		return Stream.of(
+				arguments(named("MpmcArrayQueue", (Supplier<Queue<Integer>>) () -> new MpmcArrayQueue<>(16))),
+				arguments(named("MpmcChunkedArrayQueue", (Supplier<Queue<Integer>>) () -> new MpmcChunkedArrayQueue<>(16)))
+		);
+	}
+
+	private static Stream<Arguments> boundedQueues() {
+		return Stream.of(
+				arguments(named("MpscArrayQueue", (Supplier<Queue<Integer>>) () -> new MpscArrayQueue<>(16))),
+				arguments(named("MpmcArrayQueue", (Supplier<Queue<Integer>>) () -> new MpmcArrayQueue<>(16)))
+		);
+	}
+
+	private static Stream<Arguments> unboundedQueues() {
+		return Stream.of(
+				arguments(named("MpscChunkedArrayQueue", (Supplier<Queue<Integer>>) () -> new MpscChunkedArrayQueue<>(16))),
+				arguments(named("MpmcChunkedArrayQueue", (Supplier<Queue<Integer>>) () -> new MpmcChunkedArrayQueue<>(16)))
+		);
+	}
+
+	@ParameterizedTestWithName
+	@MethodSource("allQueues")
+	void fifoOrder(Supplier<Queue<Integer>> supplier) {
+		Queue<Integer> q = supplier.get();
+
+		for (int round = 0; round < 10; round++) {
+			assertThat(q.isEmpty()).isTrue();
+			assertThat(q.poll()).isNull();
+			assertThat(q.peek()).isNull();
+
+			for (int i = 0; i < 12; i++) {
+				assertThat(q.offer(i)).isTrue();
+			}
+			assertThat(q).hasSize(12);
+			assertThat(q.peek()).isEqualTo(0);
+
+			for (int i = 0; i < 12; i++) {
+				assertThat(q.poll()).isEqualTo(i);
+			}
+		}
+		assertThat(q.poll()).isNull();
+		assertThat(q.isEmpty()).isTrue();
+	}
+
+	@ParameterizedTestWithName
+	@MethodSource("allQueues")
+	void rejectsNullAndUnsupportedOperations(Supplier<Queue<Integer>> supplier) {
+		Queue<Integer> q = supplier.get();
+
+		assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> q.offer(null));
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(q::iterator);
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> q.remove(1));
+	}
+
+	@ParameterizedTestWithName
+	@MethodSource("allQueues")
+	void clear(Supplier<Queue<Integer>> supplier) {
+		Queue<Integer> q = supplier.get();
+		for (int i = 0; i < 10; i++) {
+			q.offer(i);
+		}
+
+		q.clear();
+
+		assertThat(q.isEmpty()).isTrue();
+		assertThat(q).hasSize(0);
+	}
+
+	@ParameterizedTestWithName
+	@MethodSource("boundedQueues")
+	void boundedRejectsWhenFull(Supplier<Queue<Integer>> supplier) {
+		Queue<Integer> q = supplier.get();
+
+		for (int i = 0; i < 16; i++) {
+			assertThat(q.offer(i)).as("offer %d", i).isTrue();
+		}
+		assertThat(q.offer(16)).isFalse();
+		assertThat(q).hasSize(16);
+
+		assertThat(q.poll()).isEqualTo(0);
+		assertThat(q.offer(16)).isTrue();
+		assertThat(q.offer(17)).isFalse();
+	}
+
+	@ParameterizedTestWithName
+	@MethodSource("unboundedQueues")
+	void unboundedGrowsOverManyChunks(Supplier<Queue<Integer>> supplier) {
+		Queue<Integer> q = supplier.get();
+
+		for (int i = 0; i < 1000; i++) {
+			assertThat(q.offer(i)).isTrue();
+		}
+		assertThat(q).hasSize(1000);
+		for (int i = 0; i < 1000; i++) {
+			assertThat(q.poll()).isEqualTo(i);
+		}
+		assertThat(q.poll()).isNull();
+	}
+
+	@ParameterizedTestWithName
+	@MethodSource("allQueues")
+	@Timeout(30)
+	void concurrentProducersKeepTheirOrder(Supplier<Queue<Integer>> supplier) throws InterruptedException {
+		Queue<Integer> q = supplier.get();
+		List<Thread> producers = startProducers(q);
+
+		int[] lastPerProducer = new int[PRODUCERS];
+		Arrays.fill(lastPerProducer, -1);
+		int received = 0;
+		while (received < PRODUCERS * PER_PRODUCER) {
+			Integer v = q.poll();
+			if (v == null) {
+				Thread.yield();
+				continue;
+			}
+			int producer = v / PER_PRODUCER;
+			int sequence = v % PER_PRODUCER;
+			assertThat(sequence).as("order of producer %d", producer).isEqualTo(lastPerProducer[producer] + 1);
+			lastPerProducer[producer] = sequence;
+			received++;
+		}
+
+		for (Thread producer : producers) {
+			producer.join();
+		}
+		assertThat(q.poll()).isNull();
+	}
+
+	@ParameterizedTestWithName
+	@MethodSource("multiConsumerQueues")
+	@Timeout(30)
+	void concurrentConsumersReceiveEachValueOnce(Supplier<Queue<Integer>> supplier) throws InterruptedException {
+		Queue<Integer> q = supplier.get();
+		int total = PRODUCERS * PER_PRODUCER;
+		ConcurrentHashMap<Integer, Boolean> seen = new ConcurrentHashMap<>();
+		AtomicInteger received = new AtomicInteger();
+		AtomicInteger duplicates = new AtomicInteger();
+		CountDownLatch consumersDone = new CountDownLatch(3);
+
+		for (int c = 0; c < 3; c++) {
+			new Thread(() -> {
+				while (received.get() < total) {
+					Integer v = q.poll();
+					if (v == null) {
+						Thread.yield();
+						continue;
+					}
+					if (seen.put(v, Boolean.TRUE) != null) {
+						duplicates.incrementAndGet();
+					}
+					received.incrementAndGet();
+				}
+				consumersDone.countDown();
+			}, "consumer-" + c).start();
+		}
+		List<Thread> producers = startProducers(q);
+
+		assertThat(consumersDone.await(30, TimeUnit.SECONDS)).isTrue();
+		for (Thread producer : producers) {
+			producer.join();
+		}
+		assertThat(duplicates).hasValue(0);
+		assertThat(seen).hasSize(total);
+		assertThat(q.poll()).isNull();
+	}
+
+	@Test
+	void mpmcChunkedPeekSkipsTakenSlots() {
+		MpmcChunkedArrayQueue<Integer> q = new MpmcChunkedArrayQueue<>(4);
+		for (int i = 0; i < 6; i++) {
+			q.offer(i);
+		}
+		for (int i = 0; i < 5; i++) {
+			q.poll();
+		}
+
+		assertThat(q.peek()).isEqualTo(5);
+		assertThat(q).hasSize(1);
+	}
+
+	static List<Thread> startProducers(Queue<Integer> q) {
+		List<Thread> producers = new ArrayList<>(PRODUCERS);
+		for (int p = 0; p < PRODUCERS; p++) {
+			int producer = p;
+			Thread t = new Thread(() -> {
+				for (int i = 0; i < PER_PRODUCER; i++) {
+					Integer v = producer * PER_PRODUCER + i;
+					while (!q.offer(v)) {
+						Thread.yield();
+					}
+				}
+			}, "producer-" + p);
+			t.start();
+			producers.add(t);
+		}
+		return producers;
+	}
+}
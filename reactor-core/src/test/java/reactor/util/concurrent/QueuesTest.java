@@ -62,6 +62,14 @@ public class QueuesTest {
 				.isEqualTo(16);
 	}
 
+	@Test
+	public void capacityMultiproducerQueues() {
+		assertThat(Queues.capacity(Queues.multiproducer(100).get())).isEqualTo(128);
+		assertThat(Queues.capacity(Queues.multiproducerMulticonsumer(100).get())).isEqualTo(128);
+		assertThat(Queues.capacity(Queues.unboundedMultiproducer(100).get())).isEqualTo(Integer.MAX_VALUE);
+		assertThat(Queues.capacity(Queues.unboundedMultiproducerMulticonsumer(100).get())).isEqualTo(Integer.MAX_VALUE);
+	}
+
 	@Test
 	public void capacityBoundedBlockingQueue() {
 		Queue q = new LinkedBlockingQueue<>(10);
@@ -209,6 +217,10 @@ public class QueuesTest {
 			arguments(named("unbounded", Queues.unbounded())),
 			arguments(named("unbounded(42)", Queues.unbounded(42))),
 			arguments(named("unboundedMultiproducer", Queues.unboundedMultiproducer())),
+			arguments(named("unboundedMultiproducer(42)", Queues.unboundedMultiproducer(42))),
+			arguments(named("multiproducer(42)", Queues.multiproducer(42))),
+			arguments(named("multiproducerMulticonsumer(42)", Queues.multiproducerMulticonsumer(42))),
+			arguments(named("unboundedMultiproducerMulticonsumer(42)", Queues.unboundedMultiproducerMulticonsumer(42))),
 			arguments(named("get(9000)", Queues.get(9000)))
 		);
 	}
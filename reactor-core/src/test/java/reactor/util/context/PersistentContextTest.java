@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.util.context;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public class PersistentContextTest {
+
+	static Context contextOfSize(int size) {
+		Context context = Context.empty();
+		for (int i = 0; i < size; i++) {
+			context = context.put(i, "v" + i);
+		}
+		return context;
+	}
+
+	static Map<Object, Object> toMap(ContextView context) {
+		return context.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+	}
+
+	@Test
+	public void putBeyondThresholdConverts() {
+		Context context = contextOfSize(PersistentContext.THRESHOLD);
+		assertThat(context).isInstanceOf(ContextN.class);
+
+		Context put = context.put("key", "value");
+
+		assertThat(put).isInstanceOf(PersistentContext.class);
+		assertThat(put.size()).isEqualTo(PersistentContext.THRESHOLD + 1);
+		assertThat(put.<String>get("key")).isEqualTo("value");
+		assertThat(put.<String>get(3)).isEqualTo("v3");
+		assertThat(context.hasKey("key")).as("original unchanged").isFalse();
+	}
+
+	@Test
+	public void putDoesNotModifyOriginal() {
+		Context context = contextOfSize(100);
+		Context put = context.put(50, "foo").put("new", "bar");
+
+		assertThat(context.size()).isEqualTo(100);
+		assertThat(context.<String>get(50)).isEqualTo("v50");
+		assertThat(context.hasKey("new")).isFalse();
+		assertThat(put.size()).isEqualTo(101);
+		assertThat(put.<String>get(50)).isEqualTo("foo");
+		assertThat(put.<String>get("new")).isEqualTo("bar");
+	}
+
+	@Test
+	public void putSameValueReturnsSameInstance() {
+		Context context = contextOfSize(20);
+		String value = context.get(5);
+
+		assertThat(context.put(5, value)).isSameAs(context);
+	}
+
+	@Test
+	public void putRejectsNulls() {
+		Context context = contextOfSize(20);
+
+		assertThatNullPointerException().isThrownBy(() -> context.put(null, "foo"))
+		                                .withMessage("key");
+		assertThatNullPointerException().isThrownBy(() -> context.put(1, null))
+		                                .withMessage("value");
+	}
+
+	@Test
+	public void getMissingKey() {
+		Context context = contextOfSize(20);
+
+		assertThatExceptionOfType(NoSuchElementException.class)
+				.isThrownBy(() -> context.get("foo"))
+				.withMessage("Context does not contain key: foo");
+		assertThat(context.getOrDefault("foo", "default")).isEqualTo("default");
+		assertThat(context.getOrDefault(null, "default")).isEqualTo("default");
+		assertThat(context.hasKey("foo")).isFalse();
+	}
+
+	@Test
+	public void deleteBelowThresholdConvertsBack() {
+		Context context = contextOfSize(PersistentContext.THRESHOLD + 2);
+		assertThat(context).isInstanceOf(PersistentContext.class);
+
+		Context deleted = context.delete(0);
+		assertThat(deleted).isInstanceOf(PersistentContext.class);
+		assertThat(deleted.hasKey(0)).isFalse();
+
+		Context contextN = deleted.delete(1);
+		assertThat(contextN).isInstanceOf(ContextN.class);
+		assertThat(toMap(contextN)).isEqualTo(toMap(context.delete(0).delete(1)))
+		                           .hasSize(PersistentContext.THRESHOLD);
+		assertThat(context.size()).as("original unchanged").isEqualTo(PersistentContext.THRESHOLD + 2);
+	}
+
+	@Test
+	public void deleteMissingKeyReturnsSameInstance() {
+		Context context = contextOfSize(20);
+
+		assertThat(context.delete("foo")).isSameAs(context);
+	}
+
+	@Test
+	public void hashCollisions() {
+		Context context = contextOfSize(10);
+		for (int i = 0; i < 5; i++) {
+			context = context.put(new CollidingKey(i), i);
+		}
+
+		assertThat(context.size()).isEqualTo(15);
+		for (int i = 0; i < 5; i++) {
+			assertThat(context.<Integer>get(new CollidingKey(i))).isEqualTo(i);
+		}
+		assertThat(context.hasKey(new CollidingKey(5))).isFalse();
+
+		Context replaced = context.put(new CollidingKey(2), "two");
+		assertThat(replaced.size()).isEqualTo(15);
+		assertThat(replaced.<String>get(new CollidingKey(2))).isEqualTo("two");
+
+		Context deleted = context.delete(new CollidingKey(0))
+		                         .delete(new CollidingKey(1))
+		                         .delete(new CollidingKey(3));
+		assertThat(deleted.size()).isEqualTo(12);
+		assertThat(deleted.<Integer>get(new CollidingKey(2))).isEqualTo(2);
+		assertThat(deleted.<Integer>get(new CollidingKey(4))).isEqualTo(4);
+		assertThat(deleted.hasKey(new CollidingKey(3))).isFalse();
+	}
+
+	@Test
+	public void putAll() {
+		Context context = contextOfSize(20);
+		Context other = Context.of("a", 1, "b", 2, 3, "three");
+
+		Context result = context.putAll(other.readOnly());
+
+		assertThat(result).isInstanceOf(PersistentContext.class);
+		assertThat(result.size()).isEqualTo(22);
+		assertThat(result.<String>get(3)).isEqualTo("three");
+		assertThat(result.<Integer>get("b")).isEqualTo(2);
+		assertThat(context.putAll(Context.empty().readOnly())).isSameAs(context);
+	}
+
+	@Test
+	public void putAllMap() {
+		Context context = contextOfSize(20);
+		Map<Object, Object> map = new LinkedHashMap<>();
+		map.put("a", 1);
+		map.put(3, "three");
+
+		Context result = context.putAllMap(map);
+
+		assertThat(result.size()).isEqualTo(21);
+		assertThat(result.<String>get(3)).isEqualTo("three");
+		assertThat(result.<Integer>get("a")).isEqualTo(1);
+
+		map.put("b", null);
+		assertThatNullPointerException().isThrownBy(() -> context.putAllMap(map));
+	}
+
+	@Test
+	public void putAllIntoGivesPrecedenceToEntriesOfThis() {
+		Context context = contextOfSize(20);
+		Context base = Context.of(1, "base", "a", "base");
+
+		Context result = base.putAll(context.readOnly());
+
+		assertThat(result.size()).isEqualTo(21);
+		assertThat(result.<String>get(1)).isEqualTo("v1");
+		assertThat(result.<String>get("a")).isEqualTo("base");
+
+		Context persistentBase = contextOfSize(30).put(1, "base");
+		Context persistentResult = persistentBase.putAll(context.readOnly());
+		assertThat(persistentResult.size()).isEqualTo(30);
+		assertThat(persistentResult.<String>get(1)).isEqualTo("v1");
+		assertThat(persistentResult.<String>get(25)).isEqualTo("v25");
+	}
+
+	@Test
+	public void contextNPutAllPersistent() {
+		ContextN contextN = new ContextN(1, "A", 2, "B", 3, "C", 4, "D", 5, "E", 6, "F");
+
+		Context result = contextN.putAll(contextOfSize(20).readOnly());
+
+		assertThat(result.size()).isEqualTo(20);
+		assertThat(result.<String>get(1)).isEqualTo("v1");
+	}
+
+	@Test
+	public void contextNPutAllBeyondThresholdConverts() {
+		Context context = new ContextN(1, "A", 2, "B", 3, "C", 4, "D", 5, "E", 6, "F");
+		for (int i = 0; i < 5; i++) {
+			context = context.putAll(Context.of("a" + i, i, "b" + i, i).readOnly());
+		}
+		assertThat(context).isInstanceOf(ContextN.class);
+
+		context = context.putAll(Context.of("a5", 5, "b5", 5).readOnly());
+		assertThat(context).isInstanceOf(PersistentContext.class);
+		assertThat(context.size()).isEqualTo(18);
+
+		Map<Object, Object> map = new HashMap<>();
+		for (int i = 0; i < PersistentContext.THRESHOLD; i++) {
+			map.put("m" + i, i);
+		}
+		assertThat(new ContextN(1, "A", 2, "B", 3, "C", 4, "D", 5, "E", 6, "F").putAllMap(map))
+				.isInstanceOf(PersistentContext.class);
+		assertThat(Context.of(map)).isInstanceOf(ContextN.class);
+		map.put("extra", 0);
+		assertThat(Context.of(map)).isInstanceOf(PersistentContext.class);
+	}
+
+	@Test
+	public void putExistingKeyAtThresholdStaysContextN() {
+		Context context = contextOfSize(PersistentContext.THRESHOLD);
+
+		assertThat(context.put(3, "other")).isInstanceOf(ContextN.class);
+	}
+
+	@Test
+	public void streamAndForEach() {
+		Context context = contextOfSize(50);
+		Map<Object, Object> expected = new HashMap<>();
+		for (int i = 0; i < 50; i++) {
+			expected.put(i, "v" + i);
+		}
+		Map<Object, Object> forEach = new HashMap<>();
+		context.forEach(forEach::put);
+
+		assertThat(toMap(context)).isEqualTo(expected);
+		assertThat(forEach).isEqualTo(expected);
+		assertThat(context.toString()).startsWith("PersistentContext{")
+		                              .contains("7=v7");
+		assertThat(contextOfSize(PersistentContext.THRESHOLD + 1).toString())
+				.startsWith("PersistentContext{0=v0, 1=v1, ")
+				.endsWith(", 16=v16}");
+	}
+
+	@Test
+	public void equalsAndHashCodeCompareEntries() {
+		Context context = contextOfSize(20).put(new CollidingKey(1), 1).put(new CollidingKey(2), 2);
+		Context reversed = Context.empty().put(new CollidingKey(2), 2).put(new CollidingKey(1), 1);
+		for (int i = 19; i >= 0; i--) {
+			reversed = reversed.put(i, "v" + i);
+		}
+
+		assertThat(context).isInstanceOf(PersistentContext.class)
+		                   .isEqualTo(reversed)
+		                   .hasSameHashCodeAs(reversed)
+		                   .hasSameHashCodeAs(toMap(context))
+		                   .isNotEqualTo(reversed.put(3, "other"))
+		                   .isNotEqualTo(reversed.put(new CollidingKey(3), 3))
+		                   .isNotEqualTo(reversed.delete(new CollidingKey(1)).put(new CollidingKey(4), 1));
+		assertThat(context.delete(0)).isEqualTo(reversed.delete(0));
+	}
+
+	@Test
+	public void equalsIsSymmetricWithContextN() {
+		Map<Object, Object> map = new HashMap<>();
+		for (int i = 0; i < 20; i++) {
+			map.put(i, "v" + i);
+		}
+		ContextN contextN = new ContextN(map);
+		PersistentContext persistent = PersistentContext.from(contextN);
+
+		assertThat(persistent).isEqualTo(contextN)
+		                      .hasSameHashCodeAs(contextN);
+		assertThat(contextN).isEqualTo(persistent);
+		assertThat(contextN.put(0, "other")).isNotEqualTo(contextN);
+		assertThat((Object) contextN).isNotEqualTo(persistent.put(0, "other"));
+	}
+
+	@Test
+	public void randomOperationsMatchHashMap() {
+		Random random = new Random(42);
+		Map<Object, Object> model = new HashMap<>();
+		Context context = Context.empty();
+
+		for (int i = 0; i < 20_000; i++) {
+			int op = random.nextInt(10);
+			Object key = random.nextBoolean() ? (Object) random.nextInt(200) : new CollidingKey(random.nextInt(10));
+			if (op < 6) {
+				context = context.put(key, i);
+				model.put(key, i);
+			}
+			else {
+				context = context.delete(key);
+				model.remove(key);
+			}
+
+			assertThat(context.size()).isEqualTo(model.size());
+			assertThat(context.hasKey(key)).isEqualTo(model.containsKey(key));
+		}
+		assertThat(toMap(context)).isEqualTo(model);
+	}
+
+	static final class CollidingKey {
+
+		final int id;
+
+		CollidingKey(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+		}
+
+		@Override
+		public int hashCode() {
+			return 42;
+		}
+
+		@Override
+		public String toString() {
+			return "CollidingKey" + id;
+		}
+	}
+}
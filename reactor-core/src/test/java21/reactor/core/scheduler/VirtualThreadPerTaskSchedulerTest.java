@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.core.scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.Disposable;
+import reactor.core.Scannable;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class VirtualThreadPerTaskSchedulerTest {
+
+	List<Disposable> disposables = new ArrayList<>();
+
+	@AfterEach
+	void teardown() {
+		disposables.forEach(Disposable::dispose);
+		disposables.clear();
+	}
+
+	VirtualThreadPerTaskScheduler newScheduler(int maxConcurrency) {
+		VirtualThreadPerTaskScheduler scheduler =
+				new VirtualThreadPerTaskScheduler(maxConcurrency,
+						Thread.ofVirtual()
+						      .name("virtualThreadPerTaskScheduler", 1)
+						      .uncaughtExceptionHandler(Schedulers::defaultUncaughtException)
+						      .factory());
+		scheduler.init();
+		disposables.add(scheduler);
+		return scheduler;
+	}
+
+	@Test
+	void runsEachTaskOnANewVirtualThread() throws InterruptedException {
+		VirtualThreadPerTaskScheduler scheduler = newScheduler(2);
+		Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+		CountDownLatch latch = new CountDownLatch(10);
+
+		for (int i = 0; i < 10; i++) {
+			scheduler.schedule(() -> {
+				threads.add(Thread.currentThread());
+				latch.countDown();
+			});
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(threads).doesNotHaveDuplicates()
+		                   .allSatisfy(t -> assertThat(t.isVirtual()).isTrue());
+	}
+
+	@Test
+	void boundsConcurrencyWithoutRejecting() throws InterruptedException {
+		VirtualThreadPerTaskScheduler scheduler = newScheduler(3);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(100);
+
+		for (int i = 0; i < 100; i++) {
+			scheduler.schedule(() -> {
+				int current = running.incrementAndGet();
+				maxRunning.accumulateAndGet(current, Math::max);
+				try {
+					Thread.sleep(1);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				running.decrementAndGet();
+				latch.countDown();
+			});
+		}
+
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(maxRunning).hasValue(3);
+	}
+
+	@Test
+	void workerRunsTasksInOrderAndNonConcurrently() throws InterruptedException {
+		VirtualThreadPerTaskScheduler scheduler = newScheduler(4);
+		Scheduler.Worker worker = scheduler.createWorker();
+		disposables.add(worker);
+		List<Integer> order = new ArrayList<>();
+		AtomicBoolean concurrent = new AtomicBoolean();
+		AtomicInteger running = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(1000);
+
+		for (int i = 0; i < 1000; i++) {
+			int value = i;
+			worker.schedule(() -> {
+				if (running.incrementAndGet() != 1) {
+					concurrent.set(true);
+				}
+				order.add(value);
+				running.decrementAndGet();
+				latch.countDown();
+			});
+		}
+
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(concurrent).isFalse();
+		assertThat(order).hasSize(1000).isSorted();
+	}
+
+	@Test
+	void workersShareTheConcurrencyLimit() throws InterruptedException {
+		VirtualThreadPerTaskScheduler scheduler = newScheduler(1);
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(1);
+
+		Scheduler.Worker first = scheduler.createWorker();
+		Scheduler.Worker second = scheduler.createWorker();
+		disposables.add(first);
+		disposables.add(second);
+
+		first.schedule(() -> {
+			try {
+				blocker.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		second.schedule(done::countDown);
+
+		assertThat(done.await(100, TimeUnit.MILLISECONDS)).isFalse();
+		blocker.countDown();
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void disposeInterruptsRunningTasksPromptly() throws InterruptedException {
+		VirtualThreadPerTaskScheduler scheduler = newScheduler(2);
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch interrupted = new CountDownLatch(2);
+
+		for (int i = 0; i < 2; i++) {
+			scheduler.schedule(() -> {
+				started.countDown();
+				try {
+					Thread.sleep(60_000);
+				}
+				catch (InterruptedException e) {
+					interrupted.countDown();
+				}
+			});
+		}
+		// waiting for a permit
+		Disposable pending = scheduler.schedule(() -> {});
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		scheduler.dispose();
+
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(pending.isDisposed()).isTrue();
+		Awaitility.await().atMost(Duration.ofSeconds(1))
+		          .untilAsserted(() -> assertThat(scheduler.tasks).isEmpty());
+		assertThatExceptionOfType(RejectedExecutionException.class)
+				.isThrownBy(() -> scheduler.schedule(() -> {}));
+	}
+
+	@Test
+	void disposeWorkerInterruptsOnlyItsTasks() throws InterruptedException {
+		VirtualThreadPerTaskScheduler scheduler = newScheduler(4);
+		Scheduler.Worker worker = scheduler.createWorker();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		AtomicBoolean ranAfterDispose = new AtomicBoolean();
+
+		worker.schedule(() -> {
+			started.countDown();
+			try {
+				Thread.sleep(60_000);
+			}
+			catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+		});
+		worker.schedule(() -> ranAfterDispose.set(true));
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		worker.dispose();
+
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(worker.isDisposed()).isTrue();
+		assertThatExceptionOfType(RejectedExecutionException.class)
+				.isThrownBy(() -> worker.schedule(() -> {}));
+
+		CountDownLatch other = new CountDownLatch(1);
+		scheduler.schedule(other::countDown);
+		assertThat(other.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(ranAfterDispose).isFalse();
+	}
+
+	@Test
+	void cancellingDelayedTaskInterruptsItsWait() {
+		VirtualThreadPerTaskScheduler scheduler = newScheduler(1);
+		AtomicBoolean ran = new AtomicBoolean();
+
+		Disposable task = scheduler.schedule(() -> ran.set(true), 1, TimeUnit.HOURS);
+		assertThat(scheduler.tasks).hasSize(1);
+
+		task.dispose();
+
+		Awaitility.await().atMost(Duration.ofSeconds(1))
+		          .untilAsserted(() -> assertThat(scheduler.tasks).isEmpty());
+		assertThat(ran).isFalse();
+	}
+
+	@Test
+	void periodicTasksOfWorkerKeepTheirOrder() throws InterruptedException {
+		VirtualThreadPerTaskScheduler scheduler = newScheduler(2);
+		Scheduler.Worker worker = scheduler.createWorker();
+		disposables.add(worker);
+		AtomicInteger runs = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(5);
+
+		Disposable periodic = worker.schedulePeriodically(() -> {
+			runs.incrementAndGet();
+			latch.countDown();
+		}, 0, 10, TimeUnit.MILLISECONDS);
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		periodic.dispose();
+		int afterDispose = runs.get();
+		Thread.sleep(50);
+
+		assertThat(runs.get()).isLessThanOrEqualTo(afterDispose + 1);
+	}
+
+	@Test
+	void disposeGracefullyWaitsForSubmittedTasks() {
+		VirtualThreadPerTaskScheduler scheduler = newScheduler(1);
+		AtomicInteger completed = new AtomicInteger();
+
+		for (int i = 0; i < 5; i++) {
+			scheduler.schedule(() -> {
+				try {
+					Thread.sleep(10);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				completed.incrementAndGet();
+			});
+		}
+		scheduler.schedulePeriodically(() -> {}, 1, 1, TimeUnit.HOURS);
+
+		StepVerifier.create(scheduler.disposeGracefully())
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(5));
+
+		assertThat(completed).hasValue(5);
+		assertThat(scheduler.isDisposed()).isTrue();
+	}
+
+	@Test
+	void scanScheduler() {
+		VirtualThreadPerTaskScheduler scheduler = newScheduler(3);
+		Scheduler.Worker worker = scheduler.createWorker();
+		disposables.add(worker);
+
+		assertThat(scheduler.scan(Scannable.Attr.CAPACITY)).isEqualTo(3);
+		assertThat(scheduler.scan(Scannable.Attr.NAME)).isEqualTo("virtualThreadPerTask(maxConcurrency=3)");
+		assertThat(Scannable.from(worker).scan(Scannable.Attr.PARENT)).isSameAs(scheduler);
+
+		scheduler.schedule(() -> {}, 1, TimeUnit.HOURS);
+		assertThat(scheduler.scan(Scannable.Attr.BUFFERED)).isOne();
+
+		scheduler.dispose();
+		assertThat(scheduler.scan(Scannable.Attr.TERMINATED)).isTrue();
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.core.publisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ThreadLocalAccessor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.util.context.Context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the {@link AutomaticContextPropagationTest} suite with
+ * {@link Hooks#enableCachedThreadLocalRestoration()}.
+ */
+public class AutomaticContextPropagationCachedTest extends AutomaticContextPropagationTest {
+
+	private static final String COUNTING_KEY = "AutomaticContextPropagationCachedTest.key";
+	private static final CountingAccessor COUNTING = new CountingAccessor();
+
+	@BeforeAll
+	static void initializeCountingAccessor() {
+		ContextRegistry.getInstance().registerThreadLocalAccessor(COUNTING);
+	}
+
+	@AfterAll
+	static void removeCountingAccessor() {
+		ContextRegistry.getInstance().removeThreadLocalAccessor(COUNTING_KEY);
+	}
+
+	@BeforeEach
+	void enableCachedThreadLocalRestoration() {
+		Hooks.enableCachedThreadLocalRestoration();
+		// Disabling is done by ReactorTestExecutionListener
+		COUNTING.value.remove();
+		COUNTING.sets.set(0);
+	}
+
+	@Test
+	void nestedContextWritesRestoreOuterValue() {
+		List<String> seen = new ArrayList<>();
+
+		Flux.range(0, 3)
+		    .doOnNext(i -> seen.add("inner " + COUNTING.getValue()))
+		    .contextWrite(Context.of(COUNTING_KEY, "inner"))
+		    .doOnNext(i -> seen.add("outer " + COUNTING.getValue()))
+		    .contextWrite(Context.of(COUNTING_KEY, "outer"))
+		    .blockLast();
+
+		assertThat(seen).containsExactly("inner inner", "outer outer",
+				"inner inner", "outer outer",
+				"inner inner", "outer outer");
+		assertThat(COUNTING.getValue()).isNull();
+	}
+
+	@Test
+	void identicalValuesAreNotSetAgain() {
+		Context context = Context.of(COUNTING_KEY, "value");
+
+		try (ContextSnapshot.Scope outer = ContextPropagation.setThreadLocals(context)) {
+			assertThat(COUNTING.getValue()).isEqualTo("value");
+			assertThat(COUNTING.sets).hasValue(1);
+
+			for (int i = 0; i < 100; i++) {
+				try (ContextSnapshot.Scope inner = ContextPropagation.setThreadLocals(context.put("other", i))) {
+					assertThat(COUNTING.getValue()).isEqualTo("value");
+				}
+			}
+			assertThat(COUNTING.sets).hasValue(1);
+			assertThat(ThreadLocalsRestorer.RESTORERS.get().depth).isOne();
+		}
+		assertThat(COUNTING.getValue()).isNull();
+	}
+
+	@Test
+	void scopesNestAndRestoreInOrder() {
+		COUNTING.setValue("initial");
+
+		try (ContextSnapshot.Scope first = ContextPropagation.setThreadLocals(Context.of(COUNTING_KEY, "first"))) {
+			try (ContextSnapshot.Scope second = ContextPropagation.setThreadLocals(Context.of(COUNTING_KEY, "second"))) {
+				assertThat(COUNTING.getValue()).isEqualTo("second");
+				try (ContextSnapshot.Scope missing = ContextPropagation.setThreadLocals(Context.empty())) {
+					assertThat(COUNTING.getValue()).as("cleared as missing").isNull();
+				}
+				assertThat(COUNTING.getValue()).isEqualTo("second");
+			}
+			assertThat(COUNTING.getValue()).isEqualTo("first");
+		}
+		assertThat(COUNTING.getValue()).isEqualTo("initial");
+		assertThat(ThreadLocalsRestorer.RESTORERS.get().depth).isZero();
+		assertThat(ThreadLocalsRestorer.RESTORERS.get().top).isZero();
+	}
+
+	@Test
+	void newlyRegisteredAccessorIsPickedUp() {
+		String key = "AutomaticContextPropagationCachedTest.late";
+		ThreadLocal<String> late = new ThreadLocal<>();
+		Context context = Context.of(COUNTING_KEY, "value", key, "late");
+
+		try (ContextSnapshot.Scope scope = ContextPropagation.setThreadLocals(context)) {
+			assertThat(late.get()).isNull();
+		}
+
+		ContextRegistry.getInstance().registerThreadLocalAccessor(key, late);
+		try {
+			try (ContextSnapshot.Scope scope = ContextPropagation.setThreadLocals(context)) {
+				assertThat(late.get()).isEqualTo("late");
+			}
+			assertThat(late.get()).isNull();
+		}
+		finally {
+			ContextRegistry.getInstance().removeThreadLocalAccessor(key);
+		}
+	}
+
+	static final class CountingAccessor implements ThreadLocalAccessor<String> {
+
+		final ThreadLocal<String> value = new ThreadLocal<>();
+		final AtomicInteger       sets  = new AtomicInteger();
+
+		@Override
+		public Object key() {
+			return COUNTING_KEY;
+		}
+
+		@Override
+		public String getValue() {
+			return value.get();
+		}
+
+		@Override
+		public void setValue(String value) {
+			sets.incrementAndGet();
+			this.value.set(value);
+		}
+
+		@Override
+		public void setValue() {
+			this.value.remove();
+		}
+	}
+}
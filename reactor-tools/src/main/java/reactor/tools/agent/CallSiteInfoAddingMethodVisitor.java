@@ -16,6 +16,7 @@
 
 package reactor.tools.agent;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import net.bytebuddy.jar.asm.Label;
@@ -35,12 +36,20 @@ import net.bytebuddy.jar.asm.Type;
  *     Flux flux = Hooks.addCallSiteInfo(Flux.just(1), "Flux.just -> MyClass.myMethod(MyClass.java:12)");
  *     flux = Hooks.addCallSiteInfo(flux.map(it -> it), "Flux.map -> MyClass.myMethod(MyClass.java:13)");
  * </pre>
+ * Or, when using call site ids, tags the operators with the index of their call site in
+ * the table generated for the class (see {@link ReactorDebugClassVisitor#CALL_SITES_METHOD}):
+ * <pre>
+ *     Flux flux = Hooks.addCallSiteId(Flux.just(1), MyClass.class, 0);
+ *     flux = Hooks.addCallSiteId(flux.map(it -> it), MyClass.class, 1);
+ * </pre>
  *
  */
 class CallSiteInfoAddingMethodVisitor extends MethodVisitor {
 
     static final String ADD_CALLSITE_INFO_METHOD = "(Lorg/reactivestreams/Publisher;Ljava/lang/String;)Lorg/reactivestreams/Publisher;";
 
+    static final String ADD_CALLSITE_ID_METHOD = "(Lorg/reactivestreams/Publisher;Ljava/lang/Class;I)Lorg/reactivestreams/Publisher;";
+
     /**
      * Determine if a class (in the {@code com/package/ClassName} format) can be considered a CorePublisher.
      *
@@ -79,6 +88,11 @@ class CallSiteInfoAddingMethodVisitor extends MethodVisitor {
 
     final AtomicBoolean changed;
 
+    /**
+     * The table of call sites of the class when using call site ids, null otherwise.
+     */
+    final List<String> callSites;
+
     int currentLine = -1;
 
     CallSiteInfoAddingMethodVisitor(
@@ -86,13 +100,15 @@ class CallSiteInfoAddingMethodVisitor extends MethodVisitor {
             String currentClassName,
             String currentMethod,
             String currentSource,
-            AtomicBoolean changed
+            AtomicBoolean changed,
+            List<String> callSites
     ) {
         super(Opcodes.ASM9, visitor);
         this.currentMethod = currentMethod;
         this.currentClassName = currentClassName;
         this.currentSource = currentSource;
         this.changed = changed;
+        this.callSites = callSites;
     }
 
     @Override
@@ -121,14 +137,28 @@ class CallSiteInfoAddingMethodVisitor extends MethodVisitor {
                     owner.replace("/", "."), name,
                     currentClassName.replace("/", "."), currentMethod, currentSource, currentLine
             );
-            super.visitLdcInsn(callSite);
-            super.visitMethodInsn(
-                    Opcodes.INVOKESTATIC,
-                    "reactor/core/publisher/Hooks",
-                    "addCallSiteInfo",
-                    ADD_CALLSITE_INFO_METHOD,
-                    false
-            );
+            if (callSites != null) {
+                super.visitLdcInsn(Type.getObjectType(currentClassName));
+                super.visitLdcInsn(callSites.size());
+                callSites.add(callSite);
+                super.visitMethodInsn(
+                        Opcodes.INVOKESTATIC,
+                        "reactor/core/publisher/Hooks",
+                        "addCallSiteId",
+                        ADD_CALLSITE_ID_METHOD,
+                        false
+                );
+            }
+            else {
+                super.visitLdcInsn(callSite);
+                super.visitMethodInsn(
+                        Opcodes.INVOKESTATIC,
+                        "reactor/core/publisher/Hooks",
+                        "addCallSiteInfo",
+                        ADD_CALLSITE_INFO_METHOD,
+                        false
+                );
+            }
             super.visitTypeInsn(Opcodes.CHECKCAST, returnType);
         }
     }
@@ -33,6 +33,24 @@ import net.bytebuddy.jar.asm.ClassWriter;
 
 public class ReactorDebugByteBuddyPlugin implements Plugin {
 
+	private final boolean callSiteIds;
+
+	public ReactorDebugByteBuddyPlugin() {
+		this(false);
+	}
+
+	/**
+	 * @param callSiteIds when {@code true}, operators are tagged with the {@code int} id of
+	 * their call site, resolved from a table generated for each class, rather than
+	 * wrapped into an assembly tracing operator. The call sites are then exposed with
+	 * {@link reactor.core.Scannable.Attr#CALL_SITE} and the assembly traces of errors are
+	 * recorded at the returns of the instrumented methods, which removes the wrappers from
+	 * the chains of operators.
+	 */
+	public ReactorDebugByteBuddyPlugin(boolean callSiteIds) {
+		this.callSiteIds = callSiteIds;
+	}
+
 	@Override
 	public boolean matches(TypeDescription target) {
 		return true;
@@ -66,7 +84,7 @@ public class ReactorDebugByteBuddyPlugin implements Plugin {
 					int writerFlags,
 					int readerFlags
 			) {
-				return new ReactorDebugClassVisitor(classVisitor, new AtomicBoolean());
+				return new ReactorDebugClassVisitor(classVisitor, new AtomicBoolean(), callSiteIds);
 			}
 		});
 	}
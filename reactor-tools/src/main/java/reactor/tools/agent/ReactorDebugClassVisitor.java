@@ -16,6 +16,8 @@
 
 package reactor.tools.agent;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import net.bytebuddy.jar.asm.ClassVisitor;
@@ -25,15 +27,38 @@ import net.bytebuddy.jar.asm.Type;
 
 class ReactorDebugClassVisitor extends ClassVisitor {
 
+	/**
+	 * The name of the synthetic method returning the table of call sites of a class, as
+	 * read by {@code reactor.core.publisher.CallSiteTable}.
+	 */
+	static final String CALL_SITES_METHOD = "$reactor$callSites";
+
 	private final AtomicBoolean changed;
 
+	private final boolean callSiteIds;
+
 	private String currentClassName;
 
 	private String currentSource;
 
+	/**
+	 * The call sites tagged with their index in this list, if using call site ids.
+	 */
+	private List<String> callSites;
+
 	ReactorDebugClassVisitor(ClassVisitor classVisitor, AtomicBoolean changed) {
+		this(classVisitor, changed, false);
+	}
+
+	/**
+	 * @param callSiteIds whether to tag operators with the id of their call site, and to
+	 * generate the table of call sites of the class, instead of wrapping them. Only
+	 * possible when the class can be given a new method, i.e. not when retransforming it.
+	 */
+	ReactorDebugClassVisitor(ClassVisitor classVisitor, AtomicBoolean changed, boolean callSiteIds) {
 		super(Opcodes.ASM9, classVisitor);
 		this.changed = changed;
+		this.callSiteIds = callSiteIds;
 	}
 
 	@Override
@@ -46,6 +71,10 @@ class ReactorDebugClassVisitor extends ClassVisitor {
 	public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
 		super.visit(version, access, name, signature, superName, interfaces);
 		currentClassName = name;
+		// static interface methods and class constants need Java 8 class files
+		if (callSiteIds && (version & 0xFFFF) >= Opcodes.V1_8 && (access & Opcodes.ACC_ANNOTATION) == 0) {
+			callSites = new ArrayList<>();
+		}
 	}
 
 	@Override
@@ -65,9 +94,37 @@ class ReactorDebugClassVisitor extends ClassVisitor {
 			case "reactor/core/publisher/Mono":
 			case "reactor/core/publisher/ParallelFlux":
 				visitor = new ReturnHandlingMethodVisitor(visitor, returnType, currentClassName, currentMethod, currentSource,
-						changed);
+						changed, callSites != null);
 		}
 
-		return new CallSiteInfoAddingMethodVisitor(visitor, currentClassName, currentMethod, currentSource, changed);
+		return new CallSiteInfoAddingMethodVisitor(visitor, currentClassName, currentMethod, currentSource, changed,
+				callSites);
+	}
+
+	@Override
+	public void visitEnd() {
+		if (callSites != null && !callSites.isEmpty()) {
+			MethodVisitor mv = super.visitMethod(
+					Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_SYNTHETIC,
+					CALL_SITES_METHOD,
+					"()[Ljava/lang/String;",
+					null,
+					null
+			);
+			mv.visitCode();
+			mv.visitLdcInsn(callSites.size());
+			mv.visitTypeInsn(Opcodes.ANEWARRAY, "java/lang/String");
+			for (int i = 0; i < callSites.size(); i++) {
+				mv.visitInsn(Opcodes.DUP);
+				mv.visitLdcInsn(i);
+				mv.visitLdcInsn(callSites.get(i));
+				mv.visitInsn(Opcodes.AASTORE);
+			}
+			mv.visitInsn(Opcodes.ARETURN);
+			// computed by the ClassWriter
+			mv.visitMaxs(0, 0);
+			mv.visitEnd();
+		}
+		super.visitEnd();
 	}
 }
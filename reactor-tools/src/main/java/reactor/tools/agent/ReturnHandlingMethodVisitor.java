@@ -25,7 +25,8 @@ import net.bytebuddy.jar.asm.Type;
 
 /**
  * Checkpoints every method returning Mono/Flux/ParallelFlux,
- * unless there were operator calls in the method body.
+ * unless there were operator calls in the method body and these are wrapped
+ * with their call site info.
  * Before:
  * <pre>
  *     public Mono<String> request() {
@@ -52,6 +53,12 @@ class ReturnHandlingMethodVisitor extends MethodVisitor {
 
     final String currentSource;
 
+    /**
+     * Whether to checkpoint even after operator calls, which are then only tagged
+     * with their call site id and don't record the assembly traces of errors.
+     */
+    final boolean checkpointOperators;
+
     int currentLine = -1;
 
     boolean checkpointed = false;
@@ -62,7 +69,8 @@ class ReturnHandlingMethodVisitor extends MethodVisitor {
             String currentClassName,
             String currentMethod,
             String currentSource,
-            AtomicBoolean changed
+            AtomicBoolean changed,
+            boolean checkpointOperators
     ) {
         super(Opcodes.ASM9, visitor);
         this.changed = changed;
@@ -70,6 +78,7 @@ class ReturnHandlingMethodVisitor extends MethodVisitor {
         this.currentMethod = currentMethod;
         this.returnType = returnType;
         this.currentSource = currentSource;
+        this.checkpointOperators = checkpointOperators;
     }
 
     @Override
@@ -82,7 +91,7 @@ class ReturnHandlingMethodVisitor extends MethodVisitor {
     public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
         super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
 
-        if (!checkpointed && CallSiteInfoAddingMethodVisitor.isCorePublisher(owner)) {
+        if (!checkpointed && !checkpointOperators && CallSiteInfoAddingMethodVisitor.isCorePublisher(owner)) {
             String returnType = Type.getReturnType(descriptor).getInternalName();
             //note that ReactorDebugClassVisitor doesn't apply this visitor on return types other than Flux/Mono/ParallelFlux
             //so the return type should always be lift-compatible
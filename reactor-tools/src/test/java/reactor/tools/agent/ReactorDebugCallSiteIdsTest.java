@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 VMware Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package reactor.tools.agent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import net.bytebuddy.jar.asm.ClassReader;
+import net.bytebuddy.jar.asm.ClassWriter;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.Scannable;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class ReactorDebugCallSiteIdsTest {
+
+	static final String SAMPLE = Sample.class.getName();
+
+	static final String SAMPLE_LOCATION = SAMPLE + ".%s(ReactorDebugCallSiteIdsTest.java:%d)";
+
+	@Test
+	public void shouldTagOperatorsInsteadOfWrapping() throws Exception {
+		Class<?> sample = instrument();
+		Flux<?> flux = invoke(sample, "chain");
+		int baseline = (int) sample.getField("baseline").get(null);
+
+		assertThat(Scannable.from(flux).stepName())
+				.isEqualTo("at " + String.format(SAMPLE_LOCATION, "chain", baseline + 1));
+
+		Scannable map = Scannable.from(flux).scan(Scannable.Attr.PARENT);
+		assertThat(map.stepName()).isEqualTo("map");
+		assertThat(map.scan(Scannable.Attr.CALL_SITE))
+				.isEqualTo("Flux.map ⇢ at " + String.format(SAMPLE_LOCATION, "chain", baseline + 2));
+
+		Scannable just = map.scan(Scannable.Attr.PARENT);
+		assertThat(just.stepName()).isEqualTo("source(FluxArray)");
+		assertThat(just.scan(Scannable.Attr.CALL_SITE))
+				.isEqualTo("Flux.just ⇢ at " + String.format(SAMPLE_LOCATION, "chain", baseline + 1));
+	}
+
+	@Test
+	public void shouldGenerateTableOfCallSites() throws Exception {
+		Class<?> sample = instrument();
+		Method table = sample.getDeclaredMethod(ReactorDebugClassVisitor.CALL_SITES_METHOD);
+
+		assertThat(table.isSynthetic()).isTrue();
+		assertThat((String[]) table.invoke(null))
+				.hasSize(4)
+				.allSatisfy(callSite -> assertThat(callSite).contains(SAMPLE));
+	}
+
+	@Test
+	public void shouldRecordCallSitesOfErrors() throws Exception {
+		Class<?> sample = instrument();
+		Flux<?> flux = invoke(sample, "failing");
+		int baseline = (int) sample.getField("baseline").get(null);
+
+		assertThatIllegalStateException()
+				.isThrownBy(flux::blockLast)
+				.satisfies(e -> {
+					StringWriter sw = new StringWriter();
+					e.printStackTrace(new PrintWriter(sw));
+
+					assertThat(sw.toString())
+							.contains("Flux.just ⇢ at " + String.format(SAMPLE_LOCATION, "failing", baseline + 1))
+							.contains("Flux.map ⇢ at " + String.format(SAMPLE_LOCATION, "failing", baseline + 2))
+							.contains("at " + String.format(SAMPLE_LOCATION, "failing", baseline + 1));
+				});
+	}
+
+	static Flux<?> invoke(Class<?> sample, String method) throws Exception {
+		return (Flux<?>) sample.getMethod(method).invoke(null);
+	}
+
+	/**
+	 * Instrument {@link Sample} with call site ids, as the build plugin would, and load
+	 * it in an isolated {@link ClassLoader}.
+	 */
+	static Class<?> instrument() throws IOException, ClassNotFoundException {
+		byte[] bytes;
+		try (InputStream in = ReactorDebugCallSiteIdsTest.class.getResourceAsStream("ReactorDebugCallSiteIdsTest$Sample.class")) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			for (int n; (n = in.read(buffer)) != -1; ) {
+				out.write(buffer, 0, n);
+			}
+			bytes = out.toByteArray();
+		}
+
+		ClassReader cr = new ClassReader(bytes);
+		ClassWriter cw = new ClassWriter(cr, ClassWriter.COMPUTE_MAXS);
+		AtomicBoolean changed = new AtomicBoolean();
+		cr.accept(new ReactorDebugClassVisitor(cw, changed, true), 0);
+		assertThat(changed).isTrue();
+
+		byte[] instrumented = cw.toByteArray();
+		return new ClassLoader(ReactorDebugCallSiteIdsTest.class.getClassLoader()) {
+			@Override
+			protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+				if (SAMPLE.equals(name)) {
+					synchronized (getClassLoadingLock(name)) {
+						Class<?> c = findLoadedClass(name);
+						if (c == null) {
+							c = defineClass(name, instrumented, 0, instrumented.length);
+						}
+						return c;
+					}
+				}
+				return super.loadClass(name, resolve);
+			}
+		}.loadClass(SAMPLE);
+	}
+
+	public static class Sample {
+
+		public static int baseline;
+
+		public static Flux<Integer> chain() {
+			baseline = new Throwable().getStackTrace()[0].getLineNumber();
+			return Flux.just(1, 2)
+			           .map(i -> i * 10);
+		}
+
+		public static Flux<Integer> failing() {
+			baseline = new Throwable().getStackTrace()[0].getLineNumber();
+			return Flux.just(1, 2)
+			           .map(i -> {
+				           throw new IllegalStateException("boom");
+			           });
+		}
+	}
+}